@@ -0,0 +1,37 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.game.GameException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full AI vs AI game with real decks (all engine parts together).
+ * <p>
+ * AI simulations are bounded by depth and nodes count instead think time, see {@link BenchmarkComputerPlayer7}
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class AiGameBenchmark {
+
+    private static final int MAX_TURN = 20;
+
+    private Game game;
+
+    @Setup(Level.Invocation)
+    public void setup() throws GameException {
+        game = BenchmarkGames.createGame(BenchmarkGames.DECK_RED_BLACK, BenchmarkGames.DECK_WHITE_BLACK);
+    }
+
+    @Benchmark
+    public Game playGame() {
+        return BenchmarkGames.playGame(game, MAX_TURN);
+    }
+}
@@ -0,0 +1,37 @@
+package mage.benchmarks;
+
+import mage.constants.RangeOfInfluence;
+import mage.player.ai.ComputerPlayer7;
+
+/**
+ * AI for benchmarks: simulations are bounded by depth and nodes count only, without think time limits,
+ * so AI makes the same amount of work on any machine and any engine's speed
+ *
+ * @author agent
+ */
+public class BenchmarkComputerPlayer7 extends ComputerPlayer7 {
+
+    public static final int MAX_DEPTH = 4;
+    public static final int MAX_NODES = 1000;
+
+    public BenchmarkComputerPlayer7(String name, RangeOfInfluence range) {
+        super(name, range, BenchmarkGames.AI_SKILL);
+        setupLimits();
+    }
+
+    public BenchmarkComputerPlayer7(final BenchmarkComputerPlayer7 player) {
+        super(player);
+        setupLimits();
+    }
+
+    private void setupLimits() {
+        this.maxDepth = MAX_DEPTH;
+        this.maxNodes = MAX_NODES;
+        this.COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS = true;
+    }
+
+    @Override
+    public BenchmarkComputerPlayer7 copy() {
+        return new BenchmarkComputerPlayer7(this);
+    }
+}
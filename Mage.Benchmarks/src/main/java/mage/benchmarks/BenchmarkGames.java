@@ -0,0 +1,157 @@
+package mage.benchmarks;
+
+import mage.cards.Card;
+import mage.cards.decks.Deck;
+import mage.cards.decks.DeckCardLists;
+import mage.cards.decks.importer.DeckImporter;
+import mage.cards.repository.CardScanner;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.GameOptions;
+import mage.game.PutToBattlefieldInfo;
+import mage.game.TwoPlayerDuel;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.mulligan.MulliganType;
+import mage.players.Player;
+import mage.util.RandomUtil;
+import mage.util.ThreadUtils;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Games with real decks for benchmarks. All games use same random seed, so results can be compared between commits.
+ * <p>
+ * Benchmarks must be started from the module's folder (decks and cards db use relative paths), e.g.:
+ * java -jar target/benchmarks.jar
+ *
+ * @author agent
+ */
+public final class BenchmarkGames {
+
+    public static final long RANDOM_SEED = 20240101L;
+
+    public static final String DECK_RED_BLACK = "decks/Voracious Rage.dck";
+    public static final String DECK_WHITE_BLACK = "decks/Pantheons Power.dck";
+    public static final String DECK_UW_CONTROL = "decks/UW Control.dck";
+
+    public static final int AI_SKILL = 1; // fast AI for full games
+
+    // middle game's cards per player
+    private static final int MIDDLE_GAME_LANDS = 6;
+    private static final int MIDDLE_GAME_PERMANENTS = 4;
+    private static final int MIDDLE_GAME_HAND = 4;
+    private static final int MIDDLE_GAME_GRAVEYARD = 4;
+
+    private static boolean cardsLoaded = false;
+
+    private BenchmarkGames() {
+    }
+
+    /**
+     * Prepare cards db and current thread (must be called from benchmark's thread, e.g. in setup method)
+     */
+    public static synchronized void init() {
+        if (!cardsLoaded) {
+            CardScanner.scan();
+            cardsLoaded = true;
+        }
+
+        // jmh uses own threads, but game code must be run in game threads only
+        if (!ThreadUtils.isRunGameThread()) {
+            Thread.currentThread().setName(ThreadUtils.THREAD_PREFIX_GAME + " benchmark - " + Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * New two players duel between AI players, game is not started yet
+     */
+    public static Game createGame(String deckA, String deckB) throws GameException {
+        init();
+        RandomUtil.setSeed(RANDOM_SEED);
+        Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ONE, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 20, 7);
+        game.setRandomSeed(RANDOM_SEED);
+        Match match = new TwoPlayerMatch(new MatchOptions("benchmark match", "Two Player Duel", false, 2)); // AI needs match players
+        addPlayer(game, match, "PlayerA", deckA);
+        addPlayer(game, match, "PlayerB", deckB);
+        return game;
+    }
+
+    /**
+     * Play AI vs AI game from the start
+     *
+     * @param stopOnTurn play until main phase of that turn, can be null for full game
+     */
+    public static Game playGame(Game game, Integer stopOnTurn) {
+        GameOptions options = new GameOptions();
+        options.stopOnTurn = stopOnTurn;
+        options.stopAtStep = PhaseStep.PRECOMBAT_MAIN;
+        game.setGameOptions(options);
+        game.start(game.getPlayerList().get(0));
+        return game;
+    }
+
+    /**
+     * Game in the middle of play: lands and permanents on battlefield, cards in hands and graveyards.
+     * <p>
+     * AI's game play can be different between runs (parallel simulations), so zones are filled by same deck cards instead (reproducible state)
+     */
+    public static Game createMiddleGame() throws GameException {
+        Game game = createGame(DECK_RED_BLACK, DECK_UW_CONTROL);
+        for (Player player : game.getPlayers().values()) {
+            player.updateRange(game);
+        }
+        for (Player player : game.getPlayers().values()) {
+            List<Card> cards = new ArrayList<>(player.getLibrary().getCards(game));
+            cards.sort(Comparator.comparing(Card::getName).thenComparing(Card::getExpansionSetCode).thenComparing(Card::getCardNumber));
+            List<Card> lands = cards.stream().filter(card -> card.isLand(game)).collect(Collectors.toList());
+            List<Card> permanents = cards.stream().filter(card -> card.isPermanent(game) && !card.isLand(game)).collect(Collectors.toList());
+            List<Card> spells = cards.stream().filter(card -> !card.isPermanent(game)).collect(Collectors.toList());
+
+            List<PutToBattlefieldInfo> battlefield = new ArrayList<>();
+            takeCards(game, player, lands, MIDDLE_GAME_LANDS).forEach(card -> battlefield.add(new PutToBattlefieldInfo(card, false)));
+            takeCards(game, player, permanents, MIDDLE_GAME_PERMANENTS).forEach(card -> battlefield.add(new PutToBattlefieldInfo(card, false)));
+            List<Card> hand = takeCards(game, player, spells, MIDDLE_GAME_HAND);
+            List<Card> graveyard = takeCards(game, player, permanents, MIDDLE_GAME_GRAVEYARD);
+            game.cheat(player.getId(), new ArrayList<>(), hand, battlefield, graveyard, new ArrayList<>(), new ArrayList<>());
+        }
+
+        // start without opening hands and stop before first priority (AI must not change the state)
+        GameOptions options = new GameOptions();
+        options.testMode = true;
+        options.stopOnTurn = 1;
+        options.stopAtStep = PhaseStep.UPKEEP;
+        game.setGameOptions(options);
+        game.start(game.getPlayerList().get(0));
+        return game;
+    }
+
+    private static List<Card> takeCards(Game game, Player player, List<Card> from, int amount) {
+        List<Card> res = new ArrayList<>();
+        for (Iterator<Card> it = from.iterator(); it.hasNext() && res.size() < amount; ) {
+            Card card = it.next();
+            it.remove();
+            player.getLibrary().remove(card.getId(), game);
+            res.add(card);
+        }
+        return res;
+    }
+
+    private static void addPlayer(Game game, Match match, String name, String deckFile) throws GameException {
+        DeckCardLists list = DeckImporter.importDeckFromFile(deckFile, false);
+        Deck deck = Deck.load(list, false, false);
+        if (deck.getMaindeckCards().size() < 40) {
+            throw new IllegalArgumentException("Couldn't load deck " + deckFile + ", deck size=" + deck.getMaindeckCards().size());
+        }
+        Player player = new BenchmarkComputerPlayer7(name, RangeOfInfluence.ONE);
+        game.loadCards(deck.getCards(), player.getId());
+        game.loadCards(deck.getSideboard(), player.getId());
+        game.addPlayer(player, deck);
+        match.addPlayer(player, deck);
+    }
+}
@@ -0,0 +1,71 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.GameState;
+import mage.game.events.GameEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game engine's hot paths: state copy (AI simulations, rollbacks, playable calculations),
+ * continuous effects and triggers checks (every game action)
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStateBenchmark {
+
+    private Game game;
+    private final List<GameEvent> events = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws GameException {
+        game = BenchmarkGames.createMiddleGame();
+
+        // typical events of a turn (triggers are searched by event type)
+        events.clear();
+        for (GameEvent.EventType eventType : new GameEvent.EventType[]{
+                GameEvent.EventType.UPKEEP_STEP_PRE,
+                GameEvent.EventType.DRAW_STEP_PRE,
+                GameEvent.EventType.DECLARE_ATTACKERS_STEP_PRE,
+                GameEvent.EventType.END_TURN_STEP_PRE,
+                GameEvent.EventType.CLEANUP_STEP_PRE
+        }) {
+            events.add(new GameEvent(eventType, null, null, game.getActivePlayerId()));
+        }
+    }
+
+    @Benchmark
+    public GameState stateCopy() {
+        return game.getState().copy();
+    }
+
+    @Benchmark
+    public Game gameCopy() {
+        return game.copy();
+    }
+
+    @Benchmark
+    public void continuousEffectsApply() {
+        // full applying with reset of the previous results (direct effects apply without reset changes the game)
+        game.applyEffects();
+    }
+
+    @Benchmark
+    public void triggersCheck() {
+        for (GameEvent event : events) {
+            game.getState().getTriggers().checkTriggers(event, game);
+        }
+        // benchmark must not change the game, so remove raised triggers
+        game.getState().clearTriggeredAbilities();
+    }
+}
@@ -0,0 +1,62 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.game.GameException;
+import mage.remote.traffic.ZippedBinaryObjectImpl;
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.view.GameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-server data: game view creation and compression (each game update for each player and watcher)
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameViewBenchmark {
+
+    private Game game;
+    private GameView gameView;
+    private ZippedObjectImpl<GameView> zipped;
+    private ZippedBinaryObjectImpl<GameView> zippedBinary;
+
+    @Setup(Level.Trial)
+    public void setup() throws GameException {
+        game = BenchmarkGames.createMiddleGame();
+        gameView = newGameView();
+        zipped = new ZippedObjectImpl<>(gameView);
+        zippedBinary = new ZippedBinaryObjectImpl<>(gameView);
+    }
+
+    @Benchmark
+    public GameView newGameView() {
+        return new GameView(game.getState(), game, game.getActivePlayerId(), null);
+    }
+
+    @Benchmark
+    public ZippedObjectImpl<GameView> zip() {
+        return new ZippedObjectImpl<>(gameView);
+    }
+
+    @Benchmark
+    public GameView unzip() {
+        return zipped.unzip();
+    }
+
+    @Benchmark
+    public ZippedBinaryObjectImpl<GameView> zipBinary() {
+        return new ZippedBinaryObjectImpl<>(gameView);
+    }
+
+    @Benchmark
+    public GameView unzipBinary() {
+        return zippedBinary.unzip();
+    }
+}
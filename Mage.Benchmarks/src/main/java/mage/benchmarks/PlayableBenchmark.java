@@ -0,0 +1,44 @@
+package mage.benchmarks;
+
+import mage.abilities.ActivatedAbility;
+import mage.abilities.mana.ManaOptions;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.players.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playable and mana calculations (human's GUI on each priority and AI's actions search)
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayableBenchmark {
+
+    private Game game;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setup() throws GameException {
+        game = BenchmarkGames.createMiddleGame();
+        player = game.getPlayer(game.getActivePlayerId());
+    }
+
+    @Benchmark
+    public List<ActivatedAbility> getPlayable() {
+        return player.getPlayable(game, true);
+    }
+
+    @Benchmark
+    public ManaOptions getManaAvailable() {
+        return player.getManaAvailable(game);
+    }
+}
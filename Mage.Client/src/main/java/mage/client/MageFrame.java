@@ -50,6 +50,7 @@ import mage.util.XmageThreadFactory;
 import mage.utils.MageVersion;
 import mage.view.GameEndView;
 import mage.view.UserRequestMessage;
+import mage.view.TablesUpdateView;
 import net.java.truevfs.access.TArchiveDetector;
 import net.java.truevfs.access.TConfig;
 import net.java.truevfs.kernel.spec.FsAccessOption;
@@ -1297,6 +1298,12 @@ public class MageFrame extends javax.swing.JFrame implements MageClient {
         updateSwitchPanelsButton();
     }
 
+    public void applyTablesUpdate(TablesUpdateView update) {
+        if (this.tablesPane != null) {
+            this.tablesPane.applyTablesUpdate(update);
+        }
+    }
+
     public void setServerLobbyTablesFilter() {
         if (this.tablesPane != null) {
             this.tablesPane.setTableFilter();
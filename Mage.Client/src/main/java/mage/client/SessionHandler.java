@@ -354,13 +354,12 @@ public final class SessionHandler {
         session.watchTable(roomId, tableId);
     }
 
-    public static Collection<TableView> getTables(UUID roomId) {
-        try {
-            return session.getTables(roomId);
-        } catch (MageRemoteException e) {
-            logger.info(e);
-            return Collections.emptyList();
-        }
+    public static boolean subscribeTables(UUID roomId) {
+        return session.subscribeTables(roomId);
+    }
+
+    public static boolean unsubscribeTables(UUID roomId) {
+        return session.unsubscribeTables(roomId);
     }
 
     public static List<String> getServerMessages() {
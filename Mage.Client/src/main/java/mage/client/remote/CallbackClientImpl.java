@@ -13,11 +13,13 @@ import mage.client.util.DeckUtil;
 import mage.client.util.IgnoreList;
 import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
+import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackType;
 import mage.remote.ActionData;
 import mage.remote.Session;
+import mage.remote.traffic.DeltaBases;
 import mage.util.DebugUtil;
 import mage.view.*;
 import mage.view.ChatMessage.MessageType;
@@ -39,11 +41,15 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private final Map<ClientCallbackType, Integer> lastMessages;
     private final Map<UUID, GameClientMessage> firstGameData;
+    private final DeltaBases deltaBases; // last game data from server, so server can send changed cards only
+    private final Set<UUID> deltaResyncRequests; // streams with requested full data, so next broken messages will be ignored
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
         this.lastMessages = new HashMap<>();
         this.firstGameData = new HashMap<>();
+        this.deltaBases = new DeltaBases();
+        this.deltaResyncRequests = new HashSet<>();
         Arrays.stream(ClientCallbackType.values()).forEach(t -> this.lastMessages.put(t, 0));
     }
 
@@ -52,11 +58,24 @@ public class CallbackClientImpl implements CallbackClient {
         // must clean temp data for each new connection
         this.lastMessages.clear();
         this.firstGameData.clear();
+        this.deltaBases.clear();
+        this.deltaResyncRequests.clear();
     }
 
     @Override
     public synchronized void onCallback(final ClientCallback callback) {
-        callback.decompressData();
+        // must be called for each message in income order (delta data restores from a previous message)
+        if (!callback.decompressData(deltaBases)) {
+            // broken delta data, ask server to re-sync: it will send latest message of the stream with full data
+            // (messages before re-sync were made with the old base, so it will be broken too and can be ignored)
+            deltaBases.reset(callback.getObjectId());
+            if (deltaResyncRequests.add(callback.getObjectId())) {
+                logger.warn("Can't restore game data from message " + callback.getMessageId() + " - " + callback.getMethod() + ", requesting full data...");
+                SessionHandler.sendPlayerAction(PlayerAction.CLIENT_RESET_GAME_DATA, callback.getObjectId(), null);
+            }
+            return;
+        }
+        deltaResyncRequests.remove(callback.getObjectId());
 
         // put replay related code here
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
@@ -157,45 +176,15 @@ public class CallbackClientImpl implements CallbackClient {
                     }
 
                     case CHATMESSAGE: {
-                        ChatMessage message = (ChatMessage) callback.getData();
-                        // Drop messages from ignored users
-                        if (message.getUsername() != null && IgnoreList.IGNORED_MESSAGE_TYPES.contains(message.getMessageType())) {
-                            final String serverAddress = SessionHandler.getSession().getServerHost();
-                            if (IgnoreList.userIsIgnored(serverAddress, message.getUsername())) {
-                                break;
-                            }
-                        }
-
-                        ChatPanelBasic panel = MageFrame.getChat(callback.getObjectId());
-                        if (panel != null) {
-                            // play the sound related to the message
-                            if (message.getSoundToPlay() != null) {
-                                switch (message.getSoundToPlay()) {
-                                    case PlayerLeft:
-                                        AudioManager.playPlayerLeft();
-                                        break;
-                                    case PlayerQuitTournament:
-                                        AudioManager.playPlayerQuitTournament();
-                                        break;
-                                    case PlayerSubmittedDeck:
-                                        AudioManager.playPlayerSubmittedDeck();
-                                        break;
-                                    case PlayerWhispered:
-                                        AudioManager.playPlayerWhispered();
-                                        break;
-                                }
-                            }
-                            // send start message to chat if not done yet
-                            if (!panel.isStartMessageDone()) {
-                                createChatStartMessage(panel);
-                            }
-                            // send the message to subchat if exists and it's not a game message
-                            if (message.getMessageType() != MessageType.GAME && panel.getConnectedChat() != null) {
-                                panel.getConnectedChat().receiveMessage(message.getUsername(), message.getMessage(), message.getTime(), message.getTurnInfo(), message.getMessageType(), ChatMessage.MessageColor.BLACK);
-                            } else {
-                                panel.receiveMessage(message.getUsername(), message.getMessage(), message.getTime(), message.getTurnInfo(), message.getMessageType(), message.getColor());
-                            }
+                        receiveChatMessage(callback.getObjectId(), (ChatMessage) callback.getData());
+                        break;
+                    }
 
+                    case CHATMESSAGES: {
+                        // game log batch
+                        ChatMessagesView messages = (ChatMessagesView) callback.getData();
+                        for (ChatMessage message : messages.getMessages()) {
+                            receiveChatMessage(callback.getObjectId(), message);
                         }
                         break;
                     }
@@ -212,6 +201,11 @@ public class CallbackClientImpl implements CallbackClient {
                         break;
                     }
 
+                    case ROOM_TABLES_UPDATE: {
+                        MageFrame.getInstance().applyTablesUpdate((TablesUpdateView) callback.getData());
+                        break;
+                    }
+
                     case JOINED_TABLE: {
                         TableClientMessage message = (TableClientMessage) callback.getData();
                         joinedTable(message.getRoomId(), message.getCurrentTableId(), message.getFlag());
@@ -521,6 +515,47 @@ public class CallbackClientImpl implements CallbackClient {
         return null;
     }
 
+    private void receiveChatMessage(UUID chatId, ChatMessage message) {
+        // Drop messages from ignored users
+        if (message.getUsername() != null && IgnoreList.IGNORED_MESSAGE_TYPES.contains(message.getMessageType())) {
+            final String serverAddress = SessionHandler.getSession().getServerHost();
+            if (IgnoreList.userIsIgnored(serverAddress, message.getUsername())) {
+                return;
+            }
+        }
+
+        ChatPanelBasic panel = MageFrame.getChat(chatId);
+        if (panel != null) {
+            // play the sound related to the message
+            if (message.getSoundToPlay() != null) {
+                switch (message.getSoundToPlay()) {
+                    case PlayerLeft:
+                        AudioManager.playPlayerLeft();
+                        break;
+                    case PlayerQuitTournament:
+                        AudioManager.playPlayerQuitTournament();
+                        break;
+                    case PlayerSubmittedDeck:
+                        AudioManager.playPlayerSubmittedDeck();
+                        break;
+                    case PlayerWhispered:
+                        AudioManager.playPlayerWhispered();
+                        break;
+                }
+            }
+            // send start message to chat if not done yet
+            if (!panel.isStartMessageDone()) {
+                createChatStartMessage(panel);
+            }
+            // send the message to subchat if exists and it's not a game message
+            if (message.getMessageType() != MessageType.GAME && panel.getConnectedChat() != null) {
+                panel.getConnectedChat().receiveMessage(message.getUsername(), message.getMessage(), message.getTime(), message.getTurnInfo(), message.getMessageType(), ChatMessage.MessageColor.BLACK);
+            } else {
+                panel.receiveMessage(message.getUsername(), message.getMessage(), message.getTime(), message.getTurnInfo(), message.getMessageType(), message.getColor());
+            }
+        }
+    }
+
     private void createChatStartMessage(ChatPanelBasic chatPanel) {
         chatPanel.setStartMessageDone(true);
         ChatPanelBasic usedPanel = chatPanel;
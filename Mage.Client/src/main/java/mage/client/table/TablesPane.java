@@ -6,6 +6,7 @@ import javax.swing.JComponent;
 import mage.client.MagePane;
 import mage.client.SessionHandler;
 import mage.client.plugins.impl.Plugins;
+import mage.view.TablesUpdateView;
 
 /**
  * Game GUI: lobby frame
@@ -63,6 +64,10 @@ public class TablesPane extends MagePane {
         tablesPanel.hideTables();
     }
 
+    public void applyTablesUpdate(TablesUpdateView update) {
+        tablesPanel.applyTablesUpdate(update);
+    }
+
     public void clearChat() {
         tablesPanel.getChatPanel().clear();
     }
@@ -25,6 +25,7 @@ import mage.util.RandomUtil;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
 import mage.view.TableView;
+import mage.view.TablesUpdateView;
 import mage.view.UserRequestMessage;
 import org.apache.log4j.Logger;
 import org.mage.card.arcane.CardRendererUtils;
@@ -53,6 +54,7 @@ import java.util.*;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static mage.client.dialog.PreferencesDialog.*;
 
@@ -140,6 +142,10 @@ public class TablesPanel extends javax.swing.JPanel {
     private final MatchesTableModel matchesModel;
     private UUID roomId;
     private UpdateTablesTask updateTablesTask;
+    // active tables from server's callbacks (see applyTablesUpdate), swing thread only
+    private final Map<UUID, TableView> lobbyTables = new LinkedHashMap<>();
+    private long lobbyTablesVersion = -1;
+    private final AtomicBoolean lobbyTablesSnapshotNeeded = new AtomicBoolean(false);
     private UpdatePlayersTask updatePlayersTask;
     private UpdateMatchesTask updateMatchesTask;
 
@@ -705,6 +711,33 @@ public class TablesPanel extends javax.swing.JPanel {
         }
     }
 
+    /**
+     * Apply active tables changes from the server (full tables list or changes only)
+     */
+    public void applyTablesUpdate(TablesUpdateView update) {
+        if (updateTablesTask == null || updateTablesTask.isDone() || !update.getRoomId().equals(roomId)) {
+            return;
+        }
+        if (update.isSnapshot()) {
+            lobbyTables.clear();
+            lobbyTablesSnapshotNeeded.set(false);
+        } else if (update.getVersion() != lobbyTablesVersion + 1) {
+            if (update.getVersion() > lobbyTablesVersion) {
+                // missing changes (e.g. lost on slow connection), so ask for full tables list again
+                lobbyTablesSnapshotNeeded.set(true);
+            }
+            return;
+        }
+        update.getRemovedTables().forEach(lobbyTables::remove);
+        update.getTables().forEach(table -> lobbyTables.put(table.getTableId(), table));
+        lobbyTablesVersion = update.getVersion();
+        updateTables(lobbyTables.values());
+    }
+
+    boolean isTablesSnapshotNeeded() {
+        return lobbyTablesSnapshotNeeded.get();
+    }
+
     public void updateMatches(Collection<MatchView> matches) {
         try {
             matchesModel.loadData(matches);
@@ -719,6 +752,8 @@ public class TablesPanel extends javax.swing.JPanel {
             // active tables and server messages
             if (updateTablesTask == null || updateTablesTask.isDone() || refreshImmediately) {
                 if (updateTablesTask != null) updateTablesTask.cancel(true);
+                lobbyTablesVersion = -1;
+                lobbyTablesSnapshotNeeded.set(true);
                 updateTablesTask = new UpdateTablesTask(roomId, this);
                 updateTablesTask.execute();
             }
@@ -746,6 +781,9 @@ public class TablesPanel extends javax.swing.JPanel {
     public void stopTasks() {
         if (updateTablesTask != null) {
             updateTablesTask.cancel(true);
+            if (roomId != null) {
+                SessionHandler.unsubscribeTables(roomId);
+            }
         }
         if (updatePlayersTask != null) {
             updatePlayersTask.cancel(true);
@@ -1838,7 +1876,10 @@ public class TablesPanel extends javax.swing.JPanel {
 
 }
 
-class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
+/**
+ * Active tables come from server's callbacks, so task (re)subscribes to it only (see TablesPanel.applyTablesUpdate)
+ */
+class UpdateTablesTask extends SwingWorker<Void, Void> {
 
     private final UUID roomId;
     private final TablesPanel panel;
@@ -1857,19 +1898,17 @@ class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
     @Override
     protected Void doInBackground() throws Exception {
         while (!isCancelled()) {
-            Collection<TableView> tables = SessionHandler.getTables(roomId);
-            if (tables != null) {
-                this.publish(tables);
+            if (panel.isTablesSnapshotNeeded()) {
+                SessionHandler.subscribeTables(roomId);
             }
+            this.publish((Void) null); // server messages check
             TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_ACTIVE_TABLES_SECS));
         }
         return null;
     }
 
     @Override
-    protected void process(java.util.List<Collection<TableView>> view) {
-        panel.updateTables(view.get(0));
-
+    protected void process(java.util.List<Void> chunks) {
         // update server messages
         count++;
         if (isFirstRun || count > 60) {
@@ -85,6 +85,10 @@ public interface MageServer {
     // TODO: miss session
     List<TableView> roomGetAllTables(UUID roomId) throws MageException;
 
+    void roomSubscribeTables(String sessionId, UUID roomId) throws MageException;
+
+    void roomUnsubscribeTables(String sessionId, UUID roomId) throws MageException;
+
     // TODO: miss session
     void chatSendMessage(UUID chatId, String userName, String message) throws MageException;
 
@@ -1,5 +1,8 @@
 package mage.interfaces.callback;
 
+import mage.remote.traffic.DeltaBase;
+import mage.remote.traffic.DeltaBases;
+import mage.remote.traffic.ZippedBinaryObjectImpl;
 import mage.remote.traffic.ZippedObject;
 import mage.utils.CompressUtil;
 import mage.util.ThreadUtils;
@@ -27,6 +30,11 @@ public class ClientCallback implements Serializable {
     private ClientCallbackMethod method;
     private int messageId;
 
+    // server side: data compresses before send, same callback can be sent to clients with diff data formats
+    private transient boolean useCompress;
+    private transient Object compressedData;
+    private transient Object compressedBinaryData;
+
     public ClientCallback(ClientCallbackMethod method, UUID objectId) {
         this(method, objectId, null);
     }
@@ -68,12 +76,48 @@ public class ClientCallback implements Serializable {
     }
 
     public void setData(Object data, boolean useCompress) {
-        if (!useCompress || data == null || data instanceof ZippedObject) {
-            this.data = data;
-        } else {
-            this.data = CompressUtil.compress(data);
+        this.data = data;
+        this.useCompress = useCompress;
+        this.compressedData = null;
+        this.compressedBinaryData = null;
+    }
+
+    /**
+     * Server side: data will be compressed before send (delta data can be used for compressed data only)
+     */
+    public boolean isCompressOnSend() {
+        return useCompress && data != null && !(data instanceof ZippedObject);
+    }
+
+    /**
+     * Server side: prepare callback to send, data will be compressed for the client
+     *
+     * @param useBinaryFormat client supports binary format (see MageVersion.getNetworkProtocol)
+     * @param deltaBase       client supports delta data, can be null (see DeltaBase)
+     * @return callback's copy with compressed data
+     */
+    public synchronized ClientCallback prepareToSend(boolean useBinaryFormat, DeltaBase deltaBase) {
+        Object sendData = this.data;
+        if (useCompress && sendData != null && !(sendData instanceof ZippedObject)) {
+            if (deltaBase != null) {
+                // delta data is unique for each client, so no needs in cache
+                sendData = CompressUtil.compress(sendData, deltaBase);
+            } else if (useBinaryFormat) {
+                if (compressedBinaryData == null) {
+                    compressedBinaryData = CompressUtil.compress(sendData, true);
+                }
+                sendData = compressedBinaryData;
+            } else {
+                if (compressedData == null) {
+                    compressedData = CompressUtil.compress(sendData, false);
+                }
+                sendData = compressedData;
+            }
             simulateBadConnection();
         }
+        ClientCallback res = new ClientCallback(this.method, this.objectId, sendData, false);
+        res.setMessageId(this.messageId);
+        return res;
     }
 
     public void decompressData() {
@@ -83,6 +127,23 @@ public class ClientCallback implements Serializable {
         }
     }
 
+    /**
+     * Client side: decompress data with support of delta data
+     *
+     * @param deltaBases bases of all data streams for the current connection
+     * @return false on broken delta data (client must ask server about full data, see DeltaBases.reset)
+     */
+    public boolean decompressData(DeltaBases deltaBases) {
+        if (this.data instanceof ZippedBinaryObjectImpl && ((ZippedBinaryObjectImpl<?>) this.data).isDelta()) {
+            DeltaBase deltaBase = deltaBases.get(this.objectId);
+            this.data = ((ZippedBinaryObjectImpl<?>) this.data).unzip(deltaBase);
+            simulateBadConnection();
+            return !deltaBase.isBroken();
+        }
+        decompressData();
+        return true;
+    }
+
     public ClientCallbackMethod getMethod() {
         return method;
     }
@@ -13,12 +13,16 @@ public enum ClientCallbackMethod {
 
     // messages
     CHATMESSAGE(ClientCallbackType.MESSAGE, "chatMessage"),
+    CHATMESSAGES(ClientCallbackType.MESSAGE, "chatMessages"), // game log batch
     SHOW_USERMESSAGE(ClientCallbackType.MESSAGE, "showUserMessage"),
     SERVER_MESSAGE(ClientCallbackType.MESSAGE, "serverMessage"),
 
     // table
     JOINED_TABLE(ClientCallbackType.TABLE_CHANGE, "joinedTable"),
 
+    // lobby
+    ROOM_TABLES_UPDATE(ClientCallbackType.MESSAGE, "roomTablesUpdate"), // versioned, so client checks the order by itself
+
     // tournament
     START_TOURNAMENT(ClientCallbackType.TABLE_CHANGE, "startTournament"),
     TOURNAMENT_INIT(ClientCallbackType.TABLE_CHANGE, "tournamentInit"), // TODO: unused on client
@@ -829,6 +829,36 @@ public class SessionImpl implements Session {
         return new ArrayList<>();
     }
 
+    @Override
+    public boolean subscribeTables(UUID roomId) {
+        try {
+            if (isConnected()) {
+                server.roomSubscribeTables(sessionId, roomId);
+                return true;
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean unsubscribeTables(UUID roomId) {
+        try {
+            if (isConnected()) {
+                server.roomUnsubscribeTables(sessionId, roomId);
+                return true;
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return false;
+    }
+
     @Override
     public Collection<MatchView> getFinishedMatches(UUID roomId) throws MageRemoteException {
         try {
@@ -25,6 +25,13 @@ public interface ServerState {
 
     Collection<TableView> getTables(UUID roomId) throws MageRemoteException;
 
+    /**
+     * Receive active tables changes by server's callbacks (see TablesUpdateView), server sends full tables list on each subscribe
+     */
+    boolean subscribeTables(UUID roomId);
+
+    boolean unsubscribeTables(UUID roomId);
+
     Collection<MatchView> getFinishedMatches(UUID roomId) throws MageRemoteException;
 
     String getVersionInfo();
@@ -0,0 +1,962 @@
+package mage.remote.traffic;
+
+import mage.util.CopierObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamConstants;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Network: compact binary format for client-server data like GameView, CardView, PlayerView
+ * <p>
+ * It's a replacement of default java serialization for big data:
+ * - no class descriptors in the stream, each class writes as name once and as id after that;
+ * - class fields are written in schema order without names (schema is a class fields list, so server
+ * and client must use same version, see MageVersion);
+ * - strings and UUIDs are written once and as id after that (cards data contains a lot of same texts and ids);
+ * - numbers are written as varints;
+ * - objects with custom serialization (readObject, writeReplace, etc) are written by default java serialization.
+ * <p>
+ * Supports shared and cycled references like default java serialization.
+ * <p>
+ * Supports delta messages: unchanged cards from the previous message will be sent as id only (see DeltaBase).
+ *
+ * @author agent
+ */
+public final class BinaryObjectCodec {
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_REF = 1;
+    private static final byte TAG_STRING = 2;
+    private static final byte TAG_STRING_REF = 3;
+    private static final byte TAG_UUID = 4;
+    private static final byte TAG_UUID_REF = 5;
+    private static final byte TAG_BOOLEAN_FALSE = 6;
+    private static final byte TAG_BOOLEAN_TRUE = 7;
+    private static final byte TAG_BYTE = 8;
+    private static final byte TAG_SHORT = 9;
+    private static final byte TAG_CHAR = 10;
+    private static final byte TAG_INT = 11;
+    private static final byte TAG_LONG = 12;
+    private static final byte TAG_FLOAT = 13;
+    private static final byte TAG_DOUBLE = 14;
+    private static final byte TAG_DATE = 15;
+    private static final byte TAG_ENUM = 16;
+    private static final byte TAG_ARRAY = 17;
+    private static final byte TAG_COLLECTION = 18;
+    private static final byte TAG_MAP = 19;
+    private static final byte TAG_OBJECT = 20;
+    private static final byte TAG_JAVA = 21; // default java serialization
+    private static final byte TAG_DELTA_SAME = 22; // same object as in the last message (see DeltaBase)
+    private static final byte TAG_DELTA_NEW = 23; // new or changed object (see DeltaBase)
+
+    private enum ClassKind {
+        OBJECT,
+        COLLECTION,
+        MAP,
+        JAVA
+    }
+
+    // collections that can be written as elements list (other collections use java serialization)
+    private static final Set<Class<?>> SUPPORTED_COLLECTIONS = new HashSet<>(Arrays.asList(
+            ArrayList.class,
+            LinkedList.class,
+            HashSet.class,
+            LinkedHashSet.class,
+            HashMap.class,
+            LinkedHashMap.class
+    ));
+
+    private static final Map<Class<?>, ClassInfo> classInfos = new ConcurrentHashMap<>();
+
+    private BinaryObjectCodec() {
+    }
+
+    public static byte[] encode(Object object) throws IOException {
+        return encode(object, null);
+    }
+
+    /**
+     * @param delta base from the previous message (will be updated by current message), can be null
+     */
+    public static byte[] encode(Object object, DeltaBase delta) throws IOException {
+        Writer writer = new Writer(delta);
+        try {
+            writer.writeObject(object);
+        } catch (IOException | RuntimeException e) {
+            if (delta != null) {
+                delta.rollback();
+            }
+            throw e;
+        }
+        if (delta != null) {
+            delta.commit();
+        }
+        return writer.out.toByteArray();
+    }
+
+    public static Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        return decode(data, null);
+    }
+
+    /**
+     * @param delta base from the previous message (will be updated by current message), can be null
+     */
+    public static Object decode(byte[] data, DeltaBase delta) throws IOException, ClassNotFoundException {
+        Object res;
+        try {
+            res = new Reader(data, delta).readObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            if (delta != null) {
+                // server's base contains that message already, so next messages can't be restored too
+                delta.rollback();
+                delta.setBroken(true);
+            }
+            throw e;
+        }
+        if (delta != null) {
+            delta.commit();
+        }
+        return res;
+    }
+
+    /**
+     * Class schema: fields list in stream order and instance creation
+     */
+    private static final class ClassInfo {
+
+        private final ClassKind kind;
+        private final Field[] fields;
+        private final Constructor<?> constructor; // null for plain objects (it uses serialization instantiation)
+
+        private ClassInfo(ClassKind kind, Field[] fields, Constructor<?> constructor) {
+            this.kind = kind;
+            this.fields = fields;
+            this.constructor = constructor;
+        }
+
+        private Object newInstance() throws IOException {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IOException("Can't create new instance of " + constructor.getDeclaringClass().getName() + ": " + e, e);
+            }
+        }
+    }
+
+    private static ClassInfo getClassInfo(Class<?> clazz) {
+        return classInfos.computeIfAbsent(clazz, BinaryObjectCodec::createClassInfo);
+    }
+
+    private static ClassInfo createClassInfo(Class<?> clazz) {
+        ClassInfo javaInfo = new ClassInfo(ClassKind.JAVA, new Field[0], null);
+        if (!Serializable.class.isAssignableFrom(clazz)
+                || Externalizable.class.isAssignableFrom(clazz)) {
+            return javaInfo;
+        }
+
+        // collections and its subclasses (e.g. CardsView)
+        boolean isCollection = Collection.class.isAssignableFrom(clazz);
+        boolean isMap = Map.class.isAssignableFrom(clazz);
+        if (isCollection || isMap) {
+            Class<?> baseClass = clazz;
+            while (baseClass != null && !isSystemClass(baseClass)) {
+                baseClass = baseClass.getSuperclass();
+            }
+            if (!SUPPORTED_COLLECTIONS.contains(baseClass) || hasCustomSerialization(clazz, baseClass)) {
+                return javaInfo;
+            }
+            try {
+                Constructor<?> constructor = clazz.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return new ClassInfo(isCollection ? ClassKind.COLLECTION : ClassKind.MAP, findFields(clazz, baseClass), constructor);
+            } catch (NoSuchMethodException | SecurityException e) {
+                return javaInfo;
+            }
+        }
+
+        // other system classes
+        if (isSystemClass(clazz)) {
+            return javaInfo;
+        }
+
+        // plain objects
+        Class<?> baseClass = clazz;
+        while (baseClass != null && Serializable.class.isAssignableFrom(baseClass)) {
+            if (isSystemClass(baseClass)) {
+                // system classes can have private data, so use java serialization for it
+                return javaInfo;
+            }
+            baseClass = baseClass.getSuperclass();
+        }
+        if (baseClass == null || hasCustomSerialization(clazz, baseClass)) {
+            return javaInfo;
+        }
+        if (!hasSerializationConstructor(clazz, baseClass)) {
+            return javaInfo;
+        }
+        return new ClassInfo(ClassKind.OBJECT, findFields(clazz, baseClass), null);
+    }
+
+    /**
+     * Java serialization creates objects by constructor of the first non-serializable parent,
+     * so it must be accessible from the class (same rules as in ObjectStreamClass)
+     */
+    private static boolean hasSerializationConstructor(Class<?> clazz, Class<?> baseClass) {
+        try {
+            int modifiers = baseClass.getDeclaredConstructor().getModifiers();
+            if (Modifier.isPrivate(modifiers)) {
+                return false;
+            }
+            return Modifier.isPublic(modifiers)
+                    || Modifier.isProtected(modifiers)
+                    || (clazz.getClassLoader() == baseClass.getClassLoader() && clazz.getPackage() == baseClass.getPackage());
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
+    private static boolean isSystemClass(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.");
+    }
+
+    private static boolean hasCustomSerialization(Class<?> clazz, Class<?> stopClass) {
+        for (Class<?> current = clazz; current != null && current != stopClass; current = current.getSuperclass()) {
+            for (String methodName : Arrays.asList("writeObject", "readObject", "readObjectNoData", "writeReplace", "readResolve")) {
+                if (Arrays.stream(current.getDeclaredMethods()).anyMatch(m -> m.getName().equals(methodName))) {
+                    return true;
+                }
+            }
+            try {
+                current.getDeclaredField("serialPersistentFields");
+                return true;
+            } catch (NoSuchFieldException e) {
+                // ok, default fields
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Serializable fields from parent to child classes, sorted by names inside each class
+     */
+    private static Field[] findFields(Class<?> clazz, Class<?> stopClass) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != stopClass; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        List<Field> res = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            Arrays.stream(current.getDeclaredFields())
+                    .filter(f -> !Modifier.isStatic(f.getModifiers()) && !Modifier.isTransient(f.getModifiers()))
+                    .sorted(Comparator.comparing(Field::getName))
+                    .forEach(f -> {
+                        f.setAccessible(true);
+                        res.add(f);
+                    });
+        }
+        return res.toArray(new Field[0]);
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : BinaryObjectCodec.class.getClassLoader();
+    }
+
+    private static final class Writer {
+
+        private final DeltaBase delta;
+        private final Output out = new Output();
+        private final Map<Object, Integer> objects = new IdentityHashMap<>();
+        private final Map<Class<?>, Integer> classes = new IdentityHashMap<>();
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<UUID, Integer> uuids = new HashMap<>();
+
+        private Writer(DeltaBase delta) {
+            this.delta = delta;
+        }
+
+        private void writeObject(Object object) throws IOException {
+            if (object == null) {
+                out.writeByte(TAG_NULL);
+                return;
+            }
+
+            Class<?> clazz = object.getClass();
+            if (clazz == String.class) {
+                writeString((String) object);
+                return;
+            }
+            if (clazz == UUID.class) {
+                writeUUID((UUID) object);
+                return;
+            }
+            if (writeBoxed(object)) {
+                return;
+            }
+            if (object instanceof Enum) {
+                out.writeByte(TAG_ENUM);
+                writeClass(((Enum<?>) object).getDeclaringClass());
+                out.writeVarInt(((Enum<?>) object).ordinal());
+                return;
+            }
+            if (clazz == Date.class) {
+                out.writeByte(TAG_DATE);
+                out.writeVarLong(((Date) object).getTime());
+                return;
+            }
+
+            // shared references
+            Integer ref = objects.get(object);
+            if (ref != null) {
+                out.writeByte(TAG_REF);
+                out.writeVarInt(ref);
+                return;
+            }
+
+            if (delta != null) {
+                UUID key = DeltaBase.getKey(object);
+                if (key != null) {
+                    writeDeltaObject(object, key);
+                    return;
+                }
+            }
+
+            if (clazz.isArray()) {
+                objects.put(object, objects.size());
+                out.writeByte(TAG_ARRAY);
+                writeClass(clazz);
+                writeArray(object);
+                return;
+            }
+
+            ClassInfo info = getClassInfo(clazz);
+            switch (info.kind) {
+                case OBJECT:
+                    objects.put(object, objects.size());
+                    out.writeByte(TAG_OBJECT);
+                    writeClass(clazz);
+                    writeFields(object, info);
+                    break;
+                case COLLECTION:
+                    objects.put(object, objects.size());
+                    out.writeByte(TAG_COLLECTION);
+                    writeClass(clazz);
+                    writeFields(object, info);
+                    Collection<?> collection = (Collection<?>) object;
+                    out.writeVarInt(collection.size());
+                    for (Object item : collection) {
+                        writeObject(item);
+                    }
+                    break;
+                case MAP:
+                    objects.put(object, objects.size());
+                    out.writeByte(TAG_MAP);
+                    writeClass(clazz);
+                    writeFields(object, info);
+                    Map<?, ?> map = (Map<?, ?>) object;
+                    out.writeVarInt(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        writeObject(entry.getKey());
+                        writeObject(entry.getValue());
+                    }
+                    break;
+                case JAVA:
+                default:
+                    objects.put(object, objects.size());
+                    out.writeByte(TAG_JAVA);
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                        oos.writeObject(object);
+                    }
+                    out.writeBytes(bos.toByteArray());
+                    break;
+            }
+        }
+
+        private void writeDeltaObject(Object object, UUID key) throws IOException {
+            // delta objects use own data without links to the message, so it can be restored from the base later
+            objects.put(object, objects.size());
+            byte[] data = encode(object);
+            if (Arrays.equals(data, delta.getLast(key))) {
+                // checksum of the base data, so client can find stale or lost base
+                out.writeByte(TAG_DELTA_SAME);
+                writeUUID(key);
+                out.writeVarLong(DeltaBase.checksum(data));
+            } else {
+                out.writeByte(TAG_DELTA_NEW);
+                writeUUID(key);
+                out.writeBytes(data);
+            }
+            delta.putNew(key, data);
+        }
+
+        private boolean writeBoxed(Object object) {
+            Class<?> clazz = object.getClass();
+            if (clazz == Integer.class) {
+                out.writeByte(TAG_INT);
+                out.writeVarInt((Integer) object);
+            } else if (clazz == Boolean.class) {
+                out.writeByte((Boolean) object ? TAG_BOOLEAN_TRUE : TAG_BOOLEAN_FALSE);
+            } else if (clazz == Long.class) {
+                out.writeByte(TAG_LONG);
+                out.writeVarLong((Long) object);
+            } else if (clazz == Double.class) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeLong(Double.doubleToRawLongBits((Double) object));
+            } else if (clazz == Float.class) {
+                out.writeByte(TAG_FLOAT);
+                out.writeVarInt(Float.floatToRawIntBits((Float) object));
+            } else if (clazz == Short.class) {
+                out.writeByte(TAG_SHORT);
+                out.writeVarInt((Short) object);
+            } else if (clazz == Byte.class) {
+                out.writeByte(TAG_BYTE);
+                out.writeByte((Byte) object);
+            } else if (clazz == Character.class) {
+                out.writeByte(TAG_CHAR);
+                out.writeVarInt((Character) object);
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        private void writeString(String value) {
+            Integer ref = strings.get(value);
+            if (ref != null) {
+                out.writeByte(TAG_STRING_REF);
+                out.writeVarInt(ref);
+            } else {
+                strings.put(value, strings.size());
+                out.writeByte(TAG_STRING);
+                out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private void writeUUID(UUID value) {
+            Integer ref = uuids.get(value);
+            if (ref != null) {
+                out.writeByte(TAG_UUID_REF);
+                out.writeVarInt(ref);
+            } else {
+                uuids.put(value, uuids.size());
+                out.writeByte(TAG_UUID);
+                out.writeLong(value.getMostSignificantBits());
+                out.writeLong(value.getLeastSignificantBits());
+            }
+        }
+
+        private void writeClass(Class<?> clazz) {
+            Integer ref = classes.get(clazz);
+            if (ref != null) {
+                out.writeVarInt(ref + 1);
+            } else {
+                classes.put(clazz, classes.size());
+                out.writeVarInt(0);
+                out.writeBytes(clazz.getName().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private void writeFields(Object object, ClassInfo info) throws IOException {
+            try {
+                for (Field field : info.fields) {
+                    Class<?> type = field.getType();
+                    if (!type.isPrimitive()) {
+                        writeObject(field.get(object));
+                    } else if (type == int.class) {
+                        out.writeVarInt(field.getInt(object));
+                    } else if (type == boolean.class) {
+                        out.writeByte(field.getBoolean(object) ? 1 : 0);
+                    } else if (type == long.class) {
+                        out.writeVarLong(field.getLong(object));
+                    } else if (type == double.class) {
+                        out.writeLong(Double.doubleToRawLongBits(field.getDouble(object)));
+                    } else if (type == float.class) {
+                        out.writeVarInt(Float.floatToRawIntBits(field.getFloat(object)));
+                    } else if (type == short.class) {
+                        out.writeVarInt(field.getShort(object));
+                    } else if (type == byte.class) {
+                        out.writeByte(field.getByte(object));
+                    } else if (type == char.class) {
+                        out.writeVarInt(field.getChar(object));
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IOException("Can't write fields of " + object.getClass().getName() + ": " + e, e);
+            }
+        }
+
+        private void writeArray(Object array) throws IOException {
+            int length = Array.getLength(array);
+            out.writeVarInt(length);
+            Class<?> type = array.getClass().getComponentType();
+            if (type == byte.class) {
+                out.writeRaw((byte[]) array);
+            } else if (!type.isPrimitive()) {
+                for (Object item : (Object[]) array) {
+                    writeObject(item);
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    if (type == int.class) {
+                        out.writeVarInt(Array.getInt(array, i));
+                    } else if (type == boolean.class) {
+                        out.writeByte(Array.getBoolean(array, i) ? 1 : 0);
+                    } else if (type == long.class) {
+                        out.writeVarLong(Array.getLong(array, i));
+                    } else if (type == double.class) {
+                        out.writeLong(Double.doubleToRawLongBits(Array.getDouble(array, i)));
+                    } else if (type == float.class) {
+                        out.writeVarInt(Float.floatToRawIntBits(Array.getFloat(array, i)));
+                    } else if (type == short.class) {
+                        out.writeVarInt(Array.getShort(array, i));
+                    } else if (type == char.class) {
+                        out.writeVarInt(Array.getChar(array, i));
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final DeltaBase delta;
+        private final Input in;
+        private final List<Object> objects = new ArrayList<>();
+        private final List<Class<?>> classes = new ArrayList<>();
+        private final List<String> strings = new ArrayList<>();
+        private final List<UUID> uuids = new ArrayList<>();
+        private final ClassLoader loader = getClassLoader();
+        private SerializationInstantiator instantiator = null;
+
+        private Reader(byte[] data, DeltaBase delta) {
+            this.in = new Input(data);
+            this.delta = delta;
+        }
+
+        private SerializationInstantiator getInstantiator() throws IOException {
+            if (instantiator == null) {
+                instantiator = new SerializationInstantiator();
+            }
+            return instantiator;
+        }
+
+        private Object readObject() throws IOException, ClassNotFoundException {
+            byte tag = in.readByte();
+            switch (tag) {
+                case TAG_NULL:
+                    return null;
+                case TAG_REF:
+                    return objects.get(in.readVarInt());
+                case TAG_STRING: {
+                    String value = new String(in.readBytes(), StandardCharsets.UTF_8);
+                    strings.add(value);
+                    return value;
+                }
+                case TAG_STRING_REF:
+                    return strings.get(in.readVarInt());
+                case TAG_UUID: {
+                    UUID value = new UUID(in.readLong(), in.readLong());
+                    uuids.add(value);
+                    return value;
+                }
+                case TAG_UUID_REF:
+                    return uuids.get(in.readVarInt());
+                case TAG_BOOLEAN_FALSE:
+                    return Boolean.FALSE;
+                case TAG_BOOLEAN_TRUE:
+                    return Boolean.TRUE;
+                case TAG_BYTE:
+                    return in.readByte();
+                case TAG_SHORT:
+                    return (short) in.readVarInt();
+                case TAG_CHAR:
+                    return (char) in.readVarInt();
+                case TAG_INT:
+                    return in.readVarInt();
+                case TAG_LONG:
+                    return in.readVarLong();
+                case TAG_FLOAT:
+                    return Float.intBitsToFloat(in.readVarInt());
+                case TAG_DOUBLE:
+                    return Double.longBitsToDouble(in.readLong());
+                case TAG_DATE:
+                    return new Date(in.readVarLong());
+                case TAG_ENUM: {
+                    Class<?> clazz = readClass();
+                    return clazz.getEnumConstants()[in.readVarInt()];
+                }
+                case TAG_ARRAY:
+                    return readArray(readClass());
+                case TAG_OBJECT: {
+                    Class<?> clazz = readClass();
+                    ClassInfo info = getClassInfo(clazz);
+                    Object object = getInstantiator().newInstance(clazz);
+                    objects.add(object);
+                    readFields(object, info);
+                    return object;
+                }
+                case TAG_COLLECTION: {
+                    Class<?> clazz = readClass();
+                    ClassInfo info = getClassInfo(clazz);
+                    @SuppressWarnings("unchecked")
+                    Collection<Object> collection = (Collection<Object>) info.newInstance();
+                    collection.clear(); // subclass constructor can add default items
+                    objects.add(collection);
+                    readFields(collection, info);
+                    int size = in.readVarInt();
+                    for (int i = 0; i < size; i++) {
+                        collection.add(readObject());
+                    }
+                    return collection;
+                }
+                case TAG_MAP: {
+                    Class<?> clazz = readClass();
+                    ClassInfo info = getClassInfo(clazz);
+                    @SuppressWarnings("unchecked")
+                    Map<Object, Object> map = (Map<Object, Object>) info.newInstance();
+                    map.clear(); // subclass constructor can add default items
+                    objects.add(map);
+                    readFields(map, info);
+                    int size = in.readVarInt();
+                    for (int i = 0; i < size; i++) {
+                        Object key = readObject();
+                        map.put(key, readObject());
+                    }
+                    return map;
+                }
+                case TAG_JAVA: {
+                    int index = objects.size();
+                    objects.add(null); // reserve place for shared references
+                    try (ObjectInputStream ois = new CopierObjectInputStream(loader, new ByteArrayInputStream(in.readBytes()))) {
+                        Object object = ois.readObject();
+                        objects.set(index, object);
+                        return object;
+                    }
+                }
+                case TAG_DELTA_SAME:
+                case TAG_DELTA_NEW: {
+                    if (delta == null) {
+                        throw new IOException("Delta data without base");
+                    }
+                    UUID key = (UUID) readObject();
+                    byte[] data = tag == TAG_DELTA_NEW ? in.readBytes() : delta.getLast(key);
+                    if (data == null) {
+                        throw new IOException("Can't find delta base for " + key);
+                    }
+                    if (tag == TAG_DELTA_SAME && in.readVarLong() != DeltaBase.checksum(data)) {
+                        throw new IOException("Stale delta base for " + key);
+                    }
+                    Object object = decode(data);
+                    objects.add(object);
+                    delta.putNew(key, data);
+                    return object;
+                }
+                default:
+                    throw new IOException("Unknown data tag " + tag);
+            }
+        }
+
+        private Class<?> readClass() throws IOException, ClassNotFoundException {
+            int ref = in.readVarInt();
+            if (ref > 0) {
+                return classes.get(ref - 1);
+            }
+            Class<?> clazz = Class.forName(new String(in.readBytes(), StandardCharsets.UTF_8), false, loader);
+            classes.add(clazz);
+            return clazz;
+        }
+
+        private void readFields(Object object, ClassInfo info) throws IOException, ClassNotFoundException {
+            try {
+                for (Field field : info.fields) {
+                    Class<?> type = field.getType();
+                    if (!type.isPrimitive()) {
+                        field.set(object, readObject());
+                    } else if (type == int.class) {
+                        field.setInt(object, in.readVarInt());
+                    } else if (type == boolean.class) {
+                        field.setBoolean(object, in.readByte() != 0);
+                    } else if (type == long.class) {
+                        field.setLong(object, in.readVarLong());
+                    } else if (type == double.class) {
+                        field.setDouble(object, Double.longBitsToDouble(in.readLong()));
+                    } else if (type == float.class) {
+                        field.setFloat(object, Float.intBitsToFloat(in.readVarInt()));
+                    } else if (type == short.class) {
+                        field.setShort(object, (short) in.readVarInt());
+                    } else if (type == byte.class) {
+                        field.setByte(object, in.readByte());
+                    } else if (type == char.class) {
+                        field.setChar(object, (char) in.readVarInt());
+                    }
+                }
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new IOException("Can't read fields of " + object.getClass().getName() + ": " + e, e);
+            }
+        }
+
+        private Object readArray(Class<?> arrayClass) throws IOException, ClassNotFoundException {
+            int length = in.readVarInt();
+            Class<?> type = arrayClass.getComponentType();
+            Object array = Array.newInstance(type, length);
+            objects.add(array);
+            if (type == byte.class) {
+                in.readRaw((byte[]) array);
+            } else if (!type.isPrimitive()) {
+                Object[] items = (Object[]) array;
+                for (int i = 0; i < length; i++) {
+                    items[i] = readObject();
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    if (type == int.class) {
+                        Array.setInt(array, i, in.readVarInt());
+                    } else if (type == boolean.class) {
+                        Array.setBoolean(array, i, in.readByte() != 0);
+                    } else if (type == long.class) {
+                        Array.setLong(array, i, in.readVarLong());
+                    } else if (type == double.class) {
+                        Array.setDouble(array, i, Double.longBitsToDouble(in.readLong()));
+                    } else if (type == float.class) {
+                        Array.setFloat(array, i, Float.intBitsToFloat(in.readVarInt()));
+                    } else if (type == short.class) {
+                        Array.setShort(array, i, (short) in.readVarInt());
+                    } else if (type == char.class) {
+                        Array.setChar(array, i, (char) in.readVarInt());
+                    }
+                }
+            }
+            return array;
+        }
+    }
+
+    /**
+     * Creates objects like java serialization do it: without constructors call of serializable classes,
+     * but with a constructor call of the first non-serializable parent.
+     * <p>
+     * It uses public java serialization api only: each object is read from generated stream with class
+     * description and without fields data, so all fields get default values (codec will set it after that).
+     * Class description is written once per stream, next objects use reference to it.
+     */
+    private static final class SerializationInstantiator {
+
+        private final FeedInputStream feed = new FeedInputStream();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream data = new DataOutputStream(bytes);
+        private final Map<String, Class<?>> classes = new HashMap<>();
+        private final Map<Class<?>, Integer> classHandles = new IdentityHashMap<>();
+        private final ObjectInputStream stream;
+        private int nextHandle = ObjectStreamConstants.baseWireHandle;
+
+        private SerializationInstantiator() throws IOException {
+            data.writeShort(ObjectStreamConstants.STREAM_MAGIC);
+            data.writeShort(ObjectStreamConstants.STREAM_VERSION);
+            feed.set(bytes.toByteArray());
+            this.stream = new ObjectInputStream(feed) {
+                @Override
+                protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                    Class<?> clazz = classes.get(desc.getName());
+                    return clazz != null ? clazz : super.resolveClass(desc);
+                }
+            };
+        }
+
+        private Object newInstance(Class<?> clazz) throws IOException, ClassNotFoundException {
+            bytes.reset();
+            data.writeByte(ObjectStreamConstants.TC_OBJECT);
+            Integer classHandle = classHandles.get(clazz);
+            if (classHandle == null) {
+                // class without fields and parents, so local class fields will be default
+                ObjectStreamClass desc = ObjectStreamClass.lookup(clazz);
+                if (desc == null) {
+                    throw new IOException("Can't create new instance of non serializable class " + clazz.getName());
+                }
+                classes.put(clazz.getName(), clazz);
+                classHandles.put(clazz, nextHandle++);
+                data.writeByte(ObjectStreamConstants.TC_CLASSDESC);
+                data.writeUTF(clazz.getName());
+                data.writeLong(desc.getSerialVersionUID());
+                data.writeByte(ObjectStreamConstants.SC_SERIALIZABLE);
+                data.writeShort(0); // fields
+                data.writeByte(ObjectStreamConstants.TC_ENDBLOCKDATA);
+                data.writeByte(ObjectStreamConstants.TC_NULL); // parent
+            } else {
+                data.writeByte(ObjectStreamConstants.TC_REFERENCE);
+                data.writeInt(classHandle);
+            }
+            nextHandle++; // object
+            feed.set(bytes.toByteArray());
+
+            Object object = stream.readObject();
+            if (object == null || object.getClass() != clazz) {
+                throw new IOException("Can't create new instance of " + clazz.getName());
+            }
+            return object;
+        }
+    }
+
+    /**
+     * Stream with data for the next read only
+     */
+    private static final class FeedInputStream extends InputStream {
+
+        private byte[] buffer = new byte[0];
+        private int pos = 0;
+
+        private void set(byte[] buffer) {
+            this.buffer = buffer;
+            this.pos = 0;
+        }
+
+        @Override
+        public int read() {
+            return pos < buffer.length ? buffer[pos++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (pos >= buffer.length) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.length - pos);
+            System.arraycopy(buffer, pos, b, off, count);
+            pos += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.length - pos;
+        }
+    }
+
+    private static final class Output {
+
+        private byte[] buffer = new byte[4096];
+        private int size = 0;
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        private void writeVarInt(int value) {
+            // zigzag, so small negative numbers use small space too
+            writeVarLong(value);
+        }
+
+        private void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            ensureCapacity(10);
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[size++] = (byte) zigzag;
+        }
+
+        private void writeLong(long value) {
+            ensureCapacity(8);
+            for (int i = 56; i >= 0; i -= 8) {
+                buffer[size++] = (byte) (value >>> i);
+            }
+        }
+
+        private void writeBytes(byte[] value) {
+            writeVarInt(value.length);
+            writeRaw(value);
+        }
+
+        private void writeRaw(byte[] value) {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, buffer, size, value.length);
+            size += value.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int pos = 0;
+
+        private Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private byte readByte() throws IOException {
+            if (pos >= buffer.length) {
+                throw new IOException("Unexpected end of data");
+            }
+            return buffer[pos++];
+        }
+
+        private int readVarInt() throws IOException {
+            return (int) readVarLong();
+        }
+
+        private long readVarLong() throws IOException {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IOException("Wrong varint data");
+        }
+
+        private long readLong() throws IOException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        private byte[] readBytes() throws IOException {
+            byte[] value = new byte[readVarInt()];
+            readRaw(value);
+            return value;
+        }
+
+        private void readRaw(byte[] value) throws IOException {
+            if (pos + value.length > buffer.length) {
+                throw new IOException("Unexpected end of data");
+            }
+            System.arraycopy(buffer, pos, value, 0, value.length);
+            pos += value.length;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package mage.remote.traffic;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.view.CardView;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Network: base data for delta messages (see BinaryObjectCodec)
+ * <p>
+ * Server and client keep same base for each data stream (e.g. game updates for a game). Cards
+ * from a new message replaced by card's id if it has same data as in the previous message, so
+ * only added and changed cards will be sent. Both sides must process messages in same order
+ * (unchanged cards are sent with base data's checksum, so stale base will be found on the client side).
+ *
+ * @author agent
+ */
+public class DeltaBase {
+
+    private Map<UUID, byte[]> lastObjects = new HashMap<>(); // objects data from the last message
+    private Map<UUID, byte[]> newObjects = new HashMap<>(); // objects data from the current message
+    private boolean broken = false; // client side: can't restore data, server must send full data
+    private volatile ClientCallback lastMessage = null; // server side: last message of the stream, will be re-sent on client's reset
+
+    /**
+     * @return key for delta data or null if object must be sent as is
+     */
+    static UUID getKey(Object object) {
+        if (object instanceof CardView) {
+            return ((CardView) object).getId();
+        }
+        return null;
+    }
+
+    static long checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        return crc.getValue();
+    }
+
+    byte[] getLast(UUID key) {
+        return lastObjects.get(key);
+    }
+
+    void putNew(UUID key, byte[] data) {
+        newObjects.put(key, data);
+    }
+
+    /**
+     * Message processed, so it will be a base for the next message
+     */
+    void commit() {
+        if (newObjects.isEmpty()) {
+            // message without cards (e.g. error text), keep the old base
+            return;
+        }
+        lastObjects = newObjects;
+        newObjects = new HashMap<>();
+    }
+
+    void rollback() {
+        newObjects.clear();
+    }
+
+    public void clear() {
+        lastObjects.clear();
+        newObjects.clear();
+        broken = false;
+    }
+
+    /**
+     * Server side: last message of the stream (keeps it after clear, so it can be re-sent with full data)
+     */
+    public ClientCallback getLastMessage() {
+        return lastMessage;
+    }
+
+    public void setLastMessage(ClientCallback lastMessage) {
+        this.lastMessage = lastMessage;
+    }
+
+    public boolean isBroken() {
+        return broken;
+    }
+
+    void setBroken(boolean broken) {
+        this.broken = broken;
+    }
+
+    public int size() {
+        return lastObjects.size();
+    }
+}
@@ -0,0 +1,51 @@
+package mage.remote.traffic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Network: delta bases for all data streams of the connection (e.g. one stream per game)
+ * <p>
+ * Keeps only the latest used streams, so old games will be removed from memory. Server and client
+ * use same logic and same messages order, so both sides remove same streams.
+ *
+ * @author agent
+ */
+public class DeltaBases {
+
+    private static final int MAX_BASES = 16;
+
+    private final Map<UUID, DeltaBase> bases = new LinkedHashMap<UUID, DeltaBase>(MAX_BASES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, DeltaBase> eldest) {
+            return size() > MAX_BASES;
+        }
+    };
+
+    public synchronized DeltaBase get(UUID objectId) {
+        return bases.computeIfAbsent(objectId, k -> new DeltaBase());
+    }
+
+    /**
+     * Next message for that stream will be sent with full data
+     *
+     * @return cleared base or null if stream is unknown
+     */
+    public synchronized DeltaBase reset(UUID objectId) {
+        // must keep streams order, so search without get call
+        DeltaBase deltaBase = bases.entrySet().stream()
+                .filter(entry -> entry.getKey().equals(objectId))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+        if (deltaBase != null) {
+            deltaBase.clear();
+        }
+        return deltaBase;
+    }
+
+    public synchronized void clear() {
+        bases.clear();
+    }
+}
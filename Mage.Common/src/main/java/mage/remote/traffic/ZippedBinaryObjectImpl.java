@@ -0,0 +1,104 @@
+package mage.remote.traffic;
+
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Implementation for compressing and decompressing objects using {@link BinaryObjectCodec} and fast deflate.
+ * Uses less cpu and traffic than {@link ZippedObjectImpl}, but client must support it (see MageVersion).
+ *
+ * @author agent
+ */
+public class ZippedBinaryObjectImpl<T> implements ZippedObject<T>, Serializable {
+
+    private static final Logger logger = Logger.getLogger(ZippedBinaryObjectImpl.class);
+
+    private byte[] data;
+    private int dataSize; // uncompressed size
+    private boolean delta; // data must be restored with a delta base
+
+    public ZippedBinaryObjectImpl(T object) {
+        this(object, null);
+    }
+
+    /**
+     * @param deltaBase base of the data stream, see DeltaBase
+     */
+    public ZippedBinaryObjectImpl(T object, DeltaBase deltaBase) {
+        zip(object, deltaBase);
+    }
+
+    @Override
+    public void zip(T object) {
+        zip(object, null);
+    }
+
+    private void zip(T object, DeltaBase deltaBase) {
+        this.delta = deltaBase != null;
+        try {
+            byte[] raw = BinaryObjectCodec.encode(object, deltaBase);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(raw);
+                deflater.finish();
+                ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+                byte[] buffer = new byte[8192];
+                while (!deflater.finished()) {
+                    int count = deflater.deflate(buffer);
+                    bos.write(buffer, 0, count);
+                }
+                data = bos.toByteArray();
+                dataSize = raw.length;
+            } finally {
+                deflater.end();
+            }
+        } catch (Exception e) {
+            logger.error("Can't compress data: " + e, e);
+        }
+    }
+
+    @Override
+    public T unzip() {
+        return unzip(null);
+    }
+
+    /**
+     * @param deltaBase base of the data stream, must be used for delta data
+     */
+    @SuppressWarnings("unchecked")
+    public T unzip(DeltaBase deltaBase) {
+        Inflater inflater = new Inflater();
+        try {
+            byte[] raw = new byte[dataSize];
+            inflater.setInput(data);
+            int size = 0;
+            while (size < raw.length && !inflater.finished()) {
+                int count = inflater.inflate(raw, size, raw.length - size);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Unexpected end of compressed data");
+                }
+                size += count;
+            }
+            return (T) BinaryObjectCodec.decode(raw, deltaBase);
+        } catch (Exception e) {
+            if (deltaBase != null) {
+                deltaBase.setBroken(true);
+            }
+            logger.error("Can't decompress data: " + e, e);
+        } finally {
+            inflater.end();
+        }
+        return null;
+    }
+
+    public boolean isDelta() {
+        return delta;
+    }
+
+    private static final long serialVersionUID = 1L;
+}
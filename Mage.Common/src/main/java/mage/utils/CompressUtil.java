@@ -1,5 +1,7 @@
 package mage.utils;
 
+import mage.remote.traffic.DeltaBase;
+import mage.remote.traffic.ZippedBinaryObjectImpl;
 import mage.remote.traffic.ZippedObject;
 import mage.remote.traffic.ZippedObjectImpl;
 
@@ -14,8 +16,20 @@ public final class CompressUtil {
     private static final String NO_COMPRESS_DATA_PROPERTY = "xmage.network.nocompress";
     private static final boolean compressData;
 
+    // disable binary format in client-server traffic (use java serialization for all clients), add java param like -Dxmage.network.nobinary
+    private static final String NO_BINARY_DATA_PROPERTY = "xmage.network.nobinary";
+    private static final boolean binaryData;
+
     static {
         compressData = System.getProperty(NO_COMPRESS_DATA_PROPERTY) == null;
+        binaryData = System.getProperty(NO_BINARY_DATA_PROPERTY) == null;
+    }
+
+    /**
+     * Delta data can be used for compressed binary data only, see compress(data, deltaBase)
+     */
+    public static boolean isDeltaDataSupported() {
+        return compressData && binaryData;
     }
 
     public static Object decompress(Object data) {
@@ -26,7 +40,32 @@ public final class CompressUtil {
     }
 
     public static Object compress(Object data) {
+        return compress(data, false);
+    }
+
+    /**
+     * @param useBinaryFormat client supports binary format (see MageVersion.getNetworkProtocol)
+     */
+    public static Object compress(Object data, boolean useBinaryFormat) {
+        if (data != null && compressData) {
+            if (useBinaryFormat && binaryData) {
+                return new ZippedBinaryObjectImpl<>(data);
+            }
+            return new ZippedObjectImpl<>(data);
+        }
+        return data;
+    }
+
+    /**
+     * Compress data in binary format with delta (only changed cards will be sent)
+     *
+     * @param deltaBase base of the data stream, see DeltaBase
+     */
+    public static Object compress(Object data, DeltaBase deltaBase) {
         if (data != null && compressData) {
+            if (binaryData) {
+                return new ZippedBinaryObjectImpl<>(data, deltaBase);
+            }
             return new ZippedObjectImpl<>(data);
         }
         return data;
@@ -9,6 +9,9 @@ import java.io.Serializable;
  */
 public class MageVersion implements Serializable, Comparable<MageVersion> {
 
+    // must be same as before a networkProtocol field, so old clients can be connected and get a version error
+    private static final long serialVersionUID = -5872491576857560039L;
+
     // version must be compatible with maven version numbers
     // launcher can update only to the newest version
     // example: 1.4.48-V1-beta3
@@ -28,11 +31,21 @@ public class MageVersion implements Serializable, Comparable<MageVersion> {
     // build info
     public static final boolean MAGE_VERSION_SHOW_BUILD_TIME = true;
 
+    // data format for server's callbacks, server uses the newest format supported by a client:
+    // * 0 - default java serialization (old clients without that field);
+    // * 1 - binary format (see BinaryObjectCodec);
+    // * 2 - binary format with delta game updates (see DeltaBase);
+    public static final int MAGE_NETWORK_PROTOCOL_JAVA = 0;
+    public static final int MAGE_NETWORK_PROTOCOL_BINARY = 1;
+    public static final int MAGE_NETWORK_PROTOCOL_BINARY_DELTA = 2;
+    public static final int MAGE_NETWORK_PROTOCOL = MAGE_NETWORK_PROTOCOL_BINARY_DELTA;
+
     private final int major;
     private final int minor;
     private final int release;
     private final String releaseInfo;
     private final String buildTime;
+    private final int networkProtocol;
 
     public MageVersion(Class sourceClass) {
         this(MAGE_VERSION_MAJOR, MAGE_VERSION_MINOR, MAGE_VERSION_RELEASE, MAGE_VERSION_RELEASE_INFO, sourceClass);
@@ -52,6 +65,8 @@ public class MageVersion implements Serializable, Comparable<MageVersion> {
 
         // build time
         this.buildTime = JarVersion.getBuildTime(sourceClass);
+
+        this.networkProtocol = MAGE_NETWORK_PROTOCOL;
     }
 
     public String toString(boolean showBuildTime) {
@@ -95,4 +110,8 @@ public class MageVersion implements Serializable, Comparable<MageVersion> {
     public String getBuildTime() {
         return this.buildTime;
     }
+
+    public int getNetworkProtocol() {
+        return this.networkProtocol;
+    }
 }
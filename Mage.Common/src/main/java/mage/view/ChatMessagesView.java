@@ -0,0 +1,25 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chat messages batch (game log), client must show it in same order
+ *
+ * @author agent
+ */
+public class ChatMessagesView implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<ChatMessage> messages;
+
+    public ChatMessagesView(List<ChatMessage> messages) {
+        this.messages = new ArrayList<>(messages);
+    }
+
+    public List<ChatMessage> getMessages() {
+        return messages;
+    }
+}
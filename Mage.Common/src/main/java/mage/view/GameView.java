@@ -211,6 +211,37 @@ public class GameView implements Serializable {
         this.totalErrorsCount = game.getTotalErrorsCount();
     }
 
+    /**
+     * Shallow copy for another recipient with same visible data (e.g. game watchers): all card views
+     * are shared with the source view, so only recipient's data can be changed (watched hands, playable objects)
+     */
+    public GameView(final GameView view) {
+        this.priorityTime = view.priorityTime;
+        this.bufferTime = view.bufferTime;
+        this.players.addAll(view.players);
+        this.myPlayerId = view.myPlayerId;
+        this.myHand.putAll(view.myHand);
+        this.myHelperEmblems.putAll(view.myHelperEmblems);
+        this.canPlayObjects = view.canPlayObjects;
+        this.opponentHands.putAll(view.opponentHands);
+        this.watchedHands.putAll(view.watchedHands);
+        this.stack.putAll(view.stack);
+        this.exiles.addAll(view.exiles);
+        this.revealed.addAll(view.revealed);
+        this.lookedAt.addAll(view.lookedAt);
+        this.companion.addAll(view.companion);
+        this.combat.addAll(view.combat);
+        this.phase = view.phase;
+        this.step = view.step;
+        this.activePlayerId = view.activePlayerId;
+        this.activePlayerName = view.activePlayerName;
+        this.priorityPlayerName = view.priorityPlayerName;
+        this.turn = view.turn;
+        this.special = view.special;
+        this.rollbackTurnsAllowed = view.rollbackTurnsAllowed;
+        this.totalErrorsCount = view.totalErrorsCount;
+    }
+
     private void checkPaid(UUID uuid, StackAbility stackAbility) {
         for (Cost cost : stackAbility.getManaCostsToPay()) {
             if (!cost.isPaid()) {
@@ -0,0 +1,52 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Server's lobby: active tables changes for subscribed clients
+ * <p>
+ * Each update has next version number, so client can find missing updates and
+ * re-subscribe to get full tables list again.
+ *
+ * @author agent
+ */
+public class TablesUpdateView implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UUID roomId;
+    private final long version;
+    private final boolean snapshot; // full tables list, otherwise changes since the previous version only
+    private final List<TableView> tables; // all tables (snapshot) or new and changed tables
+    private final List<UUID> removedTables;
+
+    public TablesUpdateView(UUID roomId, long version, boolean snapshot, List<TableView> tables, List<UUID> removedTables) {
+        this.roomId = roomId;
+        this.version = version;
+        this.snapshot = snapshot;
+        this.tables = tables;
+        this.removedTables = removedTables;
+    }
+
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public List<TableView> getTables() {
+        return tables;
+    }
+
+    public List<UUID> getRemovedTables() {
+        return removedTables;
+    }
+}
@@ -37,6 +37,8 @@ import org.apache.log4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -63,6 +65,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
             new LinkedBlockingQueue<>(),
             new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MAD)
     );
+    // root actions calculation: own pool per AI player (created on first usage, threads stop on idle)
+    private transient ExecutorService threadPoolRootSimulations;
+    protected int maxRootSimulationThreads = COMPUTER_MAX_THREADS_FOR_ROOT_SIMULATIONS;
+    // parallel root actions share alpha bound, so each task can cut its search by results of other tasks
+    private static final ThreadLocal<RootTaskContext> rootTaskContext = new ThreadLocal<>();
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThinkTimeSecs;
@@ -76,6 +83,9 @@ public class ComputerPlayer6 extends ComputerPlayer {
     List<Permanent> attackersToCheck = new ArrayList<>();
 
     protected Set<String> actionCache;
+    // already calculated results from the current calc (different actions order can lead to same game state)
+    private transient TranspositionTable transpositionTable;
+    private static final int TRANSPOSITION_TABLE_SIZE_POWER_OF_TWO = 14; // 16384 entries (more than max nodes per calc)
     private static final List<TreeOptimizer> optimizers = new ArrayList<>();
     protected int lastLoggedTurn = 0; // for debug logs: mark start of the turn
     protected static final String BLANKS = "...............................................";
@@ -111,6 +121,8 @@ public class ComputerPlayer6 extends ComputerPlayer {
         this.targets.addAll(player.targets);
         this.choices.addAll(player.choices);
         this.actionCache = player.actionCache;
+        this.transpositionTable = player.transpositionTable;
+        this.maxRootSimulationThreads = player.maxRootSimulationThreads;
     }
 
     @Override
@@ -212,11 +224,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
         // Condition to stop deeper simulation
-        if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+        if (SimulationNode2.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
             throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
         }
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || SimulationNode2.getCount() > maxNodes
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -243,6 +255,35 @@ public class ComputerPlayer6 extends ComputerPlayer {
             val = minimaxAB(node, depth - 1, alpha, beta);
         } else {
             logger.trace("Add Action -- alpha: " + alpha + " beta: " + beta + " depth:" + depth + " step:" + game.getTurnStepType() + " for player:" + game.getPlayer(game.getActivePlayerId()).getName());
+
+            // same game state can be found by another actions order, so use prev result
+            // (root node must be calculated anyway to find actions chain)
+            // saved result without children cuts the actions chain, so AI will re-calculate it on next priority
+            // (see getNextAction)
+            long gameHash = 0;
+            int searchAlpha = alpha;
+            int searchBeta = beta;
+            boolean useTranspositionTable = depth < maxDepth;
+            if (useTranspositionTable) {
+                gameHash = game.getState().getHashValue(game, null);
+                TranspositionTable.Entry saved = getTranspositionTable().get(gameHash, depth);
+                if (saved != null) {
+                    // not exact result can be used as new search bound only
+                    if (saved.getBound() == TranspositionTable.Bound.LOWER) {
+                        alpha = Math.max(alpha, saved.getScore());
+                    } else if (saved.getBound() == TranspositionTable.Bound.UPPER) {
+                        beta = Math.min(beta, saved.getScore());
+                    }
+                    if (saved.getBound() == TranspositionTable.Bound.EXACT || alpha >= beta) {
+                        node.setScore(saved.getScore());
+                        logger.trace("returning saved score: " + saved.getScore() + " depth:" + depth);
+                        return saved.getScore();
+                    }
+                }
+            }
+            RootTaskContext taskContext = rootTaskContext.get();
+            boolean prevSharedAlphaUsage = taskContext != null && taskContext.startSubtree();
+
             if (allPassed(game)) {
                 if (!game.getStack().isEmpty()) {
                     resolve(node, depth, game);
@@ -283,6 +324,14 @@ public class ComputerPlayer6 extends ComputerPlayer {
             } else {
                 val = simulatePriority(node, game, depth, alpha, beta);
             }
+
+            // result cut by other tasks depends on calc order, so it can't be used on another search
+            boolean sharedAlphaUsed = taskContext != null && taskContext.finishSubtree(prevSharedAlphaUsage);
+            if (useTranspositionTable
+                    && !sharedAlphaUsed
+                    && !Thread.currentThread().isInterrupted()) {
+                getTranspositionTable().put(gameHash, depth, val, TranspositionTable.getBound(val, searchAlpha, searchBeta));
+            }
         }
         node.setScore(val);
         logger.trace("returning -- score: " + val + " depth:" + depth + " step:" + game.getTurnStepType() + " for player:" + game.getPlayer(node.getPlayerId()).getName());
@@ -300,10 +349,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            long gameValue = game.getState().getHashValue(game, null);
+            logger.trace("Sim getNextAction -- game value:" + gameValue + " test value:" + test.gameValue);
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && gameValue == test.gameValue) {
                 logger.info("simulating -- continuing previous actions chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -311,7 +361,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             } else {
                 if (root.abilities == null || root.abilities.isEmpty()) {
                     logger.info("simulating -- need re-calculation (no more actions)");
-                } else if (game.getState().getValue(true).hashCode() != test.gameValue) {
+                } else if (gameValue != test.gameValue) {
                     logger.info("simulating -- need re-calculation (game state changed between actions)");
                 } else if (!root.playerId.equals(playerId)) {
                     // TODO: need research, why need playerId and why it taken from stack objects as controller
@@ -331,13 +381,13 @@ public class ComputerPlayer6 extends ComputerPlayer {
         SimulationNode2 bestChild = null;
         for (SimulationNode2 child : node.getChildren()) {
             Combat _combat = child.getCombat();
-            if (alpha >= beta) {
+            if (isCutOff(alpha, beta)) {
                 break;
             }
-            if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+            if (SimulationNode2.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
                 throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (SimulationNode2.getCount() > maxNodes) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -430,8 +480,19 @@ public class ComputerPlayer6 extends ComputerPlayer {
      * @return
      */
     protected Integer addActionsTimed() {
+        // saved results depend on current score, so it can't be used between calcs
+        getTranspositionTable().clear();
+
         // run new game simulation in parallel thread
-        FutureTask<Integer> task = new FutureTask<>(() -> addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        FutureTask<Integer> task = new FutureTask<>(() -> {
+            // simulation uses own random, so it doesn't share random with other games
+            Random oldRandom = RandomUtil.setThreadRandom(root.getGame().getRandom());
+            try {
+                return addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            } finally {
+                RandomUtil.setThreadRandom(oldRandom);
+            }
+        });
         threadPoolSimulations.execute(task);
         try {
             int maxSeconds = maxThinkTimeSecs;
@@ -440,6 +501,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             }
             logger.debug("maxThink: " + maxSeconds + " seconds ");
             Integer res = task.get(maxSeconds, TimeUnit.SECONDS);
+            logger.debug("transposition table usage: " + getTranspositionTable());
             if (res != null) {
                 return res;
             }
@@ -472,7 +534,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getHashValue(game, null));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
@@ -495,201 +557,209 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
         int actionNumber = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
-        for (Ability action : allActions) {
-            actionNumber++;
-            if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
-                    && Thread.interrupted()) {
-                Thread.currentThread().interrupt();
-                logger.info("Sim Prio [" + depth + "] -- interrupted");
-                break;
-            }
-            Game sim = game.createSimulationForAI();
-            if (!(action instanceof StaticAbility) //for MorphAbility, etc
-                    && sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
-                    continue;
-                }
-                if (!sim.checkIfGameIsOver()
-                        && (action.isUsesStack() || action instanceof PassAbility)) {
-                    // skip priority for opponents before stack resolve
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (!Objects.equals(nextPlayerId, this.getId()));
+
+        // root actions can be calculated in parallel, next depth levels are always calculated one by one
+        List<Future<SimulationNode2>> parallelResults = null;
+        ReentrantLock rootGameLock = null;
+        if (depth == maxDepth
+                && currentPlayer.getId().equals(playerId)
+                && allActions.size() > 1
+                && maxRootSimulationThreads > 1
+                && !COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS) {
+            // tasks copy the root game, so main thread must not use it at the same time (lock released on results waiting only)
+            rootGameLock = new ReentrantLock();
+            rootGameLock.lock();
+            parallelResults = simulateActionsInParallel(node, game, rootGameLock, currentPlayer.getId(), allActions, depth, alpha, beta);
+        }
+
+        try {
+            for (Ability action : allActions) {
+                actionNumber++;
+                if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
+                        && Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    logger.info("Sim Prio [" + depth + "] -- interrupted");
+                    break;
                 }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
-                int finalScore;
-                if (action instanceof PassAbility && sim.getStack().isEmpty()) {
-                    // no more next actions, it's a final score
-                    finalScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
+                SimulationNode2 newNode;
+                if (parallelResults != null) {
+                    newNode = waitActionResult(parallelResults.get(actionNumber - 1), rootGameLock);
                 } else {
-                    // resolve current action and calc all next actions to find best score (return max possible score)
-                    finalScore = addActions(newNode, depth - 1, alpha, beta);
+                    newNode = simulateAction(node, game.createSimulationForAI(), currentPlayer.getId(), action, depth, alpha, beta);
                 }
-                logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + finalScore + "> - (" + action + ") ");
-
-                // Hints on data:
-                // * node - started game with executed command (pay and put on stack)
-                // * newNode - resolved game with resolved command (resolve stack)
-                // * node.children - rewrites to store only best tree (e.g. contains only final data)
-                // * node.score - rewrites to store max score (e.g. contains only final data)
-                if (logger.isInfoEnabled()
-                        && depth >= maxDepth) {
-                    // show final calculated score and best actions chain from it
-                    List<SimulationNode2> fullChain = new ArrayList<>();
-                    fullChain.add(newNode);
-                    SimulationNode2 finalNode = newNode;
-                    while (!finalNode.getChildren().isEmpty()) {
-                        finalNode = finalNode.getChildren().get(0);
-                        fullChain.add(finalNode);
-                    }
-
-                    // example: Sim Prio [6] #1 <diff -19, +4444> (Lightning Bolt [aa5]: Cast Lightning Bolt -> Balduvian Bears [c49])
-                    // total
-                    logger.info(String.format("Sim Prio [%d] #%d <total score diff %s (from %s to %s)>",
-                            depth,
-                            actionNumber,
-                            printDiffScore(finalScore - startedScore),
-                            printDiffScore(startedScore),
-                            printDiffScore(finalScore)
-                    ));
-
-                    // details
-                    for (int chainIndex = 0; chainIndex < fullChain.size(); chainIndex++) {
-                        SimulationNode2 currentNode = fullChain.get(chainIndex);
-                        SimulationNode2 prevNode;
-                        if (chainIndex == 0) {
-                            prevNode = node;
-                        } else {
-                            prevNode = fullChain.get(chainIndex - 1);
+                if (newNode != null) {
+                    int finalScore = newNode.getScore();
+                    logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + finalScore + "> - (" + action + ") ");
+
+                    // Hints on data:
+                    // * node - started game with executed command (pay and put on stack)
+                    // * newNode - resolved game with resolved command (resolve stack)
+                    // * node.children - rewrites to store only best tree (e.g. contains only final data)
+                    // * node.score - rewrites to store max score (e.g. contains only final data)
+                    if (logger.isInfoEnabled()
+                            && depth >= maxDepth) {
+                        // show final calculated score and best actions chain from it
+                        List<SimulationNode2> fullChain = new ArrayList<>();
+                        fullChain.add(newNode);
+                        SimulationNode2 finalNode = newNode;
+                        while (!finalNode.getChildren().isEmpty()) {
+                            finalNode = finalNode.getChildren().get(0);
+                            fullChain.add(finalNode);
                         }
 
-                        int currentScore = GameStateEvaluator2.evaluate(this.getId(), currentNode.getGame()).getTotalScore();
-                        int prevScore = GameStateEvaluator2.evaluate(this.getId(), prevNode.getGame()).getTotalScore();
+                        // example: Sim Prio [6] #1 <diff -19, +4444> (Lightning Bolt [aa5]: Cast Lightning Bolt -> Balduvian Bears [c49])
+                        // total
+                        logger.info(String.format("Sim Prio [%d] #%d <total score diff %s (from %s to %s)>",
+                                depth,
+                                actionNumber,
+                                printDiffScore(finalScore - startedScore),
+                                printDiffScore(startedScore),
+                                printDiffScore(finalScore)
+                        ));
+
+                        // details
+                        for (int chainIndex = 0; chainIndex < fullChain.size(); chainIndex++) {
+                            SimulationNode2 currentNode = fullChain.get(chainIndex);
+                            SimulationNode2 prevNode;
+                            if (chainIndex == 0) {
+                                prevNode = node;
+                            } else {
+                                prevNode = fullChain.get(chainIndex - 1);
+                            }
 
-                        if (currentNode.getAbilities() != null) {
-                            // ON PRIORITY
+                            int currentScore = GameStateEvaluator2.evaluate(this.getId(), currentNode.getGame()).getTotalScore();
+                            int prevScore = GameStateEvaluator2.evaluate(this.getId(), prevNode.getGame()).getTotalScore();
 
-                            // runtime check
-                            if (currentNode.getAbilities().size() != 1) {
-                                throw new IllegalStateException("AI's simulated game must contains only one selected action, but found: " + currentNode.getAbilities());
-                            }
-                            if (!currentNode.getTargets().isEmpty() || !currentNode.getChoices().isEmpty()) {
-                                throw new IllegalStateException("WTF, simulated abilities with targets/choices");
+                            if (currentNode.getAbilities() != null) {
+                                // ON PRIORITY
+
+                                // runtime check
+                                if (currentNode.getAbilities().size() != 1) {
+                                    throw new IllegalStateException("AI's simulated game must contains only one selected action, but found: " + currentNode.getAbilities());
+                                }
+                                if (!currentNode.getTargets().isEmpty() || !currentNode.getChoices().isEmpty()) {
+                                    throw new IllegalStateException("WTF, simulated abilities with targets/choices");
+                                }
+                                logger.info(String.format("Sim Prio [%d] -> next action: [%d]<diff %s> (%s)",
+                                        depth,
+                                        currentNode.getDepth(),
+                                        printDiffScore(currentScore - prevScore),
+                                        getAbilityAndSourceInfo(currentNode.getGame(), currentNode.getAbilities().get(0), true)
+                                ));
+                            } else if (!currentNode.getTargets().isEmpty()) {
+                                // ON TARGETS
+                                String targetsInfo = currentNode.getTargets()
+                                        .stream()
+                                        .map(id -> {
+                                            Player player = game.getPlayer(id);
+                                            if (player != null) {
+                                                return player.getName();
+                                            }
+                                            MageObject object = game.getObject(id);
+                                            if (object != null) {
+                                                return object.getIdName();
+                                            }
+                                            return "unknown";
+                                        })
+                                        .collect(Collectors.joining(", "));
+                                logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
+                                        depth,
+                                        currentNode.getDepth(),
+                                        printDiffScore(currentScore - prevScore),
+                                        targetsInfo)
+                                );
+                            } else if (!currentNode.getChoices().isEmpty()) {
+                                // ON CHOICES
+                                String choicesInfo = String.join(", ", currentNode.getChoices());
+                                logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
+                                        depth,
+                                        currentNode.getDepth(),
+                                        printDiffScore(currentScore - prevScore),
+                                        choicesInfo)
+                                );
+                            } else {
+                                throw new IllegalStateException("AI CALC ERROR: unknown calculation result (no abilities, no targets, no choices)");
                             }
-                            logger.info(String.format("Sim Prio [%d] -> next action: [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    getAbilityAndSourceInfo(currentNode.getGame(), currentNode.getAbilities().get(0), true)
-                            ));
-                        } else if (!currentNode.getTargets().isEmpty()) {
-                            // ON TARGETS
-                            String targetsInfo = currentNode.getTargets()
-                                    .stream()
-                                    .map(id -> {
-                                        Player player = game.getPlayer(id);
-                                        if (player != null) {
-                                            return player.getName();
-                                        }
-                                        MageObject object = game.getObject(id);
-                                        if (object != null) {
-                                            return object.getIdName();
-                                        }
-                                        return "unknown";
-                                    })
-                                    .collect(Collectors.joining(", "));
-                            logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    targetsInfo)
-                            );
-                        } else if (!currentNode.getChoices().isEmpty()) {
-                            // ON CHOICES
-                            String choicesInfo = String.join(", ", currentNode.getChoices());
-                            logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    choicesInfo)
-                            );
-                        } else {
-                            throw new IllegalStateException("AI CALC ERROR: unknown calculation result (no abilities, no targets, no choices)");
                         }
                     }
-                }
 
-                if (currentPlayer.getId().equals(playerId)) {
-                    if (finalScore > bestValSubNodes) {
-                        bestValSubNodes = finalScore;
-                    }
-                    if (depth == maxDepth
-                            && action instanceof PassAbility) {
-                        finalScore = finalScore - PASSIVITY_PENALTY; // passivity penalty
-                    }
-                    if (finalScore > alpha
-                            || (depth == maxDepth
-                            && finalScore == alpha
-                            && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
-                        alpha = finalScore;
-                        bestNode = newNode;
-                        bestNode.setScore(finalScore);
-                        if (!newNode.getChildren().isEmpty()) {
-                            // TODO: wtf, must review all code to remove shared objects
-                            bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                    if (currentPlayer.getId().equals(playerId)) {
+                        if (finalScore > bestValSubNodes) {
+                            bestValSubNodes = finalScore;
+                        }
+                        if (depth == maxDepth
+                                && action instanceof PassAbility) {
+                            finalScore = finalScore - PASSIVITY_PENALTY; // passivity penalty
                         }
+                        if (finalScore > alpha
+                                || (depth == maxDepth
+                                && finalScore == alpha
+                                && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
+                            alpha = finalScore;
+                            bestNode = newNode;
+                            bestNode.setScore(finalScore);
+                            if (!newNode.getChildren().isEmpty()) {
+                                // TODO: wtf, must review all code to remove shared objects
+                                bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                            }
 
-                        // keep only best node
-                        if (depth == maxDepth) {
-                            logger.info("Sim Prio [" + depth + "] -* BEST actions chain so far: <final score " + bestNode.getScore() + ">");
-                            node.children.clear();
-                            node.children.add(bestNode);
-                            node.setScore(bestNode.getScore());
+                            // keep only best node
+                            if (depth == maxDepth) {
+                                logger.info("Sim Prio [" + depth + "] -* BEST actions chain so far: <final score " + bestNode.getScore() + ">");
+                                node.children.clear();
+                                node.children.add(bestNode);
+                                node.setScore(bestNode.getScore());
+                            }
                         }
-                    }
 
-                    // no need to check other actions
-                    if (finalScore == GameStateEvaluator2.WIN_GAME_SCORE) {
-                        logger.debug("Sim Prio -- win - break");
+                        // no need to check other actions
+                        if (finalScore == GameStateEvaluator2.WIN_GAME_SCORE) {
+                            logger.debug("Sim Prio -- win - break");
+                            break;
+                        }
+                    } else {
+                        if (finalScore < beta) {
+                            beta = finalScore;
+                            bestNode = newNode;
+                            bestNode.setScore(finalScore);
+                            if (!newNode.getChildren().isEmpty()) {
+                                bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                            }
+                        }
+
+                        // no need to check other actions
+                        if (finalScore == GameStateEvaluator2.LOSE_GAME_SCORE) {
+                            logger.debug("Sim Prio -- lose - break");
+                            break;
+                        }
+                    }
+                    if (isCutOff(alpha, beta)) {
                         break;
                     }
-                } else {
-                    if (finalScore < beta) {
-                        beta = finalScore;
-                        bestNode = newNode;
-                        bestNode.setScore(finalScore);
-                        if (!newNode.getChildren().isEmpty()) {
-                            bestNode.setCombat(newNode.getChildren().get(0).getCombat());
-                        }
+                    if (parallelResults != null) {
+                        // all actions already calculated with the shared nodes limit
+                        continue;
                     }
-
-                    // no need to check other actions
-                    if (finalScore == GameStateEvaluator2.LOSE_GAME_SCORE) {
-                        logger.debug("Sim Prio -- lose - break");
+                    if (SimulationNode2.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
+                        throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
+                    }
+                    if (SimulationNode2.getCount() > maxNodes) {
+                        logger.debug("Sim Prio -- reached end-state");
                         break;
                     }
                 }
-                if (alpha >= beta) {
-                    break;
-                }
-                if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
-                    throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
-                }
-                if (SimulationNode2.nodeCount > maxNodes) {
-                    logger.debug("Sim Prio -- reached end-state");
-                    break;
-                }
+            } // end of for (allActions)
+        } finally {
+            if (parallelResults != null) {
+                // stop all unused calculations (e.g. on win or timeout)
+                parallelResults.forEach(future -> future.cancel(true));
+                rootGameLock.unlock();
             }
-        } // end of for (allActions)
+        }
 
         if (depth == maxDepth) {
             // TODO: buggy? Why it ended with depth limit 6 on one Pass action?!
-            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + SimulationNode2.getCount());
         }
         if (bestNode != null) {
             node.children.clear();
@@ -708,6 +778,191 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
     }
 
+    private TranspositionTable getTranspositionTable() {
+        if (transpositionTable == null) {
+            // lazy init (table can't be saved with game state)
+            transpositionTable = new TranspositionTable(TRANSPOSITION_TABLE_SIZE_POWER_OF_TWO);
+        }
+        return transpositionTable;
+    }
+
+    /**
+     * Activate action in the simulated game and calc its final score
+     *
+     * @return new node with final score or null if action can't be used
+     */
+    private SimulationNode2 simulateAction(SimulationNode2 node, Game sim, UUID currentPlayerId, Ability action, int depth, int alpha, int beta) {
+        if (action instanceof StaticAbility // for MorphAbility, etc
+                || !sim.getPlayer(currentPlayerId).activateAbility((ActivatedAbility) action.copy(), sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayerId)) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // skip priority for opponents before stack resolve
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(sim);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (!Objects.equals(nextPlayerId, this.getId()));
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayerId);
+        sim.checkStateAndTriggered();
+        int finalScore;
+        if (action instanceof PassAbility && sim.getStack().isEmpty()) {
+            // no more next actions, it's a final score
+            finalScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
+        } else {
+            // resolve current action and calc all next actions to find best score (return max possible score)
+            finalScore = addActions(newNode, depth - 1, alpha, beta);
+        }
+        newNode.setScore(finalScore);
+        return newNode;
+    }
+
+    /**
+     * Calc all root actions in parallel threads (one action per task)
+     * <p>
+     * Each task uses own game copy (creates on task start, so memory usage is limited by threads amount). Tasks share nodes limit and alpha bound, so good result from
+     * one action can cut calculations of other actions like in one by one mode (bound checks on each search level, see isCutOff).
+     *
+     * @param rootGameLock source game's lock (main thread keeps it all the time except results waiting)
+     * @return results in the same order as actions list
+     */
+    private List<Future<SimulationNode2>> simulateActionsInParallel(SimulationNode2 node, Game game, ReentrantLock rootGameLock, UUID currentPlayerId, List<Ability> allActions, int depth, int alpha, int beta) {
+        AtomicInteger sharedAlpha = new AtomicInteger(alpha);
+        ExecutorService threadPool = getThreadPoolRootSimulations();
+        List<Future<SimulationNode2>> res = new ArrayList<>(allActions.size());
+        for (Ability action : allActions) {
+            res.add(threadPool.submit(() -> {
+                int currentAlpha = sharedAlpha.get();
+                if (currentAlpha >= beta || currentAlpha == GameStateEvaluator2.WIN_GAME_SCORE) {
+                    // already found the best result
+                    return null;
+                }
+                Game sim;
+                rootGameLock.lockInterruptibly();
+                try {
+                    // source game is shared between simulation threads, so copy it one by one
+                    sim = game.createSimulationForAI();
+                } finally {
+                    rootGameLock.unlock();
+                }
+                Random oldRandom = RandomUtil.setThreadRandom(sim.getRandom());
+                rootTaskContext.set(new RootTaskContext(sharedAlpha));
+                try {
+                    SimulationNode2 newNode = simulateAction(node, sim, currentPlayerId, action, depth, currentAlpha, beta);
+                    if (newNode != null) {
+                        int score = newNode.getScore() - (action instanceof PassAbility ? PASSIVITY_PENALTY : 0);
+                        sharedAlpha.accumulateAndGet(score, Math::max);
+                    }
+                    return newNode;
+                } finally {
+                    rootTaskContext.remove();
+                    RandomUtil.setThreadRandom(oldRandom);
+                }
+            }));
+        }
+        return res;
+    }
+
+    private SimulationNode2 waitActionResult(Future<SimulationNode2> future, ReentrantLock rootGameLock) {
+        rootGameLock.unlock();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            // timeout, calculated results will be ignored
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            // raise simulation error to the main thread (see addActionsTimed)
+            throw new IllegalStateException("AI root simulation error: " + e.getCause(), e.getCause());
+        } finally {
+            rootGameLock.lock();
+        }
+    }
+
+    private synchronized ExecutorService getThreadPoolRootSimulations() {
+        if (threadPoolRootSimulations == null) {
+            // same params as Executors.newFixedThreadPool, but without idle threads
+            // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+                    maxRootSimulationThreads,
+                    maxRootSimulationThreads,
+                    60L,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MAD_ROOT)
+            );
+            threadPool.allowCoreThreadTimeOut(true);
+            threadPoolRootSimulations = threadPool;
+        }
+        return threadPoolRootSimulations;
+    }
+
+    /**
+     * Max threads for root actions calculation, use 1 for one by one mode (e.g. for tests)
+     */
+    public void setMaxRootSimulationThreads(int maxRootSimulationThreads) {
+        this.maxRootSimulationThreads = maxRootSimulationThreads;
+    }
+
+    /**
+     * Alpha-beta cut off check with shared alpha bound from parallel root tasks
+     */
+    private static boolean isCutOff(int alpha, int beta) {
+        if (alpha >= beta) {
+            return true;
+        }
+        RootTaskContext taskContext = rootTaskContext.get();
+        return taskContext != null && taskContext.isCutOffBySharedAlpha(beta);
+    }
+
+    /**
+     * Search context of the parallel root task
+     */
+    private static final class RootTaskContext {
+
+        private final AtomicInteger sharedAlpha;
+        private boolean sharedAlphaUsed; // current subtree was cut by results from other tasks
+
+        private RootTaskContext(AtomicInteger sharedAlpha) {
+            this.sharedAlpha = sharedAlpha;
+        }
+
+        private boolean isCutOffBySharedAlpha(int beta) {
+            if (sharedAlpha.get() >= beta) {
+                sharedAlphaUsed = true;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return prev subtree usage
+         */
+        private boolean startSubtree() {
+            boolean prev = sharedAlphaUsed;
+            sharedAlphaUsed = false;
+            return prev;
+        }
+
+        /**
+         * @return current subtree usage
+         */
+        private boolean finishSubtree(boolean prevSubtreeUsage) {
+            boolean current = sharedAlphaUsed;
+            sharedAlphaUsed = current || prevSubtreeUsage;
+            return current;
+        }
+    }
+
     protected String getAbilityAndSourceInfo(Game game, Ability ability, boolean showTargets) {
         // ability
         // TODO: add modal info
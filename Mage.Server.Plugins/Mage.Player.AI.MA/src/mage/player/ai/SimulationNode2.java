@@ -5,6 +5,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.combat.Combat;
@@ -15,10 +16,11 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
+    // shared nodes budget for all simulation threads of the current calc
+    protected static final AtomicInteger nodeCount = new AtomicInteger();
 
     protected Game game;
-    protected int gameValue; // game state hash to monitor changes
+    protected long gameValue; // game state hash to monitor changes (see GameState.getHashValue)
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -35,7 +37,7 @@ public class SimulationNode2 implements Serializable {
         this.depth = depth;
         this.playerId = playerId;
         game.setCustomData(this);
-        nodeCount++;
+        nodeCount.incrementAndGet();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -50,22 +52,22 @@ public class SimulationNode2 implements Serializable {
     }
 
     public static void resetCount() {
-        nodeCount = 0;
+        nodeCount.set(0);
     }
 
     public static int getCount() {
-        return nodeCount;
+        return nodeCount.get();
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
@@ -0,0 +1,415 @@
+package mage.player.ai.util;
+
+import mage.abilities.Ability;
+import mage.abilities.DelayedTriggeredAbility;
+import mage.abilities.TriggeredAbility;
+import mage.abilities.effects.ContinuousEffect;
+import mage.abilities.keyword.*;
+import mage.constants.Layer;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.combat.CombatGroup;
+import mage.game.events.DamagePermanentEvent;
+import mage.game.events.DamagePlayerEvent;
+import mage.game.events.GameEvent;
+import mage.game.permanent.Permanent;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Fast combat estimation for AI: calculates the result of one attacker vs one blocker fight
+ * from power, toughness, marked damage and combat keywords, without game simulation.
+ * <p>
+ * Supported: first strike, double strike, deathtouch, trample, lifelink, indestructible, infect, wither, protection,
+ * flanking, bushido.
+ * <p>
+ * Unsupported combats (must be checked by another way):
+ * - any combat related triggers on the battlefield (bushido, flanking, "whenever a creature blocks", "deals damage", etc);
+ * - P/T or abilities of the fighters depend on attacking or blocking status (static effects without combat
+ * conditions are already applied to the permanents, so it's supported);
+ * - combat damage or destroy events can be replaced or prevented (fog effects, regeneration shields, etc).
+ * <p>
+ * Battlefield related checks are made one time per combat, so use same estimator for all attacker/blocker pairs.
+ *
+ * @author agent
+ */
+public final class CombatEstimator {
+
+    // triggers of that events can change combat result
+    private static final Set<GameEvent.EventType> COMBAT_EVENTS = EnumSet.of(
+            GameEvent.EventType.DECLARED_BLOCKERS,
+            GameEvent.EventType.DECLARE_BLOCKER,
+            GameEvent.EventType.BLOCKER_DECLARED,
+            GameEvent.EventType.CREATURE_BLOCKED,
+            GameEvent.EventType.CREATURE_BLOCKS,
+            GameEvent.EventType.DECLARE_BLOCKERS_STEP_POST,
+            GameEvent.EventType.COMBAT_DAMAGE_STEP_PRE,
+            GameEvent.EventType.COMBAT_DAMAGE_STEP,
+            GameEvent.EventType.COMBAT_DAMAGE_APPLIED,
+            GameEvent.EventType.DAMAGED_PERMANENT,
+            GameEvent.EventType.DAMAGED_PLAYER,
+            GameEvent.EventType.DAMAGED_BATCH_FOR_PERMANENTS,
+            GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PERMANENT,
+            GameEvent.EventType.DAMAGED_BATCH_FOR_PLAYERS,
+            GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PLAYER,
+            GameEvent.EventType.DAMAGED_BATCH_FOR_ALL,
+            GameEvent.EventType.DAMAGED_BATCH_COULD_HAVE_FIRED
+    );
+
+    private final Game game;
+    private final boolean hasCombatTriggers;
+    private final Set<UUID> combatDependentFighters;
+
+    /**
+     * @param attackers all possible attackers of the combat
+     * @param blockers  all possible blockers of the combat
+     */
+    public CombatEstimator(Game game, Collection<Permanent> attackers, Collection<Permanent> blockers) {
+        this.game = game;
+        this.hasCombatTriggers = hasCombatTriggers(game);
+        this.combatDependentFighters = this.hasCombatTriggers
+                ? Collections.emptySet()
+                : findCombatDependentFighters(game, attackers, blockers);
+    }
+
+    /**
+     * Estimate combat result of the attacker blocked by the blocker (single pair only)
+     *
+     * @return null if combat can't be estimated
+     */
+    public static CombatOutcome estimate(Game game, Permanent attacker, Permanent blocker) {
+        if (attacker == null || blocker == null) {
+            return null;
+        }
+        return new CombatEstimator(game, Collections.singletonList(attacker), Collections.singletonList(blocker))
+                .estimate(attacker, blocker);
+    }
+
+    /**
+     * Estimate combat result of the attacker blocked by the blocker
+     *
+     * @return null if combat can't be estimated
+     */
+    public CombatOutcome estimate(Permanent attacker, Permanent blocker) {
+        if (attacker == null || blocker == null) {
+            return null;
+        }
+        if (hasCombatTriggers
+                || combatDependentFighters.contains(attacker.getId())
+                || combatDependentFighters.contains(blocker.getId())
+                || hasCombatTriggers(attacker, game)
+                || hasCombatTriggers(blocker, game)) {
+            return null;
+        }
+
+        Fighter att = new Fighter(attacker, blocker, game);
+        Fighter blk = new Fighter(blocker, attacker, game);
+
+        // supported block triggers
+        int attackerBushido = getBushido(attacker, game);
+        int blockerBushido = getBushido(blocker, game);
+        int flanking = blk.flanking > 0 ? 0 : att.flanking;
+        att.boost(attackerBushido, attackerBushido);
+        blk.boost(blockerBushido - flanking, blockerBushido - flanking);
+        att.checkDeath();
+        blk.checkDeath();
+        if (hasReplacementEffects(att, blk, game)
+                || hasReplacementEffects(blk, att, game)
+                || hasPlayerDamageReplacementEffects(att, game)) {
+            return null;
+        }
+
+        int defenderDamage = 0;
+        boolean hasFirstStrikeStep = att.firstStrike || att.doubleStrike || blk.firstStrike || blk.doubleStrike;
+        if (hasFirstStrikeStep) {
+            defenderDamage += damageStep(att, blk, true);
+        }
+        defenderDamage += damageStep(att, blk, false);
+        return new CombatOutcome(att.died, blk.died, defenderDamage, att.lifeGain, blk.lifeGain);
+    }
+
+    /**
+     * @return damage to the defending player
+     */
+    private static int damageStep(Fighter att, Fighter blk, boolean firstStrikeStep) {
+        if (att.died) {
+            // removed attacker can't deal or get damage
+            return 0;
+        }
+
+        int attackerDamage = att.dealsDamage(firstStrikeStep) ? att.getDamageValue() : 0;
+        int blockerDamage = !blk.died && blk.dealsDamage(firstStrikeStep) ? blk.getDamageValue() : 0;
+
+        // attacker assigns lethal damage to blocker and rest to player (trample)
+        int damageToBlocker = 0;
+        int damageToDefender = 0;
+        if (attackerDamage > 0) {
+            if (blk.died) {
+                // blocked creature without blockers deals damage with trample only
+                damageToDefender = att.trample ? attackerDamage : 0;
+            } else if (att.trample) {
+                damageToBlocker = Math.min(attackerDamage, blk.getLethalDamage(att));
+                damageToDefender = attackerDamage - damageToBlocker;
+            } else {
+                damageToBlocker = attackerDamage;
+            }
+        }
+
+        // combat damage is simultaneous, so state based actions must be checked after all damage
+        if (!blk.died) {
+            blk.takeDamage(att, damageToBlocker);
+            att.takeDamage(blk, blockerDamage);
+        }
+        if (att.lifelink) {
+            att.lifeGain += damageToDefender;
+        }
+        att.checkDeath();
+        blk.checkDeath();
+        return damageToDefender;
+    }
+
+    private static boolean hasCombatTriggers(Permanent permanent, Game game) {
+        for (Ability ability : permanent.getAbilities(game)) {
+            if (ability instanceof TriggeredAbility && isCombatTrigger((TriggeredAbility) ability)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Triggers of other objects (e.g. "whenever a creature blocks") and delayed triggers
+     */
+    private static boolean hasCombatTriggers(Game game) {
+        for (TriggeredAbility ability : game.getState().getTriggers().values()) {
+            if (ability.getZone() == Zone.BATTLEFIELD
+                    && ability.isInUseableZone(game, null, null)
+                    && isCombatTrigger(ability)) {
+                return true;
+            }
+        }
+        for (DelayedTriggeredAbility ability : game.getState().getDelayed()) {
+            if (isCombatTrigger(ability)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCombatTrigger(TriggeredAbility ability) {
+        if (ability instanceof FlankingAbility || ability instanceof BushidoAbility) {
+            // supported by estimator
+            return false;
+        }
+        Set<GameEvent.EventType> eventTypes = ability.getCheckedEventTypes();
+        if (eventTypes == null) {
+            // unknown trigger
+            return true;
+        }
+        for (GameEvent.EventType eventType : eventTypes) {
+            if (COMBAT_EVENTS.contains(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Current P/T and abilities are already calculated, but some effects depend on combat status
+     * (e.g. "has first strike as long as it's attacking" or "blocking creatures get +1/+1"), so it must be
+     * re-calculated with combat status for all fighters (one game copy per combat)
+     *
+     * @return fighters with combat dependent P/T or abilities
+     */
+    private static Set<UUID> findCombatDependentFighters(Game game, Collection<Permanent> attackers, Collection<Permanent> blockers) {
+        boolean hasEffects = false;
+        for (ContinuousEffect effect : game.getContinuousEffects().getLayeredEffects(game)) {
+            if (effect.hasLayer(Layer.PTChangingEffects_7) || effect.hasLayer(Layer.AbilityAddingRemovingEffects_6)) {
+                hasEffects = true;
+                break;
+            }
+        }
+        if (!hasEffects) {
+            return Collections.emptySet();
+        }
+
+        // all attackers are blocked by all blockers
+        Game sim = game.createSimulationForAI();
+        for (Permanent attacker : attackers) {
+            Permanent simAttacker = sim.getPermanent(attacker.getId());
+            if (simAttacker == null) {
+                continue;
+            }
+            simAttacker.setAttacking(true);
+            CombatGroup group = sim.getCombat().findGroup(attacker.getId());
+            if (group == null) {
+                continue;
+            }
+            for (Permanent blocker : blockers) {
+                if (sim.getPermanent(blocker.getId()) != null && !group.getBlockers().contains(blocker.getId())) {
+                    group.addBlockerToGroup(blocker.getId(), blocker.getControllerId(), sim);
+                }
+            }
+        }
+        for (Permanent blocker : blockers) {
+            Permanent simBlocker = sim.getPermanent(blocker.getId());
+            if (simBlocker != null && simBlocker.getBlocking() == 0) {
+                simBlocker.setBlocking(1);
+            }
+        }
+        sim.applyEffects();
+
+        List<Permanent> fighters = new ArrayList<>(attackers);
+        fighters.addAll(blockers);
+        Set<UUID> res = new HashSet<>();
+        for (Permanent fighter : fighters) {
+            Permanent simFighter = sim.getPermanent(fighter.getId());
+            if (simFighter == null
+                    || !getCombatInfo(fighter, game).equals(getCombatInfo(simFighter, sim))) {
+                res.add(fighter.getId());
+            }
+        }
+        return res;
+    }
+
+    private static int getBushido(Permanent permanent, Game game) {
+        int res = 0;
+        for (Ability ability : permanent.getAbilities(game)) {
+            if (ability instanceof BushidoAbility) {
+                res += ((BushidoAbility) ability).getValue(ability, game, null);
+            }
+        }
+        return res;
+    }
+
+    private static String getCombatInfo(Permanent permanent, Game game) {
+        return permanent.getPower().getValue() + "/" + permanent.getToughness().getValue() + " "
+                + permanent.getAbilities(game).stream()
+                .map(ability -> ability.getClass().getName())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static boolean hasReplacementEffects(Fighter source, Fighter target, Game game) {
+        if (source.getDamageValue() > 0) {
+            GameEvent damageEvent = new DamagePermanentEvent(target.permanent.getId(), source.permanent.getId(),
+                    target.permanent.getControllerId(), source.getDamageValue(), true, true);
+            if (game.getContinuousEffects().hasApplicableReplacementEffects(damageEvent, game)) {
+                return true;
+            }
+        }
+        GameEvent destroyEvent = GameEvent.getEvent(GameEvent.EventType.DESTROY_PERMANENT, target.permanent.getId(),
+                null, target.permanent.getControllerId(), 0);
+        return game.getContinuousEffects().hasApplicableReplacementEffects(destroyEvent, game);
+    }
+
+    private static boolean hasPlayerDamageReplacementEffects(Fighter att, Game game) {
+        if (!att.trample || att.getDamageValue() <= 0) {
+            return false;
+        }
+        UUID defenderId = game.getCombat().getDefendingPlayerId(att.permanent.getId(), game);
+        if (defenderId == null) {
+            defenderId = game.getOpponents(att.permanent.getControllerId()).stream().findFirst().orElse(null);
+        }
+        if (defenderId == null) {
+            return false;
+        }
+        GameEvent damageEvent = new DamagePlayerEvent(defenderId, att.permanent.getId(),
+                defenderId, att.getDamageValue(), true, true);
+        return game.getContinuousEffects().hasApplicableReplacementEffects(damageEvent, game);
+    }
+
+    private static final class Fighter {
+
+        private final Permanent permanent;
+        private final boolean useToughnessForDamage;
+        private final int flanking;
+        private int power;
+        private int toughness;
+        private final boolean firstStrike;
+        private final boolean doubleStrike;
+        private final boolean deathtouch;
+        private final boolean trample;
+        private final boolean lifelink;
+        private final boolean indestructible;
+        private final boolean damageAsCounters; // infect and wither
+        private final boolean protectedFromOpponent;
+
+        private int damage;
+        private int minusCounters;
+        private boolean deathtouched = false;
+        private boolean died = false;
+        private int lifeGain = 0;
+
+        private Fighter(Permanent permanent, Permanent opponent, Game game) {
+            this.permanent = permanent;
+            this.useToughnessForDamage = game.getCombat().useToughnessForDamage(permanent, game);
+            this.flanking = (int) permanent.getAbilities(game).stream().filter(FlankingAbility.class::isInstance).count();
+            this.power = permanent.getPower().getValue();
+            this.toughness = permanent.getToughness().getValue();
+            this.firstStrike = permanent.getAbilities(game).containsClass(FirstStrikeAbility.class);
+            this.doubleStrike = permanent.getAbilities(game).containsClass(DoubleStrikeAbility.class);
+            this.deathtouch = permanent.getAbilities(game).containsClass(DeathtouchAbility.class);
+            this.trample = permanent.getAbilities(game).containsClass(TrampleAbility.class);
+            this.lifelink = permanent.getAbilities(game).containsClass(LifelinkAbility.class);
+            this.indestructible = permanent.getAbilities(game).containsClass(IndestructibleAbility.class);
+            this.damageAsCounters = permanent.getAbilities(game).containsClass(InfectAbility.class)
+                    || permanent.getAbilities(game).containsClass(WitherAbility.class);
+            this.protectedFromOpponent = permanent.hasProtectionFrom(opponent, game);
+            this.damage = permanent.getDamage();
+        }
+
+        private void boost(int power, int toughness) {
+            this.power += power;
+            this.toughness += toughness;
+        }
+
+        private int getDamageValue() {
+            return Math.max(useToughnessForDamage ? toughness : power, 0);
+        }
+
+        private boolean dealsDamage(boolean firstStrikeStep) {
+            if (firstStrikeStep) {
+                return firstStrike || doubleStrike;
+            } else {
+                return doubleStrike || !firstStrike;
+            }
+        }
+
+        private int getLethalDamage(Fighter source) {
+            int lethal = Math.max(toughness - minusCounters - damage, 0);
+            return source.deathtouch ? Math.min(1, lethal) : lethal;
+        }
+
+        private void takeDamage(Fighter source, int amount) {
+            if (amount <= 0 || protectedFromOpponent) {
+                return;
+            }
+            if (source.lifelink) {
+                source.lifeGain += amount;
+            }
+            if (source.damageAsCounters) {
+                minusCounters += amount;
+            } else {
+                damage += amount;
+            }
+            if (source.deathtouch) {
+                deathtouched = true;
+            }
+        }
+
+        private void checkDeath() {
+            if (died) {
+                return;
+            }
+            int currentToughness = toughness - minusCounters;
+            if (currentToughness <= 0) {
+                // indestructible can't help
+                died = true;
+            } else if (!indestructible && (damage >= currentToughness || deathtouched)) {
+                died = true;
+            }
+        }
+    }
+}
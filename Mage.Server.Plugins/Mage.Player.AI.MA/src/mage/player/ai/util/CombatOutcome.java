@@ -0,0 +1,40 @@
+package mage.player.ai.util;
+
+/**
+ * Result of combat between attacker and blocker (see CombatEstimator)
+ *
+ * @author agent
+ */
+public class CombatOutcome extends SurviveInfo {
+
+    private final int defenderDamage; // trample damage to the defending player
+    private final int attackerLifeGain; // lifelink
+    private final int blockerLifeGain; // lifelink
+
+    public CombatOutcome(boolean attackerDied, boolean blockerDied, int defenderDamage, int attackerLifeGain, int blockerLifeGain) {
+        super(attackerDied, blockerDied);
+        this.defenderDamage = defenderDamage;
+        this.attackerLifeGain = attackerLifeGain;
+        this.blockerLifeGain = blockerLifeGain;
+    }
+
+    public int getDefenderDamage() {
+        return defenderDamage;
+    }
+
+    public int getAttackerLifeGain() {
+        return attackerLifeGain;
+    }
+
+    public int getBlockerLifeGain() {
+        return blockerLifeGain;
+    }
+
+    @Override
+    public String toString() {
+        return "attacker " + (isAttackerDied() ? "died" : "survived")
+                + ", blocker " + (isBlockerDied() ? "died" : "survived")
+                + ", defender damage " + defenderDamage
+                + ", life gain " + attackerLifeGain + "/" + blockerLifeGain;
+    }
+}
@@ -271,11 +271,14 @@ public final class CombatUtil {
             return new CombatInfo();
         }
 
+        // combat related triggers and effects must be checked one time for all pairs
+        CombatEstimator estimator = new CombatEstimator(game, attackers, blockers);
+
         CombatInfo combatInfo = new CombatInfo();
         for (Permanent attacker : attackers) {
             //TODO: handle attackers with "can't be blocked except"
             List<Permanent> possibleBlockers = getPossibleBlockers(game, attacker, blockers);
-            List<Permanent> survivedBlockers = getBlockersThatWillSurvive2(game, attackerId, defenderId, attacker, possibleBlockers);
+            List<Permanent> survivedBlockers = getBlockersThatWillSurvive2(game, estimator, defenderId, attacker, possibleBlockers);
             if (!survivedBlockers.isEmpty()) {
                 Permanent blocker = getWorstCreature(survivedBlockers);
                 combatInfo.addPair(attacker, blocker);
@@ -289,10 +292,10 @@ public final class CombatUtil {
         return combatInfo;
     }
 
-    private static List<Permanent> getBlockersThatWillSurvive2(Game game, UUID attackerId, UUID defenderId, Permanent attacker, List<Permanent> possibleBlockers) {
+    private static List<Permanent> getBlockersThatWillSurvive2(Game game, CombatEstimator estimator, UUID defenderId, Permanent attacker, List<Permanent> possibleBlockers) {
         List<Permanent> blockers = new ArrayList<>();
         for (Permanent blocker : possibleBlockers) {
-            SurviveInfo info = willItSurvive2(game, attackerId, defenderId, attacker, blocker);
+            SurviveInfo info = willItSurvive2(game, estimator, defenderId, attacker, blocker);
             //if (info.isAttackerDied() && !info.isBlockerDied()) {
             if (info != null) {
                 if (info.isAttackerDied()) {
@@ -306,26 +309,29 @@ public final class CombatUtil {
     }
 
     public static SurviveInfo willItSurvive2(Game game, UUID attackingPlayerId, UUID defendingPlayerId, Permanent attacker, Permanent blocker) {
-
-        Game sim = game.createSimulationForAI();
-
-        // TODO: bugged, miss combat.clear code (possible bugs - wrong blocker declare by AI on multiple options?)
-        Combat combat = sim.getCombat();
-        combat.setAttacker(attackingPlayerId);
-        combat.setDefenders(sim);
-
-        if (blocker == null || attacker == null || sim.getPlayer(defendingPlayerId) == null) {
+        if (blocker == null || attacker == null) {
             return null;
         }
+        return willItSurvive2(game, new CombatEstimator(game, Collections.singletonList(attacker), Collections.singletonList(blocker)),
+                defendingPlayerId, attacker, blocker);
+    }
 
-        if (attacker.getPower().getValue() >= blocker.getToughness().getValue()) {
-            sim.getBattlefield().removePermanent(blocker.getId());
-        }
-        if (attacker.getToughness().getValue() <= blocker.getPower().getValue()) {
-            sim.getBattlefield().removePermanent(attacker.getId());
+    /**
+     * Combat result by analytic estimation (see CombatEstimator), unsupported combats use power and toughness only
+     */
+    private static SurviveInfo willItSurvive2(Game game, CombatEstimator estimator, UUID defendingPlayerId, Permanent attacker, Permanent blocker) {
+        if (blocker == null || attacker == null || game.getPlayer(defendingPlayerId) == null) {
+            return null;
         }
 
-        return new SurviveInfo(!sim.getBattlefield().containsPermanent(attacker.getId()), !sim.getBattlefield().containsPermanent(blocker.getId()));
+        SurviveInfo info = estimator.estimate(attacker, blocker);
+        if (info != null) {
+            return info;
+        }
+        return new SurviveInfo(
+                attacker.getToughness().getValue() <= blocker.getPower().getValue(),
+                attacker.getPower().getValue() >= blocker.getToughness().getValue()
+        );
     }
 
 }
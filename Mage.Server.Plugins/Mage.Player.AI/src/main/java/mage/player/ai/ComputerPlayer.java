@@ -73,6 +73,7 @@ public class ComputerPlayer extends PlayerImpl {
     protected boolean COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS = false;
 
     final static int COMPUTER_MAX_THREADS_FOR_SIMULATIONS = 1; // TODO: rework simulations logic to use multiple calcs instead one by one
+    final static int COMPUTER_MAX_THREADS_FOR_ROOT_SIMULATIONS = Runtime.getRuntime().availableProcessors(); // root actions can be calculated in parallel
 
     private final transient Map<Mana, Card> unplayable = new TreeMap<>();
     private final transient List<Card> playableNonInstant = new ArrayList<>();
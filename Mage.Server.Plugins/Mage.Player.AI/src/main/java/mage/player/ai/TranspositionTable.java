@@ -0,0 +1,128 @@
+package mage.player.ai;
+
+/**
+ * AI: bounded cache for game simulations results (keyed by game state hash, see GameState.getHashValue)
+ * <p>
+ * Different actions order can lead to the same game state (transposition), so already calculated
+ * result can be used instead new simulation. Table has fixed size and new data replaces old data
+ * on same slot, so memory usage is limited.
+ * <p>
+ * Alpha-beta search can return not exact score (search was cut by bounds), so each result keeps
+ * bound type and search depth, see {@link Bound}.
+ * <p>
+ * Thread safe: entries are immutable, so it can be shared between simulation threads.
+ *
+ * @author agent
+ */
+public class TranspositionTable {
+
+    public enum Bound {
+        EXACT, // real score
+        LOWER, // real score is equal or bigger (search cut by beta)
+        UPPER // real score is equal or less (search cut by alpha)
+    }
+
+    public static final class Entry {
+
+        private final long hash;
+        private final int depth;
+        private final int score;
+        private final Bound bound;
+
+        private Entry(long hash, int depth, int score, Bound bound) {
+            this.hash = hash;
+            this.depth = depth;
+            this.score = score;
+            this.bound = bound;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public Bound getBound() {
+            return bound;
+        }
+    }
+
+    private final Entry[] entries;
+    private final int mask;
+    private volatile long hits = 0;
+    private volatile long misses = 0;
+
+    /**
+     * @param maxSizePowerOfTwo table size as power of two (e.g. 16 for 65536 entries)
+     */
+    public TranspositionTable(int maxSizePowerOfTwo) {
+        this.entries = new Entry[1 << maxSizePowerOfTwo];
+        this.mask = this.entries.length - 1;
+    }
+
+    /**
+     * @param minDepth search depth of the saved result must be same or deeper
+     * @return saved result or null
+     */
+    public Entry get(long hash, int minDepth) {
+        Entry entry = entries[slot(hash)];
+        if (entry != null && entry.hash == hash && entry.depth >= minDepth) {
+            hits++;
+            return entry;
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Save search result, bound type must be calculated by original alpha/beta of the search
+     */
+    public void put(long hash, int depth, int score, Bound bound) {
+        entries[slot(hash)] = new Entry(hash, depth, score, bound);
+    }
+
+    /**
+     * Bound type of the alpha-beta search result
+     */
+    public static Bound getBound(int score, int alpha, int beta) {
+        if (score <= alpha) {
+            return Bound.UPPER;
+        } else if (score >= beta) {
+            return Bound.LOWER;
+        } else {
+            return Bound.EXACT;
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = null;
+        }
+    }
+
+    public int getMaxSize() {
+        return entries.length;
+    }
+
+    /**
+     * Stats only (counters are not exact in multithreading)
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    private int slot(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @Override
+    public String toString() {
+        return "hits: " + hits + ", misses: " + misses;
+    }
+}
@@ -0,0 +1,284 @@
+package mage.player.ai;
+
+import mage.abilities.Ability;
+import mage.abilities.EvasionAbility;
+import mage.abilities.StaticAbility;
+import mage.abilities.TriggeredAbility;
+import mage.abilities.keyword.*;
+import mage.counters.Counter;
+import mage.game.Game;
+import mage.game.combat.CombatGroup;
+import mage.game.permanent.Permanent;
+
+import java.util.*;
+
+/**
+ * AI: lazy generators of attack and block combinations for MCTS nodes
+ * <p>
+ * Combinations are generated on demand, so big boards (e.g. dozens of tokens) don't need
+ * memory for all 2^n attacks or (groups + 1)^n blocks at once.
+ * <p>
+ * Search space reduction:
+ * - symmetry: identical creatures (same name, P/T, damage, counters, abilities, no attachments) are interchangeable,
+ * so only the number of used creatures from each identical class is enumerated;
+ * - dominance: attacker without combat damage, triggered and static abilities (damage keywords, evasion, etc are ignored)
+ * can't change anything by attack, same blocker can't change anything by block of such attacker.
+ *
+ * @author agent
+ */
+public final class CombatCombinations {
+
+    // static abilities without any effect on combat for creature without combat damage
+    private static final Set<Class<? extends Ability>> NO_DAMAGE_USELESS_ABILITIES = new HashSet<>(Arrays.asList(
+            DeathtouchAbility.class, LifelinkAbility.class, FirstStrikeAbility.class, DoubleStrikeAbility.class,
+            TrampleAbility.class, InfectAbility.class, WitherAbility.class,
+            IndestructibleAbility.class, VigilanceAbility.class
+    ));
+
+    private CombatCombinations() {
+    }
+
+    /**
+     * Attack combinations from all attackers to no attackers
+     *
+     * @return attackers ids for each combination
+     */
+    public static Iterator<List<UUID>> attacks(Game game, List<Permanent> attackers) {
+        Map<String, List<UUID>> classes = new LinkedHashMap<>();
+        for (Permanent attacker : attackers) {
+            if (isUseless(attacker, game)) {
+                continue;
+            }
+            classes.computeIfAbsent(makeKey(attacker, game), k -> new ArrayList<>()).add(attacker.getId());
+        }
+        return new AttacksIterator(new ArrayList<>(classes.values()));
+    }
+
+    /**
+     * Block combinations from no blockers to all possible blockers (one blocker can block one group only)
+     *
+     * @return blockers ids for each combat group for each combination, empty on no combat groups
+     */
+    public static Iterator<List<List<UUID>>> blocks(Game game, List<CombatGroup> groups, List<Permanent> blockers) {
+        if (groups.isEmpty()) {
+            return Collections.emptyIterator();
+        }
+
+        // identical blockers must have same block options too
+        Map<String, BlockerClass> classes = new LinkedHashMap<>();
+        for (Permanent blocker : blockers) {
+            List<Integer> options = new ArrayList<>();
+            for (int i = 0; i < groups.size(); i++) {
+                CombatGroup group = groups.get(i);
+                if (group.canBlock(blocker, game) && !isUselessBlock(blocker, group, game)) {
+                    options.add(i);
+                }
+            }
+            if (options.isEmpty()) {
+                continue;
+            }
+            String key = makeKey(blocker, game) + "|" + options;
+            classes.computeIfAbsent(key, k -> new BlockerClass(options)).members.add(blocker.getId());
+        }
+        return new BlocksIterator(groups.size(), new ArrayList<>(classes.values()));
+    }
+
+    private static boolean isUseless(Permanent permanent, Game game) {
+        if (getDamageValue(permanent, game) > 0 || !permanent.getAttachments().isEmpty()) {
+            // attachments can give any effects (e.g. lure)
+            return false;
+        }
+        for (Ability ability : permanent.getAbilities(game)) {
+            if (ability instanceof TriggeredAbility) {
+                return false;
+            }
+            if (ability instanceof StaticAbility
+                    && !(ability instanceof EvasionAbility)
+                    && !NO_DAMAGE_USELESS_ABILITIES.contains(ability.getClass())) {
+                // can change blocks or combat (e.g. lure)
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getDamageValue(Permanent permanent, Game game) {
+        return game.getCombat().useToughnessForDamage(permanent, game)
+                ? permanent.getToughness().getValue()
+                : permanent.getPower().getValue();
+    }
+
+    private static boolean isUselessBlock(Permanent blocker, CombatGroup group, Game game) {
+        if (!isUseless(blocker, game)) {
+            return false;
+        }
+        for (UUID attackerId : group.getAttackers()) {
+            Permanent attacker = game.getPermanent(attackerId);
+            if (attacker == null || !isUseless(attacker, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creatures with same key are interchangeable in combat
+     */
+    private static String makeKey(Permanent permanent, Game game) {
+        if (!permanent.getAttachments().isEmpty()) {
+            // equipment and auras can change anything, so use unique key
+            return permanent.getId().toString();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(permanent.getName())
+                .append('|').append(permanent.getPower().getValue())
+                .append('/').append(permanent.getToughness().getValue())
+                .append('|').append(permanent.getDamage())
+                .append('|').append(game.getCombat().useToughnessForDamage(permanent, game));
+        // same abilities amount is not enough (e.g. flying and reach), so compare full list
+        List<String> abilities = new ArrayList<>();
+        for (Ability ability : permanent.getAbilities(game)) {
+            abilities.add(ability.getClass().getName() + ':' + ability.getRule());
+        }
+        Collections.sort(abilities);
+        sb.append('|').append(abilities);
+        Map<String, Integer> counters = new TreeMap<>();
+        for (Counter counter : permanent.getCounters(game).values()) {
+            counters.put(counter.getName(), counter.getCount());
+        }
+        sb.append('|').append(counters);
+        return sb.toString();
+    }
+
+    private static final class AttacksIterator implements Iterator<List<UUID>> {
+
+        private final List<List<UUID>> classes;
+        private final int[] counts; // attackers amount from each class
+        private boolean hasNext = true;
+
+        private AttacksIterator(List<List<UUID>> classes) {
+            this.classes = classes;
+            this.counts = new int[classes.size()];
+            for (int i = 0; i < classes.size(); i++) {
+                this.counts[i] = classes.get(i).size();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public List<UUID> next() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            List<UUID> attack = new ArrayList<>();
+            for (int i = 0; i < classes.size(); i++) {
+                attack.addAll(classes.get(i).subList(0, counts[i]));
+            }
+
+            // mixed radix countdown (same order as binary countdown for unique attackers)
+            hasNext = false;
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    counts[i]--;
+                    for (int j = i + 1; j < counts.length; j++) {
+                        counts[j] = classes.get(j).size();
+                    }
+                    hasNext = true;
+                    break;
+                }
+            }
+            return attack;
+        }
+    }
+
+    private static final class BlockerClass {
+
+        private final List<UUID> members = new ArrayList<>();
+        private final List<Integer> options; // groups to block
+        private int[] distribution; // [0] - not blocking amount, [i] - amount of blockers for options[i - 1]
+
+        private BlockerClass(List<Integer> options) {
+            this.options = options;
+        }
+
+        private void reset() {
+            distribution = new int[options.size() + 1];
+            distribution[0] = members.size();
+        }
+
+        /**
+         * Next distribution of identical blockers between block options
+         *
+         * @return false if all distributions used
+         */
+        private boolean advance() {
+            int last = distribution.length - 1;
+            int i = 0;
+            while (i < last && distribution[i] == 0) {
+                i++;
+            }
+            if (i == last) {
+                return false;
+            }
+            int value = distribution[i];
+            distribution[i] = 0;
+            distribution[0] = value - 1;
+            distribution[i + 1]++;
+            return true;
+        }
+    }
+
+    private static final class BlocksIterator implements Iterator<List<List<UUID>>> {
+
+        private final int groupsCount;
+        private final List<BlockerClass> classes;
+        private boolean hasNext = true;
+
+        private BlocksIterator(int groupsCount, List<BlockerClass> classes) {
+            this.groupsCount = groupsCount;
+            this.classes = classes;
+            this.classes.forEach(BlockerClass::reset);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public List<List<UUID>> next() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            List<List<UUID>> block = new ArrayList<>(groupsCount);
+            for (int i = 0; i < groupsCount; i++) {
+                block.add(new ArrayList<>());
+            }
+            for (BlockerClass blockerClass : classes) {
+                int member = blockerClass.distribution[0];
+                for (int i = 1; i < blockerClass.distribution.length; i++) {
+                    List<UUID> group = block.get(blockerClass.options.get(i - 1));
+                    for (int j = 0; j < blockerClass.distribution[i]; j++) {
+                        group.add(blockerClass.members.get(member));
+                        member++;
+                    }
+                }
+            }
+
+            // odometer through all classes
+            hasNext = false;
+            for (BlockerClass blockerClass : classes) {
+                if (blockerClass.advance()) {
+                    hasNext = true;
+                    break;
+                }
+                blockerClass.reset();
+            }
+            return block;
+        }
+    }
+}
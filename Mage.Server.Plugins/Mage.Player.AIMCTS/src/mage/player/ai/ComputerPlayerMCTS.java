@@ -66,11 +66,6 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
             if (!lastPhase.equals(game.getTurn().getValue(game.getTurnNum()))) {
                 logList(game.getTurn().getValue(game.getTurnNum()) + name + " hand: ", new ArrayList(hand.getCards(game)));
                 lastPhase = game.getTurn().getValue(game.getTurnNum());
-                if (MCTSNode.USE_ACTION_CACHE) {
-                    int count = MCTSNode.cleanupCache(game.getTurnNum());
-                    if (count > 0)
-                        logger.info("Removed " + count + " cache entries");
-                }
             }
         }
         game.getState().setPriorityPlayerId(playerId);
@@ -104,7 +99,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
+            newRoot = root.getMatchingState(game.getState().getHashValue(game, playerId));
             if (newRoot != null) {
                 newRoot.emancipate();
             } else
@@ -126,7 +121,6 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
             sb.append(game.getPermanent(attackerId).getName()).append(',');
         }
         logger.info(sb.toString());
-        MCTSNode.logHitMiss();
     }
 
     @Override
@@ -152,7 +146,6 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
             }
         }
         logger.info(sb.toString());
-        MCTSNode.logHitMiss();
     }
 
     protected long totalThinkTime = 0;
@@ -212,7 +205,6 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                 totalSimulations += simCount;
                 logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds - nodes in tree: " + root.size());
                 logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime);
-                MCTSNode.logHitMiss();
             } else {
                 long startTime = System.nanoTime();
                 long endTime = startTime + (thinkTime * 1000000000l);
@@ -307,14 +299,14 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                 int handSize = newPlayer.getHand().size();
                 newPlayer.getLibrary().addAll(newPlayer.getHand().getCards(mcts), mcts);
                 newPlayer.getHand().clear();
-                newPlayer.getLibrary().shuffle();
+                newPlayer.getLibrary().shuffle(mcts.getRandom());
                 for (int i = 0; i < handSize; i++) {
                     Card card = newPlayer.getLibrary().drawFromTop(mcts);
                     card.setZone(Zone.HAND, mcts);
                     newPlayer.getHand().add(card);
                 }
             } else {
-                newPlayer.getLibrary().shuffle();
+                newPlayer.getLibrary().shuffle(mcts.getRandom());
             }
             mcts.getState().getPlayers().put(copyPlayer.getId(), newPlayer);
         }
@@ -1,9 +1,11 @@
 
 package mage.player.ai;
 
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import mage.game.Game;
+import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
 /**
@@ -16,6 +18,7 @@ public class MCTSExecutor implements Callable<Boolean> {
     protected int thinkTime;
     protected UUID playerId;
     protected int simCount;
+    protected transient Random random; // simulation's random, see RandomUtil
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
@@ -23,6 +26,7 @@ public class MCTSExecutor implements Callable<Boolean> {
         this.playerId = playerId;
         this.thinkTime = thinkTime;
         root = new MCTSNode(playerId, sim);
+        random = sim.getRandom();
     }
 
     @Override
@@ -30,37 +34,42 @@ public class MCTSExecutor implements Callable<Boolean> {
         simCount = 0;
         MCTSNode current;
 
+        // simulations use own random, so it doesn't share random with other games
+        Random oldRandom = RandomUtil.setThreadRandom(random);
+        try {
+            while (true) {
+                current = root;
 
-        while (true) {
-            current = root;
-
-            // Selection
-            while (!current.isLeaf()) {
-                current = current.select(this.playerId);
-            }
+                // Selection
+                while (!current.isLeaf()) {
+                    current = current.select(this.playerId);
+                }
 
-            int result;
-            if (!current.isTerminal()) {
-                // Expansion
-                current.expand();
+                int result;
+                if (!current.isTerminal()) {
+                    // Expansion
+                    current.expand();
 
-                // only run simulations for nodes that have siblings
-                if (current.getNumChildren() > 1) {
-                    // Simulation
-                    current = current.select(this.playerId);
-                    result = current.simulate(this.playerId);
-                    simCount++;
+                    // only run simulations for nodes that have siblings
+                    if (current.getNumChildren() > 1) {
+                        // Simulation
+                        current = current.select(this.playerId);
+                        result = current.simulate(this.playerId);
+                        simCount++;
+                    }
+                    else {
+                        current = current.select(this.playerId);
+                        result = 0;
+                    }
                 }
                 else {
-                    current = current.select(this.playerId);
-                    result = 0;
+                    result = current.isWinner(this.playerId)?1:-1;
                 }
+                // Backpropagation
+                current.backpropagate(result);
             }
-            else {
-                result = current.isWinner(this.playerId)?1:-1;
-            }
-            // Backpropagation
-            current.backpropagate(result);
+        } finally {
+            RandomUtil.setThreadRandom(oldRandom);
         }
     }
 
@@ -5,9 +5,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -27,7 +25,7 @@ import org.apache.log4j.Logger;
  */
 public class MCTSNode {
 
-    public static final boolean USE_ACTION_CACHE = false;
+    public static final int EXPAND_BATCH_SIZE = 10; // progressive expansion: max new children per expand call
     private static final double selectionCoefficient = Math.sqrt(2.0);
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
@@ -36,11 +34,12 @@ public class MCTSNode {
     private int wins = 0;
     private MCTSNode parent;
     private final List<MCTSNode> children = new ArrayList<>();
+    private Iterator<MCTSNode> pendingChildren; // not created yet children (generated on demand), null on not expanded or fully expanded node
+    private int visitedChildren = 0;
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final long stateValue; // game state hash from the target player's view (see GameState.getHashValue)
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
@@ -50,8 +49,7 @@ public class MCTSNode {
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getHashValue(game, targetPlayer);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
         nodeCount = 1;
@@ -61,8 +59,7 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getHashValue(game, targetPlayer);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
@@ -75,8 +72,7 @@ public class MCTSNode {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getHashValue(game, targetPlayer);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
@@ -121,13 +117,26 @@ public class MCTSNode {
         return bestChild;
     }
 
+    /**
+     * Add next children batch, so big amount of possible actions (e.g. attacks with many tokens)
+     * will be created only after all existing children visited
+     */
     public void expand() {
-        MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
-        if (player.getNextAction() == null) {
-            logger.fatal("next action is null");
+        if (pendingChildren == null) {
+            MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
+            if (player.getNextAction() == null) {
+                logger.fatal("next action is null");
+            }
+            pendingChildren = MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game);
+        }
+        for (int i = 0; i < EXPAND_BATCH_SIZE && pendingChildren.hasNext(); i++) {
+            children.add(pendingChildren.next());
+        }
+        if (!pendingChildren.hasNext()) {
+            // fully expanded, game is not needed anymore
+            pendingChildren = null;
+            game = null;
         }
-        children.addAll(MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game, fullStateValue));
-        game = null;
     }
 
     public int simulate(UUID playerId) {
@@ -151,13 +160,16 @@ public class MCTSNode {
             return;
         if (result == 1)
             wins++;
+        if (visits == 0 && parent != null)
+            parent.visitedChildren++;
         visits++;
         if (parent != null)
             parent.backpropagate(result);
     }
 
     public boolean isLeaf() {
-        return children.isEmpty();
+        // partially expanded node must be expanded again after all children visited
+        return children.isEmpty() || (pendingChildren != null && visitedChildren >= children.size());
     }
 
     public MCTSNode bestChild() {
@@ -198,6 +210,8 @@ public class MCTSNode {
     public void emancipate() {
         if (parent != null) {
             this.parent.children.remove(this);
+            if (this.visits > 0)
+                this.parent.visitedChildren--;
             this.parent = null;
         }
     }
@@ -222,7 +236,7 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
+    public long getStateValue() {
         return stateValue;
     }
 
@@ -267,7 +281,7 @@ public class MCTSNode {
                 int handSize = player.getHand().size();
                 player.getLibrary().addAll(player.getHand().getCards(game), game);
                 player.getHand().clear();
-                player.getLibrary().shuffle();
+                player.getLibrary().shuffle(game.getRandom());
                 for (int i = 0; i < handSize; i++) {
                     Card card = player.getLibrary().drawFromTop(game);
                     card.setZone(Zone.HAND, game);
@@ -275,7 +289,7 @@ public class MCTSNode {
                 }
             }
             else {
-                player.getLibrary().shuffle();                
+                player.getLibrary().shuffle(game.getRandom());                
             }
         }
     }
@@ -300,13 +314,13 @@ public class MCTSNode {
      * @param state - the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long state) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateValue == state)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -316,7 +330,7 @@ public class MCTSNode {
     }
 
     public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
+        if (stateValue != merge.stateValue) {
             logger.info("mismatched merge states at root");
             return;
         }
@@ -334,7 +348,7 @@ public class MCTSNode {
             for (MCTSNode mergeChild: mergeChildren) {
                 if (mergeChild.action != null && child.action != null) {
                     if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -348,7 +362,7 @@ public class MCTSNode {
                 }
                 else {
                     if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -368,6 +382,11 @@ public class MCTSNode {
                 children.add(child);
             }
         }
+        visitedChildren = 0;
+        for (MCTSNode child: children) {
+            if (child.visits > 0)
+                visitedChildren++;
+        }
 //        if (mismatchCount > 0)
 //            logger.info("mismatched merge states: " + mismatchCount);
     }
@@ -393,99 +412,4 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
-
-    private static long playablesHit = 0;
-    private static long playablesMiss = 0;
-    private static long attacksHit = 0;
-    private static long attacksMiss = 0;
-    private static long blocksHit = 0;
-    private static long blocksMiss = 0;
-
-    protected static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
-        if (playablesCache.containsKey(state)) {
-            playablesHit++;
-            return playablesCache.get(state);
-        }
-        else {
-            playablesMiss++;
-            List<Ability> abilities = player.getPlayableOptions(game);
-            playablesCache.put(state, abilities);
-            return abilities;
-        }
-    }
-
-    protected static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
-        if (attacksCache.containsKey(state)) {
-            attacksHit++;
-            return attacksCache.get(state);
-        }
-        else {
-            attacksMiss++;
-            List<List<UUID>> attacks = player.getAttacks(game);
-            attacksCache.put(state, attacks);
-            return attacks;
-        }
-    }
-    
-    protected static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
-        if (blocksCache.containsKey(state)) {
-            blocksHit++;
-            return blocksCache.get(state);
-        }
-        else {
-            blocksMiss++;
-            List<List<List<UUID>>> blocks = player.getBlocks(game);
-            blocksCache.put(state, blocks);
-            return blocks;
-        }
-    }
-    
-    public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
-        int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.parseInt(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
-
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(blocksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                blocksIterator.remove();
-                count++;
-            }
-        }
-
-        return count;
-    }
-    
-    public static void logHitMiss() {
-        if (USE_ACTION_CACHE) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("Playables Cache -- Hits: ").append(playablesHit).append(" Misses: ").append(playablesMiss).append('\n');
-            sb.append("Attacks Cache -- Hits: ").append(attacksHit).append(" Misses: ").append(attacksMiss).append('\n');
-            sb.append("Blocks Cache -- Hits: ").append(blocksHit).append(" Misses: ").append(blocksMiss).append('\n');
-            logger.info(sb.toString());
-        }
-    }    
 }
@@ -2,8 +2,12 @@ package mage.player.ai;
 
 import mage.game.Game;
 
-import java.util.List;
+import java.util.Iterator;
 
 public interface MCTSNodeNextAction {
-    List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue);
+
+    /**
+     * Child nodes for all possible actions, must be created on demand (node expands progressively, see MCTSNode.expand)
+     */
+    Iterator<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game);
 }
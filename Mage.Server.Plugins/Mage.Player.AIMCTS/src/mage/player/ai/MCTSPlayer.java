@@ -6,10 +6,10 @@ import mage.abilities.SpellAbility;
 import mage.abilities.common.PassAbility;
 import mage.abilities.costs.mana.GenericManaCost;
 import mage.game.Game;
-import mage.game.permanent.Permanent;
 import org.apache.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
@@ -92,76 +92,18 @@ public class MCTSPlayer extends ComputerPlayer {
         }
     }
 
-    public List<List<UUID>> getAttacks(Game game) {
-        List<List<UUID>> engagements = new ArrayList<>();
-        List<Permanent> attackersList = super.getAvailableAttackers(game);
-        //use binary digits to calculate powerset of attackers
-        int powerElements = (int) Math.pow(2, attackersList.size());
-        StringBuilder binary = new StringBuilder();
-        for (int i = powerElements - 1; i >= 0; i--) {
-            binary.setLength(0);
-            binary.append(Integer.toBinaryString(i));
-            while (binary.length() < attackersList.size()) {
-                binary.insert(0, '0');
-            }
-            List<UUID> engagement = new ArrayList<>();
-            for (int j = 0; j < attackersList.size(); j++) {
-                if (binary.charAt(j) == '1') {
-                    engagement.add(attackersList.get(j).getId());
-                }
-            }
-            engagements.add(engagement);
-        }
-        return engagements;
-    }
-
-    public List<List<List<UUID>>> getBlocks(Game game) {
-        List<List<List<UUID>>> engagements = new ArrayList<>();
-        int numGroups = game.getCombat().getGroups().size();
-        if (numGroups == 0) {
-            return engagements;
-        }
-
-        //add a node with no blockers
-        List<List<UUID>> engagement = new ArrayList<>();
-        for (int i = 0; i < numGroups; i++) {
-            engagement.add(new ArrayList<UUID>());
-        }
-        engagements.add(engagement);
-
-        List<Permanent> blockers = getAvailableBlockers(game);
-        addBlocker(game, engagement, blockers, engagements);
-
-        return engagements;
-    }
-
-    private List<List<UUID>> copyEngagement(List<List<UUID>> engagement) {
-        List<List<UUID>> newEngagement = new ArrayList<>();
-        for (List<UUID> group : engagement) {
-            newEngagement.add(new ArrayList<>(group));
-        }
-        return newEngagement;
+    /**
+     * Possible attacks, generated on demand (see CombatCombinations)
+     */
+    public Iterator<List<UUID>> getAttacks(Game game) {
+        return CombatCombinations.attacks(game, super.getAvailableAttackers(game));
     }
 
-    protected void addBlocker(Game game, List<List<UUID>> engagement, List<Permanent> blockers, List<List<List<UUID>>> engagements) {
-        if (blockers.isEmpty())
-            return;
-        int numGroups = game.getCombat().getGroups().size();
-        //try to block each attacker with each potential blocker
-        Permanent blocker = blockers.get(0);
-//        if (logger.isDebugEnabled())
-//            logger.debug("simulating -- block:" + blocker);
-        List<Permanent> remaining = remove(blockers, blocker);
-        for (int i = 0; i < numGroups; i++) {
-            if (game.getCombat().getGroups().get(i).canBlock(blocker, game)) {
-                List<List<UUID>> newEngagement = copyEngagement(engagement);
-                newEngagement.get(i).add(blocker.getId());
-                engagements.add(newEngagement);
-//                    logger.debug("simulating -- found redundant block combination");
-                addBlocker(game, newEngagement, remaining, engagements);  // and recurse minus the used blocker
-            }
-        }
-        addBlocker(game, engagement, remaining, engagements);
+    /**
+     * Possible blocks, generated on demand (see CombatCombinations)
+     */
+    public Iterator<List<List<UUID>>> getBlocks(Game game) {
+        return CombatCombinations.blocks(game, game.getCombat().getGroups(), getAvailableBlockers(game));
     }
 
     public NextAction getNextAction() {
@@ -1,24 +1,18 @@
 package mage.player.ai;
 
+import com.google.common.collect.Iterators;
 import mage.game.Game;
 import mage.game.combat.CombatGroup;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
-import static mage.player.ai.MCTSNode.getBlocks;
-
 public class SelectBlockersNextAction implements MCTSNodeNextAction{
     @Override
-    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue) {
-        List<MCTSNode> children = new ArrayList<>();
-        List<List<List<UUID>>> blocks;
-        if (!MCTSNode.USE_ACTION_CACHE)
-            blocks = player.getBlocks(game);
-        else
-            blocks = getBlocks(player, fullStateValue, game);
-        for (List<List<UUID>> block : blocks) {
+    public Iterator<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game) {
+        Iterator<List<List<UUID>>> blocks = player.getBlocks(game);
+        return Iterators.transform(blocks, block -> {
             Game sim = game.createSimulationForAI();
             MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
             List<CombatGroup> groups = sim.getCombat().getGroups();
@@ -30,9 +24,7 @@ public class SelectBlockersNextAction implements MCTSNodeNextAction{
                 }
             }
             sim.resume();
-            children.add(new MCTSNode(node, sim, sim.getCombat()));
-        }
-
-        return children;
+            return new MCTSNode(node, sim, sim.getCombat());
+        });
     }
 }
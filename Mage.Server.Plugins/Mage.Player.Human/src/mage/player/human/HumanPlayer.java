@@ -54,6 +54,9 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import static mage.constants.PlayerAction.REQUEST_AUTO_ANSWER_RESET_ALL;
@@ -91,13 +94,17 @@ public class HumanPlayer extends PlayerImpl {
     // * keep only latest income feedback (if user sends multiple clicks/choices)
     // * HumanPlayer contains "response" object for threads sync and data exchange
     // * so sync logic:
-    // * - GAME thread: open response for income command and wait (go to sleep by response.wait)
+    // * - GAME thread: open response for income command and wait (go to sleep by responseChanged.await)
     // * - CALL thread: on closed response - waiting open status of player's response object (if it's too long then cancel the answer)
-    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by response.notifyAll
+    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by responseChanged.signalAll
     // * - GAME thread: on nofify from response - check new answer value and process it (if it bad then repeat and wait the next one);
-    private transient Boolean responseOpenedForAnswer = false; // GAME thread waiting new answer
-    private transient long responseLastWaitingThreadId = 0;
+    // * locks and conditions used instead synchronized/wait, so waiting threads don't block carrier threads in virtual threads mode
+    private transient volatile Boolean responseOpenedForAnswer = false; // GAME thread waiting new answer
+    private transient volatile long responseLastWaitingThreadId = 0;
     private final transient PlayerResponse response = new PlayerResponse();
+    private final transient ReentrantLock responseLock = new ReentrantLock();
+    private final transient Condition responseChanged = responseLock.newCondition(); // GAME thread waiting new answer
+    private final transient Condition responseOpened = responseLock.newCondition(); // CALL threads waiting opened response
     private final int RESPONSE_WAITING_TIME_SECS = 30; // waiting time before cancel current response
     private final int RESPONSE_WAITING_CHECK_MS = 100; // timeout for open status check
 
@@ -197,8 +204,7 @@ public class HumanPlayer extends PlayerImpl {
         // +8 secs: game start wating a new answer from user 2
         // +8 secs: game find answer
 
-        int currentTimesWaiting = 0;
-        int maxTimesWaiting = RESPONSE_WAITING_TIME_SECS * 1000 / RESPONSE_WAITING_CHECK_MS;
+        long startTime = System.currentTimeMillis();
         long currentThreadId = Thread.currentThread().getId();
         // it's a latest response
         responseLastWaitingThreadId = currentThreadId;
@@ -209,8 +215,8 @@ public class HumanPlayer extends PlayerImpl {
             }
 
             // keep waiting
-            currentTimesWaiting++;
-            if (currentTimesWaiting > maxTimesWaiting) {
+            long waitingTime = System.currentTimeMillis() - startTime;
+            if (waitingTime > RESPONSE_WAITING_TIME_SECS * 1000L) {
                 // game frozen, possible reasons:
                 // * ANOTHER player lost connection and GAME thread trying to send data to him
                 // * current player send answer, but lost connect after it
@@ -222,7 +228,7 @@ public class HumanPlayer extends PlayerImpl {
                     possibleReason = "something wrong with your priority on " + response.getActiveAction();
                 }
                 logger.warn(String.format("Game frozen in waitResponseOpen for %d secs. User: %s; reason: %s; game: %s",
-                        RESPONSE_WAITING_CHECK_MS * currentTimesWaiting / 1000,
+                        waitingTime / 1000,
                         this.getName(),
                         possibleReason,
                         response.getActiveGameInfo()
@@ -230,9 +236,14 @@ public class HumanPlayer extends PlayerImpl {
                 return false;
             }
 
+            responseLock.lock();
             try {
-                Thread.sleep(RESPONSE_WAITING_CHECK_MS);
+                if (!responseOpenedForAnswer) {
+                    responseOpened.await(RESPONSE_WAITING_CHECK_MS, TimeUnit.MILLISECONDS);
+                }
             } catch (InterruptedException ignore) {
+            } finally {
+                responseLock.unlock();
             }
         }
 
@@ -256,11 +267,14 @@ public class HumanPlayer extends PlayerImpl {
                 sendPlayerAction(PlayerAction.PASS_PRIORITY_UNTIL_STACK_RESOLVED, game, null);
             }
             //waitResponseOpen(); // it's a macro action, no need it here?
-            synchronized (response) {
+            responseLock.lock();
+            try {
                 response.copyFrom(action);
-                response.notifyAll();
+                responseChanged.signalAll();
                 macroTriggeredSelectionFlag = false;
                 return true;
+            } finally {
+                responseLock.unlock();
             }
         }
         return false;
@@ -315,17 +329,18 @@ public class HumanPlayer extends PlayerImpl {
             response.clear();
             response.setActiveAction(game, DebugUtil.getMethodNameWithSource(1));
             game.resumeTimer(getTurnControlledBy());
-            responseOpenedForAnswer = true;
 
             loop = false;
-            synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
-                try {
-                    response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
-                } catch (InterruptedException ignore) {
-                } finally {
-                    responseOpenedForAnswer = false;
-                    game.pauseTimer(getTurnControlledBy());
-                }
+            responseLock.lock();
+            try {
+                responseOpenedForAnswer = true;
+                responseOpened.signalAll(); // wake up waiting CALL threads with early answers
+                responseChanged.await(); // start waiting a responseChanged signal from CALL thread (client answer)
+            } catch (InterruptedException ignore) {
+            } finally {
+                responseOpenedForAnswer = false;
+                game.pauseTimer(getTurnControlledBy());
+                responseLock.unlock();
             }
 
             // async command: concede by any player
@@ -2701,10 +2716,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setString(responseString);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response string from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2713,11 +2731,14 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setManaType(manaType);
             response.setResponseManaPlayerId(manaTypePlayerId);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response mana type from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2726,10 +2747,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setUUID(responseUUID);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response UUID from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2738,10 +2762,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setBoolean(responseBoolean);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response boolean from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2750,10 +2777,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setInteger(responseInteger);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response integer from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2761,9 +2791,12 @@ public class HumanPlayer extends PlayerImpl {
     public void abort() {
         // abort must cancel any response and stop waiting immediately
         abort = true;
-        synchronized (response) {
-            response.notifyAll();
+        responseLock.lock();
+        try {
+            responseChanged.signalAll();
             logger.debug("Got cancel action from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2774,21 +2807,27 @@ public class HumanPlayer extends PlayerImpl {
         // may be executed in CALL, HEALTH, GAME and other threads
         // so make sure another player can't break/stop currently choosing player
 
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setAsyncWantConcede(); // tell game that it must check conceding players
             if (stopCurrentChooseDialog) {
-                response.notifyAll(); // will force to stop a current waiting dialog (so game can continue)
+                responseChanged.signalAll(); // will force to stop a current waiting dialog (so game can continue)
             }
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void signalPlayerCheat() {
         // waitResponseOpen(); // cheat is async event, will be processed on first player's priority
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setAsyncWantCheat();
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Set cheat for waiting player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2796,10 +2835,13 @@ public class HumanPlayer extends PlayerImpl {
     public void skip() {
         // waitResponseOpen(); //skip is direct event, no need to wait it
         // TODO: can be bugged and must be reworked, see wantConcede as example?!
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setInteger(0);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got skip action from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
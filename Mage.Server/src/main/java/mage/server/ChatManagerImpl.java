@@ -70,6 +70,7 @@ public class ChatManagerImpl implements ChatManager {
         if (chatId != null) {
             ChatSession chatSession = chatSessions.get(chatId);
             if (chatSession != null) {
+                chatSession.flushGameLog();
                 if (chatSessions.containsKey(chatId)) {
                     final Lock w = lock.writeLock();
                     w.lock();
@@ -171,6 +172,22 @@ public class ChatManagerImpl implements ChatManager {
         }
     }
 
+    @Override
+    public void broadcastGameLog(UUID chatId, String message, MessageColor color, boolean withTime, Game game) {
+        ChatSession chatSession = chatSessions.get(chatId);
+        if (chatSession != null) {
+            chatSession.queueGameLog(message, color, withTime, game);
+        }
+    }
+
+    @Override
+    public void flushGameLog(UUID chatId) {
+        ChatSession chatSession = chatSessions.get(chatId);
+        if (chatSession != null) {
+            chatSession.flushGameLog();
+        }
+    }
+
     private static final String COMMANDS_LIST
             = "<br/>List of commands:"
             + "<br/>\\history or \\h [username] - shows the history of a player"
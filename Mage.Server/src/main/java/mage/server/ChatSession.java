@@ -8,11 +8,14 @@ import mage.view.ChatMessage;
 import mage.view.ChatMessage.MessageColor;
 import mage.view.ChatMessage.MessageType;
 import mage.view.ChatMessage.SoundToPlay;
+import mage.view.ChatMessagesView;
 import org.apache.log4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -24,6 +27,10 @@ public class ChatSession {
 
     private static final Logger logger = Logger.getLogger(ChatSession.class);
 
+    // game log sends by batches, so many small messages from one game step (e.g. combat damage or board wipe)
+    // go to each user as one callback (delayed flush runs by shared server's timeout threads)
+    private static final int GAME_LOG_MAX_DELAY_MS = 20; // max waiting time for the next messages (if no game updates)
+
     private final ManagerFactory managerFactory;
     private final ReadWriteLock lock = new ReentrantReadWriteLock(); // TODO: no needs due ConcurrentHashMap usage?
 
@@ -33,6 +40,10 @@ public class ChatSession {
     private final Date createTime;
     private final String info;
 
+    private final List<ChatMessage> gameLogQueue = new ArrayList<>();
+    private ScheduledFuture<?> gameLogFlushTask = null;
+    private final Object gameLogSendLock = new Object(); // keeps messages order on flush from diff threads
+
     public ChatSession(ManagerFactory managerFactory, String info) {
         this.managerFactory = managerFactory;
         this.chatId = UUID.randomUUID();
@@ -112,34 +123,82 @@ public class ChatSession {
         // TODO: is it freeze on someone's connection fail/freeze with play multiple games/chats/lobby?
         // TODO: send messages in another thread?!
         if (!message.isEmpty()) {
-            Set<UUID> clientsToRemove = new HashSet<>();
-            ClientCallback clientCallback = new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId,
-                    new ChatMessage(userName, message, (withTime ? new Date() : null), game, color, messageType, soundToPlay));
-            List<UUID> chatUserIds = new ArrayList<>();
-            final Lock r = lock.readLock();
-            r.lock();
-            try {
-                chatUserIds.addAll(users.keySet());
-            } finally {
-                r.unlock();
+            // keep messages order
+            flushGameLog();
+            sendToAll(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId,
+                    new ChatMessage(userName, message, (withTime ? new Date() : null), game, color, messageType, soundToPlay)));
+        }
+    }
+
+    /**
+     * Add game log message to the queue, it will be sent with other messages
+     * on flush or after small delay (must be flushed before game update)
+     */
+    public void queueGameLog(String message, MessageColor color, boolean withTime, Game game) {
+        if (message.isEmpty()) {
+            return;
+        }
+        // message must be created here, it uses game data
+        ChatMessage chatMessage = new ChatMessage("", message, (withTime ? new Date() : null), game, color, MessageType.GAME, null);
+        synchronized (gameLogQueue) {
+            gameLogQueue.add(chatMessage);
+            if (gameLogFlushTask == null) {
+                gameLogFlushTask = managerFactory.threadExecutor().getTimeoutExecutor().schedule(this::flushGameLog, GAME_LOG_MAX_DELAY_MS, TimeUnit.MILLISECONDS);
             }
-            for (UUID userId : chatUserIds) {
-                Optional<User> user = managerFactory.userManager().getUser(userId);
-                if (user.isPresent()) {
-                    user.get().fireCallback(clientCallback);
-                } else {
-                    clientsToRemove.add(userId);
+        }
+    }
+
+    /**
+     * Send all queued game log messages
+     */
+    public void flushGameLog() {
+        synchronized (gameLogSendLock) {
+            ArrayList<ChatMessage> messages;
+            synchronized (gameLogQueue) {
+                if (gameLogQueue.isEmpty()) {
+                    return;
                 }
-            }
-            if (!clientsToRemove.isEmpty()) {
-                final Lock w = lock.writeLock();
-                w.lock();
-                try {
-                    users.keySet().removeAll(clientsToRemove);
-                } finally {
-                    w.unlock();
+                messages = new ArrayList<>(gameLogQueue);
+                gameLogQueue.clear();
+                if (gameLogFlushTask != null) {
+                    gameLogFlushTask.cancel(false);
+                    gameLogFlushTask = null;
                 }
             }
+            if (messages.size() == 1) {
+                sendToAll(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId, messages.get(0)));
+            } else {
+                sendToAll(new ClientCallback(ClientCallbackMethod.CHATMESSAGES, chatId, new ChatMessagesView(messages)));
+            }
+        }
+    }
+
+    private void sendToAll(ClientCallback clientCallback) {
+        Set<UUID> clientsToRemove = new HashSet<>();
+        List<UUID> chatUserIds = new ArrayList<>();
+        final Lock r = lock.readLock();
+        r.lock();
+        try {
+            chatUserIds.addAll(users.keySet());
+        } finally {
+            r.unlock();
+        }
+        for (UUID userId : chatUserIds) {
+            Optional<User> user = managerFactory.userManager().getUser(userId);
+            if (user.isPresent()) {
+                user.get().fireCallback(clientCallback);
+            } else {
+                clientsToRemove.add(userId);
+            }
+        }
+        if (!clientsToRemove.isEmpty()) {
+            final Lock w = lock.writeLock();
+            w.lock();
+            try {
+                users.keySet().removeAll(clientsToRemove);
+            } finally {
+                w.unlock();
+            }
         }
     }
 
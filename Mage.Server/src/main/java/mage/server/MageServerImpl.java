@@ -152,6 +152,8 @@ public class MageServerImpl implements MageServer {
                 logger.debug("MageVersionException: userName=" + userName + ", version=" + version + " sessionId=" + sessionId);
                 throw new MageVersionException(version, Main.getVersion());
             }
+            managerFactory.sessionManager().getSession(sessionId).ifPresent(session ->
+                    session.setNetworkProtocol(version.getNetworkProtocol()));
             return managerFactory.sessionManager().connectUser(sessionId, restoreSessionId, userName, password, userIdStr, this.detailsMode);
         } catch (MageException e) {
             if (e instanceof MageVersionException) {
@@ -390,6 +392,26 @@ public class MageServerImpl implements MageServer {
         return null;
     }
 
+    @Override
+    public void roomSubscribeTables(final String sessionId, final UUID roomId) throws MageException {
+        execute("roomSubscribeTables", sessionId, () -> {
+            managerFactory.sessionManager().getSession(sessionId).ifPresent(session -> {
+                UUID userId = session.getUserId();
+                managerFactory.gamesRoomManager().getRoom(roomId).ifPresent(room -> room.subscribeTables(userId));
+            });
+        });
+    }
+
+    @Override
+    public void roomUnsubscribeTables(final String sessionId, final UUID roomId) throws MageException {
+        execute("roomUnsubscribeTables", sessionId, () -> {
+            managerFactory.sessionManager().getSession(sessionId).ifPresent(session -> {
+                UUID userId = session.getUserId();
+                managerFactory.gamesRoomManager().getRoom(roomId).ifPresent(room -> room.unsubscribeTables(userId));
+            });
+        });
+    }
+
     @Override
     //FIXME: why no sessionId here???
     public List<MatchView> roomGetFinishedMatches(UUID roomId) throws MageException {
@@ -824,6 +846,11 @@ public class MageServerImpl implements MageServer {
     public void sendPlayerAction(final PlayerAction playerAction, final UUID gameId, final String sessionId, final Object data) throws MageException {
         execute("sendPlayerAction", sessionId, () -> {
             managerFactory.sessionManager().getSession(sessionId).ifPresent(session -> {
+                if (playerAction == PlayerAction.CLIENT_RESET_GAME_DATA) {
+                    // network related action, no needs in game
+                    session.resetDeltaData(gameId);
+                    return;
+                }
                 UUID userId = session.getUserId();
                 managerFactory.gameManager().sendPlayerAction(playerAction, gameId, userId, data);
             });
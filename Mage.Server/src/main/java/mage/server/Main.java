@@ -245,6 +245,7 @@ public final class Main {
         logger.info("Config - server address:   " + config.getServerAddress());
         logger.info("Config - server port:      " + config.getPort());
         logger.info("Config - max game threads: " + config.getMaxGameThreads());
+        logger.info("Config - virtual threads:  " + (config.isVirtualGameThreads() ? "true" : "false"));
         logger.info("Config - max seconds idle: " + config.getMaxSecondsIdle());
         logger.info("Config - max AI opponents: " + config.getMaxAiOpponents());
         logger.info("Config - min usr name le.: " + config.getMinUserNameLength());
@@ -6,12 +6,18 @@ import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.net.UserData;
 import mage.players.net.UserGroup;
+import mage.remote.traffic.DeltaBase;
+import mage.remote.traffic.DeltaBases;
 import mage.server.game.GamesRoom;
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ManagerFactory;
 import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
+import mage.utils.CompressUtil;
+import mage.utils.MageVersion;
 import mage.utils.SystemUtil;
+import mage.view.GameClientMessage;
+import mage.view.GameView;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
 import org.jboss.remoting.callback.Callback;
@@ -70,6 +76,8 @@ public class Session {
     private boolean isAdmin = false;
     private final AsynchInvokerCallbackHandler callbackHandler;
     private boolean valid = true;
+    private volatile int networkProtocol = MageVersion.MAGE_NETWORK_PROTOCOL_JAVA; // supported data format for callbacks
+    private final DeltaBases deltaBases = new DeltaBases(); // game updates sent to the client (for delta data)
 
     private final ReentrantLock lock;
     private final ReentrantLock callBackLock;
@@ -424,6 +432,49 @@ public class Session {
         return sessionId;
     }
 
+    public void setNetworkProtocol(int networkProtocol) {
+        this.networkProtocol = networkProtocol;
+    }
+
+    public int getNetworkProtocol() {
+        return networkProtocol;
+    }
+
+    /**
+     * Game updates can be sent as delta data (only changed cards)
+     */
+    private DeltaBase findDeltaBase(ClientCallback call) {
+        if (networkProtocol < MageVersion.MAGE_NETWORK_PROTOCOL_BINARY_DELTA
+                || isSendAsync(call) // delta data must be processed in same order on both sides
+                || call.getObjectId() == null
+                || !call.isCompressOnSend()
+                || !CompressUtil.isDeltaDataSupported()
+                || !(call.getData() instanceof GameView || call.getData() instanceof GameClientMessage)) {
+            return null;
+        }
+        // streams order must be changed by delta messages only (client uses same order for the same messages)
+        DeltaBase deltaBase = deltaBases.get(call.getObjectId());
+        deltaBase.setLastMessage(call);
+        return deltaBase;
+    }
+
+    private boolean isSendAsync(ClientCallback call) {
+        return SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
+                && call.getMethod().getType().canComeInAnyOrder();
+    }
+
+    /**
+     * Client lost delta data: re-sync by the last stream's message with full data
+     */
+    public void resetDeltaData(UUID objectId) {
+        DeltaBase deltaBase = deltaBases.reset(objectId);
+        ClientCallback lastMessage = deltaBase == null ? null : deltaBase.getLastMessage();
+        if (lastMessage != null) {
+            // client ignored broken message, so it must get latest game data and current dialog again
+            fireCallback(lastMessage);
+        }
+    }
+
     /**
      * Send event/command to the client
      */
@@ -433,10 +484,11 @@ public class Session {
             if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
                 call.setMessageId(messageId.incrementAndGet());
                 lockSet = true;
-                Callback callback = new Callback(call);
-                boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
-                        && call.getMethod().getType().canComeInAnyOrder();
-                callbackHandler.handleCallbackOneway(callback, sendAsync);
+                Callback callback = new Callback(call.prepareToSend(
+                        networkProtocol >= MageVersion.MAGE_NETWORK_PROTOCOL_BINARY,
+                        findDeltaBase(call)
+                ));
+                callbackHandler.handleCallbackOneway(callback, isSendAsync(call));
             }
         } catch (InterruptedException ex) {
             // already sending another command (connection problem?)
@@ -26,6 +26,7 @@ import mage.server.managers.ManagerFactory;
 import mage.server.record.TableRecorderImpl;
 import mage.server.tournament.TournamentFactory;
 import mage.server.util.ServerMessagesUtil;
+import mage.util.RandomUtil;
 import mage.view.ChatMessage;
 import org.apache.log4j.Logger;
 
@@ -943,7 +944,12 @@ public class TableController {
             }
         }
         tournament.clearDraft(); // free the draft resources after draft step has ended
-        tournament.nextStep();
+        Random oldRandom = RandomUtil.setThreadRandom(tournament.getRandom());
+        try {
+            tournament.nextStep();
+        } finally {
+            RandomUtil.setThreadRandom(oldRandom);
+        }
     }
 
     public void swapSeats(int seatNum1, int seatNum2) {
@@ -416,7 +416,7 @@ public class TableManagerImpl implements TableManager {
         logger.debug("------- Games: " + managerFactory.gameManager().getNumberActiveGames() + " --------------------------------------------");
         logger.debug(" Active Game Worker: " + managerFactory.threadExecutor().getActiveThreads(managerFactory.threadExecutor().getGameExecutor()));
         for (Entry<UUID, GameController> entry : managerFactory.gameManager().getGameController().entrySet()) {
-            logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
+            logger.debug(entry.getKey() + entry.getValue().getPlayerNameList() + ", history " + entry.getValue().getGameStatesInfo());
         }
         logger.debug("--- Server state END ------------------------------------------");
     }
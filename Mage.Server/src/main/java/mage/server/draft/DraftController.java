@@ -9,12 +9,14 @@ import mage.game.events.TableEvent;
 import mage.players.Player;
 import mage.server.game.GameController;
 import mage.server.managers.ManagerFactory;
+import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
 import mage.view.DraftPickView;
 import org.apache.log4j.Logger;
 
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -133,7 +135,12 @@ public class DraftController {
                 return;
             }
         }
-        draft.start();
+        Random oldRandom = RandomUtil.setThreadRandom(draft.getRandom());
+        try {
+            draft.start();
+        } finally {
+            RandomUtil.setThreadRandom(oldRandom);
+        }
     }
 
     private boolean allJoined() {
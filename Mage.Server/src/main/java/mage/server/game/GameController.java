@@ -19,6 +19,8 @@ import mage.game.match.MatchPlayer;
 import mage.game.permanent.Permanent;
 import mage.game.turn.Phase;
 import mage.interfaces.Action;
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
 import mage.server.Main;
 import mage.server.User;
@@ -123,17 +125,20 @@ public class GameController implements GameCallback {
                                 updateGame();
                                 break;
                             case INFO:
-                                managerFactory.chatManager().broadcast(chatId, "", event.getMessage(), MessageColor.BLACK, true, event.getGame(), MessageType.GAME, null);
+                                // game log goes by batches, it will be flushed before next game update or query
+                                managerFactory.chatManager().broadcastGameLog(chatId, event.getMessage(), MessageColor.BLACK, true, event.getGame());
                                 logger.trace(game.getId() + " " + event.getMessage());
                                 break;
                             case STATUS:
-                                managerFactory.chatManager().broadcast(chatId, "", event.getMessage(), MessageColor.ORANGE, event.getWithTime(), event.getWithTurnInfo() ? event.getGame() : null, MessageType.GAME, null);
+                                managerFactory.chatManager().broadcastGameLog(chatId, event.getMessage(), MessageColor.ORANGE, event.getWithTime(), event.getWithTurnInfo() ? event.getGame() : null);
                                 logger.trace(game.getId() + " " + event.getMessage());
                                 break;
                             case ERROR:
+                                managerFactory.chatManager().flushGameLog(chatId);
                                 error(event.getMessage(), event.getException());
                                 break;
                             case END_GAME_INFO:
+                                managerFactory.chatManager().flushGameLog(chatId);
                                 endGameInfo();
                                 break;
                             case INIT_TIMER:
@@ -182,6 +187,8 @@ public class GameController implements GameCallback {
         game.addPlayerQueryEventListener(
                 (Listener<PlayerQueryEvent>) event -> {
                     logger.trace(new StringBuilder(event.getPlayerId().toString()).append("--").append(event.getQueryType()).append("--").append(event.getMessage()).toString());
+                    // user must see full game log before any dialog
+                    managerFactory.chatManager().flushGameLog(chatId);
                     try {
                         switch (event.getQueryType()) {
                             case ASK:
@@ -818,12 +825,35 @@ public class GameController implements GameCallback {
     }
 
     private synchronized void updateGame() {
+        // game log must be sent before game update
+        managerFactory.chatManager().flushGameLog(chatId);
+
         updatePriorityTimers();
-        for (final GameSessionPlayer gameSession : getGameSessions()) {
-            gameSession.update();
+
+        // game view calculation can take some time, so all sessions use same game copy
+        // and all watchers use same game view (instead own game copy and view for each session)
+        Game sourceGame = game.copy();
+
+        List<GameSessionWatcher> gameWatchers = getGameSessionWatchers();
+        if (!gameWatchers.isEmpty()) {
+            ClientCallback watchersUpdate = new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), GameSessionWatcher.prepareWatcherView(sourceGame));
+            for (final GameSessionWatcher gameWatcher : gameWatchers) {
+                gameWatcher.update(sourceGame, watchersUpdate);
+            }
         }
-        for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+
+        // playable objects calculation for priority player can change the game copy, so it must be last
+        UUID priorityPlayerId = sourceGame.getState().getPriorityPlayerId();
+        GameSessionPlayer prioritySession = null;
+        for (Entry<UUID, GameSessionPlayer> entry : getGameSessionsMap().entrySet()) {
+            if (entry.getKey().equals(priorityPlayerId)) {
+                prioritySession = entry.getValue();
+            } else {
+                entry.getValue().update(sourceGame, null);
+            }
+        }
+        if (prioritySession != null) {
+            prioritySession.update(sourceGame, null);
         }
     }
 
@@ -1163,6 +1193,16 @@ public class GameController implements GameCallback {
         return sb.append(']').toString();
     }
 
+    /**
+     * Memory usage info about undo/replay history (for server health reports)
+     */
+    public String getGameStatesInfo() {
+        if (game == null || game.getGameStates() == null) {
+            return "no game states";
+        }
+        return game.getGameStates().toString();
+    }
+
     public boolean isAllowedToWatch(UUID userId) {
         Optional<User> user = managerFactory.userManager().getUser(userId);
         if (user.isPresent()) {
@@ -3,12 +3,14 @@ package mage.server.game;
 import mage.cards.Cards;
 import mage.choices.Choice;
 import mage.constants.ManaType;
+import mage.constants.PhaseStep;
 import mage.constants.PlayerAction;
 import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.Table;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
+import mage.players.PlayableObjectsList;
 import mage.players.Player;
 import mage.server.User;
 import mage.server.managers.ManagerFactory;
@@ -34,6 +36,9 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     private final ExecutorService callExecutor;
 
+    // playable objects of the last game view, can be reused until game state changes
+    private volatile PlayableObjectsCache playableCache = null;
+
     public GameSessionPlayer(ManagerFactory managerFactory, Game game, UUID userId, UUID playerId) {
         super(managerFactory.userManager(), userId, game, true);
         this.userManager = managerFactory.userManager();
@@ -197,7 +202,15 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     @Override
     public GameView getGameView() {
-        return prepareGameView(game, playerId, userId);
+        return prepareGameViewFromCopy(game.copy(), playerId, userId, this);
+    }
+
+    @Override
+    public void update(Game sourceGame, ClientCallback watchersUpdate) {
+        if (!killed) {
+            GameView gameView = prepareGameViewFromCopy(sourceGame, playerId, userId, this);
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), gameView)));
+        }
     }
 
     /**
@@ -211,13 +224,21 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public static GameView prepareGameView(Game game, UUID playerId, UUID userId) {
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
-        Game sourceGame = game.copy();
+        return prepareGameViewFromCopy(game.copy(), playerId, userId, null);
+    }
 
+    /**
+     * Prepare client-server data from the game's copy (copy can be shared between sessions on same game update,
+     * but playable objects calculation can change it, so it must be last usage)
+     *
+     * @param session can be null, used to reuse playable objects from the session's last game view
+     */
+    private static GameView prepareGameViewFromCopy(Game sourceGame, UUID playerId, UUID userId, GameSessionPlayer session) {
         Player player = sourceGame.getPlayer(playerId); // null for watcher
         GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null);
         if (player != null) {
             if (gameView.getPriorityPlayerName().equals(player.getName())) {
-                gameView.setCanPlayObjects(player.getPlayableObjects(sourceGame, Zone.ALL));
+                gameView.setCanPlayObjects(findPlayableObjects(sourceGame, player, session));
             }
         }
 
@@ -228,6 +249,26 @@ public class GameSessionPlayer extends GameSessionWatcher {
         return gameView;
     }
 
+    /**
+     * Playable objects calculation is the most expensive part of the game view (full game simulation for all cards),
+     * but game view can be sent many times without any game changes (e.g. update and then choose dialog),
+     * so reuse last result until game state changes
+     */
+    private static PlayableObjectsList findPlayableObjects(Game game, Player player, GameSessionPlayer session) {
+        if (session == null) {
+            return player.getPlayableObjects(game, Zone.ALL);
+        }
+        PlayableObjectsCache cache = session.playableCache;
+        if (cache != null && cache.isActual(game, player)) {
+            return cache.playableObjects;
+        }
+        cache = new PlayableObjectsCache(game, player);
+        // calculation can change the game copy, so it must be called after the state check
+        cache.playableObjects = player.getPlayableObjects(game, Zone.ALL);
+        session.playableCache = cache;
+        return cache.playableObjects;
+    }
+
     private static void processControlledPlayers(Game game, Player player, GameView gameView) {
         if (player == null) {
             // ignore watcher
@@ -289,4 +330,50 @@ public class GameSessionPlayer extends GameSessionWatcher {
         }
     }
 
+
+    /**
+     * Game state check for playable objects: any game changes fire events or apply effects,
+     * rollback restores old counters, so it uses state's generation too
+     */
+    private static final class PlayableObjectsCache {
+
+        private final UUID gameId;
+        private final long generation;
+        private final int applyEffectsCounter;
+        private final long eventsCounter;
+        private final int turnNum;
+        private final PhaseStep step;
+        private final UUID priorityPlayerId;
+        private final int stackSize;
+        private final String manaPool; // mana can be removed from pool without events (e.g. on empty)
+        private PlayableObjectsList playableObjects;
+
+        private PlayableObjectsCache(Game game, Player player) {
+            this.gameId = game.getId();
+            this.generation = game.getState().getGeneration();
+            this.applyEffectsCounter = game.getState().getApplyEffectsCounter();
+            this.eventsCounter = game.getState().getEventsCounter();
+            this.turnNum = game.getTurnNum();
+            this.step = game.getTurnStepType();
+            this.priorityPlayerId = game.getPriorityPlayerId();
+            this.stackSize = game.getStack().size();
+            this.manaPool = getManaPoolInfo(player);
+        }
+
+        private boolean isActual(Game game, Player player) {
+            return this.gameId.equals(game.getId())
+                    && this.generation == game.getState().getGeneration()
+                    && this.applyEffectsCounter == game.getState().getApplyEffectsCounter()
+                    && this.eventsCounter == game.getState().getEventsCounter()
+                    && this.turnNum == game.getTurnNum()
+                    && this.step == game.getTurnStepType()
+                    && Objects.equals(this.priorityPlayerId, game.getPriorityPlayerId())
+                    && this.stackSize == game.getStack().size()
+                    && this.manaPool.equals(getManaPoolInfo(player));
+        }
+
+        private static String getManaPoolInfo(Player player) {
+            return player.getManaPool().getMana().toString() + '/' + player.getManaPool().getConditionalMana().size();
+        }
+    }
 }
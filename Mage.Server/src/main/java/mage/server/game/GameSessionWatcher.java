@@ -56,6 +56,34 @@ public class GameSessionWatcher {
 
     }
 
+    /**
+     * Game update with shared data (see GameController.updateGame)
+     *
+     * @param sourceGame     game's copy for all sessions
+     * @param watchersUpdate same update for all watchers, so game view and compressed data will be reused
+     */
+    public void update(Game sourceGame, ClientCallback watchersUpdate) {
+        if (!killed) {
+            Map<String, SimpleCardsView> watchedHands = findWatchedHands(sourceGame, userId);
+            ClientCallback callback;
+            if (watchedHands.isEmpty()) {
+                callback = watchersUpdate;
+            } else {
+                GameView gameView = new GameView((GameView) watchersUpdate.getData());
+                gameView.getWatchedHands().putAll(watchedHands);
+                callback = new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), gameView);
+            }
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(callback));
+        }
+    }
+
+    /**
+     * Public game view for all watchers, use processWatchedHands to add watcher's data
+     */
+    public static GameView prepareWatcherView(Game sourceGame) {
+        return new GameView(sourceGame.getState(), sourceGame, null, null);
+    }
+
     public void inform(final String message) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
@@ -101,18 +129,24 @@ public class GameSessionWatcher {
         // so use copy for thread save (protection from ConcurrentModificationException)
         Game sourceGame = game.copy();
 
-        GameView gameView = new GameView(sourceGame.getState(), sourceGame, null, userId);
+        GameView gameView = prepareWatcherView(sourceGame);
         processWatchedHands(sourceGame, userId, gameView);
         return gameView;
     }
 
     protected static void processWatchedHands(Game game, UUID userId, GameView gameView) {
         gameView.getWatchedHands().clear();
+        gameView.getWatchedHands().putAll(findWatchedHands(game, userId));
+    }
+
+    private static Map<String, SimpleCardsView> findWatchedHands(Game game, UUID userId) {
+        Map<String, SimpleCardsView> res = new HashMap<>();
         for (Player player : game.getPlayers().values()) {
             if (player.hasUserPermissionToSeeHand(userId)) {
-                gameView.getWatchedHands().put(player.getName(), new SimpleCardsView(player.getHand().getCards(game), true));
+                res.put(player.getName(), new SimpleCardsView(player.getHand().getCards(game), true));
             }
         }
+        return res;
     }
 
     public GameEndView getGameEndView(UUID playerId, Table table) {
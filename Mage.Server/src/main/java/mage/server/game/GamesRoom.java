@@ -36,4 +36,11 @@ public interface GamesRoom extends Room {
     void leaveTable(UUID userId, UUID tableId);
     boolean watchTable(UUID userId, UUID tableId) throws MageException;
 
+    /**
+     * Send active tables changes to the user (see LobbyTablesFeed)
+     */
+    void subscribeTables(UUID userId);
+
+    void unsubscribeTables(UUID userId);
+
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -45,20 +46,35 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
 
     private final ManagerFactory managerFactory;
     private final ConcurrentHashMap<UUID, Table> tables = new ConcurrentHashMap<>();
+    private final LobbyTablesFeed tablesFeed;
+    private final AtomicBoolean lobbyUpdateRequested = new AtomicBoolean(false);
 
     public GamesRoomImpl(ManagerFactory managerFactory) {
         super(managerFactory.chatManager());
         this.managerFactory = managerFactory;
+        this.tablesFeed = new LobbyTablesFeed(this.getRoomId(), managerFactory.userManager());
 
         // update lobby's data
-        UPDATE_LOBBY_EXECUTOR.scheduleAtFixedRate(() -> {
-            try {
-                updateLobby();
-            } catch (Exception e) {
-                LOGGER.fatal("Games room update error: " + e.getMessage(), e);
-            }
+        UPDATE_LOBBY_EXECUTOR.scheduleAtFixedRate(this::updateLobbySafe, 2, 2, TimeUnit.SECONDS);
+    }
 
-        }, 2, 2, TimeUnit.SECONDS); // TODO: is it ok for performance?
+    private void updateLobbySafe() {
+        lobbyUpdateRequested.set(false);
+        try {
+            updateLobby();
+        } catch (Exception e) {
+            LOGGER.fatal("Games room update error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Update lobby without waiting for the next scheduled update (e.g. on new table),
+     * multiple requests will be combined into one update
+     */
+    private void requestLobbyUpdate() {
+        if (lobbyUpdateRequested.compareAndSet(false, true)) {
+            UPDATE_LOBBY_EXECUTOR.execute(this::updateLobbySafe);
+        }
     }
 
     @Override
@@ -87,6 +103,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
         }
         lobbyTables = tableList;
         lobbyMatches = matchList;
+        tablesFeed.update(tableList);
 
         // users
         List<UsersView> users = new ArrayList<>();
@@ -133,7 +150,11 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public boolean joinTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws MageException {
         if (tables.containsKey(tableId)) {
-            return managerFactory.tableManager().joinTable(userId, tableId, name, playerType, skill, deckList, password);
+            boolean joined = managerFactory.tableManager().joinTable(userId, tableId, name, playerType, skill, deckList, password);
+            if (joined) {
+                requestLobbyUpdate();
+            }
+            return joined;
         } else {
             return false;
         }
@@ -143,13 +164,18 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     public TableView createTable(UUID userId, MatchOptions options) {
         Table table = managerFactory.tableManager().createTable(this.getRoomId(), userId, options);
         tables.put(table.getId(), table);
+        requestLobbyUpdate();
         return new TableView(table);
     }
 
     @Override
     public boolean joinTournamentTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws GameException {
         if (tables.containsKey(tableId)) {
-            return managerFactory.tableManager().joinTournament(userId, tableId, name, playerType, skill, deckList, password);
+            boolean joined = managerFactory.tableManager().joinTournament(userId, tableId, name, playerType, skill, deckList, password);
+            if (joined) {
+                requestLobbyUpdate();
+            }
+            return joined;
         } else {
             return false;
         }
@@ -159,6 +185,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     public TableView createTournamentTable(UUID userId, TournamentOptions options) {
         Table table = managerFactory.tableManager().createTournamentTable(this.getRoomId(), userId, options);
         tables.put(table.getId(), table);
+        requestLobbyUpdate();
         return new TableView(table);
     }
 
@@ -173,6 +200,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public void removeTable(UUID userId, UUID tableId) {
         tables.remove(tableId);
+        requestLobbyUpdate();
     }
 
     @Override
@@ -190,6 +218,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public void leaveTable(UUID userId, UUID tableId) {
         managerFactory.tableManager().leaveTable(userId, tableId);
+        requestLobbyUpdate();
     }
 
     @Override
@@ -202,6 +231,16 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
         return lobbyUsers;
     }
 
+    @Override
+    public void subscribeTables(UUID userId) {
+        tablesFeed.subscribe(userId);
+    }
+
+    @Override
+    public void unsubscribeTables(UUID userId) {
+        tablesFeed.unsubscribe(userId);
+    }
+
 }
 
 /**
@@ -0,0 +1,96 @@
+package mage.server.game;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.server.User;
+import mage.server.managers.UserManager;
+import mage.view.TableView;
+import mage.view.TablesUpdateView;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server's lobby: sends active tables changes to subscribed users
+ * <p>
+ * Each lobby update with new, changed or removed tables gets next version, so users receive
+ * changes only (full tables list on subscribe). Client must re-subscribe on missing version.
+ * <p>
+ * Traffic and serialization cost depends on tables changes, not on tables amount.
+ *
+ * @author agent
+ */
+public class LobbyTablesFeed {
+
+    private final UUID roomId;
+    private final UserManager userManager;
+    private final Set<UUID> subscribers = ConcurrentHashMap.newKeySet();
+
+    private Map<UUID, TableView> tables = new LinkedHashMap<>(); // last sent tables
+    private long version = 0;
+
+    public LobbyTablesFeed(UUID roomId, UserManager userManager) {
+        this.roomId = roomId;
+        this.userManager = userManager;
+    }
+
+    /**
+     * Find changed tables and send it to subscribed users
+     *
+     * @param newTables all active tables
+     */
+    public synchronized void update(List<TableView> newTables) {
+        Map<UUID, TableView> newTablesMap = new LinkedHashMap<>();
+        List<TableView> changedTables = new ArrayList<>();
+        for (TableView table : newTables) {
+            newTablesMap.put(table.getTableId(), table);
+            if (!table.equals(tables.get(table.getTableId()))) {
+                changedTables.add(table);
+            }
+        }
+        List<UUID> removedTables = new ArrayList<>();
+        for (UUID tableId : tables.keySet()) {
+            if (!newTablesMap.containsKey(tableId)) {
+                removedTables.add(tableId);
+            }
+        }
+        tables = newTablesMap;
+        if (changedTables.isEmpty() && removedTables.isEmpty()) {
+            return;
+        }
+
+        version++;
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        // same callback for all users, so data will be compressed one time only
+        ClientCallback callback = new ClientCallback(ClientCallbackMethod.ROOM_TABLES_UPDATE, roomId,
+                new TablesUpdateView(roomId, version, false, changedTables, removedTables));
+        for (UUID userId : subscribers) {
+            Optional<User> user = userManager.getUser(userId);
+            if (user.isPresent()) {
+                user.get().fireCallback(callback);
+            } else {
+                subscribers.remove(userId);
+            }
+        }
+    }
+
+    /**
+     * Subscribe user to tables changes, user will get full tables list first
+     * (can be called again to restore missing changes)
+     */
+    public synchronized void subscribe(UUID userId) {
+        Optional<User> user = userManager.getUser(userId);
+        if (!user.isPresent()) {
+            return;
+        }
+        subscribers.add(userId);
+        user.get().fireCallback(new ClientCallback(ClientCallbackMethod.ROOM_TABLES_UPDATE, roomId,
+                new TablesUpdateView(roomId, version, true, new ArrayList<>(tables.values()), new ArrayList<>())));
+    }
+
+    public void unsubscribe(UUID userId) {
+        subscribers.remove(userId);
+    }
+}
@@ -21,6 +21,10 @@ public interface ChatManager {
 
     void broadcast(UUID chatId, String userName, String message, ChatMessage.MessageColor color, boolean withTime, Game game, ChatMessage.MessageType messageType, ChatMessage.SoundToPlay soundToPlay);
 
+    void broadcastGameLog(UUID chatId, String message, ChatMessage.MessageColor color, boolean withTime, Game game);
+
+    void flushGameLog(UUID chatId);
+
     void sendReconnectMessage(UUID userId);
 
     void sendMessageToUserChats(UUID userId, String message);
@@ -23,6 +23,7 @@ import mage.server.User;
 import mage.server.draft.DraftController;
 import mage.server.managers.ManagerFactory;
 import mage.server.managers.TableManager;
+import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
 import mage.view.ChatMessage.MessageColor;
 import mage.view.ChatMessage.MessageType;
@@ -32,6 +33,7 @@ import org.apache.log4j.Logger;
 
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -204,7 +206,12 @@ public class TournamentController {
         }
         started = true;
         logger.debug("Tournament starts (all players joined): " + tournament.getId() + " - " + tournament.getTournamentType().toString());
-        tournament.nextStep();
+        Random oldRandom = RandomUtil.setThreadRandom(tournament.getRandom());
+        try {
+            tournament.nextStep();
+        } finally {
+            RandomUtil.setThreadRandom(oldRandom);
+        }
     }
 
     private void endTournament() {
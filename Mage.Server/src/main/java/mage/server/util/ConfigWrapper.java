@@ -55,6 +55,10 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().getMaxGameThreads().intValue();
     }
 
+    public boolean isVirtualGameThreads() {
+        return Boolean.TRUE.equals(config.getServer().isVirtualGameThreads());
+    }
+
     public int getMaxSecondsIdle() {
         return config.getServer().getMaxSecondsIdle().intValue();
     }
@@ -35,6 +35,10 @@ public class ThreadExecutorImpl implements ThreadExecutor {
      * <p>
      * This all is done for performance reasons as creating new OS threads is
      * resource consuming process.
+     * <p>
+     * Virtual game threads (java 21+, see virtualGameThreads config setting): game and tourney
+     * threads will be created per task and MaxGameThreads becomes a soft limit. Game threads are
+     * waiting users most of the time, so server can keep thousands of such games at a time.
      */
 
     public ThreadExecutorImpl(ConfigSettings config) {
@@ -44,17 +48,28 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
 
-        //gameExecutor = Executors.newFixedThreadPool(config.getMaxGameThreads());
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        if (config.isVirtualGameThreads() && XmageThreadFactory.isVirtualThreadsSupported()) {
+            // virtual threads: game thread waits user's feedback most of the time, so it's cheap to keep it for each game,
+            // max game threads setting becomes a soft limit (new games are not queued, but server will warn about overload)
+            gameExecutor = new VirtualThreadPoolWithException(ThreadUtils.THREAD_PREFIX_GAME, config.getMaxGameThreads());
+            tourneyExecutor = new VirtualThreadPoolWithException(ThreadUtils.THREAD_PREFIX_TOURNEY, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO);
+        } else {
+            if (config.isVirtualGameThreads()) {
+                logger.warn("Virtual game threads require java 21 or newer, so server will use platform threads and max game threads limit");
+            }
 
-        //tourney = Executors.newFixedThreadPool(config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO);
-        tourneyExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO);
-        ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) tourneyExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) tourneyExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY));
+            //gameExecutor = Executors.newFixedThreadPool(config.getMaxGameThreads());
+            gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+            ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+
+            //tourney = Executors.newFixedThreadPool(config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO);
+            tourneyExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO);
+            ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) tourneyExecutor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) tourneyExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY));
+        }
 
         timeoutExecutor = Executors.newScheduledThreadPool(4);
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
@@ -108,6 +123,46 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         }
     }
 
+    static class VirtualThreadPoolWithException extends ThreadPoolExecutor {
+
+        private final String name;
+        private final int softLimit;
+        private volatile boolean softLimitWarned = false;
+
+        VirtualThreadPoolWithException(String name, int softLimit) {
+            // new virtual thread per task, no need to keep idle threads
+            super(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), XmageThreadFactory.createVirtual(name));
+            this.name = name;
+            this.softLimit = softLimit;
+        }
+
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            super.beforeExecute(t, r);
+
+            int activeCount = getActiveCount();
+            if (activeCount > softLimit) {
+                if (!softLimitWarned) {
+                    softLimitWarned = true;
+                    logger.warn("Too many active " + name + " threads: " + activeCount + " of " + softLimit + ", check server's load");
+                }
+            } else {
+                softLimitWarned = false;
+            }
+        }
+
+        @Override
+        protected void afterExecute(Runnable r, Throwable t) {
+            super.afterExecute(r, t);
+
+            // catch errors in GAME and TOURNEY threads (from game processing)
+            t = ThreadUtils.findRunnableException(r, t);
+            if (t != null && !(t instanceof CancellationException)) {
+                logger.error("Catch unhandled error in " + name + " thread: " + t.getMessage(), t);
+            }
+        }
+    }
+
     @Override
     public int getActiveThreads(ExecutorService executerService) {
         if (executerService instanceof ThreadPoolExecutor) {
@@ -224,4 +224,42 @@ public class AttackAndBlockByAITest extends CardTestPlayerBaseAI {
         assertLife(playerA, 20);
         assertLife(playerB, 20 - 2);
     }
+
+    @Test
+    public void test_Block_1_small_deathtouch_vs_1_big() {
+        // AI must trade small blocker with deathtouch for bigger attacker
+        addCard(Zone.BATTLEFIELD, playerA, "Typhoid Rats", 1); // 1/1, deathtouch
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1); // 3/3
+
+        attackSkip(1, playerA);
+        attack(2, playerB, "Hill Giant");
+
+        setStopAt(2, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+
+        assertGraveyardCount(playerA, "Typhoid Rats", 1);
+        assertGraveyardCount(playerB, "Hill Giant", 1);
+        assertLife(playerA, 20);
+        assertLife(playerB, 20);
+    }
+
+    @Test
+    public void test_Block_1_vs_1_flanking() {
+        // AI must not block attacker with flanking (blocker gets -1/-1 and dies alone)
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Benalish Cavalry", 1); // 2/2, flanking
+
+        attackSkip(1, playerA);
+        attack(2, playerB, "Benalish Cavalry");
+
+        setStopAt(2, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+
+        assertPermanentCount(playerA, "Balduvian Bears", 1);
+        assertPermanentCount(playerB, "Benalish Cavalry", 1);
+        assertLife(playerA, 20 - 2);
+        assertLife(playerB, 20);
+    }
 }
@@ -0,0 +1,133 @@
+package org.mage.test.AI.basic;
+
+import mage.abilities.keyword.FlyingAbility;
+import mage.abilities.keyword.ReachAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.player.ai.CombatCombinations;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * AI related: possible attacks and blocks for monte carlo AI
+ *
+ * @author agent
+ */
+public class CombatCombinationsTest extends CardTestPlayerBase {
+
+    private List<Permanent> getCreatures(Game game, Player player) {
+        return game.getBattlefield().getAllActivePermanents(StaticFilters.FILTER_PERMANENT_CREATURE, player.getId(), game);
+    }
+
+    private <T> List<T> toList(Iterator<T> iterator) {
+        List<T> res = new ArrayList<>();
+        iterator.forEachRemaining(res::add);
+        return res;
+    }
+
+    @Test
+    public void test_Attacks() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 5); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant", 1); // 3/3
+        addCard(Zone.BATTLEFIELD, playerA, "Darksteel Myr", 1); // 0/1, useless attacker
+
+        runCode("check attacks", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            List<Permanent> creatures = getCreatures(game, player);
+            Assert.assertEquals(7, creatures.size());
+            Permanent myr = getPermanent("Darksteel Myr", playerA);
+
+            List<List<UUID>> attacks = toList(CombatCombinations.attacks(game, creatures));
+            // identical bears: 0..5 attackers, giant: 0..1 attackers
+            Assert.assertEquals(6 * 2, attacks.size());
+            Assert.assertEquals("first must be full attack", 6, attacks.get(0).size());
+            Assert.assertEquals("last must be no attack", 0, attacks.get(attacks.size() - 1).size());
+            Set<Set<UUID>> unique = new HashSet<>();
+            attacks.forEach(attack -> unique.add(new HashSet<>(attack)));
+            Assert.assertEquals("must be without duplicates", attacks.size(), unique.size());
+            attacks.forEach(attack -> Assert.assertFalse("must ignore useless attacker", attack.contains(myr.getId())));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_AttacksWithStaticAbilities() {
+        addCard(Zone.BATTLEFIELD, playerA, "Taunting Elf", 1); // 0/1, all creatures able to block it do so
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 3); // 2/2
+
+        runCode("check attacks", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            List<Permanent> creatures = getCreatures(game, player);
+            List<Permanent> bears = creatures.stream()
+                    .filter(permanent -> permanent.getName().equals("Grizzly Bears"))
+                    .collect(Collectors.toList());
+            Permanent elf = getPermanent("Taunting Elf", playerA);
+
+            // same abilities amount, but different abilities
+            bears.get(0).addAbility(FlyingAbility.getInstance(), null, game);
+            bears.get(1).addAbility(ReachAbility.getInstance(), null, game);
+
+            List<List<UUID>> attacks = toList(CombatCombinations.attacks(game, creatures));
+            // elf: 0..1 attackers (lure without power), each bear: 0..1 attackers
+            Assert.assertEquals(2 * 2 * 2 * 2, attacks.size());
+            Assert.assertTrue("must use attacker with static ability", attacks.get(0).contains(elf.getId()));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_Blocks() {
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant", 1); // 3/3
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Darksteel Myr", 1); // 0/1
+        //
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 3); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Darksteel Myr", 1); // 0/1, useless blocker for useless attacker
+
+        attack(1, playerA, "Hill Giant");
+        attack(1, playerA, "Balduvian Bears");
+        attack(1, playerA, "Darksteel Myr");
+
+        runCode("check blocks", 1, PhaseStep.DECLARE_BLOCKERS, playerB, (info, player, game) -> {
+            Assert.assertEquals(3, game.getCombat().getGroups().size());
+            Permanent attackerMyr = getPermanent("Darksteel Myr", playerA);
+            Permanent blockerMyr = getPermanent("Darksteel Myr", playerB);
+            int attackerMyrGroup = -1;
+            for (int i = 0; i < game.getCombat().getGroups().size(); i++) {
+                if (game.getCombat().getGroups().get(i).getAttackers().contains(attackerMyr.getId())) {
+                    attackerMyrGroup = i;
+                }
+            }
+            Assert.assertNotEquals(-1, attackerMyrGroup);
+
+            List<List<List<UUID>>> blocks = toList(CombatCombinations.blocks(game, game.getCombat().getGroups(), getCreatures(game, player)));
+            // identical bears: 3 bears between no block and 3 groups, myr: no block or 2 groups
+            Assert.assertEquals(20 * 3, blocks.size());
+            blocks.get(0).forEach(group -> Assert.assertEquals("first must be without blockers", 0, group.size()));
+            Set<List<Set<UUID>>> unique = new HashSet<>();
+            for (List<List<UUID>> block : blocks) {
+                List<Set<UUID>> groups = new ArrayList<>();
+                block.forEach(group -> groups.add(new HashSet<>(group)));
+                unique.add(groups);
+                Assert.assertFalse("must ignore useless block", block.get(attackerMyrGroup).contains(blockerMyr.getId()));
+            }
+            Assert.assertEquals("must be without duplicates", blocks.size(), unique.size());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+}
@@ -0,0 +1,256 @@
+package org.mage.test.AI.basic;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.player.ai.util.CombatEstimator;
+import mage.player.ai.util.CombatOutcome;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * AI related: fast combat estimation must be same as real combat
+ *
+ * @author agent
+ */
+public class CombatEstimatorTest extends CardTestPlayerBase {
+
+    private void assertOutcome(Game game, String attackerName, String blockerName,
+                               boolean needAttackerDied, boolean needBlockerDied, int needDefenderDamage) {
+        CombatOutcome outcome = estimate(game, attackerName, blockerName);
+        Assert.assertNotNull("must be estimated: " + attackerName + " vs " + blockerName, outcome);
+        String info = attackerName + " vs " + blockerName + ": " + outcome;
+        Assert.assertEquals(info, needAttackerDied, outcome.isAttackerDied());
+        Assert.assertEquals(info, needBlockerDied, outcome.isBlockerDied());
+        Assert.assertEquals(info, needDefenderDamage, outcome.getDefenderDamage());
+    }
+
+    private CombatOutcome estimate(Game game, String attackerName, String blockerName) {
+        Permanent attacker = getPermanent(attackerName, playerA);
+        Permanent blocker = getPermanent(blockerName, playerB);
+        return CombatEstimator.estimate(game, attacker, blocker);
+    }
+
+    @Test
+    public void test_Keywords() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant", 1); // 3/3
+        addCard(Zone.BATTLEFIELD, playerA, "White Knight", 1); // 2/2, first strike, protection from black
+        addCard(Zone.BATTLEFIELD, playerA, "Fencing Ace", 1); // 1/1, double strike
+        addCard(Zone.BATTLEFIELD, playerA, "Colossal Dreadmaw", 1); // 6/6, trample
+        addCard(Zone.BATTLEFIELD, playerA, "Glistener Elf", 1); // 1/1, infect
+        addCard(Zone.BATTLEFIELD, playerA, "Vampire Nighthawk", 1); // 2/3, flying, deathtouch, lifelink
+        //
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Elite Vanguard", 1); // 2/1
+        addCard(Zone.BATTLEFIELD, playerB, "Typhoid Rats", 1); // 1/1, deathtouch
+        addCard(Zone.BATTLEFIELD, playerB, "Darksteel Myr", 1); // 0/1, indestructible
+        addCard(Zone.BATTLEFIELD, playerB, "Black Knight", 1); // 2/2, first strike, protection from white
+
+        runCode("check estimations", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            // simple
+            assertOutcome(game, "Balduvian Bears", "Grizzly Bears", true, true, 0);
+            assertOutcome(game, "Hill Giant", "Grizzly Bears", false, true, 0);
+            assertOutcome(game, "Balduvian Bears", "Darksteel Myr", false, false, 0);
+
+            // deathtouch
+            assertOutcome(game, "Hill Giant", "Typhoid Rats", true, true, 0);
+            assertOutcome(game, "Vampire Nighthawk", "Darksteel Myr", false, false, 0);
+
+            // first strike
+            assertOutcome(game, "White Knight", "Elite Vanguard", false, true, 0);
+            assertOutcome(game, "White Knight", "Typhoid Rats", false, true, 0);
+            assertOutcome(game, "Balduvian Bears", "Black Knight", true, false, 0);
+
+            // double strike
+            assertOutcome(game, "Fencing Ace", "Grizzly Bears", true, true, 0);
+            assertOutcome(game, "Fencing Ace", "Typhoid Rats", false, true, 0);
+
+            // trample
+            assertOutcome(game, "Colossal Dreadmaw", "Grizzly Bears", false, true, 6 - 2);
+            assertOutcome(game, "Colossal Dreadmaw", "Darksteel Myr", false, false, 6 - 1);
+
+            // infect ignores indestructible
+            assertOutcome(game, "Glistener Elf", "Darksteel Myr", false, true, 0);
+
+            // protection
+            assertOutcome(game, "White Knight", "Black Knight", false, false, 0);
+
+            // lifelink
+            CombatOutcome outcome = estimate(game, "Vampire Nighthawk", "Grizzly Bears");
+            Assert.assertNotNull(outcome);
+            Assert.assertFalse(outcome.isAttackerDied());
+            Assert.assertTrue(outcome.isBlockerDied());
+            Assert.assertEquals(2, outcome.getAttackerLifeGain());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_MarkedDamage() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1); // 3/3
+        addCard(Zone.HAND, playerA, "Shock", 1); // 2 damage
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        runCode("before damage", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertOutcome(game, "Balduvian Bears", "Hill Giant", true, false, 0);
+        });
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Shock", "Hill Giant");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("after damage", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertOutcome(game, "Balduvian Bears", "Hill Giant", true, true, 0);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_BlockTriggers() {
+        addCard(Zone.BATTLEFIELD, playerA, "Benalish Cavalry", 1); // 2/2, flanking
+        addCard(Zone.BATTLEFIELD, playerA, "Devoted Retainer", 1); // 1/1, bushido 1
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+
+        runCode("flanking and bushido", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            // blocker gets -1/-1
+            assertOutcome(game, "Benalish Cavalry", "Grizzly Bears", false, true, 0);
+            // attacker gets +1/+1
+            assertOutcome(game, "Devoted Retainer", "Grizzly Bears", true, true, 0);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_NeedSimulation_OwnTriggers() {
+        addCard(Zone.BATTLEFIELD, playerA, "Elvish Berserker", 1); // 1/1, +1/+1 for each blocker
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+
+        runCode("triggers", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertNull(estimate(game, "Elvish Berserker", "Grizzly Bears"));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_NeedSimulation_OtherTriggers() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+        addCard(Zone.HAND, playerB, "Battle Strain", 1); // Whenever a creature blocks, deal 1 damage to that creature's controller
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 2);
+
+        runCode("without triggers", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertOutcome(game, "Balduvian Bears", "Grizzly Bears", true, true, 0);
+        });
+
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Battle Strain");
+        waitStackResolved(2, PhaseStep.PRECOMBAT_MAIN);
+        runCode("with triggers", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            Assert.assertNull(estimate(game, "Balduvian Bears", "Grizzly Bears"));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_StaticEffects() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+        addCard(Zone.HAND, playerB, "Glorious Anthem", 1); // Creatures you control get +1/+1
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 3);
+
+        // static P/T boost is already applied to the permanents
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Glorious Anthem");
+        waitStackResolved(2, PhaseStep.PRECOMBAT_MAIN);
+        runCode("with anthem", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            assertOutcome(game, "Balduvian Bears", "Grizzly Bears", true, false, 0);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_NeedSimulation_CombatEffects() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Thorned Moloch", 1); // 2/2, has first strike as long as it's attacking
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+
+        runCode("combat effects", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertNull(estimate(game, "Thorned Moloch", "Grizzly Bears"));
+
+            // other creatures are not affected
+            Permanent bears = getPermanent("Balduvian Bears", playerA);
+            Permanent moloch = getPermanent("Thorned Moloch", playerA);
+            Permanent blocker = getPermanent("Grizzly Bears", playerB);
+            CombatEstimator estimator = new CombatEstimator(game, Arrays.asList(bears, moloch), Collections.singletonList(blocker));
+            Assert.assertNull(estimator.estimate(moloch, blocker));
+            CombatOutcome outcome = estimator.estimate(bears, blocker);
+            Assert.assertNotNull(outcome);
+            Assert.assertTrue(outcome.isAttackerDied());
+            Assert.assertTrue(outcome.isBlockerDied());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_NeedSimulation_Prevention() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+        addCard(Zone.HAND, playerB, "Fog", 1); // prevent all combat damage
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 1);
+
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Fog");
+        waitStackResolved(2, PhaseStep.PRECOMBAT_MAIN);
+        runCode("prevention", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            Assert.assertNull(estimate(game, "Balduvian Bears", "Grizzly Bears"));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_NeedSimulation_PlayerPrevention() {
+        addCard(Zone.BATTLEFIELD, playerA, "Colossal Dreadmaw", 1); // 6/6, trample
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+        addCard(Zone.HAND, playerB, "Energy Field", 1); // Prevent all damage that would be dealt to you by sources you don't own
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 2);
+
+        runCode("without prevention", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertOutcome(game, "Colossal Dreadmaw", "Grizzly Bears", false, true, 6 - 2);
+        });
+
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Energy Field");
+        waitStackResolved(2, PhaseStep.PRECOMBAT_MAIN);
+        runCode("with prevention", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            Assert.assertNull(estimate(game, "Colossal Dreadmaw", "Grizzly Bears"));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+}
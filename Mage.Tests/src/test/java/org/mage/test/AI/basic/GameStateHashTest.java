@@ -0,0 +1,120 @@
+package org.mage.test.AI.basic;
+
+import mage.Mana;
+import mage.abilities.Ability;
+import mage.abilities.effects.common.continuous.BoostTargetEffect;
+import mage.constants.Duration;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.target.targetpointer.FixedTarget;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * AI related: game state hash must be same for same states and must be changed after game changes
+ *
+ * @author agent
+ */
+public class GameStateHashTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SameHashForCopy() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.GRAVEYARD, playerB, "Grizzly Bears", 1);
+
+        runCode("check hash", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Game sim = game.createSimulationForAI();
+            Assert.assertEquals(game.getState().getHashValue(game, null), sim.getState().getHashValue(sim, null));
+            Assert.assertEquals(game.getState().getHashValue(game, playerA.getId()), sim.getState().getHashValue(sim, playerA.getId()));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_HashChangesOnGameChanges() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.HAND, playerB, "Grizzly Bears", 1);
+
+        runCode("check hash", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            long startHash = game.getState().getHashValue(game, null);
+            long startHashForA = game.getState().getHashValue(game, playerA.getId());
+
+            // tap
+            Game sim = game.createSimulationForAI();
+            Permanent bears = sim.getBattlefield().getAllActivePermanents().get(0);
+            bears.tap(null, sim);
+            long tappedHash = sim.getState().getHashValue(sim, null);
+            Assert.assertNotEquals(startHash, tappedHash);
+
+            // same bears, but another one tapped -- same state
+            Game sim2 = game.createSimulationForAI();
+            sim2.getBattlefield().getAllActivePermanents().get(1).tap(null, sim2);
+            Assert.assertEquals(tappedHash, sim2.getState().getHashValue(sim2, null));
+
+            // life
+            sim = game.createSimulationForAI();
+            sim.getPlayer(playerB.getId()).loseLife(1, sim, null, false);
+            Assert.assertNotEquals(startHash, sim.getState().getHashValue(sim, null));
+
+            // opponent's hand is unknown for player A
+            sim = game.createSimulationForAI();
+            sim.getPlayer(playerB.getId()).getHand().clear();
+            Assert.assertNotEquals(startHash, sim.getState().getHashValue(sim, null));
+            sim.getPlayer(playerB.getId()).getHand().add(sim.getPlayer(playerB.getId()).getLibrary().getFromTop(sim));
+            Assert.assertEquals(startHashForA, sim.getState().getHashValue(sim, playerA.getId()));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_HashChangesOnPlayerAndEffectsChanges() {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        runCode("check hash", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            long startHash = game.getState().getHashValue(game, null);
+            Permanent mountain = getPermanent("Mountain", playerA);
+            Permanent bears = getPermanent("Balduvian Bears", playerA);
+
+            // mana pool
+            Game sim = game.createSimulationForAI();
+            Ability manaAbility = sim.getPermanent(mountain.getId()).getAbilities().getActivatedManaAbilities(Zone.BATTLEFIELD).get(0);
+            sim.getPlayer(playerA.getId()).getManaPool().addMana(Mana.RedMana(1), sim, manaAbility);
+            Assert.assertNotEquals(startHash, sim.getState().getHashValue(sim, null));
+
+            // lands played
+            sim = game.createSimulationForAI();
+            sim.getPlayer(playerA.getId()).incrementLandsPlayed();
+            Assert.assertNotEquals(startHash, sim.getState().getHashValue(sim, null));
+
+            // player counters
+            sim = game.createSimulationForAI();
+            sim.getPlayer(playerB.getId()).addCounters(CounterType.POISON.createInstance(), playerA.getId(), manaAbility, sim);
+            Assert.assertNotEquals(startHash, sim.getState().getHashValue(sim, null));
+
+            // effects with duration
+            sim = game.createSimulationForAI();
+            long hashBeforeEffect = sim.getState().getHashValue(sim, null);
+            BoostTargetEffect effect = new BoostTargetEffect(0, 0, Duration.EndOfTurn);
+            effect.setTargetPointer(new FixedTarget(bears.getId(), sim));
+            sim.addEffect(effect, manaAbility);
+            Assert.assertNotEquals(hashBeforeEffect, sim.getState().getHashValue(sim, null));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+}
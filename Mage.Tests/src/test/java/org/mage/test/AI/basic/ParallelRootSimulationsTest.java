@@ -0,0 +1,53 @@
+package org.mage.test.AI.basic;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.player.ai.ComputerPlayer6;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBaseWithAIHelps;
+
+/**
+ * AI: root actions can be calculated in parallel threads, but it must choose same actions as one by one search
+ *
+ * @author agent
+ */
+public class ParallelRootSimulationsTest extends CardTestPlayerBaseWithAIHelps {
+
+    private static final long RANDOM_SEED = 12345L;
+
+    private void runRemovalChoice(int maxRootThreads) {
+        ((ComputerPlayer6) playerA.getRealPlayer()).setMaxRootSimulationThreads(maxRootThreads);
+
+        // one mana and one removal, so the best action is unique (equal chains can be chosen in any order)
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}, 3 damage
+        //
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1); // 3/3
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Serra Angel", 1); // 4/4
+
+        // AI must kill the biggest creature it can
+        aiPlayPriority(1, PhaseStep.PRECOMBAT_MAIN, playerA);
+
+        currentGame.setRandomSeed(RANDOM_SEED);
+        setStopAt(1, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+
+        assertGraveyardCount(playerA, "Lightning Bolt", 1);
+        assertGraveyardCount(playerB, "Hill Giant", 1);
+        assertPermanentCount(playerB, "Silvercoat Lion", 1);
+        assertPermanentCount(playerB, "Serra Angel", 1);
+        assertLife(playerB, 20);
+    }
+
+    @Test
+    public void test_OneByOne() {
+        runRemovalChoice(1);
+    }
+
+    @Test
+    public void test_Parallel() {
+        runRemovalChoice(4);
+    }
+}
@@ -0,0 +1,57 @@
+package org.mage.test.AI.basic;
+
+import mage.player.ai.TranspositionTable;
+import mage.player.ai.TranspositionTable.Bound;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * AI related: saved search results must keep bound type and can be used by same or less search depth only
+ *
+ * @author agent
+ */
+public class TranspositionTableTest {
+
+    @Test
+    public void test_Bounds() {
+        // alpha-beta window (10, 20)
+        Assert.assertEquals(Bound.UPPER, TranspositionTable.getBound(5, 10, 20));
+        Assert.assertEquals(Bound.UPPER, TranspositionTable.getBound(10, 10, 20));
+        Assert.assertEquals(Bound.EXACT, TranspositionTable.getBound(15, 10, 20));
+        Assert.assertEquals(Bound.LOWER, TranspositionTable.getBound(20, 10, 20));
+        Assert.assertEquals(Bound.LOWER, TranspositionTable.getBound(25, 10, 20));
+
+        // full window: any score is exact
+        Assert.assertEquals(Bound.EXACT, TranspositionTable.getBound(0, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void test_Depth() {
+        TranspositionTable table = new TranspositionTable(4);
+        long hash = 123456789L;
+        table.put(hash, 3, 100, Bound.LOWER);
+
+        // same or less depth
+        TranspositionTable.Entry entry = table.get(hash, 3);
+        Assert.assertNotNull(entry);
+        Assert.assertEquals(3, entry.getDepth());
+        Assert.assertEquals(100, entry.getScore());
+        Assert.assertEquals(Bound.LOWER, entry.getBound());
+        Assert.assertNotNull(table.get(hash, 1));
+
+        // deeper search can't use it
+        Assert.assertNull(table.get(hash, 4));
+
+        // other state
+        Assert.assertNull(table.get(hash + table.getMaxSize(), 1));
+        Assert.assertNull(table.get(hash + 1, 1));
+
+        // replace on same slot
+        table.put(hash + table.getMaxSize(), 1, 50, Bound.EXACT);
+        Assert.assertNull(table.get(hash, 1));
+        Assert.assertEquals(50, table.get(hash + table.getMaxSize(), 1).getScore());
+
+        table.clear();
+        Assert.assertNull(table.get(hash + table.getMaxSize(), 1));
+    }
+}
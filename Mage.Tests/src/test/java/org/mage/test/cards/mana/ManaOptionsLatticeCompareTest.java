@@ -0,0 +1,88 @@
+package org.mage.test.cards.mana;
+
+import mage.abilities.mana.ManaOptions;
+import mage.abilities.mana.ManaOptionsLattice;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.players.PlayerImpl;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Available mana from {@link ManaOptionsLattice} must be same as from ManaOptions
+ *
+ * @author agent
+ */
+public class ManaOptionsLatticeCompareTest extends CardTestPlayerBase {
+
+    private void checkSameManaOptions() {
+        runCode("compare mana options", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            ManaOptions latticeMana = ((PlayerImpl) player).getManaAvailable(game, true);
+            ManaOptions checkMana = ((PlayerImpl) player).getManaAvailable(game, false);
+            Assert.assertFalse(info + " - must have mana", checkMana.isEmpty());
+            Assert.assertNull(info + " - lattice must be same as ManaOptions",
+                    ManaOptionsLattice.findDifference(latticeMana, checkMana));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_MultiColoredSources() {
+        addCard(Zone.BATTLEFIELD, playerA, "City of Brass", 2); // any color
+        addCard(Zone.BATTLEFIELD, playerA, "Birds of Paradise", 1); // any color
+        addCard(Zone.BATTLEFIELD, playerA, "Tundra", 1); // W or U
+        addCard(Zone.BATTLEFIELD, playerA, "Badlands", 1); // B or R
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 1); // CC
+
+        checkSameManaOptions();
+    }
+
+    @Test
+    public void test_HybridFilterSources() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mystic Gate", 1); // {W/U}, {T}: Add {W}{W}, {W}{U}, or {U}{U}
+        addCard(Zone.BATTLEFIELD, playerA, "Graven Cairns", 1); // {B/R}, {T}: Add {B}{B}, {B}{R}, or {R}{R}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Swamp", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "City of Brass", 1);
+
+        checkSameManaOptions();
+    }
+
+    @Test
+    public void test_ConvertSources() {
+        addCard(Zone.BATTLEFIELD, playerA, "Azorius Signet", 2); // {1}, {T}: Add {W}{U}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Badlands", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Birds of Paradise", 1);
+
+        checkSameManaOptions();
+    }
+
+    @Test
+    public void test_ConditionalSources() {
+        addCard(Zone.BATTLEFIELD, playerA, "Eldrazi Temple", 1); // {C}{C} for Eldrazi only
+        addCard(Zone.BATTLEFIELD, playerA, "Ancient Tomb", 1); // CC
+        addCard(Zone.BATTLEFIELD, playerA, "Birds of Paradise", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Tundra", 1);
+
+        checkSameManaOptions();
+    }
+
+    @Test
+    public void test_CabalCoffersSources() {
+        addCard(Zone.BATTLEFIELD, playerA, "Cabal Coffers", 1); // {2}, {T}: Add {B} for each Swamp you control
+        addCard(Zone.BATTLEFIELD, playerA, "Urborg, Tomb of Yawgmoth", 1); // each land is a Swamp
+        addCard(Zone.BATTLEFIELD, playerA, "Swamp", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "City of Brass", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Badlands", 1);
+
+        checkSameManaOptions();
+    }
+}
@@ -4,6 +4,7 @@ import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.remote.Session;
+import mage.remote.traffic.DeltaBases;
 import mage.view.*;
 import org.apache.log4j.Logger;
 import org.jsoup.Jsoup;
@@ -30,6 +31,7 @@ public class LoadCallbackClient implements CallbackClient {
     private volatile int controlCount;
 
     private GameView gameView;
+    private final DeltaBases deltaBases = new DeltaBases();
 
     private final String logsPrefix;
     private final Boolean showLogsAsHtml; // original game logs in HTML, but it can be converted to txt for more readable console
@@ -47,7 +49,12 @@ public class LoadCallbackClient implements CallbackClient {
 
     @Override
     public void onCallback(ClientCallback callback) {
-        callback.decompressData();
+        if (!callback.decompressData(deltaBases)) {
+            log.error(getLogStartInfo() + "can't restore delta data for " + callback.getMethod());
+            deltaBases.reset(callback.getObjectId());
+            session.sendPlayerAction(PlayerAction.CLIENT_RESET_GAME_DATA, callback.getObjectId(), null);
+            return;
+        }
         controlCount = 0;
 
         // ignore bloated logs
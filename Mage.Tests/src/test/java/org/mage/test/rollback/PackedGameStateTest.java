@@ -0,0 +1,127 @@
+package org.mage.test.rollback;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
+import mage.game.PackedGameState;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Rollback history keeps old states in packed form, so it must restore the same game
+ *
+ * @author agent
+ */
+public class PackedGameStateTest extends CardTestPlayerBase {
+
+    private List<String> getPermanentNames(GameState state) {
+        return state.getBattlefield().getAllPermanents()
+                .stream()
+                .map(Permanent::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private void assertSameState(GameState expected, GameState actual) {
+        Assert.assertNotSame(expected, actual);
+        Assert.assertEquals(expected.getTurnNum(), actual.getTurnNum());
+        Assert.assertEquals(expected.getTurnStepType(), actual.getTurnStepType());
+        Assert.assertEquals(getPermanentNames(expected), getPermanentNames(actual));
+        Assert.assertEquals(expected.getPlayer(playerA.getId()).getLife(), actual.getPlayer(playerA.getId()).getLife());
+        Assert.assertEquals(expected.getPlayer(playerA.getId()).getHand().size(), actual.getPlayer(playerA.getId()).getHand().size());
+        Assert.assertEquals(expected.getPlayer(playerB.getId()).getLife(), actual.getPlayer(playerB.getId()).getLife());
+    }
+
+    @Test
+    public void test_PackUnpack() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        runCode("check pack", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            PackedGameState packed = PackedGameState.pack(game.getState());
+            Assert.assertTrue(packed.isPacked());
+            Assert.assertTrue(packed.getSize() > 0);
+            Assert.assertEquals(1, packed.getTurnNum());
+
+            // each unpack must return new independent state
+            GameState unpacked = packed.unpack();
+            GameState unpacked2 = packed.unpack();
+            assertSameState(game.getState(), unpacked);
+            assertSameState(game.getState(), unpacked2);
+            Assert.assertNotSame(unpacked.getPlayer(playerA.getId()), unpacked2.getPlayer(playerA.getId()));
+            unpacked.getPlayer(playerA.getId()).setLife(5, currentGame, null);
+            Assert.assertEquals(20, unpacked2.getPlayer(playerA.getId()).getLife());
+            Assert.assertEquals(20, game.getState().getPlayer(playerA.getId()).getLife());
+
+            // background packing
+            PackedGameState packedInBackground = PackedGameState.packInBackground(game.getState().copy());
+            assertSameState(game.getState(), packedInBackground.unpack());
+            Assert.assertTrue(packedInBackground.isPacked());
+            Assert.assertTrue(packedInBackground.isPackingDone());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_HistoryRollbackAfterPacking() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        runCode("check history", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            GameStates states = new GameStates(0); // pack all states
+            states.save(game.getState());
+            GameState expected = game.getState().copy();
+
+            game.getState().getPlayer(playerA.getId()).setLife(15, game, null);
+            states.save(game.getState());
+            game.getState().getPlayer(playerA.getId()).setLife(10, game, null);
+            states.save(game.getState());
+            Assert.assertEquals(3, states.getPackedSize());
+
+            GameState restored = states.rollback(0);
+            Assert.assertEquals(1, states.getSize());
+            assertSameState(expected, restored);
+            Assert.assertEquals(20, restored.getPlayer(playerA.getId()).getLife());
+
+            // game must work with restored state
+            game.getState().restore(restored);
+            Assert.assertEquals(20, game.getState().getPlayer(playerA.getId()).getLife());
+            Assert.assertTrue(states.getPackedBytes() > 0);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerA, 20);
+        assertPermanentCount(playerA, "Grizzly Bears", 1);
+    }
+
+    @Test
+    public void test_TurnRollbackAfterPacking() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 2);
+
+        // turn states are packed in background
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        castSpell(3, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        rollbackTurns(3, PhaseStep.POSTCOMBAT_MAIN, playerA, 0);
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerB, 20 - 3);
+        assertHandCount(playerA, "Lightning Bolt", 1);
+    }
+}
@@ -0,0 +1,72 @@
+package org.mage.test.rollback;
+
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameState;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Game state's counters used as state version by GUI caches (e.g. playable objects of game session),
+ * rollback restores old counters, so restored state must get new generation
+ *
+ * @author agent
+ */
+public class StateGenerationTest extends CardTestPlayerBase {
+
+    private long generationBeforeRollback = -1;
+    private int applyEffectsBeforeRollback = -1;
+    private long eventsBeforeRollback = -1;
+
+    @Test
+    public void test_Rollback() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        runCode("before rollback", 3, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            GameState state = game.getState();
+            generationBeforeRollback = state.getGeneration();
+            applyEffectsBeforeRollback = state.getApplyEffectsCounter();
+            eventsBeforeRollback = state.getEventsCounter();
+
+            // copies of the same state must be same for caches
+            Game copy = game.copy();
+            Game copy2 = game.copy();
+            Assert.assertEquals(copy.getState().getGeneration(), copy2.getState().getGeneration());
+            Assert.assertNotEquals(state.getGeneration(), copy.getState().getGeneration());
+            Assert.assertEquals(state.getApplyEffectsCounter(), copy.getState().getApplyEffectsCounter());
+            Assert.assertEquals(state.getEventsCounter(), copy.getState().getEventsCounter());
+        });
+        castSpell(3, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        rollbackTurns(3, PhaseStep.POSTCOMBAT_MAIN, playerA, 0);
+        rollbackAfterActionsStart();
+        runCode("after rollback", 3, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            GameState state = game.getState();
+            // same step after rollback, so it's same counters
+            Assert.assertEquals(applyEffectsBeforeRollback, state.getApplyEffectsCounter());
+            Assert.assertEquals(eventsBeforeRollback, state.getEventsCounter());
+            Assert.assertTrue("restored state must be new generation", state.getGeneration() > generationBeforeRollback);
+            Assert.assertTrue("restored state must be new generation for copies", game.copy().getState().getGeneration() > generationBeforeRollback + 1);
+
+            // playable must be from the restored state
+            Card bolt = player.getHand().getCards(game).stream()
+                    .filter(card -> card.getName().equals("Lightning Bolt"))
+                    .findFirst()
+                    .orElse(null);
+            Assert.assertNotNull(bolt);
+            Assert.assertTrue(player.getPlayableObjects(game, Zone.ALL).containsObject(bolt.getId()));
+        });
+        rollbackAfterActionsEnd();
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerB, 20);
+        assertHandCount(playerA, "Lightning Bolt", 1);
+    }
+}
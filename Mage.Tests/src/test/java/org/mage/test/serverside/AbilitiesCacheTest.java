@@ -0,0 +1,165 @@
+package org.mage.test.serverside;
+
+import mage.abilities.Abilities;
+import mage.abilities.Ability;
+import mage.abilities.keyword.FlashbackAbility;
+import mage.abilities.keyword.FlyingAbility;
+import mage.abilities.keyword.VigilanceAbility;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Iterator;
+
+/**
+ * Card and permanent use cached getAbilities(game) list, so it must be actual after any abilities changes
+ *
+ * @author agent
+ */
+public class AbilitiesCacheTest extends CardTestPlayerBase {
+
+    private void assertHasAbility(String info, Abilities<Ability> abilities, Class abilityClass, boolean mustHave) {
+        Assert.assertEquals(info + " - wrong ability " + abilityClass.getSimpleName(), mustHave, abilities.containsClass(abilityClass));
+        Assert.assertEquals(info + " - wrong ability " + abilityClass.getSimpleName() + " by stream search", mustHave,
+                abilities.stream().anyMatch(ability -> ability.getClass().equals(abilityClass)));
+    }
+
+    private void checkPermanentAbility(String checkName, int turnNum, PhaseStep step, String permanentName, Class abilityClass, boolean mustHave) {
+        runCode(checkName, turnNum, step, playerA, (info, player, game) -> {
+            Permanent permanent = getPermanent(permanentName, playerA);
+            assertHasAbility(info, permanent.getAbilities(game), abilityClass, mustHave);
+        });
+    }
+
+    @Test
+    public void test_ReadOnly() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        runCode("check read only", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Permanent bears = getPermanent("Grizzly Bears", playerA);
+            Card bolt = playerA.getHand().getCards(game).iterator().next();
+            Assert.assertSame("must use cached list", bears.getAbilities(game), bears.getAbilities(game));
+            Assert.assertSame("must use cached list", bolt.getAbilities(game), bolt.getAbilities(game));
+            for (Abilities<Ability> abilities : new Abilities[]{bears.getAbilities(game), bolt.getAbilities(game)}) {
+                int size = abilities.size();
+                Ability newAbility = FlyingAbility.getInstance();
+                assertReadOnly(() -> abilities.add(newAbility));
+                assertReadOnly(() -> abilities.remove(0));
+                assertReadOnly(abilities::clear);
+                assertReadOnly(() -> abilities.removeIf(ability -> true));
+                assertReadOnly(() -> abilities.subList(0, size).clear());
+                assertReadOnly(() -> {
+                    Iterator<Ability> iterator = abilities.iterator();
+                    iterator.next();
+                    iterator.remove();
+                });
+                Assert.assertEquals(size, abilities.size());
+
+                // copy must be modifiable
+                Abilities<Ability> copy = abilities.copy();
+                copy.add(newAbility);
+                Assert.assertEquals(size + 1, copy.size());
+            }
+
+            // base abilities are still modifiable
+            Assert.assertFalse(bears.getAbilities().isEmpty());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private void assertReadOnly(Runnable code) {
+        try {
+            code.run();
+            Assert.fail("read only list must not be changed");
+        } catch (UnsupportedOperationException ignore) {
+        }
+    }
+
+    @Test
+    public void test_GainedAbilities() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+        addCard(Zone.HAND, playerA, "Jump", 1); // target creature gains flying until end of turn
+
+        checkPermanentAbility("before gain", 1, PhaseStep.PRECOMBAT_MAIN, "Grizzly Bears", FlyingAbility.class, false);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Jump", "Grizzly Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        checkPermanentAbility("after gain", 1, PhaseStep.PRECOMBAT_MAIN, "Grizzly Bears", FlyingAbility.class, true);
+        checkPermanentAbility("after gain on combat", 1, PhaseStep.END_COMBAT, "Grizzly Bears", FlyingAbility.class, true);
+        checkPermanentAbility("after end of turn", 2, PhaseStep.PRECOMBAT_MAIN, "Grizzly Bears", FlyingAbility.class, false);
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerA, "Jump", 1);
+    }
+
+    @Test
+    public void test_LostAbilities() {
+        addCard(Zone.BATTLEFIELD, playerA, "Serra Angel", 1); // flying, vigilance
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 2);
+        addCard(Zone.HAND, playerA, "Turn to Frog", 1); // target creature loses all abilities until end of turn
+
+        checkPermanentAbility("before lost", 1, PhaseStep.PRECOMBAT_MAIN, "Serra Angel", FlyingAbility.class, true);
+        checkPermanentAbility("before lost", 1, PhaseStep.PRECOMBAT_MAIN, "Serra Angel", VigilanceAbility.class, true);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Turn to Frog", "Serra Angel");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        checkPermanentAbility("after lost", 1, PhaseStep.PRECOMBAT_MAIN, "Serra Angel", FlyingAbility.class, false);
+        checkPermanentAbility("after lost", 1, PhaseStep.PRECOMBAT_MAIN, "Serra Angel", VigilanceAbility.class, false);
+        checkPermanentAbility("after end of turn", 2, PhaseStep.PRECOMBAT_MAIN, "Serra Angel", FlyingAbility.class, true);
+        checkPermanentAbility("after end of turn", 2, PhaseStep.PRECOMBAT_MAIN, "Serra Angel", VigilanceAbility.class, true);
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_ZoneChange() {
+        addCard(Zone.GRAVEYARD, playerA, "Lightning Bolt", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 2);
+        addCard(Zone.HAND, playerA, "Snapcaster Mage", 1); // target card in graveyard gains flashback until end of turn
+
+        runCode("before gain", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertHasAbility(info, findBolt(game).getAbilities(game), FlashbackAbility.class, false);
+        });
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Snapcaster Mage");
+        addTarget(playerA, "Lightning Bolt");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("after gain and zone change", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Card bolt = findBolt(game);
+            assertHasAbility(info + " - in graveyard", bolt.getAbilities(game), FlashbackAbility.class, true);
+
+            // new object after zone change, so gained ability must be removed
+            player.moveCards(bolt, Zone.EXILED, null, game);
+            game.applyEffects();
+            Assert.assertEquals(Zone.EXILED, game.getState().getZone(bolt.getId()));
+            assertHasAbility(info + " - in exile", bolt.getAbilities(game), FlashbackAbility.class, false);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertExileCount(playerA, "Lightning Bolt", 1);
+    }
+
+    private Card findBolt(Game game) {
+        return game.getCard(game.getCards()
+                .stream()
+                .filter(card -> card.getName().equals("Lightning Bolt"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Can't find Lightning Bolt"))
+                .getId());
+    }
+}
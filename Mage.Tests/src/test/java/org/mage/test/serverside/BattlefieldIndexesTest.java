@@ -0,0 +1,100 @@
+package org.mage.test.serverside;
+
+import mage.abilities.keyword.BestowAbility;
+import mage.abilities.keyword.TransformAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Battlefield uses indexes for filter search (by card type and controller), so search results must be
+ * same as full scan after any card type changes
+ *
+ * @author agent
+ */
+public class BattlefieldIndexesTest extends CardTestPlayerBase {
+
+    private List<String> findByIndexes(FilterPermanent filter, Game game) {
+        return game.getBattlefield().getActivePermanents(filter, playerA.getId(), game)
+                .stream()
+                .map(Permanent::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private List<String> findByFullScan(FilterPermanent filter, Game game) {
+        return game.getBattlefield().getAllPermanents()
+                .stream()
+                .filter(Permanent::isPhasedIn)
+                .filter(permanent -> filter.match(permanent, playerA.getId(), null, game))
+                .map(Permanent::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private void assertSearch(String info, FilterPermanent filter, Game game, String... needNames) {
+        List<String> fullScan = findByFullScan(filter, game);
+        Assert.assertEquals(info + " - wrong full scan for " + filter.getMessage(),
+                Arrays.stream(needNames).sorted().collect(Collectors.toList()), fullScan);
+        Assert.assertEquals(info + " - wrong index search for " + filter.getMessage(), fullScan, findByIndexes(filter, game));
+        Assert.assertEquals(info + " - wrong index count for " + filter.getMessage(), fullScan.size(),
+                game.getBattlefield().count(filter, playerA.getId(), null, game));
+    }
+
+    @Test
+    public void test_Transform() {
+        addCard(Zone.BATTLEFIELD, playerA, "Treasure Map", 1); // artifact, transforms to land Treasure Cove
+
+        runCode("check transform", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            // build indexes
+            assertSearch(info + " - before", StaticFilters.FILTER_PERMANENT_ARTIFACT, game, "Treasure Map");
+            assertSearch(info + " - before", StaticFilters.FILTER_LAND, game);
+
+            // transform without effects applying
+            Permanent map = getPermanent("Treasure Map", playerA);
+            Assert.assertTrue(TransformAbility.transformPermanent(map, game, null));
+            assertSearch(info + " - after", StaticFilters.FILTER_PERMANENT_ARTIFACT, game);
+            assertSearch(info + " - after", StaticFilters.FILTER_LAND, game, "Treasure Cove");
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_Bestow() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 5);
+        addCard(Zone.HAND, playerA, "Boon Satyr", 1); // bestow {3}{G}{G}
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Boon Satyr using bestow", "Grizzly Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("check bestow", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            // build indexes
+            assertSearch(info + " - aura", StaticFilters.FILTER_PERMANENT_CREATURE, game, "Grizzly Bears");
+            assertSearch(info + " - aura", StaticFilters.FILTER_PERMANENT_ENCHANTMENT, game, "Boon Satyr");
+
+            // bestow permanent becomes creature without effects applying (static changes)
+            Permanent satyr = getPermanent("Boon Satyr", playerA);
+            BestowAbility.becomeCreature(satyr, game);
+            assertSearch(info + " - creature", StaticFilters.FILTER_PERMANENT_CREATURE, game, "Grizzly Bears", "Boon Satyr");
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertPermanentCount(playerA, "Boon Satyr", 1);
+    }
+}
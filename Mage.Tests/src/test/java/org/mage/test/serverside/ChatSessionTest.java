@@ -0,0 +1,318 @@
+package org.mage.test.serverside;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.server.ChatSession;
+import mage.server.User;
+import mage.server.managers.*;
+import mage.view.ChatMessage;
+import mage.view.ChatMessage.MessageColor;
+import mage.view.ChatMessage.MessageType;
+import mage.view.ChatMessagesView;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Game log goes to chat users by batches, but users must get all messages in same order as it was sent
+ *
+ * @author agent
+ */
+public class ChatSessionTest {
+
+    private final Map<UUID, User> users = new HashMap<>();
+    private ScheduledExecutorService timeoutExecutor;
+    private CountDownLatch timeoutExecutorBlocker;
+    private ChatSession chat;
+
+    private class TestChatUser extends User {
+
+        private final List<ClientCallback> received = Collections.synchronizedList(new ArrayList<>());
+
+        TestChatUser(String name) {
+            super(null, name, "localhost", null);
+            users.put(getId(), this);
+        }
+
+        @Override
+        public void fireCallback(ClientCallback call) {
+            received.add(call);
+        }
+
+        /**
+         * All received messages in same order as client will show it
+         */
+        private List<String> getMessages() {
+            List<String> res = new ArrayList<>();
+            synchronized (received) {
+                for (ClientCallback call : received) {
+                    if (call.getMethod() == ClientCallbackMethod.CHATMESSAGE) {
+                        res.add(((ChatMessage) call.getData()).getMessage());
+                    } else if (call.getMethod() == ClientCallbackMethod.CHATMESSAGES) {
+                        ((ChatMessagesView) call.getData()).getMessages().forEach(message -> res.add(message.getMessage()));
+                    } else {
+                        Assert.fail("unknown callback " + call.getMethod());
+                    }
+                }
+            }
+            return res;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        users.clear();
+        timeoutExecutor = Executors.newSingleThreadScheduledExecutor();
+        chat = new ChatSession(new TestManagerFactory(), "test chat");
+    }
+
+    @After
+    public void tearDown() {
+        if (timeoutExecutorBlocker != null) {
+            timeoutExecutorBlocker.countDown();
+        }
+        timeoutExecutor.shutdownNow();
+    }
+
+    /**
+     * Disable delayed flush, so all messages will be sent by direct flush only
+     */
+    private void blockDelayedFlush() {
+        timeoutExecutorBlocker = new CountDownLatch(1);
+        timeoutExecutor.submit(() -> {
+            try {
+                timeoutExecutorBlocker.await();
+            } catch (InterruptedException ignore) {
+            }
+        });
+    }
+
+    private TestChatUser joinUser(String name) {
+        TestChatUser user = new TestChatUser(name);
+        chat.join(user.getId());
+        users.values().forEach(u -> ((TestChatUser) u).received.clear()); // ignore join messages
+        return user;
+    }
+
+    private void queueGameLog(String message) {
+        chat.queueGameLog(message, MessageColor.BLACK, false, null);
+    }
+
+    @Test
+    public void test_Batching() {
+        blockDelayedFlush();
+        TestChatUser user1 = joinUser("user 1");
+        TestChatUser user2 = joinUser("user 2");
+
+        // nothing to send
+        chat.flushGameLog();
+        Assert.assertEquals(0, user1.received.size());
+
+        // many messages - one callback
+        queueGameLog("log 1");
+        queueGameLog("log 2");
+        queueGameLog("log 3");
+        Assert.assertEquals("must wait for flush", 0, user1.received.size());
+        chat.flushGameLog();
+        Assert.assertEquals(1, user1.received.size());
+        ClientCallback callback = user1.received.get(0);
+        Assert.assertEquals(ClientCallbackMethod.CHATMESSAGES, callback.getMethod());
+        ChatMessagesView messages = (ChatMessagesView) callback.getData();
+        Assert.assertEquals(3, messages.getMessages().size());
+        messages.getMessages().forEach(message -> Assert.assertEquals(MessageType.GAME, message.getMessageType()));
+        Assert.assertEquals(Arrays.asList("log 1", "log 2", "log 3"), user1.getMessages());
+
+        // same callback for all users
+        Assert.assertEquals(1, user2.received.size());
+        Assert.assertSame(callback, user2.received.get(0));
+
+        // single message - single callback
+        queueGameLog("log 4");
+        chat.flushGameLog();
+        Assert.assertEquals(2, user1.received.size());
+        Assert.assertEquals(ClientCallbackMethod.CHATMESSAGE, user1.received.get(1).getMethod());
+
+        // queue must be empty after flush
+        chat.flushGameLog();
+        Assert.assertEquals(2, user1.received.size());
+        Assert.assertEquals(Arrays.asList("log 1", "log 2", "log 3", "log 4"), user1.getMessages());
+    }
+
+    @Test
+    public void test_Order() {
+        blockDelayedFlush();
+        TestChatUser user = joinUser("user");
+
+        // chat message must be sent after queued game log
+        queueGameLog("log 1");
+        queueGameLog("log 2");
+        chat.broadcast("user", "talk 1", MessageColor.BLUE, true, null, MessageType.TALK, null);
+        queueGameLog("log 3");
+        chat.broadcast("user", "talk 2", MessageColor.BLUE, true, null, MessageType.TALK, null);
+        queueGameLog("log 4");
+        queueGameLog("log 5");
+        chat.flushGameLog();
+
+        Assert.assertEquals(Arrays.asList("log 1", "log 2", "talk 1", "log 3", "talk 2", "log 4", "log 5"), user.getMessages());
+        Assert.assertEquals(5, user.received.size());
+    }
+
+    @Test
+    public void test_DelayedFlush() throws Exception {
+        TestChatUser user = joinUser("user");
+
+        // game log must be sent without game updates too
+        queueGameLog("log 1");
+        queueGameLog("log 2");
+        long waitUntil = System.currentTimeMillis() + 5000;
+        while (user.received.isEmpty() && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, user.received.size());
+        Assert.assertEquals(Arrays.asList("log 1", "log 2"), user.getMessages());
+
+        // direct flush cancels delayed flush
+        queueGameLog("log 3");
+        chat.flushGameLog();
+        Assert.assertEquals(2, user.received.size());
+        queueGameLog("log 4");
+        queueGameLog("log 5");
+        chat.flushGameLog();
+        Thread.sleep(100);
+        Assert.assertEquals(3, user.received.size());
+        Assert.assertEquals(Arrays.asList("log 1", "log 2", "log 3", "log 4", "log 5"), user.getMessages());
+    }
+
+    @Test
+    public void test_OrderOnConcurrentFlush() throws Exception {
+        TestChatUser user = joinUser("user");
+
+        // game thread adds messages and flushes it, timeout threads flush it too
+        List<String> needMessages = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String message = "log " + i;
+            needMessages.add(message);
+            queueGameLog(message);
+            if (i % 100 == 0) {
+                chat.flushGameLog();
+            }
+            if (i % 10 == 0) {
+                Thread.sleep(1);
+            }
+        }
+        chat.flushGameLog();
+
+        Assert.assertEquals(needMessages, user.getMessages());
+    }
+
+    private class TestManagerFactory implements ManagerFactory {
+
+        private final UserManager userManager = new TestUserManager(users);
+
+        private final ThreadExecutor threadExecutor = new ThreadExecutor() {
+            @Override
+            public int getActiveThreads(ExecutorService executerService) {
+                return 0;
+            }
+
+            @Override
+            public ExecutorService getGameExecutor() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ExecutorService getTourneyExecutor() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ExecutorService getCallExecutor() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ScheduledExecutorService getTimeoutExecutor() {
+                return timeoutExecutor;
+            }
+
+            @Override
+            public ScheduledExecutorService getTimeoutIdleExecutor() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ScheduledExecutorService getServerHealthExecutor() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        @Override
+        public UserManager userManager() {
+            return userManager;
+        }
+
+        @Override
+        public ThreadExecutor threadExecutor() {
+            return threadExecutor;
+        }
+
+        @Override
+        public ChatManager chatManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DraftManager draftManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GameManager gameManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GamesRoomManager gamesRoomManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MailClient mailClient() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MailClient mailgunClient() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ReplayManager replayManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SessionManager sessionManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TableManager tableManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ConfigSettings configSettings() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TournamentManager tournamentManager() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.mage.test.serverside;
+
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.game.permanent.PermanentCard;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Game state copy must be independent from the original (copy-on-write data included)
+ *
+ * @author agent
+ */
+public class GameStateCopyTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_Values() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        runCode("check values", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            game.getState().setValue("test_set", new HashSet<>(Collections.singletonList("a")));
+            game.getState().setValue("test_number", 1);
+
+            // value from the original before copy
+            Set<String> originalSet = (Set<String>) game.getState().getValue("test_set");
+            Game copy = game.copy();
+            originalSet.add("b");
+            Assert.assertEquals(1, ((Set<?>) copy.getState().getValue("test_set")).size());
+
+            // copy of the copy
+            Game copy2 = copy.copy();
+            ((Set<String>) copy2.getState().getValue("test_set")).add("c");
+            copy2.getState().setValue("test_number", 2);
+            Assert.assertEquals(Arrays.asList("a"), new ArrayList<>((Set<String>) copy.getState().getValue("test_set")));
+            Assert.assertEquals(1, copy.getState().getValue("test_number"));
+            Assert.assertEquals(2, ((Set<?>) copy2.getState().getValue("test_set")).size());
+            Assert.assertEquals(2, ((Set<?>) game.getState().getValue("test_set")).size());
+
+            game.getState().removeValue("test_set");
+            game.getState().removeValue("test_number");
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_CardState() {
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+        addCard(Zone.GRAVEYARD, playerA, "Hill Giant", 1);
+
+        runCode("check card states", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Card bears = playerA.getHand().getCards(game).iterator().next();
+            Card giant = playerA.getGraveyard().getCards(game).iterator().next();
+            bears.addCounters(CounterType.P1P1.createInstance(), playerA.getId(), null, game);
+
+            Game copy = game.copy();
+            Game copy2 = copy.copy();
+            copy2.getCard(bears.getId()).addCounters(CounterType.P1P1.createInstance(), playerA.getId(), null, copy2);
+            copy2.getCard(giant.getId()).addInfo("test", "info", copy2);
+            copy.getCard(bears.getId()).setFaceDown(true, copy);
+
+            Assert.assertEquals(1, bears.getCounters(game).getCount(CounterType.P1P1));
+            Assert.assertEquals(1, bears.getCounters(copy).getCount(CounterType.P1P1));
+            Assert.assertEquals(2, bears.getCounters(copy2).getCount(CounterType.P1P1));
+            Assert.assertFalse(bears.isFaceDown(game));
+            Assert.assertTrue(bears.isFaceDown(copy));
+            Assert.assertFalse(bears.isFaceDown(copy2));
+            Assert.assertTrue(game.getState().getCardState(giant.getId()).getInfo().isEmpty());
+            Assert.assertTrue(copy.getState().getCardState(giant.getId()).getInfo().isEmpty());
+            Assert.assertEquals(1, copy2.getState().getCardState(giant.getId()).getInfo().size());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_PermanentTemplateCard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1); // 2/2
+
+        runCode("check permanents", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Permanent bears = getPermanent("Grizzly Bears", playerA);
+            Game copy = game.copy();
+            Game copy2 = copy.copy();
+            Game copy3 = copy.copy();
+
+            // change template card in one copy (reset uses it as blueprint)
+            PermanentCard bears2 = (PermanentCard) copy2.getPermanent(bears.getId());
+            bears2.getCard().setName("Test Bears");
+            copy2.getState().getBattlefield().reset(copy2);
+            copy3.getState().getBattlefield().reset(copy3);
+            copy.getState().getBattlefield().reset(copy);
+
+            Assert.assertEquals("Test Bears", copy2.getPermanent(bears.getId()).getName());
+            Assert.assertEquals("Grizzly Bears", copy3.getPermanent(bears.getId()).getName());
+            Assert.assertEquals("Grizzly Bears", copy.getPermanent(bears.getId()).getName());
+            Assert.assertEquals("Grizzly Bears", ((PermanentCard) bears).getCard().getName());
+
+            // tap in the copy
+            copy3.getPermanent(bears.getId()).tap(null, copy3);
+            Assert.assertTrue(copy3.getPermanent(bears.getId()).isTapped());
+            Assert.assertFalse(copy.getPermanent(bears.getId()).isTapped());
+            Assert.assertFalse(bears.isTapped());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_ReadOnlyAccessKeepsSharing() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 2);
+        addCard(Zone.HAND, playerA, "Hill Giant", 2);
+        addCard(Zone.GRAVEYARD, playerB, "Grizzly Bears", 2);
+
+        runCode("check sharing", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            for (Card card : game.getCards()) {
+                game.getState().getCardState(card.getId());
+            }
+            int statesCount = game.getCards().size();
+            int permanentsCount = game.getBattlefield().getAllPermanents().size();
+
+            // read-only usage (same as AI's playable and combat calcs): all data must stay shared
+            Game readGame = game.copy();
+            readGameData(readGame);
+            long allocated = getAllocatedBytes();
+            Game readCopy = readGame.copy();
+            long readCopyBytes = getAllocatedBytes() - allocated;
+            Assert.assertEquals(statesCount, readCopy.getState().getSharedCardStatesCount());
+            Assert.assertEquals(permanentsCount, readCopy.getBattlefield().getAllPermanents().stream()
+                    .filter(permanent -> ((PermanentCard) permanent).isCardShared())
+                    .count());
+
+            // usage for changes: data must be copied
+            Game writeGame = game.copy();
+            readGameData(writeGame);
+            for (Card card : writeGame.getCards()) {
+                writeGame.getState().getCardState(card.getId());
+            }
+            writeGame.getBattlefield().getAllPermanents().forEach(permanent -> ((PermanentCard) permanent).getCard());
+            allocated = getAllocatedBytes();
+            Game writeCopy = writeGame.copy();
+            long writeCopyBytes = getAllocatedBytes() - allocated;
+            Assert.assertEquals(0, writeCopy.getState().getSharedCardStatesCount());
+            Assert.assertEquals(0, writeCopy.getBattlefield().getAllPermanents().stream()
+                    .filter(permanent -> ((PermanentCard) permanent).isCardShared())
+                    .count());
+
+            logger.info(String.format("game copy after read-only usage: %d bytes, after usage for changes: %d bytes (%d card states, %d permanents)",
+                    readCopyBytes, writeCopyBytes, statesCount, permanentsCount));
+            Assert.assertTrue("read-only usage must reduce copy allocations", readCopyBytes < writeCopyBytes);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private void readGameData(Game game) {
+        for (Card card : game.getCards()) {
+            card.getAbilities(game);
+            card.isFaceDown(game);
+        }
+        for (Permanent permanent : game.getBattlefield().getAllPermanents()) {
+            permanent.getAbilities(game);
+            permanent.getManaValue();
+            permanent.getMainCard();
+            permanent.getZoneChangeCounter(game);
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    public void test_CopyFromDiffThreads() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.HAND, playerA, "Hill Giant", 2);
+
+        runCode("check copies", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            game.getState().setValue("test_set", new HashSet<>(Collections.singletonList("a")));
+            Game source = game.copy(); // same as AI: parallel copies from the same root
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Game>> copies = new ArrayList<>();
+                for (int i = 0; i < 40; i++) {
+                    copies.add(executor.submit(() -> {
+                        Game copy = source.copy();
+                        ((Set<String>) copy.getState().getValue("test_set")).add("b");
+                        for (Permanent permanent : copy.getBattlefield().getAllPermanents()) {
+                            ((PermanentCard) permanent).getCard().getPower().setModifiedBaseValue(10);
+                        }
+                        return copy;
+                    }));
+                }
+                for (Future<Game> future : copies) {
+                    Game copy = future.get();
+                    Assert.assertEquals(6, copy.getBattlefield().getAllPermanents().size());
+                    Assert.assertEquals(2, ((Set<?>) copy.getState().getValue("test_set")).size());
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                executor.shutdownNow();
+            }
+            Assert.assertEquals(1, ((Set<?>) source.getState().getValue("test_set")).size());
+            for (Permanent permanent : source.getBattlefield().getAllPermanents()) {
+                Assert.assertNotEquals(10, ((PermanentCard) permanent).getCard().getPower().getValue());
+            }
+            game.getState().removeValue("test_set");
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+}
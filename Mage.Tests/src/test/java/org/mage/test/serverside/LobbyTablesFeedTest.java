@@ -0,0 +1,229 @@
+package org.mage.test.serverside;
+
+import mage.constants.TableState;
+import mage.game.Table;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.MatchOptions;
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.players.PlayerType;
+import mage.server.User;
+import mage.server.game.LobbyTablesFeed;
+import mage.view.TableView;
+import mage.view.TablesUpdateView;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Server's lobby: clients must get same tables list as server after any changes, lost updates or re-subscribes
+ *
+ * @author agent
+ */
+public class LobbyTablesFeedTest {
+
+    private final UUID roomId = UUID.randomUUID();
+    private final Map<UUID, User> users = new HashMap<>();
+    private final List<Table> tables = new ArrayList<>();
+    private LobbyTablesFeed feed;
+
+    /**
+     * Client side: applies tables updates like lobby's tables panel
+     */
+    private class TestClient extends User {
+
+        private final List<TablesUpdateView> received = new ArrayList<>();
+        private final Map<UUID, TableView> clientTables = new LinkedHashMap<>();
+        private long clientVersion = -1;
+        private boolean dropCallbacks = false;
+        private int resubscribes = 0;
+
+        TestClient(String name) {
+            super(null, name, "localhost", null);
+            users.put(getId(), this);
+        }
+
+        @Override
+        public void fireCallback(ClientCallback call) {
+            Assert.assertEquals(ClientCallbackMethod.ROOM_TABLES_UPDATE, call.getMethod());
+            if (dropCallbacks) {
+                return;
+            }
+            TablesUpdateView update = (TablesUpdateView) call.getData();
+            Assert.assertEquals(roomId, update.getRoomId());
+            received.add(update);
+
+            if (update.isSnapshot()) {
+                clientTables.clear();
+            } else if (update.getVersion() != clientVersion + 1) {
+                // missing updates
+                resubscribes++;
+                feed.subscribe(getId());
+                return;
+            }
+            update.getRemovedTables().forEach(clientTables::remove);
+            update.getTables().forEach(table -> clientTables.put(table.getTableId(), table));
+            clientVersion = update.getVersion();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        users.clear();
+        tables.clear();
+        feed = new LobbyTablesFeed(roomId, new TestUserManager(users));
+    }
+
+    private Table createTable(String name) {
+        MatchOptions options = new MatchOptions(name, "Two Player Duel", false, 2);
+        Table table = new Table(roomId, "Two Player Duel", name, "controller", null,
+                Arrays.asList(PlayerType.HUMAN, PlayerType.HUMAN), null,
+                new TwoPlayerMatch(options), new HashSet<>(), false);
+        tables.add(table);
+        return table;
+    }
+
+    private void updateFeed() {
+        feed.update(tables.stream().map(TableView::new).collect(Collectors.toList()));
+    }
+
+    private void assertClientTables(TestClient client) {
+        List<TableView> serverTables = tables.stream().map(TableView::new).collect(Collectors.toList());
+        Assert.assertEquals(client.getName() + " - wrong tables",
+                serverTables, new ArrayList<>(client.clientTables.values()));
+    }
+
+    @Test
+    public void test_AddChangeRemove() {
+        TestClient client = new TestClient("user");
+        Table table1 = createTable("table 1");
+        updateFeed();
+
+        // subscribe: full tables list
+        feed.subscribe(client.getId());
+        Assert.assertEquals(1, client.received.size());
+        Assert.assertTrue(client.received.get(0).isSnapshot());
+        assertClientTables(client);
+
+        // add
+        Table table2 = createTable("table 2");
+        updateFeed();
+        Assert.assertEquals(2, client.received.size());
+        TablesUpdateView update = client.received.get(1);
+        Assert.assertFalse(update.isSnapshot());
+        Assert.assertEquals("must send new table only", 1, update.getTables().size());
+        Assert.assertEquals(table2.getId(), update.getTables().get(0).getTableId());
+        Assert.assertTrue(update.getRemovedTables().isEmpty());
+        assertClientTables(client);
+
+        // same tables: nothing to send
+        updateFeed();
+        Assert.assertEquals(2, client.received.size());
+
+        // change
+        table1.setState(TableState.READY_TO_START);
+        updateFeed();
+        Assert.assertEquals(3, client.received.size());
+        update = client.received.get(2);
+        Assert.assertEquals("must send changed table only", 1, update.getTables().size());
+        Assert.assertEquals(table1.getId(), update.getTables().get(0).getTableId());
+        assertClientTables(client);
+
+        // remove
+        tables.remove(table2);
+        updateFeed();
+        Assert.assertEquals(4, client.received.size());
+        update = client.received.get(3);
+        Assert.assertTrue(update.getTables().isEmpty());
+        Assert.assertEquals(Collections.singletonList(table2.getId()), update.getRemovedTables());
+        assertClientTables(client);
+
+        // versions must be continuous
+        for (int i = 1; i < client.received.size(); i++) {
+            Assert.assertEquals(client.received.get(i - 1).getVersion() + 1, client.received.get(i).getVersion());
+        }
+        Assert.assertEquals(0, client.resubscribes);
+    }
+
+    @Test
+    public void test_VersionGapAndResubscribe() {
+        TestClient client = new TestClient("user");
+        TestClient otherClient = new TestClient("other user");
+        Table table1 = createTable("table 1");
+        Table table2 = createTable("table 2");
+        updateFeed();
+        feed.subscribe(client.getId());
+        feed.subscribe(otherClient.getId());
+
+        // lost updates
+        client.dropCallbacks = true;
+        table1.setState(TableState.READY_TO_START);
+        updateFeed();
+        tables.remove(table2);
+        updateFeed();
+        client.dropCallbacks = false;
+        Assert.assertNotEquals(tables.size(), client.clientTables.size());
+
+        // next update has a version gap, so client must re-subscribe and get full tables list
+        createTable("table 3");
+        updateFeed();
+        Assert.assertEquals(1, client.resubscribes);
+        TablesUpdateView lastUpdate = client.received.get(client.received.size() - 1);
+        Assert.assertTrue(lastUpdate.isSnapshot());
+        Assert.assertEquals(2, client.received.stream().filter(TablesUpdateView::isSnapshot).count());
+        assertClientTables(client);
+
+        // other clients are not affected
+        Assert.assertEquals(0, otherClient.resubscribes);
+        Assert.assertEquals(1, otherClient.received.stream().filter(TablesUpdateView::isSnapshot).count());
+        assertClientTables(otherClient);
+
+        // and works fine after re-subscribe
+        tables.remove(table1);
+        updateFeed();
+        Assert.assertEquals(1, client.resubscribes);
+        assertClientTables(client);
+        assertClientTables(otherClient);
+    }
+
+    @Test
+    public void test_DroppedCallbacks() {
+        TestClient client = new TestClient("user");
+        TestClient offlineClient = new TestClient("offline user");
+        TestClient unsubscribedClient = new TestClient("unsubscribed user");
+        createTable("table 1");
+        updateFeed();
+
+        // unknown user can't subscribe
+        users.remove(offlineClient.getId());
+        feed.subscribe(offlineClient.getId());
+        Assert.assertTrue(offlineClient.received.isEmpty());
+        users.put(offlineClient.getId(), offlineClient);
+
+        feed.subscribe(client.getId());
+        feed.subscribe(offlineClient.getId());
+        feed.subscribe(unsubscribedClient.getId());
+        Assert.assertEquals(1, offlineClient.received.size());
+        Assert.assertEquals(1, unsubscribedClient.received.size());
+
+        // removed users and unsubscribed users must not get updates
+        users.remove(offlineClient.getId());
+        feed.unsubscribe(unsubscribedClient.getId());
+        createTable("table 2");
+        updateFeed();
+        Assert.assertEquals(2, client.received.size());
+        Assert.assertEquals(1, offlineClient.received.size());
+        Assert.assertEquals(1, unsubscribedClient.received.size());
+
+        // removed user must be removed from subscribers too
+        users.put(offlineClient.getId(), offlineClient);
+        createTable("table 3");
+        updateFeed();
+        Assert.assertEquals(3, client.received.size());
+        Assert.assertEquals(1, offlineClient.received.size());
+        assertClientTables(client);
+    }
+}
@@ -0,0 +1,98 @@
+package org.mage.test.serverside;
+
+import mage.server.AuthorizedUser;
+import mage.server.DisconnectReason;
+import mage.server.User;
+import mage.server.managers.UserManager;
+import mage.view.UserView;
+
+import java.util.*;
+
+/**
+ * Server side tests: users manager without sessions, users must be added to the map by test
+ *
+ * @author agent
+ */
+public class TestUserManager implements UserManager {
+
+    private final Map<UUID, User> users;
+
+    public TestUserManager(Map<UUID, User> users) {
+        this.users = users;
+    }
+
+    @Override
+    public Optional<User> getUser(UUID userId) {
+        return Optional.ofNullable(users.get(userId));
+    }
+
+    @Override
+    public Optional<User> createUser(String userName, String host, AuthorizedUser authorizedUser) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<User> getUserByName(String userName) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Collection<User> getUsers() {
+        return users.values();
+    }
+
+    @Override
+    public boolean connectToSession(String sessionId, UUID userId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void disconnect(UUID userId, DisconnectReason reason) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isAdmin(UUID userId) {
+        return false;
+    }
+
+    @Override
+    public void informUserOpponents(UUID userId, String message) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean extendUserSession(UUID userId, String pingInfo) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeUser(UUID userId) {
+        users.remove(userId);
+    }
+
+    @Override
+    public List<UserView> getUserInfoList() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void handleException(Exception ex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getUserHistory(String userName) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateUserHistory() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void checkHealth() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -13,8 +13,14 @@ import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.counters.CounterType;
 import mage.game.mulligan.LondonMulligan;
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.game.permanent.PermanentCard;
 import mage.game.permanent.PermanentImpl;
+import mage.game.permanent.Permanent;
+import mage.remote.traffic.DeltaBase;
+import mage.remote.traffic.DeltaBases;
+import mage.remote.traffic.ZippedBinaryObjectImpl;
 import mage.remote.traffic.ZippedObjectImpl;
 import mage.util.CardUtil;
 import mage.utils.CompressUtil;
@@ -30,7 +36,10 @@ import org.mage.test.serverside.base.CardTestPlayerBase;
 
 import java.io.*;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -175,6 +184,234 @@ public class SerializationTest extends CardTestPlayerBase {
         Assert.assertEquals("Must be same", 1, uncompressed.getPlayers().get(0).getBattlefield().size());
     }
 
+    @Test
+    public void test_Game_BinaryFormat() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.HAND, playerA, "Kentaro, the Smiling Cat", 1);
+        addCard(Zone.GRAVEYARD, playerB, "Balduvian Bears", 1);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameView gameView = getGameView(playerA);
+        Object compressed = CompressUtil.compress(gameView, true);
+        Assert.assertTrue("Must be binary zip", compressed instanceof ZippedBinaryObjectImpl);
+        GameView uncompressed = (GameView) CompressUtil.decompress(compressed);
+        Assert.assertNotNull(uncompressed);
+        assertSameData("gameView", gameView, uncompressed, new IdentityHashMap<>());
+    }
+
+    @Test
+    public void test_Game_DeltaFormat() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.GRAVEYARD, playerB, "Balduvian Bears", 1);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        UUID gameId = currentGame.getId();
+        DeltaBases serverBases = new DeltaBases();
+        DeltaBases clientBases = new DeltaBases();
+
+        // first message - full data
+        GameView gameView = getGameView(playerA);
+        ZippedBinaryObjectImpl<GameView> compressed = (ZippedBinaryObjectImpl<GameView>) CompressUtil.compress(gameView, serverBases.get(gameId));
+        Assert.assertTrue(compressed.isDelta());
+        assertSameData("gameView", gameView, compressed.unzip(clientBases.get(gameId)), new IdentityHashMap<>());
+
+        // second message - changed cards only
+        Permanent mountain = currentGame.getBattlefield().getAllActivePermanents().stream()
+                .filter(p -> p.getName().equals("Mountain"))
+                .findFirst()
+                .get();
+        mountain.tap(null, currentGame);
+        gameView = getGameView(playerA);
+        compressed = (ZippedBinaryObjectImpl<GameView>) CompressUtil.compress(gameView, serverBases.get(gameId));
+        GameView uncompressed = compressed.unzip(clientBases.get(gameId));
+        Assert.assertFalse(clientBases.get(gameId).isBroken());
+        assertSameData("gameView", gameView, uncompressed, new IdentityHashMap<>());
+        Assert.assertTrue("Must get changed card", uncompressed.getPlayers().get(0).getBattlefield().get(mountain.getId()).isTapped());
+        Assert.assertTrue("Must be less than full data", serializedSize(compressed) < serializedSize(CompressUtil.compress(gameView, true)));
+
+        // client lost data - must be detected
+        clientBases.reset(gameId);
+        compressed = (ZippedBinaryObjectImpl<GameView>) CompressUtil.compress(gameView, serverBases.get(gameId));
+        Assert.assertNull(compressed.unzip(clientBases.get(gameId)));
+        Assert.assertTrue(clientBases.get(gameId).isBroken());
+
+        // reset on both sides - full data again
+        serverBases.reset(gameId);
+        clientBases.reset(gameId);
+        compressed = (ZippedBinaryObjectImpl<GameView>) CompressUtil.compress(gameView, serverBases.get(gameId));
+        assertSameData("gameView", gameView, compressed.unzip(clientBases.get(gameId)), new IdentityHashMap<>());
+        Assert.assertFalse(clientBases.get(gameId).isBroken());
+    }
+
+    @Test
+    public void test_Game_DeltaFormat_StaleBase() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        UUID gameId = currentGame.getId();
+        DeltaBases serverBases = new DeltaBases();
+        DeltaBases clientBases = new DeltaBases();
+        Permanent mountain = getPermanent("Mountain", playerA);
+
+        // first message - both sides have same base
+        GameView gameView = getGameView(playerA);
+        ZippedBinaryObjectImpl<GameView> compressed = (ZippedBinaryObjectImpl<GameView>) CompressUtil.compress(gameView, serverBases.get(gameId));
+        Assert.assertNotNull(compressed.unzip(clientBases.get(gameId)));
+
+        // second message - lost by client (e.g. received out of order)
+        mountain.tap(null, currentGame);
+        gameView = getGameView(playerA);
+        CompressUtil.compress(gameView, serverBases.get(gameId));
+
+        // third message - same card data as in the lost message, client must find stale base instead old card usage
+        gameView = getGameView(playerA);
+        compressed = (ZippedBinaryObjectImpl<GameView>) CompressUtil.compress(gameView, serverBases.get(gameId));
+        Assert.assertNull(compressed.unzip(clientBases.get(gameId)));
+        Assert.assertTrue(clientBases.get(gameId).isBroken());
+    }
+
+    @Test
+    public void test_Game_DeltaFormat_Resync() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        UUID gameId = currentGame.getId();
+        DeltaBases serverBases = new DeltaBases();
+        DeltaBases clientBases = new DeltaBases();
+        Permanent mountain = getPermanent("Mountain", playerA);
+
+        // server side: same as Session, each delta message is the last message of the stream
+        Function<GameView, ClientCallback> sendGameUpdate = gameView -> {
+            ClientCallback call = new ClientCallback(ClientCallbackMethod.GAME_UPDATE, gameId, gameView);
+            DeltaBase deltaBase = serverBases.get(gameId);
+            deltaBase.setLastMessage(call);
+            return call.prepareToSend(true, deltaBase);
+        };
+
+        Assert.assertTrue(sendGameUpdate.apply(getGameView(playerA)).decompressData(clientBases));
+
+        // lost message
+        mountain.tap(null, currentGame);
+        sendGameUpdate.apply(getGameView(playerA));
+
+        // broken message (stale base) - client resets own base and asks server about re-sync
+        GameView lastGameView = getGameView(playerA);
+        Assert.assertFalse(sendGameUpdate.apply(lastGameView).decompressData(clientBases));
+        clientBases.reset(gameId);
+
+        // server resets own base and re-sends the last message with full data
+        ClientCallback lastMessage = serverBases.reset(gameId).getLastMessage();
+        Assert.assertNotNull(lastMessage);
+        ClientCallback resent = lastMessage.prepareToSend(true, serverBases.get(gameId));
+        Assert.assertTrue(resent.decompressData(clientBases));
+        assertSameData("gameView", lastGameView, resent.getData(), new IdentityHashMap<>());
+
+        // unknown stream - nothing to re-send
+        Assert.assertNull(serverBases.reset(UUID.randomUUID()));
+    }
+
+    private int serializedSize(Object object) {
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(object);
+            }
+            return bos.size();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void test_PermanentImpl_BinaryFormat() {
+        CardInfo cardInfo = CardRepository.instance.findCard("Balduvian Bears");
+        Card newCard = cardInfo.createCard();
+        Card permCard = CardUtil.getDefaultCardSideForBattlefield(currentGame, newCard);
+        PermanentImpl permanent = new PermanentCard(permCard, playerA.getId(), currentGame);
+        currentGame.addPermanent(permanent, 0);
+
+        Object compressed = CompressUtil.compress(permanent, true);
+        Assert.assertTrue("Must be binary zip", compressed instanceof ZippedBinaryObjectImpl);
+        PermanentImpl uncompressed = (PermanentImpl) CompressUtil.decompress(compressed);
+        Assert.assertEquals("Must be same", permanent.getName(), uncompressed.getName());
+        Assert.assertEquals("Must be same", permanent.getAbilities().size(), uncompressed.getAbilities().size());
+    }
+
+    /**
+     * Compare all serializable data (same as default java serialization do)
+     */
+    private void assertSameData(String path, Object expected, Object actual, Map<Object, Object> checked) {
+        if (expected == null || actual == null) {
+            Assert.assertEquals(path, expected, actual);
+            return;
+        }
+        Assert.assertEquals(path, expected.getClass(), actual.getClass());
+        Class<?> clazz = expected.getClass();
+        if (clazz.isPrimitive() || expected instanceof String || expected instanceof Number || expected instanceof Boolean
+                || expected instanceof Character || expected instanceof Enum || expected instanceof UUID || expected instanceof Date) {
+            Assert.assertEquals(path, expected, actual);
+            return;
+        }
+        if (checked.put(expected, actual) != null) {
+            return;
+        }
+        if (clazz.isArray()) {
+            Assert.assertEquals(path, java.lang.reflect.Array.getLength(expected), java.lang.reflect.Array.getLength(actual));
+            for (int i = 0; i < java.lang.reflect.Array.getLength(expected); i++) {
+                assertSameData(path + "[" + i + "]", java.lang.reflect.Array.get(expected, i), java.lang.reflect.Array.get(actual, i), checked);
+            }
+            return;
+        }
+        if (expected instanceof Map) {
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            Assert.assertEquals(path, expectedMap.keySet(), actualMap.keySet());
+            for (Object key : expectedMap.keySet()) {
+                assertSameData(path + "[" + key + "]", expectedMap.get(key), actualMap.get(key), checked);
+            }
+        } else if (expected instanceof Set) {
+            Assert.assertEquals(path, expected, actual);
+        } else if (expected instanceof List) {
+            List<?> expectedList = (List<?>) expected;
+            List<?> actualList = (List<?>) actual;
+            Assert.assertEquals(path, expectedList.size(), actualList.size());
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertSameData(path + "[" + i + "]", expectedList.get(i), actualList.get(i), checked);
+            }
+        }
+        if (clazz.getName().startsWith("java.")) {
+            return;
+        }
+        for (Class<?> current = clazz; current != null && Serializable.class.isAssignableFrom(current); current = current.getSuperclass()) {
+            if (current.getName().startsWith("java.")) {
+                break;
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    assertSameData(path + "." + field.getName(), field.get(expected), field.get(actual), checked);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void test_Choices_MustHaveProtectionFromKeySetUsage() {
         Map<String, Ability> abilityMap = new HashMap<>();
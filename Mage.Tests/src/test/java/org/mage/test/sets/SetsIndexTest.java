@@ -0,0 +1,37 @@
+package org.mage.test.sets;
+
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import mage.cards.SetsIndexProcessor;
+import mage.util.ClassScanner;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generated sets index must contain all sets (see SetsIndexProcessor)
+ *
+ * @author agent
+ */
+public class SetsIndexTest {
+
+    @Test
+    public void test_IndexContainsAllSets() {
+        Assert.assertNotNull("sets index must be generated on Mage.Sets build",
+                Thread.currentThread().getContextClassLoader().getResource(Sets.SETS_INDEX_RESOURCE));
+
+        Set<String> scannedSets = ClassScanner.findClasses(null, Collections.singletonList(SetsIndexProcessor.SETS_PACKAGE), ExpansionSet.class)
+                .stream()
+                .map(Class::getName)
+                .collect(Collectors.toSet());
+        Set<String> loadedSets = Sets.getInstance().values()
+                .stream()
+                .map(set -> set.getClass().getName())
+                .collect(Collectors.toSet());
+        Assert.assertFalse(scannedSets.isEmpty());
+        Assert.assertEquals(scannedSets, loadedSets);
+    }
+}
@@ -11,10 +11,12 @@ import mage.game.result.ResultProtos;
 import mage.game.tournament.*;
 import mage.players.Player;
 import mage.players.PlayerType;
+import mage.util.RandomUtil;
 
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 
 /**
@@ -205,6 +207,16 @@ public class TournamentStub implements Tournament {
 
     }
 
+    @Override
+    public Random getRandom() {
+        return RandomUtil.getRandom();
+    }
+
+    @Override
+    public long getRandomSeed() {
+        return 0;
+    }
+
     @Override
     public void clearDraft() {
 
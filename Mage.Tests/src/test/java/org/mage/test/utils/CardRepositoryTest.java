@@ -1,5 +1,7 @@
 package org.mage.test.utils;
 
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardRepository;
 import mage.cards.repository.CardScanner;
@@ -7,7 +9,8 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Testing of CardRepository functionality.
@@ -161,6 +164,37 @@ public class CardRepositoryTest {
         Assert.assertEquals("Consume", splitHalfCardRight.get(0).getName());
     }
 
+    /**
+     * Scan on empty db must create all cards from the sets (in parallel threads, but in sets order)
+     */
+    @Test
+    public void test_ScanOnEmptyDb() {
+        List<ExpansionSet> sets = Arrays.asList(Sets.findSet("GRN"), Sets.findSet("DGM")); // DGM contains split cards
+        int expectedCards = 0;
+        for (ExpansionSet set : sets) {
+            expectedCards += set.getSetCardInfo().size();
+        }
+
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        List<CardInfo> newCards = CardScanner.createNewCards(sets, Collections.emptyMap(), errors);
+        Assert.assertEquals("must create cards without errors: " + errors, 0, errors.size());
+        Assert.assertTrue("must create all cards", newCards.size() > expectedCards);
+        Assert.assertTrue("must add split halves", newCards.stream().anyMatch(CardInfo::isSplitCardHalf));
+        Assert.assertEquals("must keep sets order", "GRN", newCards.get(0).getSetCode());
+        Assert.assertEquals("must keep sets order", "DGM", newCards.get(newCards.size() - 1).getSetCode());
+        Assert.assertEquals("must be same as db records", CardRepository.instance.findCard("GRN", newCards.get(0).getCardNumber()).getName(), newCards.get(0).getName());
+
+        // all cards in db - nothing to add
+        Map<String, Set<String>> dbCardNumbers = new HashMap<>();
+        for (ExpansionSet set : sets) {
+            dbCardNumbers.put(set.getCode(), set.getSetCardInfo().stream().map(ExpansionSet.SetCardInfo::getCardNumber).collect(Collectors.toSet()));
+        }
+        Assert.assertEquals(0, CardScanner.createNewCards(sets, dbCardNumbers, errors).size());
+
+        // empty sets
+        Assert.assertEquals(0, CardScanner.createNewCards(Collections.emptyList(), Collections.emptyMap(), errors).size());
+    }
+
     /**
      * Checks if the card with name cardName can be found when searched for
      * using the case-sensitive approach.
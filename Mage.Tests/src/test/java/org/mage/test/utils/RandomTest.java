@@ -7,6 +7,7 @@ import mage.constants.Outcome;
 import mage.constants.PlanarDieRollResult;
 import mage.constants.RangeOfInfluence;
 import mage.game.Game;
+import mage.game.GameOptions;
 import mage.game.TwoPlayerDuel;
 import mage.game.mulligan.MulliganType;
 import mage.player.human.HumanPlayer;
@@ -23,6 +24,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -73,6 +75,67 @@ public class RandomTest {
         Assert.assertNotEquals("different seed must have different deck", infoSameA, infoDifferent);
     }
 
+    @Test
+    public void test_GameSeedAndSameResults() {
+        Player player = new HumanPlayer("random", RangeOfInfluence.ALL, 1);
+        Game gameA = new TwoPlayerDuel(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 50, 7);
+        Game gameB = new TwoPlayerDuel(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 50, 7);
+        gameB.setGameOptions(new GameOptions());
+        gameA.setRandomSeed(123);
+        gameB.setRandomSeed(123);
+
+        List<Integer> listSameA = new ArrayList<>();
+        List<Integer> listSameB = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            listSameA.add(player.rollDieResult(20, gameA));
+
+            // game copy (e.g. AI simulation) must not change random values of the original game
+            gameB.createSimulationForAI().getRandom().nextInt();
+            listSameB.add(player.rollDieResult(20, gameB));
+
+            // global random must not change random values of the game
+            RandomUtil.nextInt();
+        }
+        Assert.assertEquals("same game seed must have same random values", listSameA, listSameB);
+
+        // game thread uses game's random
+        Random oldRandom = RandomUtil.setThreadRandom(gameA.getRandom());
+        try {
+            Assert.assertSame(gameA.getRandom(), RandomUtil.getRandom());
+        } finally {
+            RandomUtil.setThreadRandom(oldRandom);
+        }
+        Assert.assertNotSame(gameA.getRandom(), RandomUtil.getRandom());
+    }
+
+    @Test
+    public void test_GameCopySeedFromOriginal() {
+        Game gameA = new TwoPlayerDuel(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 50, 7);
+        Game gameB = new TwoPlayerDuel(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 50, 7);
+        gameA.setGameOptions(new GameOptions());
+        gameB.setGameOptions(new GameOptions());
+        gameA.setRandomSeed(123);
+        gameB.setRandomSeed(123);
+
+        // same game seed - same copies (AI simulations can be reproduced)
+        List<Long> copiesA = new ArrayList<>();
+        List<Long> copiesB = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            Game copyA = gameA.copy();
+            copiesA.add(copyA.getRandomSeed());
+            copiesA.add(copyA.getRandom().nextLong());
+            copiesA.add(copyA.copy().getRandom().nextLong()); // copy of the copy
+            Game copyB = gameB.copy();
+            copiesB.add(copyB.getRandomSeed());
+            copiesB.add(copyB.getRandom().nextLong());
+            copiesB.add(copyB.copy().getRandom().nextLong());
+        }
+        Assert.assertEquals("same game seed must have same copies", copiesA, copiesB);
+
+        // each copy must have own random values
+        Assert.assertEquals("copies must have own randoms", copiesA.size(), copiesA.stream().distinct().count());
+    }
+
     @Test
     @Ignore
     public void test_GenerateRandomPng() throws IOException {
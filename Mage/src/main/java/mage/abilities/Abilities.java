@@ -248,6 +248,14 @@ public interface Abilities<T extends Ability> extends List<T>, Serializable {
      */
     boolean containsClass(Class classObject);
 
+    /**
+     * Version of the abilities list, it changes on any list modification (add, remove, replace, etc).
+     * Can be used to find outdated caches.
+     *
+     * @return
+     */
+    long getVersion();
+
     /**
      * Returns true if one or more of the abilities are activated mana abilities with the pollDependant flag set to true.
      *
@@ -13,6 +13,8 @@ import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +27,16 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     private static final ThreadLocalStringBuilder threadLocalBuilder = new ThreadLocalStringBuilder(200);
 
+    // modCount of the ArrayList doesn't changes on replace, so it must be counted separately
+    private transient int replacesCount = 0;
+
+    // fast containsClass search, must be used with same list version only
+    private transient Set<Class> classesCache = null;
+    private transient long classesCacheVersion = 0;
+
+    // shared lists like cached getAbilities(game) result must not be changed by the outside code
+    private boolean readOnly = false;
+
     public AbilitiesImpl() {
         // fast constructor
     }
@@ -288,7 +300,126 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public boolean containsClass(Class classObject) {
-        return stream().map(T::getClass).anyMatch(classObject::equals);
+        long version = getVersion();
+        if (classesCache == null || classesCacheVersion != version) {
+            Set<Class> classes = new HashSet<>();
+            for (T ability : this) {
+                classes.add(ability.getClass());
+            }
+            classesCache = classes;
+            classesCacheVersion = version;
+        }
+        return classesCache.contains(classObject);
+    }
+
+    @Override
+    public long getVersion() {
+        return ((long) replacesCount << 32) | (modCount & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkModifiable();
+        T res = super.set(index, element);
+        replacesCount++;
+        return res;
+    }
+
+    /**
+     * Forbid any list changes (abilities itself can be changed), copy of the list is modifiable
+     */
+    public AbilitiesImpl<T> setReadOnly() {
+        this.readOnly = true;
+        return this;
+    }
+
+    public boolean isReadOnly() {
+        return this.readOnly;
+    }
+
+    private void checkModifiable() {
+        if (this.readOnly) {
+            throw new UnsupportedOperationException("Wrong code usage: abilities list is read only, use copy or source list to change it");
+        }
+    }
+
+    @Override
+    public boolean add(T ability) {
+        checkModifiable();
+        return super.add(ability);
+    }
+
+    @Override
+    public void add(int index, T ability) {
+        checkModifiable();
+        super.add(index, ability);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> abilities) {
+        checkModifiable();
+        return super.addAll(abilities);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> abilities) {
+        checkModifiable();
+        return super.addAll(index, abilities);
+    }
+
+    @Override
+    public T remove(int index) {
+        checkModifiable();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object ability) {
+        checkModifiable();
+        return super.remove(ability);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> abilities) {
+        checkModifiable();
+        return super.removeAll(abilities);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> abilities) {
+        checkModifiable();
+        return super.retainAll(abilities);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        checkModifiable();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        checkModifiable();
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        checkModifiable();
+        super.sort(comparator);
+    }
+
+    @Override
+    public void clear() {
+        checkModifiable();
+        super.clear();
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        // sub list changes the data directly
+        List<T> res = super.subList(fromIndex, toIndex);
+        return this.readOnly ? Collections.unmodifiableList(res) : res;
     }
 
     public Optional<T> get(UUID abilityId) {
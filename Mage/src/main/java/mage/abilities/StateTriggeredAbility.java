@@ -5,6 +5,8 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -40,6 +42,11 @@ public abstract class StateTriggeredAbility extends TriggeredAbilityImpl {
         return false;
     }
 
+    @Override
+    public final Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.noneOf(GameEvent.EventType.class);
+    }
+
     @Override
     public void trigger(Game game, UUID controllerId, GameEvent triggeringEvent) {
         //20100716 - 603.8
@@ -11,7 +11,10 @@ import mage.util.CardUtil;
 import mage.util.Copyable;
 import org.apache.log4j.Logger;
 
+import java.io.Serializable;
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +26,16 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     private final Map<String, List<UUID>> sources = new HashMap<>();
 
+    // triggers index by event type (optimization, see TriggeredAbility.getCheckedEventTypes)
+    // all lists contain trigger keys in adding order, so events processing keeps the same triggers order,
+    // warning, all changes must go through put/remove/clear methods to keep index in sync (other changes are not supported)
+    private final Map<String, TriggerIndexInfo> indexInfo = new HashMap<>();
+    private final Map<GameEvent.EventType, List<String>> indexByEventType = new EnumMap<>(GameEvent.EventType.class);
+    private final List<String> indexForAnyEventType = new ArrayList<>(); // triggers without event types declaration
+    private final List<String> indexForStateTriggers = new ArrayList<>();
+    private long indexNextOrder = 0;
+    private transient Map<String, TriggeredAbility> readOnlyView = null; // keys, values and entries without changes support
+
     // data integrity check for triggers
     // reason: game engine can generate additional events and triggers while checking another one,
     // it can generate multiple bugs, freeze, etc, see https://github.com/magefree/mage/issues/8426
@@ -78,12 +91,12 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     public void checkStateTriggers(Game game) {
         makeSureNotProcessing(null);
 
-        processingStart(null);
+        List<TriggeredAbility> currentTriggers = getTriggersByKeys(indexForStateTriggers, Collections.emptyList());
+        processingStart(null, currentTriggers);
         boolean needErrorChecksOnEnd = true;
         try {
-            for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext(); ) {
-                TriggeredAbility ability = it.next();
-                if (ability instanceof StateTriggeredAbility && ((StateTriggeredAbility) ability).canTrigger(game)) {
+            for (TriggeredAbility ability : currentTriggers) {
+                if (((StateTriggeredAbility) ability).canTrigger(game)) {
                     checkTrigger(ability, null, game);
                 }
                 this.processingDone(ability);
@@ -98,10 +111,16 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        processingStart(event);
-        boolean needErrorChecksOnEnd = true;
         // must keep real object refs (not copies), cause check trigger code can change trigger's and effect's data like targets
-        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(this.values());
+        List<TriggeredAbility> currentTriggers = getTriggersByKeys(
+                indexByEventType.getOrDefault(event.getType(), Collections.emptyList()),
+                indexForAnyEventType
+        );
+        if (CardUtil.isEventTypesVerifyEnabled()) {
+            CardUtil.verifyEventTypesDeclaration(super.values(), currentTriggers, event, ability -> ability.checkEventType(event, game));
+        }
+        processingStart(event, currentTriggers);
+        boolean needErrorChecksOnEnd = true;
         try {
             for (TriggeredAbility ability : currentTriggers) {
                 if (ability.checkEventType(event, game)) {
@@ -130,13 +149,13 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         }
     }
 
-    private void processingStart(GameEvent newEvent) {
+    private void processingStart(GameEvent newEvent, List<TriggeredAbility> currentTriggers) {
         makeSureNotProcessing(newEvent);
 
         this.processingStarted = true;
         this.processingStartedEvent = newEvent == null ? null : newEvent.getType();
         this.processingNeed.clear();
-        this.processingNeed.addAll(this.values());
+        this.processingNeed.addAll(currentTriggers);
         this.processingDone.clear();
     }
 
@@ -294,11 +313,14 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        String needSourceId = sourceId.toString();
+        removeAll(keySet().stream()
+                .filter(key -> key.endsWith(needSourceId))
+                .collect(Collectors.toSet()));
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        removeAll(new HashSet<>(sources.keySet()));
         sources.clear();
     }
 
@@ -308,9 +330,243 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
-                && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+        removeAll(entrySet().stream()
+                .filter(entry -> game.getObject(entry.getValue().getSourceId()) == null
+                        && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
+                        && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility ability) {
+        TriggeredAbility oldAbility = super.put(key, ability);
+        // replaced trigger keeps the old position in the map, so it must keep the old order in the index too
+        TriggerIndexInfo oldInfo = indexInfo.get(key);
+        long order = oldInfo == null ? indexNextOrder++ : oldInfo.order;
+        if (oldInfo != null) {
+            removeFromIndex(Collections.singleton(key));
+        }
+        addToIndex(key, ability, order);
+        return oldAbility;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends TriggeredAbility> abilities) {
+        abilities.forEach(this::put);
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility oldAbility = super.remove(key);
+        if (oldAbility != null) {
+            removeFromIndex(Collections.singleton((String) key));
+        }
+        return oldAbility;
+    }
+
+    private void removeAll(Set<String> keys) {
+        Set<String> removedKeys = new HashSet<>();
+        for (String key : keys) {
+            if (super.remove(key) != null) {
+                removedKeys.add(key);
+            }
+        }
+        removeFromIndex(removedKeys);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        indexInfo.clear();
+        indexByEventType.clear();
+        indexForAnyEventType.clear();
+        indexForStateTriggers.clear();
+    }
+
+    // other map changes can't keep index in sync, so it's not supported (use put/remove instead)
+
+    @Override
+    public TriggeredAbility putIfAbsent(String key, TriggeredAbility ability) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public boolean remove(Object key, Object ability) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public TriggeredAbility replace(String key, TriggeredAbility ability) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public boolean replace(String key, TriggeredAbility oldAbility, TriggeredAbility newAbility) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super TriggeredAbility, ? extends TriggeredAbility> function) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public TriggeredAbility computeIfAbsent(String key, Function<? super String, ? extends TriggeredAbility> mappingFunction) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public TriggeredAbility computeIfPresent(String key, BiFunction<? super String, ? super TriggeredAbility, ? extends TriggeredAbility> remappingFunction) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public TriggeredAbility compute(String key, BiFunction<? super String, ? super TriggeredAbility, ? extends TriggeredAbility> remappingFunction) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public TriggeredAbility merge(String key, TriggeredAbility ability, BiFunction<? super TriggeredAbility, ? super TriggeredAbility, ? extends TriggeredAbility> remappingFunction) {
+        throw new UnsupportedOperationException("Triggers can be changed by put/remove only");
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return getReadOnlyView().keySet();
+    }
+
+    @Override
+    public Collection<TriggeredAbility> values() {
+        return getReadOnlyView().values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, TriggeredAbility>> entrySet() {
+        // read only entries too (no setValue)
+        return getReadOnlyView().entrySet();
+    }
+
+    private Map<String, TriggeredAbility> getReadOnlyView() {
+        if (readOnlyView == null) {
+            readOnlyView = Collections.unmodifiableMap(new AbstractMap<String, TriggeredAbility>() {
+                @Override
+                public Set<Map.Entry<String, TriggeredAbility>> entrySet() {
+                    return TriggeredAbilities.super.entrySet();
+                }
+
+                @Override
+                public Set<String> keySet() {
+                    return TriggeredAbilities.super.keySet();
+                }
+
+                @Override
+                public Collection<TriggeredAbility> values() {
+                    return TriggeredAbilities.super.values();
+                }
+            });
+        }
+        return readOnlyView;
+    }
+
+    private void addToIndex(String key, TriggeredAbility ability, long order) {
+        Set<GameEvent.EventType> eventTypes = null;
+        if (CardUtil.isEventTypesDeclarationSupported(ability, "checkEventType") && ability.getCheckedEventTypes() != null) {
+            eventTypes = EnumSet.noneOf(GameEvent.EventType.class);
+            eventTypes.addAll(ability.getCheckedEventTypes());
+        }
+        boolean isStateTrigger = ability instanceof StateTriggeredAbility;
+        indexInfo.put(key, new TriggerIndexInfo(order, eventTypes, isStateTrigger));
+        if (eventTypes == null) {
+            insertByOrder(indexForAnyEventType, key, order);
+        } else {
+            eventTypes.forEach(eventType -> insertByOrder(indexByEventType.computeIfAbsent(eventType, k -> new ArrayList<>()), key, order));
+        }
+        if (isStateTrigger) {
+            insertByOrder(indexForStateTriggers, key, order);
+        }
+    }
+
+    private void removeFromIndex(Set<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        // find all affected lists first, so each list will be cleaned one time only
+        Set<GameEvent.EventType> affectedEventTypes = EnumSet.noneOf(GameEvent.EventType.class);
+        boolean affectedAny = false;
+        boolean affectedState = false;
+        for (String key : keys) {
+            TriggerIndexInfo info = indexInfo.remove(key);
+            if (info == null) {
+                continue;
+            }
+            if (info.eventTypes == null) {
+                affectedAny = true;
+            } else {
+                affectedEventTypes.addAll(info.eventTypes);
+            }
+            affectedState |= info.isStateTrigger;
+        }
+        for (GameEvent.EventType eventType : affectedEventTypes) {
+            List<String> list = indexByEventType.get(eventType);
+            if (list != null) {
+                list.removeIf(keys::contains);
+                if (list.isEmpty()) {
+                    indexByEventType.remove(eventType);
+                }
+            }
+        }
+        if (affectedAny) {
+            indexForAnyEventType.removeIf(keys::contains);
+        }
+        if (affectedState) {
+            indexForStateTriggers.removeIf(keys::contains);
+        }
+    }
+
+    private void insertByOrder(List<String> list, String key, long order) {
+        // new triggers go to the end, so search is needed for replaced triggers only
+        int pos = list.size();
+        while (pos > 0 && indexInfo.get(list.get(pos - 1)).order > order) {
+            pos--;
+        }
+        list.add(pos, key);
+    }
+
+    /**
+     * Merge two sorted lists of keys to triggers list in adding order
+     */
+    private List<TriggeredAbility> getTriggersByKeys(List<String> keys1, List<String> keys2) {
+        List<TriggeredAbility> res = new ArrayList<>(keys1.size() + keys2.size());
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < keys1.size() || i2 < keys2.size()) {
+            String key;
+            if (i2 >= keys2.size()) {
+                key = keys1.get(i1++);
+            } else if (i1 >= keys1.size()) {
+                key = keys2.get(i2++);
+            } else if (indexInfo.get(keys1.get(i1)).order < indexInfo.get(keys2.get(i2)).order) {
+                key = keys1.get(i1++);
+            } else {
+                key = keys2.get(i2++);
+            }
+            res.add(this.get(key));
+        }
+        return res;
+    }
+
+    private static class TriggerIndexInfo implements Serializable {
+
+        private final long order;
+        private final Set<GameEvent.EventType> eventTypes; // null for any event type
+        private final boolean isStateTrigger;
+
+        private TriggerIndexInfo(long order, Set<GameEvent.EventType> eventTypes, boolean isStateTrigger) {
+            this.order = order;
+            this.eventTypes = eventTypes;
+            this.isStateTrigger = isStateTrigger;
+        }
     }
 
     @Override
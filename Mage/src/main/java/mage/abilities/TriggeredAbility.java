@@ -4,6 +4,7 @@ package mage.abilities;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,6 +21,17 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Optimization: all event types that can be accepted by checkEventType, so game engine can skip
+     * the trigger for other events (see TriggeredAbilities). Must be overridden in the same class
+     * as checkEventType, otherwise the declaration will be ignored.
+     *
+     * @return null for any event type (by default)
+     */
+    default Set<GameEvent.EventType> getCheckedEventTypes() {
+        return null;
+    }
+
     /**
      * This method checks if the event has to trigger the ability,
      * and if it does trigger, may set targets and other values in associated effects
@@ -9,6 +9,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class AttacksAndIsNotBlockedTriggeredAbility extends TriggeredAbilityImpl {
 
     private final SetTargetPointer setTargetPointer;
@@ -43,6 +46,11 @@ public class AttacksAndIsNotBlockedTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == EventType.UNBLOCKED_ATTACKER;
     }
 
+    @Override
+    public Set<EventType> getCheckedEventTypes() {
+        return EnumSet.of(EventType.UNBLOCKED_ATTACKER);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getTargetId().equals(getSourceId())) {
@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.TappedBatchEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Susucr
  */
@@ -36,6 +39,11 @@ public class BecomesTappedOneOrMoreTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.TAPPED_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TAPPED_BATCH);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         TappedBatchEvent batchEvent = (TappedBatchEvent) event;
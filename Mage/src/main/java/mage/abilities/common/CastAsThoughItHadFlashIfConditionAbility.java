@@ -10,6 +10,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Implements:
  * You may cast {this} as though it had flash if [condition that depends on X value, targets, etc.]
@@ -67,6 +70,11 @@ class CantFlashUnlessConditionEffect extends ContinuousRuleModifyingEffectImpl {
         return event.getType() == GameEvent.EventType.CAST_SPELL_LATE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL_LATE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (!event.getSourceId().equals(source.getSourceId())) {
@@ -9,6 +9,9 @@ import mage.game.events.DamagedEvent;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801, xenohedron
  */
@@ -37,6 +40,11 @@ public class DealsCombatDamageEquippedTriggeredAbility extends TriggeredAbilityI
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_ALL;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_ALL);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent sourcePermanent = getSourcePermanentOrLKI(game);
@@ -8,6 +8,9 @@ import mage.game.events.DamagedBatchAllEvent;
 import mage.game.events.DamagedEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * This triggers only once for each combat damage step the source creature deals damage.
  * So a creature blocked by two creatures and dealing damage to both blockers in the same
@@ -37,6 +40,11 @@ public class DealsCombatDamageTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_ALL;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_ALL);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         int amount = ((DamagedBatchAllEvent) event)
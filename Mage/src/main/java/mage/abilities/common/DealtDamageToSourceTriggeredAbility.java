@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.DamagedBatchForPermanentsEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -40,6 +43,11 @@ public class DealtDamageToSourceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_PERMANENTS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_PERMANENTS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         DamagedBatchForPermanentsEvent dEvent = (DamagedBatchForPermanentsEvent) event;
@@ -10,7 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeBatchEvent;
 import mage.game.events.ZoneChangeEvent;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author Susucr
@@ -40,6 +42,11 @@ public class DiesOneOrMoreCreatureTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.ZONE_CHANGE_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE_BATCH);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return ((ZoneChangeBatchEvent) event)
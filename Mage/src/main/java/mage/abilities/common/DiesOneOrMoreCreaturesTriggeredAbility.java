@@ -9,6 +9,9 @@ import mage.game.events.ZoneChangeBatchEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Cguy7777
  */
@@ -37,6 +40,11 @@ public class DiesOneOrMoreCreaturesTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.ZONE_CHANGE_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE_BATCH);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         for (ZoneChangeEvent zEvent : ((ZoneChangeBatchEvent) event).getEvents()) {
@@ -15,8 +15,10 @@ import mage.game.stack.Spell;
 import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -78,6 +80,11 @@ public class ExpendTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.MANA_PAID;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MANA_PAID);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return ExpendWatcher.checkExpend(getControllerId(), event, amount, game);
@@ -13,7 +13,9 @@ import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author alexander-novo, Susucr
@@ -47,6 +49,11 @@ public class FinalChapterAbilityResolvesTriggeredAbility extends TriggeredAbilit
         return event.getType() == GameEvent.EventType.RESOLVING_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.RESOLVING_ABILITY);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // At this point, the stack ability no longer exists, so we can only reference
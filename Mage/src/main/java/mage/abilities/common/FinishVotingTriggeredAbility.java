@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.VotedEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -31,6 +34,11 @@ public class FinishVotingTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.VOTED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.VOTED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         this.getEffects().setValue("votedAgainst", ((VotedEvent) event).getDidntVote(getControllerId()));
@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -31,6 +34,11 @@ public class GainLoseLifeYourTurnTriggeredAbility extends TriggeredAbilityImpl {
                 || event.getType() == GameEvent.EventType.LOST_LIFE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.GAINED_LIFE, GameEvent.EventType.LOST_LIFE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return isControlledBy(game.getActivePlayerId())
@@ -11,6 +11,8 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.MilledCardEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -44,6 +46,11 @@ public class MillTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.MILLED_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MILLED_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         UUID playerId = event.getPlayerId();
@@ -10,6 +10,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.MilledBatchAllEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Susucr
  */
@@ -42,6 +45,11 @@ public class OneOrMoreMilledTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.MILLED_CARDS_BATCH_FOR_ALL;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MILLED_CARDS_BATCH_FOR_ALL);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         int count = ((MilledBatchAllEvent) event).getCards(game).count(filter, getControllerId(), this, game);
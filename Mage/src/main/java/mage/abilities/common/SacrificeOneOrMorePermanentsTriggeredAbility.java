@@ -14,6 +14,8 @@ import mage.players.Player;
 import mage.target.targetpointer.FixedTargets;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * @author TheElk801, xenohedron
@@ -63,6 +65,11 @@ public class SacrificeOneOrMorePermanentsTriggeredAbility extends TriggeredAbili
         return event.getType() == GameEvent.EventType.SACRIFICED_PERMANENT_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SACRIFICED_PERMANENT_BATCH);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ArrayList<Permanent> matchingPermanents = new ArrayList<>();
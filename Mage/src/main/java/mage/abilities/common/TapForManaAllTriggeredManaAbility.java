@@ -11,6 +11,9 @@ import mage.game.events.TappedForManaEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Mana triggered ability (use case: you must produce new mana on mana taps)
  *
@@ -39,6 +42,11 @@ public class TapForManaAllTriggeredManaAbility extends TriggeredManaAbility {
         return event.getType() == GameEvent.EventType.TAPPED_FOR_MANA;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TAPPED_FOR_MANA);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         TappedForManaEvent manaEvent = ((TappedForManaEvent) event);
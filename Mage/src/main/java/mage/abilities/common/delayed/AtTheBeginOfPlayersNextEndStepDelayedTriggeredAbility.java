@@ -1,5 +1,7 @@
 package mage.abilities.common.delayed;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.abilities.DelayedTriggeredAbility;
@@ -34,6 +36,11 @@ public class AtTheBeginOfPlayersNextEndStepDelayedTriggeredAbility extends Delay
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return game.getActivePlayerId().equals(playerId);
@@ -6,6 +6,9 @@ import mage.abilities.effects.Effect;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author nantuko
  */
@@ -35,6 +38,11 @@ public class AtTheEndOfTurnStepPostDelayedTriggeredAbility extends DelayedTrigge
         return event.getType() == GameEvent.EventType.END_TURN_STEP_POST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_POST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return true;
@@ -8,7 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * @author TheElk801
@@ -43,6 +45,11 @@ public class ReflexiveTriggeredAbility extends DelayedTriggeredAbility {
         return event.getType() == GameEvent.EventType.OPTION_USED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.OPTION_USED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return this.isControlledBy(event.getPlayerId())
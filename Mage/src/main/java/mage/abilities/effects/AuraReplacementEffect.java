@@ -1,6 +1,8 @@
 package mage.abilities.effects;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.abilities.Ability;
@@ -132,7 +134,7 @@ public class AuraReplacementEffect extends ReplacementEffectImpl {
         Player targetPlayer = game.getPlayer(targetId);
         if (targetCard != null || targetPermanent != null || targetPlayer != null) {
             card.removeFromZone(game, fromZone, source);
-            PermanentCard permanent = new PermanentCard(card, (controllingPlayer == null ? card.getOwnerId() : controllingPlayer.getId()), game);
+            PermanentCard permanent = new PermanentCard(card.copy(), (controllingPlayer == null ? card.getOwnerId() : controllingPlayer.getId()), game);
             ZoneChangeEvent zoneChangeEvent = new ZoneChangeEvent(permanent, event.getPlayerId(), fromZone, Zone.BATTLEFIELD);
             permanent.updateZoneChangeCounter(game, zoneChangeEvent);
             game.addPermanent(permanent, 0);
@@ -173,6 +175,11 @@ public class AuraReplacementEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         ZoneChangeEvent zEvent = (ZoneChangeEvent) event;
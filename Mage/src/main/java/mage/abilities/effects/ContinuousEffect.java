@@ -7,6 +7,7 @@ import mage.constants.Duration;
 import mage.constants.Layer;
 import mage.constants.SubLayer;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 import mage.target.targetpointer.TargetPointer;
 
 import java.util.EnumSet;
@@ -83,6 +84,17 @@ public interface ContinuousEffect extends Effect {
 
     void setTemporary(boolean temporary);
 
+    /**
+     * Optimization for replacement, prevention and rule modifying effects: all event types that can be
+     * accepted by checksEventType, so game engine can skip the effect for other events (see ContinuousEffectsList).
+     * Must be overridden in the same class as checksEventType, otherwise the declaration will be ignored.
+     *
+     * @return null for any event type (by default)
+     */
+    default Set<GameEvent.EventType> getCheckedEventTypes() {
+        return null;
+    }
+
     @Override
     ContinuousEffect setTargetPointer(TargetPointer targetPointer);
 }
@@ -22,6 +22,7 @@ import mage.game.stack.Spell;
 import mage.players.ManaPoolItem;
 import mage.players.Player;
 import mage.target.common.TargetCardInHand;
+import mage.util.CardUtil;
 import mage.util.trace.TraceInfo;
 import org.apache.log4j.Logger;
 
@@ -37,6 +38,14 @@ public class ContinuousEffects implements Serializable {
 
     private static final Logger logger = Logger.getLogger(ContinuousEffects.class);
 
+    // reuse of layer effects list: skip effects reload after unchanged layers (objects are still reset and recalculated by all layers)
+    // use -Dxmage.layerEffectsReuse=false for full reload on each layer
+    private static final String LAYER_EFFECTS_REUSE_PROP = "xmage.layerEffectsReuse";
+    private static final boolean LAYER_EFFECTS_REUSE_ENABLED = !"false".equalsIgnoreCase(System.getProperty(LAYER_EFFECTS_REUSE_PROP));
+    // for tests: compare reused effects list with full reload and raise error on difference (enabled in Mage.Tests pom)
+    private static final String LAYER_EFFECTS_REUSE_VERIFY_PROP = "xmage.layerEffectsReuseVerify";
+    private static final boolean LAYER_EFFECTS_REUSE_VERIFY = Boolean.parseBoolean(System.getProperty(LAYER_EFFECTS_REUSE_VERIFY_PROP));
+
     private long order = 0;
 
     //transient Continuous effects
@@ -206,6 +215,43 @@ public class ContinuousEffects implements Serializable {
         return layerEffects;
     }
 
+    /**
+     * Reload active effects list after the applied layer
+     * <p>
+     * Active effects depend on objects state (zones, controllers, abilities), so full list must be
+     * reloaded after each changed layer. But if the layer had nothing to apply and the effects list is
+     * the same then objects are the same too, so prev list can be used without a new scan (timestamps
+     * must be updated anyway, see updateTimestamps)
+     *
+     * @param activeLayerEffects  effects list from the prev load
+     * @param layerChanged        true if any effect was applied after the prev load
+     * @param effectsChangesCount effects list changes count on the prev load
+     */
+    private List<ContinuousEffect> reloadLayeredEffects(List<ContinuousEffect> activeLayerEffects, boolean layerChanged, long effectsChangesCount, Game game, String timestampGroupName) {
+        if (!LAYER_EFFECTS_REUSE_ENABLED
+                || layerChanged
+                || effectsChangesCount != layeredEffects.getChangesCount()) {
+            return getLayeredEffects(game, timestampGroupName);
+        }
+
+        List<ContinuousEffect> layerEffects = new ArrayList<>(activeLayerEffects);
+        updateTimestamps(timestampGroupName, layerEffects);
+        layerEffects.sort(Comparator.comparingLong(ContinuousEffect::getOrder));
+
+        if (LAYER_EFFECTS_REUSE_VERIFY) {
+            // full reload must find the same effects in the same order
+            List<ContinuousEffect> fullEffects = getLayeredEffects(game, timestampGroupName);
+            List<UUID> need = fullEffects.stream().map(ContinuousEffect::getId).collect(Collectors.toList());
+            List<UUID> current = layerEffects.stream().map(ContinuousEffect::getId).collect(Collectors.toList());
+            if (!need.equals(current)) {
+                throw new IllegalStateException("Wrong layer effects list reuse on " + timestampGroupName + ": "
+                        + "need " + fullEffects.stream().map(e -> e.getClass().getSimpleName()).collect(Collectors.joining(", "))
+                        + ", but found " + layerEffects.stream().map(e -> e.getClass().getSimpleName()).collect(Collectors.joining(", ")));
+            }
+        }
+        return layerEffects;
+    }
+
     /**
      * Initially effect timestamp is set when game starts in game.loadCard
      * method. After that timestamp should be updated whenever effect becomes
@@ -303,8 +349,29 @@ public class ContinuousEffects implements Serializable {
         return effects;
     }
 
+    /**
+     * Find all effects that can check the event
+     */
+    private <T extends ContinuousEffect> List<T> getEffectsForEvent(ContinuousEffectsList<T> effects, GameEvent event, Game game) {
+        List<T> res = effects.getEffectsForEventType(event.getType());
+        if (CardUtil.isEventTypesVerifyEnabled()) {
+            CardUtil.verifyEventTypesDeclaration(effects, res, event, effect -> checksEventType(effect, event, game));
+        }
+        return res;
+    }
+
+    private static boolean checksEventType(ContinuousEffect effect, GameEvent event, Game game) {
+        if (effect instanceof ReplacementEffect) {
+            return ((ReplacementEffect) effect).checksEventType(event, game);
+        } else if (effect instanceof ContinuousRuleModifyingEffect) {
+            return ((ContinuousRuleModifyingEffect) effect).checksEventType(event, game);
+        } else {
+            throw new IllegalArgumentException("Wrong code usage: unknown effect type " + effect.getClass().getName());
+        }
+    }
+
     public boolean checkIfThereArePayCostToAttackBlockEffects(GameEvent event, Game game) {
-        for (ReplacementEffect effect : replacementEffects) {
+        for (ReplacementEffect effect : getEffectsForEvent(replacementEffects, event, game)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -341,8 +408,7 @@ public class ContinuousEffects implements Serializable {
         }
         // boolean checkLKI = event.getType().equals(EventType.ZONE_CHANGE) || event.getType().equals(EventType.DESTROYED_PERMANENT);
         //get all applicable transient Replacement effects
-        for (Iterator<ReplacementEffect> iterator = replacementEffects.iterator(); iterator.hasNext(); ) {
-            ReplacementEffect effect = iterator.next();
+        for (ReplacementEffect effect : getEffectsForEvent(replacementEffects, event, game)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -374,8 +440,7 @@ public class ContinuousEffects implements Serializable {
             }
         }
 
-        for (Iterator<PreventionEffect> iterator = preventionEffects.iterator(); iterator.hasNext(); ) {
-            PreventionEffect effect = iterator.next();
+        for (PreventionEffect effect : getEffectsForEvent(preventionEffects, event, game)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -784,7 +849,7 @@ public class ContinuousEffects implements Serializable {
      * @return
      */
     public boolean preventedByRuleModification(GameEvent event, Ability targetAbility, Game game, boolean silentMode) {
-        for (ContinuousRuleModifyingEffect effect : continuousRuleModifyingEffects) {
+        for (ContinuousRuleModifyingEffect effect : getEffectsForEvent(continuousRuleModifyingEffects, event, game)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -822,6 +887,13 @@ public class ContinuousEffects implements Serializable {
         return false;
     }
 
+    /**
+     * Checks that event can be replaced or prevented by any effect (without event processing, e.g. for AI estimations)
+     */
+    public boolean hasApplicableReplacementEffects(GameEvent event, Game game) {
+        return !getApplicableReplacementEffects(event, game).isEmpty();
+    }
+
     public boolean replaceEvent(GameEvent event, Game game) {
         boolean caught = false;
         Map<UUID, Set<UUID>> consumed = new HashMap<>();
@@ -946,6 +1018,8 @@ public class ContinuousEffects implements Serializable {
     public synchronized void apply(Game game) {
         removeInactiveEffects(game);
         List<ContinuousEffect> activeLayerEffects = getLayeredEffects(game); // main call
+        long effectsChangesCount = layeredEffects.getChangesCount();
+        boolean layerChanged;
 
         List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, Layer.CopyEffects_1);
         for (ContinuousEffect effect : layer) {
@@ -963,9 +1037,11 @@ public class ContinuousEffects implements Serializable {
         //Reload layerEffect if copy effects were applied
         if (!layer.isEmpty()) {
             activeLayerEffects = getLayeredEffects(game, "layer_1");
+            effectsChangesCount = layeredEffects.getChangesCount();
         }
 
         layer = filterLayeredEffects(activeLayerEffects, Layer.ControlChangingEffects_2);
+        layerChanged = !layer.isEmpty();
         // apply control changing effects multiple times if it's needed
         // for cases when control over permanents with change control abilities is changed
         // e.g. Mind Control is controlled by Steal Enchantment
@@ -980,16 +1056,20 @@ public class ContinuousEffects implements Serializable {
             if (!game.getBattlefield().fireControlChangeEvents(game)) {
                 break;
             }
+            layerChanged = true;
             // reset control before reapplying control changing effects
             game.getBattlefield().resetPermanentsControl();
         }
 
-        applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3");
-        activeLayerEffects = getLayeredEffects(game, "layer_3");
-        applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4");
-        activeLayerEffects = getLayeredEffects(game, "layer_4");
-        applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5");
-        activeLayerEffects = getLayeredEffects(game, "layer_5");
+        // layers 3-5 are empty for most of the game, so reload effects list only after real changes
+        layerChanged |= applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3");
+        activeLayerEffects = reloadLayeredEffects(activeLayerEffects, layerChanged, effectsChangesCount, game, "layer_3");
+        effectsChangesCount = layeredEffects.getChangesCount();
+        layerChanged = applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4");
+        activeLayerEffects = reloadLayeredEffects(activeLayerEffects, layerChanged, effectsChangesCount, game, "layer_4");
+        effectsChangesCount = layeredEffects.getChangesCount();
+        layerChanged = applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5");
+        activeLayerEffects = reloadLayeredEffects(activeLayerEffects, layerChanged, effectsChangesCount, game, "layer_5");
 
         Map<ContinuousEffect, List<Ability>> appliedEffectAbilities = new HashMap<>();
         boolean done = false;
@@ -1137,57 +1217,64 @@ public class ContinuousEffects implements Serializable {
         return object != null && object.hasAbility(ability, game);
     }
 
-    private void applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game, String timestampGroupName) {
+    /**
+     * Apply all effects of the layer
+     *
+     * @return false if layer has no effects to apply (objects are not changed)
+     */
+    private boolean applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game, String timestampGroupName) {
         List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, currentLayer);
         // layer is a list of all effects at the current layer
-        if (!layer.isEmpty()) {
-            int numberOfEffects = layer.size();
-            // appliedEffects holds the list of effects currently applied to the layer
-            Set<UUID> appliedEffects = new HashSet<>();
-            // waitingEffects holds the list of dependent effects and their independent counterparts
-            Map<ContinuousEffect, Set<UUID>> waitingEffects = new LinkedHashMap<>();
-            for (ContinuousEffect effect : layer) {
-                if (numberOfEffects > 1) {
-                    // If an effect is dependent to not applied effects yet of this layer, so wait to apply this effect
-                    // check to see if any effect is dependent to other cards indirectly due to the independent card being dependent, etc.
-                    Set<UUID> dependentTo = effect.isDependentTo(layer);
-                    if (!appliedEffects.containsAll(dependentTo)) {
-                        waitingEffects.put(effect, dependentTo);
-                        continue;
-                    }
+        if (layer.isEmpty()) {
+            return false;
+        }
+        int numberOfEffects = layer.size();
+        // appliedEffects holds the list of effects currently applied to the layer
+        Set<UUID> appliedEffects = new HashSet<>();
+        // waitingEffects holds the list of dependent effects and their independent counterparts
+        Map<ContinuousEffect, Set<UUID>> waitingEffects = new LinkedHashMap<>();
+        for (ContinuousEffect effect : layer) {
+            if (numberOfEffects > 1) {
+                // If an effect is dependent to not applied effects yet of this layer, so wait to apply this effect
+                // check to see if any effect is dependent to other cards indirectly due to the independent card being dependent, etc.
+                Set<UUID> dependentTo = effect.isDependentTo(layer);
+                if (!appliedEffects.containsAll(dependentTo)) {
+                    waitingEffects.put(effect, dependentTo);
+                    continue;
                 }
-                // apply the effect
-                applyContinuousEffect(effect, currentLayer, game);
-                // add it to the applied effects list
-                appliedEffects.add(effect.getId());
-                layer = getLayeredEffects(game, timestampGroupName);
-
-                // check waiting effects to see if it has anything to check
-                if (!waitingEffects.isEmpty()) {
-                    // check if waiting effects can be applied now
-                    for (Entry<ContinuousEffect, Set<UUID>> entry : waitingEffects.entrySet()) {
-                        // all dependent to effects are applied now so apply the effect itself
-                        if (appliedEffects.containsAll(entry.getValue())) {
-                            applyContinuousEffect(entry.getKey(), currentLayer, game);
-                            // add it to the applied effects list
-                            appliedEffects.add(entry.getKey().getId());
-                            layer = getLayeredEffects(game, timestampGroupName);
-                        }
+            }
+            // apply the effect
+            applyContinuousEffect(effect, currentLayer, game);
+            // add it to the applied effects list
+            appliedEffects.add(effect.getId());
+            layer = getLayeredEffects(game, timestampGroupName);
+
+            // check waiting effects to see if it has anything to check
+            if (!waitingEffects.isEmpty()) {
+                // check if waiting effects can be applied now
+                for (Entry<ContinuousEffect, Set<UUID>> entry : waitingEffects.entrySet()) {
+                    // all dependent to effects are applied now so apply the effect itself
+                    if (appliedEffects.containsAll(entry.getValue())) {
+                        applyContinuousEffect(entry.getKey(), currentLayer, game);
+                        // add it to the applied effects list
+                        appliedEffects.add(entry.getKey().getId());
+                        layer = getLayeredEffects(game, timestampGroupName);
                     }
                 }
-                if (numberOfEffects != appliedEffects.size()) {
-                    for (Entry<ContinuousEffect, Set<UUID>> entry : waitingEffects.entrySet()) {
-                        // all dependent to effects are applied now so apply the effect itself
-                        if (appliedEffects.containsAll(entry.getValue())) {
-                            applyContinuousEffect(entry.getKey(), currentLayer, game);
-                            // add it to the applied effects list
-                            appliedEffects.add(entry.getKey().getId());
-                            layer = getLayeredEffects(game, timestampGroupName);
-                        }
+            }
+            if (numberOfEffects != appliedEffects.size()) {
+                for (Entry<ContinuousEffect, Set<UUID>> entry : waitingEffects.entrySet()) {
+                    // all dependent to effects are applied now so apply the effect itself
+                    if (appliedEffects.containsAll(entry.getValue())) {
+                        applyContinuousEffect(entry.getKey(), currentLayer, game);
+                        // add it to the applied effects list
+                        appliedEffects.add(entry.getKey().getId());
+                        layer = getLayeredEffects(game, timestampGroupName);
                     }
                 }
             }
         }
+        return true;
     }
 
     private void applyContinuousEffect(ContinuousEffect effect, Layer currentLayer, Game game) {
@@ -7,11 +7,15 @@ import mage.cards.Card;
 import mage.constants.Duration;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
+import mage.util.CardUtil;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * @param <T>
@@ -24,6 +28,13 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
     // the effectAbilityMap holds for each effect all abilities that are connected (used) with this effect
     private final Map<UUID, Set<Ability>> effectAbilityMap = new HashMap<>();
 
+    // effects index by event type (optimization for replacement and rule modifying effects, see ContinuousEffect.getCheckedEventTypes)
+    // it builds on demand and resets on any list change, so all list modification methods must be overridden
+    private transient Map<GameEvent.EventType, List<T>> eventTypeIndex = null;
+
+    // list changes counter (helps to find out unchanged effects between layers, see ContinuousEffects.apply)
+    private transient long changesCount = 0;
+
     public ContinuousEffectsList() {
     }
 
@@ -211,6 +222,41 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         this.add(effect);
     }
 
+    /**
+     * Find all effects that can check the event type (effects order is the same as in the list)
+     * <p>
+     * Warning, result is read only
+     */
+    public List<T> getEffectsForEventType(GameEvent.EventType eventType) {
+        if (eventTypeIndex == null) {
+            eventTypeIndex = new EnumMap<>(GameEvent.EventType.class);
+        }
+        return eventTypeIndex.computeIfAbsent(eventType, needType -> {
+            List<T> res = new ArrayList<>();
+            for (T effect : this) {
+                Set<GameEvent.EventType> eventTypes = CardUtil.isEventTypesDeclarationSupported(effect, "checksEventType")
+                        ? effect.getCheckedEventTypes()
+                        : null;
+                if (eventTypes == null || eventTypes.contains(needType)) {
+                    res.add(effect);
+                }
+            }
+            return res.isEmpty() ? Collections.emptyList() : res;
+        });
+    }
+
+    private void resetEventTypeIndex() {
+        eventTypeIndex = null;
+        changesCount++;
+    }
+
+    /**
+     * Counter of list changes, the same value means the same effects and abilities
+     */
+    public long getChangesCount() {
+        return changesCount;
+    }
+
     public Set<Ability> getAbility(UUID effectId) {
         return effectAbilityMap.computeIfAbsent(effectId, x -> new HashSet<>());
     }
@@ -229,6 +275,93 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
     public void clear() {
         super.clear();
         effectAbilityMap.clear();
+        resetEventTypeIndex();
+    }
+
+    @Override
+    public boolean add(T effect) {
+        resetEventTypeIndex();
+        return super.add(effect);
+    }
+
+    @Override
+    public void add(int index, T effect) {
+        resetEventTypeIndex();
+        super.add(index, effect);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> effects) {
+        resetEventTypeIndex();
+        return super.addAll(effects);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> effects) {
+        resetEventTypeIndex();
+        return super.addAll(index, effects);
+    }
+
+    @Override
+    public T set(int index, T effect) {
+        resetEventTypeIndex();
+        return super.set(index, effect);
+    }
+
+    @Override
+    public T remove(int index) {
+        // also used by iterator's remove
+        resetEventTypeIndex();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object effect) {
+        resetEventTypeIndex();
+        return super.remove(effect);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> effects) {
+        resetEventTypeIndex();
+        return super.removeAll(effects);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> effects) {
+        resetEventTypeIndex();
+        return super.retainAll(effects);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        resetEventTypeIndex();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        // also used by sub list's clear
+        resetEventTypeIndex();
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        resetEventTypeIndex();
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        resetEventTypeIndex();
+        super.sort(comparator);
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        // sub list changes some data directly (e.g. set, removeIf), so it can't be used to modify the list
+        return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
     }
 
     @Override
@@ -16,6 +16,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 import mage.game.stack.StackAbility;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -49,6 +52,11 @@ public class CantBeTargetedAttachedEffect extends ContinuousRuleModifyingEffectI
         return event.getType() == GameEvent.EventType.TARGET;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGET);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Permanent attachment = game.getPermanent(source.getSourceId());
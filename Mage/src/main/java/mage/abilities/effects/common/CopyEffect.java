@@ -51,7 +51,7 @@ public class CopyEffect extends ContinuousEffectImpl {
         // must copy the default side of the card (example: clone with mdf card)
         if (!(copyFromObject instanceof Permanent) && (copyFromObject instanceof Card)) {
             Card newBluePrint = CardUtil.getDefaultCardSideForBattlefield(game, (Card) copyFromObject);
-            this.copyFromObject = new PermanentCard(newBluePrint, source.getControllerId(), game);
+            this.copyFromObject = new PermanentCard(newBluePrint.copy(), source.getControllerId(), game);
         }
 
         Permanent permanent = game.getPermanent(copyToObjectId);
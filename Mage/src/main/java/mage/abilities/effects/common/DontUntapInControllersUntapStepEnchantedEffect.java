@@ -9,6 +9,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author nantuko
  */
@@ -49,6 +52,11 @@ public class DontUntapInControllersUntapStepEnchantedEffect extends ContinuousRu
         return event.getType() == GameEvent.EventType.UNTAP;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (game.getTurnStepType() == PhaseStep.UNTAP) {
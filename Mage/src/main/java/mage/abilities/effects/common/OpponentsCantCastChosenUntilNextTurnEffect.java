@@ -11,6 +11,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * This effect must be used in tandem with ChooseACardNameEffect
  */
@@ -45,6 +48,11 @@ public class OpponentsCantCastChosenUntilNextTurnEffect extends ContinuousRuleMo
         return event.getType() == GameEvent.EventType.CAST_SPELL_LATE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL_LATE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (!game.getOpponents(source.getControllerId()).contains(event.getPlayerId())) {
@@ -11,7 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.token.Token;
 import mage.game.permanent.token.TreasureToken;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -37,6 +39,11 @@ public class ReplaceTreasureWithAdditionalEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.CREATE_TOKEN;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREATE_TOKEN);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (!(event instanceof CreateTokenEvent) || !source.isControlledBy(event.getPlayerId())) {
@@ -1,6 +1,8 @@
 
 package mage.abilities.effects.common.continuous;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.Mana;
@@ -89,6 +91,11 @@ public class CommanderManaReplacementEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.ADD_MANA;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ADD_MANA);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return event.getPlayerId().equals(playerId);
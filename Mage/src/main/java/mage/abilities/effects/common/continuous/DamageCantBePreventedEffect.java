@@ -7,6 +7,9 @@ import mage.constants.Outcome;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class DamageCantBePreventedEffect extends ContinuousRuleModifyingEffectImpl {
 
     public DamageCantBePreventedEffect(Duration duration) {
@@ -28,6 +31,11 @@ public class DamageCantBePreventedEffect extends ContinuousRuleModifyingEffectIm
         return event.getType() == GameEvent.EventType.PREVENT_DAMAGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PREVENT_DAMAGE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return true;
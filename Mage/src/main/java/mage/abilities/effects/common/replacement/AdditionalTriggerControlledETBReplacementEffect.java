@@ -9,6 +9,9 @@ import mage.game.events.EntersTheBattlefieldEvent;
 import mage.game.events.GameEvent;
 import mage.game.events.NumberOfTriggersEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -34,6 +37,11 @@ public class AdditionalTriggerControlledETBReplacementEffect extends Replacement
         return event.getType() == GameEvent.EventType.NUMBER_OF_TRIGGERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.NUMBER_OF_TRIGGERS);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (!(event instanceof NumberOfTriggersEvent)) {
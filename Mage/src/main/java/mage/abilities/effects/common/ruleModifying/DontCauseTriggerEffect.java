@@ -14,6 +14,9 @@ import mage.game.events.NumberOfTriggersEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
@@ -64,6 +67,11 @@ public class DontCauseTriggerEffect extends ContinuousRuleModifyingEffectImpl {
         return event.getType() == GameEvent.EventType.NUMBER_OF_TRIGGERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.NUMBER_OF_TRIGGERS);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (filterTriggering != null) {
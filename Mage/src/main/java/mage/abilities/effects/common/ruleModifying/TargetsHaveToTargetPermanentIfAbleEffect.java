@@ -15,7 +15,9 @@ import mage.game.stack.StackObject;
 import mage.players.Player;
 import mage.target.Target;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -63,6 +65,11 @@ public class TargetsHaveToTargetPermanentIfAbleEffect extends ContinuousRuleModi
         return event.getType() == GameEvent.EventType.TARGETS_VALID;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETS_VALID);
+    }
+
     @Override
     public String getInfoMessage(Ability source, GameEvent event, Game game) {
         MageObject mageObject = game.getObject(source);
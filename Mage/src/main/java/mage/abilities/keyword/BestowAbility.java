@@ -134,6 +134,7 @@ public class BestowAbility extends SpellAbility {
             }
             permanent.getSubtype().remove(SubType.AURA);
             permanent.addCardType(CardType.CREATURE);
+            game.getBattlefield().resetIndexes(); // static type changes
         }
     }
 
@@ -13,6 +13,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.players.Player;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * If you would draw a card, you may mill X cards instead. If you do, return
  * this card from your graveyard to your hand.
@@ -83,6 +86,11 @@ class DredgeEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.DRAW_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DRAW_CARD);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Player owner = game.getPlayer(game.getCard(source.getSourceId()).getOwnerId());
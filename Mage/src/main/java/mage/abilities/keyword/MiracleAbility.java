@@ -17,6 +17,9 @@ import mage.players.Player;
 import mage.target.targetpointer.FixedTarget;
 import mage.watchers.common.MiracleWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 702.92. Miracle
  * <p>
@@ -97,6 +100,11 @@ public class MiracleAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.MIRACLE_CARD_REVEALED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MIRACLE_CARD_REVEALED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getTargetId().equals(this.getSourceId())) {
@@ -10,6 +10,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /*
  * 702.87. Umbra Armor
  *
@@ -69,6 +72,11 @@ class UmbraArmorEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.DESTROY_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         Permanent sourcePermanent = source.getSourcePermanentIfItStillExists(game);
@@ -92,6 +92,62 @@ public class ManaOptions extends LinkedHashSet<Mana> {
         }
     }
 
+    /**
+     * Returns all mana variations of the source, so it can be added to options later (see ManaOptionsLattice).
+     * Fires same events and uses same triggered mana as addMana(abilities, game)
+     *
+     * @param abilities source's mana abilities
+     * @param netManas  net mana of each ability
+     * @return empty list if source can't produce mana
+     */
+    public static List<Mana> getManaVariations(List<ActivatedManaAbilityImpl> abilities, List<List<Mana>> netManas, Game game) {
+        List<Mana> res = new ArrayList<>();
+        if (abilities.size() == 1) {
+            ActivatedManaAbilityImpl ability = abilities.get(0);
+            List<Mana> abilityNetManas = netManas.get(0);
+            if (abilityNetManas.size() == 1) {
+                checkManaReplacementAndTriggeredMana(ability, game, abilityNetManas.get(0));
+                res.addAll(getTriggeredManaVariations(game, ability, abilityNetManas.get(0).copy()));
+            } else {
+                for (Mana netMana : abilityNetManas) {
+                    if (!ability.hasTapCost() || checkManaReplacementAndTriggeredMana(ability, game, netMana)) {
+                        res.add(netMana.copy());
+                    }
+                }
+            }
+        } else {
+            for (int i = 0; i < abilities.size(); i++) {
+                ActivatedManaAbilityImpl ability = abilities.get(i);
+                for (Mana netMana : netManas.get(i)) {
+                    checkManaReplacementAndTriggeredMana(ability, game, netMana);
+                    res.addAll(getTriggeredManaVariations(game, ability, netMana));
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Adds each mana variation to all existing options (see getManaVariations)
+     */
+    public void addManaVariations(List<Mana> variations) {
+        if (isEmpty()) {
+            this.add(new Mana());
+        }
+        if (variations.isEmpty()) {
+            return;
+        }
+        List<Mana> copy = new ArrayList<>(this);
+        this.clear();
+        for (Mana variation : variations) {
+            for (Mana mana : copy) {
+                Mana newMana = mana.copy();
+                newMana.add(variation);
+                this.add(newMana);
+            }
+        }
+    }
+
     private void addManaVariation(List<Mana> netManas, ActivatedManaAbilityImpl ability, Game game) {
         Mana newMana;
 
@@ -127,7 +183,7 @@ public class ManaOptions extends LinkedHashSet<Mana> {
      * @param mana
      * @return false if mana production was completely replaced
      */
-    private boolean checkManaReplacementAndTriggeredMana(Ability ability, Game game, Mana mana) {
+    private static boolean checkManaReplacementAndTriggeredMana(Ability ability, Game game, Mana mana) {
         if (ability.hasTapCost()) {
             ManaEvent event = new TappedForManaEvent(ability.getSourceId(), ability, ability.getControllerId(), mana, game);
             if (game.replaceEvent(event)) {
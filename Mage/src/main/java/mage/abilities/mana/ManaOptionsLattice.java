@@ -0,0 +1,273 @@
+package mage.abilities.mana;
+
+import mage.ConditionalMana;
+import mage.Mana;
+import mage.game.Game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fast available mana calculation for mana sources without mana costs (lands, mana rocks, mana dorks).
+ * <p>
+ * ManaOptions cross-multiplies all options with all variations of each new source and removes duplicates/worse options
+ * at the end, so it's too slow for many multi-colored sources (commander games). Lattice uses packed mana
+ * (one long per mana option, one byte per mana type) and removes dominated options (less mana of each type)
+ * after each source, so options amount stays small:
+ * - sources with one variation (basic lands, Sol Ring) are just added to the base mana, without any options;
+ * - sources with multiple variations (dual lands, any color sources) are combined with existing options.
+ * <p>
+ * Events and triggered mana of the sources are processed the same way as in ManaOptions (see getManaVariations).
+ * Unsupported sources (conditional mana, too big amount of mana) must be added by ManaOptions.
+ * <p>
+ * Devs only: use -Dxmage.manaOptionsLatticeCrossCheck=true to compare results with ManaOptions in real games
+ *
+ * @author agent
+ */
+public class ManaOptionsLattice {
+
+    // use lattice for available mana calculation (see PlayerImpl.getManaAvailable), ManaOptions will be used on false
+    // disabled by default until it's cross-checked in real games, use -Dxmage.manaOptionsLattice=true to enable it
+    private static final String ENABLED_PROP = "xmage.manaOptionsLattice";
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ENABLED_PROP));
+    // devs only: compare lattice with ManaOptions in real games, log errors and use ManaOptions on differences
+    private static final String CROSS_CHECK_PROP = "xmage.manaOptionsLatticeCrossCheck";
+    private static final boolean CROSS_CHECK = Boolean.parseBoolean(System.getProperty(CROSS_CHECK_PROP));
+
+    // packed mana: W U B R G C generic any, one byte per type, max value must keep high bit free for compare
+    private static final int MAX_MANA_VALUE = 127;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final int SHIFT_WHITE = 0;
+    private static final int SHIFT_BLUE = 8;
+    private static final int SHIFT_BLACK = 16;
+    private static final int SHIFT_RED = 24;
+    private static final int SHIFT_GREEN = 32;
+    private static final int SHIFT_COLORLESS = 40;
+    private static final int SHIFT_GENERIC = 48;
+    private static final int SHIFT_ANY = 56;
+
+    private final ManaOptions targetOptions; // unsupported sources and final result
+
+    private long baseMana = 0; // mana of sources with single variation, same for all options
+    private long[] options = new long[]{0};
+    private int optionsCount = 1;
+
+    /**
+     * @param targetOptions options to add unsupported sources and final result (see finish)
+     */
+    public ManaOptionsLattice(ManaOptions targetOptions) {
+        this.targetOptions = targetOptions;
+    }
+
+    /**
+     * Add mana source to the options
+     *
+     * @param abilities source's mana abilities without mana costs
+     * @return false if source is not supported (nothing changed), so it must be added by ManaOptions
+     */
+    public boolean addSource(List<ActivatedManaAbilityImpl> abilities, Game game) {
+        if (abilities.isEmpty()) {
+            return true;
+        }
+
+        // check before any events
+        List<List<Mana>> netManas = new ArrayList<>(abilities.size());
+        for (ActivatedManaAbilityImpl ability : abilities) {
+            List<Mana> netMana = ability.getNetMana(game);
+            for (Mana mana : netMana) {
+                if (!canPack(mana)) {
+                    return false;
+                }
+            }
+            netManas.add(netMana);
+        }
+
+        List<Mana> variations = ManaOptions.getManaVariations(abilities, netManas, game);
+        long[] packedVariations = new long[variations.size()];
+        int variationsCount = 0;
+        boolean canUsePacked = true;
+        for (Mana mana : variations) {
+            if (!canPack(mana)) {
+                // triggered mana can be unsupported too
+                canUsePacked = false;
+                break;
+            }
+            long packed = pack(mana);
+            if (indexOf(packedVariations, variationsCount, packed) < 0) {
+                packedVariations[variationsCount++] = packed;
+            }
+        }
+        if (!canUsePacked || !canAdd(packedVariations, variationsCount)) {
+            targetOptions.addManaVariations(variations);
+            return true;
+        }
+
+        if (variationsCount == 1) {
+            baseMana += packedVariations[0];
+        } else if (variationsCount > 1) {
+            addVariations(packedVariations, variationsCount);
+        }
+        return true;
+    }
+
+    /**
+     * Add all found options to the target options
+     */
+    public void finish() {
+        ManaOptions res = new ManaOptions();
+        for (int i = 0; i < optionsCount; i++) {
+            res.add(unpack(options[i] + baseMana));
+        }
+        targetOptions.addMana(res);
+
+        baseMana = 0;
+        options = new long[]{0};
+        optionsCount = 1;
+    }
+
+    private void addVariations(long[] variations, int variationsCount) {
+        // same order as ManaOptions: variation by variation
+        long[] newOptions = new long[optionsCount * variationsCount];
+        int newCount = 0;
+        for (int v = 0; v < variationsCount; v++) {
+            for (int i = 0; i < optionsCount; i++) {
+                long newOption = options[i] + variations[v];
+                if (indexOf(newOptions, newCount, newOption) < 0) {
+                    newOptions[newCount++] = newOption;
+                }
+            }
+        }
+
+        // remove dominated options (all mana types are less or equal to another option)
+        int count = 0;
+        for (int i = 0; i < newCount; i++) {
+            boolean dominated = false;
+            for (int j = 0; j < newCount; j++) {
+                if (i != j && includes(newOptions[j], newOptions[i])) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                newOptions[count++] = newOptions[i];
+            }
+        }
+
+        options = newOptions;
+        optionsCount = count;
+    }
+
+    private boolean canAdd(long[] variations, int variationsCount) {
+        long maxOption = baseMana;
+        for (int i = 0; i < optionsCount; i++) {
+            maxOption = max(maxOption, options[i] + baseMana);
+        }
+        for (int v = 0; v < variationsCount; v++) {
+            // sum of two valid values can't overflow to the next type, so high bit means too big value
+            if (((maxOption + variations[v]) & HIGH_BITS) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(long[] values, int count, long value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Is all mana types of the first mana greater or equal to the second mana
+     */
+    static boolean includes(long mana, long manaPart) {
+        // each type of (mana + 128) - manaPart keeps high bit only for greater or equal values
+        return (((mana | HIGH_BITS) - manaPart) & HIGH_BITS) == HIGH_BITS;
+    }
+
+    /**
+     * Max value of each mana type
+     */
+    static long max(long mana1, long mana2) {
+        long res = 0;
+        for (int shift = 0; shift < 64; shift += 8) {
+            res |= Math.max((mana1 >>> shift) & 0xFF, (mana2 >>> shift) & 0xFF) << shift;
+        }
+        return res;
+    }
+
+    static boolean canPack(Mana mana) {
+        return !(mana instanceof ConditionalMana)
+                && !mana.getFlag()
+                && mana.getWhite() <= MAX_MANA_VALUE
+                && mana.getBlue() <= MAX_MANA_VALUE
+                && mana.getBlack() <= MAX_MANA_VALUE
+                && mana.getRed() <= MAX_MANA_VALUE
+                && mana.getGreen() <= MAX_MANA_VALUE
+                && mana.getColorless() <= MAX_MANA_VALUE
+                && mana.getGeneric() <= MAX_MANA_VALUE
+                && mana.getAny() <= MAX_MANA_VALUE;
+    }
+
+    static long pack(Mana mana) {
+        return ((long) mana.getWhite() << SHIFT_WHITE)
+                | ((long) mana.getBlue() << SHIFT_BLUE)
+                | ((long) mana.getBlack() << SHIFT_BLACK)
+                | ((long) mana.getRed() << SHIFT_RED)
+                | ((long) mana.getGreen() << SHIFT_GREEN)
+                | ((long) mana.getColorless() << SHIFT_COLORLESS)
+                | ((long) mana.getGeneric() << SHIFT_GENERIC)
+                | ((long) mana.getAny() << SHIFT_ANY);
+    }
+
+    static Mana unpack(long mana) {
+        return new Mana(
+                (int) ((mana >>> SHIFT_WHITE) & 0xFF),
+                (int) ((mana >>> SHIFT_BLUE) & 0xFF),
+                (int) ((mana >>> SHIFT_BLACK) & 0xFF),
+                (int) ((mana >>> SHIFT_RED) & 0xFF),
+                (int) ((mana >>> SHIFT_GREEN) & 0xFF),
+                (int) ((mana >>> SHIFT_GENERIC) & 0xFF),
+                (int) ((mana >>> SHIFT_ANY) & 0xFF),
+                (int) ((mana >>> SHIFT_COLORLESS) & 0xFF)
+        );
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static boolean isCrossCheckEnabled() {
+        return ENABLED && CROSS_CHECK;
+    }
+
+    /**
+     * Compare mana options from different calculations (order independent)
+     *
+     * @return null on same options or error message
+     */
+    public static String findDifference(ManaOptions options1, ManaOptions options2) {
+        List<String> list1 = toSortedStrings(options1);
+        List<String> list2 = toSortedStrings(options2);
+        if (list1.equals(list2)) {
+            return null;
+        }
+        return "found different mana options: " + options1 + " and " + options2;
+    }
+
+    private static List<String> toSortedStrings(ManaOptions options) {
+        String[] res = new String[options.size()];
+        int i = 0;
+        for (Mana mana : options) {
+            res[i++] = mana instanceof ConditionalMana
+                    ? mana.toString() + ((ConditionalMana) mana).getConditionString()
+                    : mana.toString();
+        }
+        Arrays.sort(res);
+        return Arrays.asList(res);
+    }
+}
@@ -40,6 +40,18 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     private static final Logger logger = Logger.getLogger(CardImpl.class);
 
+    // card constructors cache (cards creates from classes on db scan, decks loading, boosters generation, etc)
+    private static final ClassValue<Constructor<?>> cardSetConstructors = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                return type.getConstructor(UUID.class, CardSetInfo.class);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
     protected UUID ownerId;
     protected Rarity rarity;
     protected Class<? extends Card> secondSideCardClazz;
@@ -55,6 +67,21 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     protected List<UUID> attachments = new ArrayList<>();
     protected boolean extraDeckCard = false;
 
+    private static final CardState EMPTY_CARD_STATE = new CardState(); // read-only usage only, see getAbilities(game)
+
+    // getAbilities(game) cache: all abilities list and data used to build it (list must be rebuilt on any data changes)
+    private transient Abilities<Ability> cachedAbilities = null;
+    private transient Abilities<Ability> cachedBaseAbilities;
+    private transient long cachedBaseAbilitiesVersion;
+    private transient CardState cachedCardState;
+    private transient Abilities<Ability> cachedStateAbilities;
+    private transient long cachedStateAbilitiesVersion;
+    private transient boolean cachedLostAllAbilities;
+    private transient CardState cachedMainCardState;
+    private transient Abilities<Ability> cachedMainStateAbilities;
+    private transient long cachedMainStateAbilitiesVersion;
+    private transient boolean cachedMainLostAllAbilities;
+
     protected CardImpl(UUID ownerId, CardSetInfo setInfo, CardType[] cardTypes, String costs) {
         this(ownerId, setInfo, cardTypes, costs, SpellAbilityType.BASE);
     }
@@ -187,7 +214,10 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
                 card = (Card) con.newInstance(new Object[]{null});
             } else {
                 setCode = setInfo.getExpansionSetCode();
-                Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
+                Constructor<?> con = cardSetConstructors.get(clazz);
+                if (con == null) {
+                    con = clazz.getConstructor(UUID.class, CardSetInfo.class); // raise error
+                }
                 card = (Card) con.newInstance(null, setInfo);
             }
             return card;
@@ -263,13 +293,23 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
             return abilities; // deck editor with empty game
         }
 
-        CardState cardState = game.getState().getCardState(this.getId());
+        // read-only access, so card states stay shared between game copies
+        CardState cardState = game.getState().readCardState(this.getId());
         if (cardState == null) {
-            return abilities;
+            // part without own state still can get abilities from main card's state
+            cardState = EMPTY_CARD_STATE;
+        }
+
+        // all abilities calls very often (each permanent on each check), so it uses cached list until data changes
+        CardState mainCardState = this.getId().equals(this.getMainCard().getId())
+                ? null
+                : game.getState().readCardState(this.getMainCard().getId());
+        if (isCachedAbilitiesActual(cardState, mainCardState)) {
+            return cachedAbilities;
         }
 
         // collects all abilities
-        Abilities<Ability> all = new AbilitiesImpl<>();
+        AbilitiesImpl<Ability> all = new AbilitiesImpl<>();
 
         // basic
         if (!cardState.hasLostAllAbilities()) {
@@ -281,7 +321,6 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
         // workaround to add dynamic flashback ability from main card to all parts (example: Snapcaster Mage gives flashback to split card)
         if (!this.getId().equals(this.getMainCard().getId())) {
-            CardState mainCardState = game.getState().getCardState(this.getMainCard().getId());
             if (this.getSpellAbility() != null // lands can't be casted (haven't spell ability), so ignore it
                     && mainCardState != null
                     && !mainCardState.hasLostAllAbilities()
@@ -295,9 +334,37 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
             }
         }
 
+        cachedAbilities = all.setReadOnly(); // shared result, so it must be unmodifiable
+        cachedBaseAbilities = abilities;
+        cachedBaseAbilitiesVersion = abilities.getVersion();
+        cachedCardState = cardState;
+        cachedStateAbilities = cardState.getAbilities();
+        cachedStateAbilitiesVersion = cachedStateAbilities.getVersion();
+        cachedLostAllAbilities = cardState.hasLostAllAbilities();
+        cachedMainCardState = mainCardState;
+        cachedMainStateAbilities = mainCardState == null ? null : mainCardState.getAbilities();
+        cachedMainStateAbilitiesVersion = mainCardState == null ? 0 : cachedMainStateAbilities.getVersion();
+        cachedMainLostAllAbilities = mainCardState != null && mainCardState.hasLostAllAbilities();
         return all;
     }
 
+    private boolean isCachedAbilitiesActual(CardState cardState, CardState mainCardState) {
+        if (cachedAbilities == null
+                || cachedBaseAbilities != abilities
+                || cachedBaseAbilitiesVersion != abilities.getVersion()
+                || cachedCardState != cardState
+                || cachedLostAllAbilities != cardState.hasLostAllAbilities()
+                || cachedStateAbilities != cardState.getAbilities()
+                || cachedStateAbilitiesVersion != cachedStateAbilities.getVersion()
+                || cachedMainCardState != mainCardState) {
+            return false;
+        }
+        return mainCardState == null
+                || (cachedMainLostAllAbilities == mainCardState.hasLostAllAbilities()
+                && cachedMainStateAbilities == mainCardState.getAbilities()
+                && cachedMainStateAbilitiesVersion == cachedMainStateAbilities.getVersion());
+    }
+
     @Override
     public void looseAllAbilities(Game game) {
         CardState cardState = game.getState().getCardState(this.getId());
@@ -590,7 +657,8 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public boolean isFaceDown(Game game) {
-        return game.getState().getCardState(objectId).isFaceDown();
+        CardState cardState = game.getState().readCardState(objectId);
+        return cardState != null && cardState.isFaceDown();
     }
 
     @Override
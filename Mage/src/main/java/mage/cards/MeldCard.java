@@ -4,6 +4,7 @@ import mage.abilities.Ability;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.counters.Counter;
+import mage.game.CardState;
 import mage.game.Game;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
@@ -46,7 +47,8 @@ public abstract class MeldCard extends CardImpl {
     }
 
     public boolean isMelded(Game game) {
-        return game.getState().getCardState(getId()).isMelded();
+        CardState cardState = game.getState().readCardState(getId());
+        return cardState != null && cardState.isMelded();
     }
 
     public Card getTopHalfCard() {
@@ -12,6 +12,11 @@ import mage.util.ClassScanner;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -20,6 +25,10 @@ import java.util.*;
 public class Sets extends HashMap<String, ExpansionSet> {
 
     private static final Logger logger = Logger.getLogger(Sets.class);
+
+    // generated by SetsIndexProcessor on Mage.Sets build
+    public static final String SETS_INDEX_RESOURCE = "mage/sets/sets.index";
+
     private static final Sets instance = new Sets();
 
     public static Sets getInstance() {
@@ -29,9 +38,7 @@ public class Sets extends HashMap<String, ExpansionSet> {
     private final Set<String> customSets = new HashSet<>();
 
     private Sets() {
-        List<String> packages = new ArrayList<>();
-        packages.add("mage.sets");
-        for (Class c : ClassScanner.findClasses(null, packages, ExpansionSet.class)) {
+        for (Class c : findSetClasses()) {
             try {
                 addSet((ExpansionSet) c.getMethod("getInstance").invoke(null));
             } catch (Exception ex) {
@@ -40,6 +47,46 @@ public class Sets extends HashMap<String, ExpansionSet> {
         }
     }
 
+    /**
+     * Search set classes by generated sets index (fast) or by jars scanning (old builds without index)
+     */
+    private static List<Class> findSetClasses() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        List<Class> setClasses = new ArrayList<>();
+        boolean indexFound = false;
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(SETS_INDEX_RESOURCE);
+            while (indexes.hasMoreElements()) {
+                indexFound = true;
+                URL index = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String className;
+                    while ((className = reader.readLine()) != null) {
+                        className = className.trim();
+                        if (className.isEmpty()) {
+                            continue;
+                        }
+                        try {
+                            setClasses.add(Class.forName(className, true, classLoader));
+                        } catch (ClassNotFoundException e) {
+                            logger.warn("Sets index contains unknown set class, rebuild Mage.Sets: " + className);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Can't read sets index: " + e, e);
+            indexFound = false;
+        }
+
+        if (!indexFound) {
+            logger.info("Can't find sets index, so sets will be searched by jars scanning (rebuild Mage.Sets to generate it)");
+            setClasses.clear();
+            setClasses.addAll(ClassScanner.findClasses(classLoader, Collections.singletonList(SetsIndexProcessor.SETS_PACKAGE), ExpansionSet.class));
+        }
+        return setClasses;
+    }
+
     public void addSet(ExpansionSet set) {
         if (containsKey(set.getCode())) {
             throw new IllegalArgumentException("Set code " + set.getCode() + " already exists.");
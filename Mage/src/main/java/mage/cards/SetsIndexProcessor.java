@@ -0,0 +1,77 @@
+package mage.cards;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Build time: generates sets index with all set classes (see Sets.SETS_INDEX_RESOURCE),
+ * so runtime can load sets without jar scanning.
+ * <p>
+ * Compiler plugin of Mage.Sets runs it as annotation processor. It searches set classes in the package
+ * (source and already compiled files), so partial compilation of changed files generates full index too.
+ *
+ * @author agent
+ */
+@SupportedAnnotationTypes("*")
+public class SetsIndexProcessor extends AbstractProcessor {
+
+    public static final String SETS_PACKAGE = "mage.sets";
+
+    private boolean generated = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (generated || roundEnv.processingOver()) {
+            return false;
+        }
+        generated = true;
+
+        PackageElement setsPackage = processingEnv.getElementUtils().getPackageElement(SETS_PACKAGE);
+        TypeElement setType = processingEnv.getElementUtils().getTypeElement(ExpansionSet.class.getCanonicalName());
+        if (setsPackage == null || setType == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Sets index: can't find sets package or ExpansionSet class");
+            return false;
+        }
+
+        TypeMirror setTypeMirror = processingEnv.getTypeUtils().erasure(setType.asType());
+        Set<String> setClasses = new TreeSet<>();
+        for (Element element : setsPackage.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.CLASS
+                    && element.getModifiers().contains(Modifier.PUBLIC)
+                    && !element.getModifiers().contains(Modifier.ABSTRACT)
+                    && processingEnv.getTypeUtils().isAssignable(element.asType(), setTypeMirror)) {
+                setClasses.add(((TypeElement) element).getQualifiedName().toString());
+            }
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", Sets.SETS_INDEX_RESOURCE);
+            try (Writer writer = file.openWriter()) {
+                for (String className : setClasses) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Sets index: can't write index file: " + e);
+        }
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Sets index: found " + setClasses.size() + " sets");
+        return false;
+    }
+}
@@ -332,6 +332,27 @@ public enum CardRepository {
         return null;
     }
 
+    /**
+     * All cards numbers in db (include night cards), can be used for fast check of existing cards
+     *
+     * @return set code - cards numbers
+     */
+    public Map<String, Set<String>> getCardNumbersBySet() {
+        Map<String, Set<String>> res = new HashMap<>();
+        try {
+            QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
+            queryBuilder.selectColumns("setCode", "cardNumber");
+            GenericRawResults<String[]> query = cardsDao.queryRaw(queryBuilder.prepareStatementString());
+            for (String[] row : query.getResults()) {
+                res.computeIfAbsent(row[0], k -> new HashSet<>()).add(row[1]);
+            }
+        } catch (Exception e) {
+            Logger.getLogger(CardRepository.class).error("Error getting cards numbers from DB: " + e, e);
+            processMemoryErrors(e);
+        }
+        return res;
+    }
+
     public List<String> getClassNames() {
         List<String> names = new ArrayList<>();
         try {
@@ -1,12 +1,16 @@
 package mage.cards.repository;
 
 import mage.cards.*;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * @author North
@@ -15,6 +19,9 @@ public final class CardScanner {
 
     public static boolean scanned = false;
 
+    private static final int SCAN_MAX_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final int SCAN_CARDS_PER_TASK = 500;
+
     private static final Logger logger = Logger.getLogger(CardScanner.class);
 
     public static void scan() {
@@ -27,13 +34,15 @@ public final class CardScanner {
         }
         scanned = true;
 
-        List<CardInfo> cardsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToUpdate = new ArrayList<>();
 
         // check sets
+        Map<String, ExpansionInfo> dbSets = ExpansionRepository.instance.getAll()
+                .stream()
+                .collect(Collectors.toMap(info -> info.code, info -> info, (a, b) -> a));
         for (ExpansionSet set : Sets.getInstance().values()) {
-            ExpansionInfo expansionInfo = ExpansionRepository.instance.getSetByCode(set.getCode());
+            ExpansionInfo expansionInfo = dbSets.get(set.getCode());
             if (expansionInfo == null) {
                 // need add
                 setsToAdd.add(new ExpansionInfo(set));
@@ -51,35 +60,102 @@ public final class CardScanner {
         ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
         // check cards (only add mode, without updates)
-        for (ExpansionSet set : Sets.getInstance().values()) {
+        // find new cards by one db query (all cards numbers per set)
+        Map<String, Set<String>> dbCardNumbers = CardRepository.instance.getCardNumbersBySet();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        List<CardInfo> cardsToAdd = createNewCards(Sets.getInstance().values(), dbCardNumbers, errors);
+        if (errorsList != null) {
+            errorsList.addAll(errors);
+        }
+        CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
+    }
+
+    /**
+     * Create db records for all cards from the sets that are not in the db yet
+     *
+     * @param dbCardNumbers cards numbers per set code from the db
+     * @param errors        card creation errors (must be thread safe)
+     * @return new cards in sets order
+     */
+    public static List<CardInfo> createNewCards(Collection<ExpansionSet> sets, Map<String, Set<String>> dbCardNumbers, List<String> errors) {
+        List<CardSetInfoWithClass> newCards = new ArrayList<>();
+        for (ExpansionSet set : sets) {
+            Set<String> setCardNumbers = dbCardNumbers.getOrDefault(set.getCode(), Collections.emptySet());
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
-                if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
+                if (!setCardNumbers.contains(setInfo.getCardNumber())) {
                     // found new card
-                    Card card = CardImpl.createCard(
+                    newCards.add(new CardSetInfoWithClass(
                             setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        // Adds only main card, except night cards.
-
-                        // TODO: remove night cards from sets and db someday
-                        // Possible reasons for night cards in sets:
-                        // - direct put night card to battlefield by name in tests;
-                        // - images download;
-                        // - in old days xmage client was able to works without card classes, e.g.
-                        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
-
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
-                        }
-                    }
+                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo())
+                    ));
                 }
             }
         }
-        CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
+        if (newCards.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // create new cards in parallel threads (it's a slowest part on empty db)
+        // it uses own threads instead common pool, so scan can't block or be blocked by other parallel tasks
+        int threads = Math.max(1, Math.min(SCAN_MAX_THREADS, newCards.size() / SCAN_CARDS_PER_TASK));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CARDS_SCAN, true));
+        try {
+            List<Future<List<CardInfo>>> tasks = new ArrayList<>();
+            for (int i = 0; i < newCards.size(); i += SCAN_CARDS_PER_TASK) {
+                List<CardSetInfoWithClass> taskCards = newCards.subList(i, Math.min(i + SCAN_CARDS_PER_TASK, newCards.size()));
+                tasks.add(executor.submit(() -> createCardInfos(taskCards, errors)));
+            }
+            List<CardInfo> res = new ArrayList<>(newCards.size());
+            for (Future<List<CardInfo>> task : tasks) {
+                res.addAll(task.get());
+            }
+            return res;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cards scan interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cards scan failed: " + e.getCause(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<CardInfo> createCardInfos(List<CardSetInfoWithClass> cards, List<String> errors) {
+        List<CardInfo> res = new ArrayList<>();
+        for (CardSetInfoWithClass info : cards) {
+            Card card = CardImpl.createCard(info.cardClass, info.setInfo, errors);
+            if (card == null) {
+                continue;
+            }
+
+            // Adds only main card, except night cards.
+
+            // TODO: remove night cards from sets and db someday
+            // Possible reasons for night cards in sets:
+            // - direct put night card to battlefield by name in tests;
+            // - images download;
+            // - in old days xmage client was able to works without card classes, e.g.
+            //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
+
+            res.add(new CardInfo(card));
+            if (card instanceof SplitCard) {
+                SplitCard splitCard = (SplitCard) card;
+                res.add(new CardInfo(splitCard.getLeftHalfCard()));
+                res.add(new CardInfo(splitCard.getRightHalfCard()));
+            }
+        }
+        return res;
+    }
+
+    private static final class CardSetInfoWithClass {
+
+        private final Class<?> cardClass;
+        private final CardSetInfo setInfo;
+
+        private CardSetInfoWithClass(Class<?> cardClass, CardSetInfo setInfo) {
+            this.cardClass = cardClass;
+            this.setInfo = setInfo;
+        }
     }
 
     public static List<Card> getAllCards() {
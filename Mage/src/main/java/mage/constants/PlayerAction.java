@@ -45,6 +45,7 @@ public enum PlayerAction {
     REQUEST_AUTO_ANSWER_TEXT_NO,
     REQUEST_AUTO_ANSWER_RESET_ALL,
     CLIENT_DOWNLOAD_SYMBOLS,
+    CLIENT_RESET_GAME_DATA, // client can't restore delta data, so server must send full game data again
     CLIENT_QUIT_TOURNAMENT,
     CLIENT_QUIT_DRAFT_TOURNAMENT,
     CLIENT_CONCEDE_GAME,
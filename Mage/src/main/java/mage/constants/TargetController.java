@@ -190,7 +190,7 @@ public enum TargetController {
         }
 
         /**
-         * For tests
+         * For tests and filters pre-check
          */
         public TargetController getController() {
             return this.controller;
@@ -13,7 +13,9 @@ import mage.game.events.DamagedBatchForPlayersEvent;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -61,6 +63,11 @@ class InitiativeDamageTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_PLAYERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_PLAYERS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         DamagedBatchForPlayersEvent dEvent = (DamagedBatchForPlayersEvent) event;
@@ -132,6 +139,11 @@ class InitiativeVentureTriggeredAbility extends TriggeredAbilityImpl {
                 || event.getType() == GameEvent.EventType.TOOK_INITIATIVE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE, GameEvent.EventType.TOOK_INITIATIVE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         UUID playerId;
@@ -18,6 +18,9 @@ public abstract class FilterImpl<E> implements Filter<E> {
     protected String message;
     protected boolean lockedFilter; // Helps to prevent "accidentally" modifying the StaticFilters objects
 
+    // flat predicates list for fast matching (filters can be called million times per game), see Predicates.compileAnd
+    private transient volatile Predicate[] compiledPredicates = null;
+
     @Override
     public abstract FilterImpl<E> copy();
 
@@ -34,10 +37,27 @@ public abstract class FilterImpl<E> implements Filter<E> {
 
     @Override
     public boolean match(E e, Game game) {
-        if (checkObjectClass(e)) {
-            return Predicates.and(predicates).apply(e, game);
+        if (!checkObjectClass(e)) {
+            return false;
+        }
+        for (Predicate predicate : getCompiledPredicates()) {
+            if (!predicate.apply(e, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Predicates in checking order (cached until filter changes)
+     */
+    protected final Predicate[] getCompiledPredicates() {
+        Predicate[] res = compiledPredicates;
+        if (res == null) {
+            res = Predicates.compileAnd(predicates);
+            compiledPredicates = res;
         }
-        return false;
+        return res;
     }
 
     @Override
@@ -46,6 +66,7 @@ public abstract class FilterImpl<E> implements Filter<E> {
             throw new UnsupportedOperationException("You may not modify a locked filter");
         }
         predicates.add(predicate);
+        compiledPredicates = null;
         return this;
     }
 
@@ -75,6 +96,10 @@ public abstract class FilterImpl<E> implements Filter<E> {
     @Override
     public void setLockedFilter(boolean lockedFilter) {
         this.lockedFilter = lockedFilter;
+        if (lockedFilter) {
+            // static filters are shared between games, so prepare it before usage
+            getCompiledPredicates();
+        }
     }
 
     public List<Predicate<? super E>> getPredicates() {
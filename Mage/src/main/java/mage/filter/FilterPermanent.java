@@ -1,7 +1,9 @@
 package mage.filter;
 
 import mage.abilities.Ability;
+import mage.constants.CardType;
 import mage.constants.SubType;
+import mage.constants.TargetController;
 import mage.filter.predicate.ObjectSourcePlayer;
 import mage.filter.predicate.ObjectSourcePlayerPredicate;
 import mage.filter.predicate.Predicate;
@@ -57,7 +59,12 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
             return false;
         }
         ObjectSourcePlayer<Permanent> osp = new ObjectSourcePlayer<>(permanent, playerId, source);
-        return extraPredicates.stream().allMatch(p -> p.apply(osp, game));
+        for (int i = 0; i < extraPredicates.size(); i++) {
+            if (!extraPredicates.get(i).apply(osp, game)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public final void add(ObjectSourcePlayerPredicate predicate) {
@@ -71,6 +78,33 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
         extraPredicates.add(predicate);
     }
 
+    /**
+     * Fast pre-check: permanent must have that card type to match the filter (can be used for indexed search)
+     *
+     * @return card type or null if filter can match any card type
+     */
+    public CardType getRequiredCardType() {
+        for (Predicate predicate : getCompiledPredicates()) {
+            if (predicate instanceof CardType.CardTypePredicate) {
+                return ((CardType.CardTypePredicate) predicate).getCardType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fast pre-check: permanent must be controlled by filter's player to match the filter (can be used for indexed search)
+     */
+    public boolean isControlledByPlayerRequired() {
+        for (Predicate predicate : extraPredicates) {
+            if (predicate instanceof TargetController.ControllerPredicate
+                    && ((TargetController.ControllerPredicate) predicate).getController() == TargetController.YOU) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public FilterPermanent copy() {
         return new FilterPermanent(this);
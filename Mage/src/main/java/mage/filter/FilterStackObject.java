@@ -39,7 +39,12 @@ public class FilterStackObject extends FilterObject<StackObject> {
             return false;
         }
         ObjectSourcePlayer<StackObject> osp = new ObjectSourcePlayer<>(stackObject, playerId, source);
-        return extraPredicates.stream().allMatch(p -> p.apply(osp, game));
+        for (int i = 0; i < extraPredicates.size(); i++) {
+            if (!extraPredicates.get(i).apply(osp, game)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public final void add(ObjectSourcePlayerPredicate predicate) {
@@ -1,5 +1,9 @@
 package mage.filter.predicate;
 
+import mage.constants.CardType;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.filter.predicate.permanent.TokenPredicate;
 import mage.game.Game;
 
 import java.lang.reflect.ParameterizedType;
@@ -151,8 +155,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().allMatch(predicate -> predicate.apply(t, game));
-
+            for (int i = 0; i < components.size(); i++) {
+                if (!components.get(i).apply(t, game)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
@@ -176,7 +184,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().anyMatch(predicate -> predicate.apply(t, game));
+            for (int i = 0; i < components.size(); i++) {
+                if (components.get(i).apply(t, game)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -227,6 +240,37 @@ public final class Predicates {
         return sb.toString();
     }
 
+    /**
+     * Compile "and" predicates to flat array for fast matching (see FilterImpl):
+     * - inner "and" predicates replaced by its components;
+     * - cheap checks moves to the start (card type, tapped, token, controller), other checks keep original order.
+     */
+    public static Predicate[] compileAnd(List<? extends Predicate> components) {
+        List<Predicate> flat = new ArrayList<>(components.size());
+        collectAndComponents(components, flat);
+        List<Predicate> res = new ArrayList<>(flat.size());
+        flat.stream().filter(Predicates::isCheapPredicate).forEach(res::add);
+        flat.stream().filter(p -> !isCheapPredicate(p)).forEach(res::add);
+        return res.toArray(new Predicate[0]);
+    }
+
+    private static void collectAndComponents(List<? extends Predicate> components, List<Predicate> res) {
+        for (Predicate predicate : components) {
+            if (predicate instanceof AndPredicate) {
+                collectAndComponents(((AndPredicate<?>) predicate).components, res);
+            } else {
+                res.add(checkNotNull(predicate));
+            }
+        }
+    }
+
+    private static boolean isCheapPredicate(Predicate predicate) {
+        return predicate instanceof CardType.CardTypePredicate
+                || predicate instanceof TappedPredicate
+                || predicate instanceof TokenPredicate
+                || predicate instanceof ControllerIdPredicate;
+    }
+
     /**
      * Collect real predicates for searching some data (see dependency effect code)
      */
@@ -104,6 +104,13 @@ public class CardState implements Serializable, Copyable<CardState> {
         setLostAllAbilities(false);
     }
 
+    /**
+     * Has abilities from effects, see clearAbilities
+     */
+    public boolean hasChangedAbilities() {
+        return abilities != null || lostAllAbilities;
+    }
+
     public void clear() {
         counters.clear();
         info.clear();
@@ -591,6 +591,19 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
     // game options
     void setGameOptions(GameOptions options);
 
+    /**
+     * Game's own random for all random things in the game (shuffles, dice rolls, coin flips, AI choices, etc),
+     * game thread uses it for RandomUtil calls too
+     */
+    Random getRandom();
+
+    long getRandomSeed();
+
+    /**
+     * Restart game's random with a new seed (e.g. to reproduce a game or for tests)
+     */
+    void setRandomSeed(long randomSeed);
+
     // game times
     Date getStartTime();
 
@@ -80,6 +80,7 @@ import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -131,12 +132,17 @@ public abstract class GameImpl implements Game {
     protected transient GameStates gameStates = new GameStates();
 
     // game states to allow player rollback
-    protected transient Map<Integer, GameState> gameStatesRollBack = new HashMap<>();
+    protected transient Map<Integer, PackedGameState> gameStatesRollBack = new HashMap<>(); // turn rollback history (packed to keep memory usage low)
     protected transient boolean executingRollback;
     protected transient int turnToGoToForRollback;
 
     protected Date startTime;
     protected Date endTime;
+
+    // game's own random for shuffles, dice rolls and other random things (game can be reproduced by same seed)
+    private long randomSeed = RandomUtil.nextLong();
+    private Random random = new Random(randomSeed);
+    private final AtomicLong copiesCount = new AtomicLong(); // seeds for game copies (copies can be made from diff threads)
     protected UUID startingPlayerId;
     protected UUID winnerId;
     protected boolean gameStopped = false;
@@ -217,6 +223,10 @@ public abstract class GameImpl implements Game {
 
         this.startTime = game.startTime;
         this.endTime = game.endTime;
+        // game copy must not change random values of the original game (e.g. on AI simulations), so use independent random for it,
+        // but with seed from the original game, so same game seed gives same copies
+        this.randomSeed = game.nextCopySeed();
+        this.random = new Random(this.randomSeed);
         this.startingPlayerId = game.startingPlayerId;
         this.winnerId = game.winnerId;
         this.gameStopped = game.gameStopped;
@@ -1030,9 +1040,15 @@ public abstract class GameImpl implements Game {
     @Override
     public void start(UUID choosingPlayerId) {
         startTime = new Date();
+        logger.info("Game started, gameId: " + getId() + ", random seed: " + randomSeed);
         if (state.getPlayers().values().iterator().hasNext()) {
-            init(choosingPlayerId);
-            play(startingPlayerId);
+            Random oldRandom = RandomUtil.setThreadRandom(random);
+            try {
+                init(choosingPlayerId);
+                play(startingPlayerId);
+            } finally {
+                RandomUtil.setThreadRandom(oldRandom);
+            }
         }
     }
 
@@ -1165,6 +1181,15 @@ public abstract class GameImpl implements Game {
 
     @Override
     public void resume() {
+        Random oldRandom = RandomUtil.setThreadRandom(random);
+        try {
+            resumePlay();
+        } finally {
+            RandomUtil.setThreadRandom(oldRandom);
+        }
+    }
+
+    private void resumePlay() {
         playerList = state.getPlayerList(state.getActivePlayerId());
         Player player = getPlayer(playerList.get());
         boolean wasPaused = state.isPaused();
@@ -1512,7 +1537,7 @@ public abstract class GameImpl implements Game {
         UUID[] players = getPlayers().keySet().toArray(new UUID[0]);
         UUID playerId;
         while (!hasEnded()) {
-            playerId = players[RandomUtil.nextInt(players.length)];
+            playerId = players[random.nextInt(players.length)];
             Player player = getPlayer(playerId);
             if (player != null && player.canRespond()) {
                 fireInformEvent(state.getPlayer(playerId).getLogName() + " won the toss");
@@ -2504,7 +2529,7 @@ public abstract class GameImpl implements Game {
         // real remove
         copiedCardsToRemove.forEach(card -> {
             card.setZone(Zone.OUTSIDE, this);
-            this.getState().getCopiedCards().remove(card);
+            this.getState().removeCopiedCard(card);
             // must keep card in game state as LKI alternative until LKI rework, so don't remove from it
             // TODO: change after LKI rework
             //this.getState().removeValue(GameState.COPIED_CARD_KEY + copiedCard.getId().toString());
@@ -3623,7 +3648,8 @@ public abstract class GameImpl implements Game {
             // Must save all card parts (mdf, split)
             CardUtil.getObjectParts(object).forEach(partId -> {
                 Map<UUID, CardState> lkiMap = lkiCardState.computeIfAbsent(zone, k -> new HashMap<>());
-                lkiMap.put(partId, getState().getCardState(partId).copy());
+                CardState partState = getState().readCardState(partId);
+                lkiMap.put(partId, partState == null ? new CardState() : partState.copy());
             });
         }
     }
@@ -3773,6 +3799,31 @@ public abstract class GameImpl implements Game {
         return true;
     }
 
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
+    @Override
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    @Override
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+        this.random = new Random(randomSeed);
+        this.copiesCount.set(0);
+    }
+
+    private long nextCopySeed() {
+        // splitmix64, so near seeds give independent randoms
+        long seed = randomSeed + copiesCount.incrementAndGet() * 0x9E3779B97F4A7C15L;
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        return seed ^ (seed >>> 31);
+    }
+
     @Override
     public Date getStartTime() {
         if (startTime == null) {
@@ -3920,7 +3971,7 @@ public abstract class GameImpl implements Game {
             if (toDelete > 0) {
                 gameStatesRollBack.remove(toDelete);
             }
-            gameStatesRollBack.put(getTurnNum(), state.copy());
+            gameStatesRollBack.put(getTurnNum(), PackedGameState.packInBackground(state.copy()));
         }
     }
 
@@ -3931,7 +3982,8 @@ public abstract class GameImpl implements Game {
     }
 
     private void rollbackTurnsExecution(int turnToGoToForRollback) {
-        GameState restore = gameStatesRollBack.get(turnToGoToForRollback);
+        PackedGameState packedRestore = gameStatesRollBack.get(turnToGoToForRollback);
+        GameState restore = packedRestore == null ? null : packedRestore.unpack();
         if (restore != null) {
             informPlayers(GameLog.getPlayerRequestColoredText("Player request: Rolling back to start of turn " + restore.getTurnNum()));
             state.restoreForRollBack(restore);
@@ -3939,8 +3991,7 @@ public abstract class GameImpl implements Game {
             // Reset temporary created bookmarks because no longer valid after rollback
             savedStates.clear();
             gameStates.clear();
-            // because restore uses the objects without copy each copy the state again
-            gameStatesRollBack.put(getTurnNum(), state.copy());
+            // packed state unpacks to new objects on each usage, so it can be used for next rollback as is
 
             for (Player playerObject : getPlayers().values()) {
                 if (playerObject.isInGame()) {
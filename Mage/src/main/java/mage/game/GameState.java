@@ -1,15 +1,21 @@
 package mage.game;
 
+import mage.ConditionalMana;
 import mage.MageObject;
 import mage.MageObjectReference;
 import mage.abilities.*;
 import mage.abilities.effects.ContinuousEffect;
 import mage.abilities.effects.ContinuousEffects;
+import mage.abilities.effects.ContinuousEffectsList;
 import mage.abilities.effects.Effect;
 import mage.cards.*;
+import mage.constants.ManaType;
 import mage.constants.PhaseStep;
+import mage.constants.SubType;
+import mage.constants.SuperType;
 import mage.constants.TurnPhase;
 import mage.constants.Zone;
+import mage.counters.Counter;
 import mage.designations.Designation;
 import mage.filter.common.FilterCreaturePermanent;
 import mage.game.combat.Combat;
@@ -29,11 +35,14 @@ import mage.game.turn.Phase;
 import mage.game.turn.Step;
 import mage.game.turn.Turn;
 import mage.game.turn.TurnMods;
+import mage.players.ManaPool;
 import mage.players.Player;
 import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
 import mage.util.CardUtil;
+import mage.util.CopyOnWriteMap;
+import mage.util.CopyOnWriteValue;
 import mage.util.Copyable;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
@@ -68,7 +77,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     // revealed cards <Name, <Cards>>, will be reset if all players pass priority
     private final Revealed revealed;
-    private final Map<UUID, LookedAt> lookedAt = new HashMap<>();
+    private CopyOnWriteValue<Map<UUID, LookedAt>> lookedAt = new CopyOnWriteValue<>(new HashMap<>(), false);
     private final Revealed companion;
 
     private SpecialActions specialActions;
@@ -98,23 +107,25 @@ public class GameState implements Serializable, Copyable<GameState> {
     private DelayedTriggeredAbilities delayed; // all delayed triggers
     private List<TriggeredAbility> triggered = new ArrayList<>(); // raised triggers, waiting to resolve (can contains both normal and delayed)
     private Combat combat;
-    private Map<String, Object> values = new HashMap<>();
-    private Map<UUID, Zone> zones = new HashMap<>();
+    private CopyOnWriteMap<String, Object> values = new CopyOnWriteMap<>(CardUtil::deepCopyObject, false);
+    private CopyOnWriteValue<Map<UUID, Zone>> zones = new CopyOnWriteValue<>(new HashMap<>(), false);
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
-    private Map<UUID, CardState> cardState = new HashMap<>();
+    private CopyOnWriteMap<UUID, CardState> cardState = new CopyOnWriteMap<>(CardState::copy, true);
     private Map<MageObjectReference, Map<String, Object>> permanentCostsTags = new HashMap<>(); // Permanent reference -> map of (tag -> values) describing how the permanent's spell was cast
     private Map<UUID, MageObjectAttribute> mageObjectAttribute = new HashMap<>();
-    private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
-    private Map<UUID, Card> copiedCards = new HashMap<>();
+    private CopyOnWriteValue<Map<UUID, Integer>> zoneChangeCounter = new CopyOnWriteValue<>(new HashMap<>(), false);
+    private CopyOnWriteValue<Map<UUID, Card>> copiedCards = new CopyOnWriteValue<>(new HashMap<>(), false);
     private int permanentOrderNumber;
     private final Map<UUID, FilterCreaturePermanent> usePowerInsteadOfToughnessForDamageLethalityFilters = new HashMap<>();
-    private Set<MageObjectReference> commandersToStay = new HashSet<>(); // commanders that do not go back to command zone
+    private CopyOnWriteValue<Set<MageObjectReference>> commandersToStay = new CopyOnWriteValue<>(new HashSet<>(), false); // commanders that do not go back to command zone
     private boolean manaBurn = false;
     private boolean hasDayNight = false;
     private boolean isDaytime = true;
     private boolean reverseTurnOrder = false;
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
+    private long eventsCounter; // Upcounting number of each handled or replaced event (cheap state version for caches)
+    private long generation; // Upcounting number of each restore and copy (counters above can be same after it)
 
     public GameState() {
         players = new Players();
@@ -141,7 +152,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.playerList = state.playerList.copy();
         this.choosingPlayerId = state.choosingPlayerId;
         this.revealed = state.revealed.copy();
-        this.lookedAt.putAll(state.lookedAt);
+        this.lookedAt = state.lookedAt.copy();
         this.companion = state.companion.copy();
         this.gameOver = state.gameOver;
         this.paused = state.paused;
@@ -172,19 +183,21 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.combat = state.combat.copy();
         this.turnMods = state.turnMods.copy();
         this.watchers = state.watchers.copy();
-        this.values = CardUtil.deepCopyObject(state.values);
-        this.zones.putAll(state.zones);
+        this.values = state.values.copy();
+        this.zones = state.zones.copy();
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        this.cardState = CardUtil.deepCopyObject(state.cardState);
+        this.cardState = state.cardState.copy();
         this.permanentCostsTags = CardUtil.deepCopyObject(state.permanentCostsTags);
         this.mageObjectAttribute = CardUtil.deepCopyObject(state.mageObjectAttribute);
-        this.zoneChangeCounter.putAll(state.zoneChangeCounter);
-        this.copiedCards.putAll(state.copiedCards);
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
+        this.copiedCards = state.copiedCards.copy();
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.eventsCounter = state.eventsCounter;
+        this.generation = state.generation + 1;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
-        this.commandersToStay.addAll(state.commandersToStay);
+        this.commandersToStay = state.commandersToStay.copy();
         this.hasDayNight = state.hasDayNight;
         this.isDaytime = state.isDaytime;
         this.reverseTurnOrder = state.reverseTurnOrder;
@@ -210,7 +223,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         seenPlanes.clear();
         isPlaneChase = false;
         revealed.clear();
-        lookedAt.clear();
+        lookedAt = new CopyOnWriteValue<>(new HashMap<>(), false);
         companion.clear();
         turnNum = 1;
         stepNum = 0;
@@ -223,9 +236,9 @@ public class GameState implements Serializable, Copyable<GameState> {
         turnMods.clear();
         watchers.clear();
         values.clear();
-        zones.clear();
+        zones = new CopyOnWriteValue<>(new HashMap<>(), false);
         simultaneousEvents.clear();
-        copiedCards.clear();
+        copiedCards = new CopyOnWriteValue<>(new HashMap<>(), false);
         usePowerInsteadOfToughnessForDamageLethalityFilters.clear();
         permanentOrderNumber = 0;
     }
@@ -262,23 +275,26 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.combat = state.combat;
         this.turnMods = state.turnMods;
         this.watchers = state.watchers;
-        this.values = state.values;
+        this.values = state.values.copy();
         for (Player copyPlayer : state.players.values()) {
             Player origPlayer = players.get(copyPlayer.getId());
             origPlayer.restore(copyPlayer);
         }
-        this.zones = state.zones;
+        this.zones = state.zones.copy();
         this.simultaneousEvents = state.simultaneousEvents;
-        this.cardState = state.cardState;
+        this.cardState = state.cardState.copy();
         this.permanentCostsTags = state.permanentCostsTags;
         this.mageObjectAttribute = state.mageObjectAttribute;
-        this.zoneChangeCounter = state.zoneChangeCounter;
-        this.copiedCards = state.copiedCards;
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
+        this.copiedCards = state.copiedCards.copy();
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.eventsCounter = state.eventsCounter;
+        // restored state gets old counters, so it must be a new generation for the current and the restored states
+        this.generation = Math.max(this.generation, state.generation) + 1;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
-        this.commandersToStay = state.commandersToStay;
+        this.commandersToStay = state.commandersToStay.copy();
         this.hasDayNight = state.hasDayNight;
         this.isDaytime = state.isDaytime;
         this.reverseTurnOrder = state.reverseTurnOrder;
@@ -447,6 +463,166 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * AI related: fast analog of getValue for game simulations (64-bit hash of the game state)
+     * <p>
+     * Zobrist-like hashing: each object's data converts to pseudo random key and keys of unordered
+     * objects (permanents, cards in hand or graveyard) are combined by sum, so it doesn't need
+     * strings building or sorting. Same data gives same hash in any state copy.
+     *
+     * @param handOwnerId player with known hand (other hands are used by size only), null for all hands
+     */
+    public long getHashValue(Game game, UUID handOwnerId) {
+        long hash = hashOf(turnNum);
+        hash = hashOf(hash, turn.getPhaseType() == null ? -1 : turn.getPhaseType().ordinal());
+        hash = hashOf(hash, turn.getStep() == null ? -1 : turn.getStep().getType().ordinal());
+        hash = hashOf(hash, hashOf(activePlayerId));
+        hash = hashOf(hash, hashOf(priorityPlayerId));
+        hash = hashOf(hash, hashOf(playerByOrderId));
+
+        for (Player player : players.values()) {
+            hash = hashOf(hash, hashOf(player.getId()));
+            hash = hashOf(hash, player.isPassed() ? 1 : 0);
+            hash = hashOf(hash, player.getLife());
+            if (handOwnerId == null || handOwnerId.equals(player.getId())) {
+                hash = hashOf(hash, hashOfCards(player.getHand(), game));
+            } else {
+                hash = hashOf(hash, player.getHand().size());
+            }
+            hash = hashOf(hash, player.getLibrary().size());
+            hash = hashOf(hash, hashOfCards(player.getGraveyard(), game));
+            hash = hashOf(hash, player.hasLost() ? 1 : 0);
+            hash = hashOf(hash, player.hasWon() ? 1 : 0);
+            hash = hashOf(hash, player.getLandsPlayed());
+            long countersHash = 0;
+            for (Counter counter : player.getCountersAsCopy().values()) {
+                countersHash += hashOf(hashOf(counter.getName().hashCode(), counter.getCount()));
+            }
+            hash = hashOf(hash, countersHash);
+            hash = hashOf(hash, hashOfManaPool(player.getManaPool()));
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            permanentsHash += hashOfPermanent(permanent);
+        }
+        hash = hashOf(hash, permanentsHash);
+
+        for (StackObject spell : stack) {
+            hash = hashOf(hash, hashOf(spell.getControllerId()));
+            hash = hashOf(hash, spell.getName().hashCode());
+            hash = hashOf(hash, spell.getStackAbility().getClass().getName().hashCode());
+            for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
+                Mode mode = spell.getStackAbility().getModes().get(modeId);
+                for (Target target : mode.getTargets()) {
+                    for (UUID targetId : target.getTargets()) {
+                        hash = hashOf(hash, hashOf(targetId));
+                    }
+                }
+            }
+        }
+
+        for (ExileZone zone : exile.getExileZones()) {
+            hash = hashOf(hash, zone.getName().hashCode());
+            hash = hashOf(hash, hashOfCards(zone, game));
+        }
+
+        // effects with durations (e.g. until end of turn boosts and restrictions)
+        long effectsHash = 0;
+        for (ContinuousEffectsList<?> effectsList : effects.allEffectsLists) {
+            for (ContinuousEffect effect : effectsList) {
+                if (effect.isDiscarded()) {
+                    continue;
+                }
+                long effectHash = hashOf(effect.getClass().getName().hashCode(), effect.getDuration().ordinal());
+                for (Ability ability : effectsList.getAbility(effect.getId())) {
+                    effectHash = hashOf(effectHash, hashOf(ability.getSourceId()));
+                }
+                effectsHash += hashOf(effectHash);
+            }
+        }
+        hash = hashOf(hash, effectsHash);
+
+        for (CombatGroup group : combat.getGroups()) {
+            hash = hashOf(hash, hashOf(group.getDefenderId()));
+            for (UUID attackerId : group.getAttackers()) {
+                hash = hashOf(hash, hashOf(attackerId));
+            }
+            for (UUID blockerId : group.getBlockers()) {
+                hash = hashOf(hash, hashOf(blockerId));
+            }
+        }
+        return hash;
+    }
+
+    private long hashOfPermanent(Permanent permanent) {
+        long hash = hashOf(permanent.getControllerId());
+        hash = hashOf(hash, permanent.getName().hashCode());
+        hash = hashOf(hash, permanent.isTapped() ? 1 : 0);
+        hash = hashOf(hash, permanent.getDamage());
+        hash = hashOf(hash, permanent.wasControlledFromStartOfControllerTurn() ? 1 : 0); // summoning sickness
+        hash = hashOf(hash, permanent.isFaceDown(null) ? 1 : 0);
+        hash = hashOf(hash, permanent.isTransformed() ? 1 : 0);
+        hash = hashOf(hash, hashOf(permanent.getAttachedTo()));
+        for (SubType subType : permanent.getSubtype()) {
+            hash = hashOf(hash, subType.ordinal());
+        }
+        for (SuperType superType : permanent.getSuperType()) {
+            hash = hashOf(hash, superType.ordinal());
+        }
+        hash = hashOf(hash, permanent.getPower().getValue());
+        hash = hashOf(hash, permanent.getToughness().getValue());
+        long abilitiesHash = 0;
+        for (Ability ability : permanent.getAbilities()) {
+            abilitiesHash += hashOf(ability.getClass().getName().hashCode());
+        }
+        hash = hashOf(hash, abilitiesHash);
+        for (Counter counter : permanent.getCounters(this).values()) {
+            hash = hashOf(hash, counter.getName().hashCode());
+            hash = hashOf(hash, counter.getCount());
+        }
+        return hashOf(hash);
+    }
+
+    private static long hashOfManaPool(ManaPool manaPool) {
+        long hash = 0;
+        for (ManaType manaType : ManaType.values()) {
+            hash = hashOf(hash, manaPool.get(manaType));
+        }
+        for (ConditionalMana conditionalMana : manaPool.getConditionalMana()) {
+            hash = hashOf(hash, conditionalMana.count());
+        }
+        return hash;
+    }
+
+    private static long hashOfCards(Collection<UUID> cards, Game game) {
+        // same as Cards.getValue - cards are compared by names
+        long hash = 0;
+        for (UUID cardId : cards) {
+            Card card = game.getCard(cardId);
+            if (card != null) {
+                hash += hashOf(card.getName().hashCode());
+            }
+        }
+        return hash;
+    }
+
+    private static long hashOf(UUID id) {
+        return id == null ? 0 : hashOf(id.getMostSignificantBits() ^ hashOf(id.getLeastSignificantBits()));
+    }
+
+    private static long hashOf(long hash, long value) {
+        return hashOf(hash * 31 + value);
+    }
+
+    private static long hashOf(long value) {
+        // 64-bit mixer from SplitMix64, gives well distributed pseudo random keys
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -551,12 +727,12 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public LookedAt getLookedAt(UUID playerId) {
-        if (lookedAt.get(playerId) == null) {
-            LookedAt lookedAtCards = new LookedAt();
-            lookedAt.put(playerId, lookedAtCards);
-            return lookedAtCards;
+        LookedAt lookedAtCards = lookedAt.read().get(playerId);
+        if (lookedAtCards == null) {
+            lookedAtCards = new LookedAt();
+            lookedAt.write().put(playerId, lookedAtCards);
         }
-        return lookedAt.get(playerId);
+        return lookedAtCards;
     }
 
     public Revealed getCompanion() {
@@ -568,7 +744,9 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void clearLookedAt() {
-        lookedAt.clear();
+        if (!lookedAt.read().isEmpty()) {
+            lookedAt.write().clear();
+        }
     }
 
     public void clearCompanion() {
@@ -667,13 +845,18 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     void applyEffects(Game game) {
         applyEffectsCounter++;
-        for (Player player : players.values()) {
-            player.reset();
+        battlefield.startEffectsApplying();
+        try {
+            for (Player player : players.values()) {
+                player.reset();
+            }
+            battlefield.reset(game);
+            combat.reset(game);
+            this.reset();
+            effects.apply(game);
+        } finally {
+            battlefield.finishEffectsApplying();
         }
-        battlefield.reset(game);
-        combat.reset(game);
-        this.reset();
-        effects.apply(game);
         combat.checkForRemoveFromCombat(game);
     }
 
@@ -782,17 +965,19 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public Zone getZone(UUID id) {
-        if (id != null && zones.containsKey(id)) {
-            return zones.get(id);
+        if (id != null) {
+            return zones.read().get(id);
         }
         return null;
     }
 
     public void setZone(UUID id, Zone zone) {
         if (zone == null) {
-            zones.remove(id);
-        } else {
-            zones.put(id, zone);
+            if (zones.read().containsKey(id)) {
+                zones.write().remove(id);
+            }
+        } else if (zones.read().get(id) != zone) {
+            zones.write().put(id, zone);
         }
     }
 
@@ -1006,6 +1191,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        eventsCounter++;
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -1016,6 +1202,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        eventsCounter++;
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -1299,6 +1486,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public Object getValue(String valueId) {
+        // mutable value can be changed by caller, so it will be unshared on get
         return values.get(valueId);
     }
 
@@ -1320,9 +1508,9 @@ public class GameState implements Serializable, Copyable<GameState> {
             throw new IllegalArgumentException("Can't use empty search value");
         }
         Map<String, Object> res = new HashMap<>();
-        for (Map.Entry<String, Object> entry : this.values.entrySet()) {
-            if (entry.getKey().startsWith(startWithValue)) {
-                res.put(entry.getKey(), entry.getValue());
+        for (String key : this.values.keys()) {
+            if (key.startsWith(startWithValue)) {
+                res.put(key, this.values.get(key));
             }
         }
         return res;
@@ -1366,15 +1554,17 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @return
      */
     public Abilities<ActivatedAbility> getActivatedOtherAbilities(UUID objectId, Zone zone) {
-        if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities().getActivatedAbilities(zone);
+        CardState state = cardState.get(objectId);
+        if (state != null) {
+            return state.getAbilities().getActivatedAbilities(zone);
         }
         return null;
     }
 
     public Abilities<Ability> getAllOtherAbilities(UUID objectId) {
-        if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities();
+        CardState state = cardState.get(objectId);
+        if (state != null) {
+            return state.getAbilities();
         }
         return null;
     }
@@ -1418,10 +1608,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         newAbility.setSourceId(attachedTo.getId());
         newAbility.setControllerId(attachedTo.getOwnerId());
-        if (!cardState.containsKey(attachedTo.getId())) {
-            cardState.put(attachedTo.getId(), new CardState());
-        }
-        cardState.get(attachedTo.getId()).addAbility(newAbility);
+        getCardState(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
     }
 
@@ -1452,8 +1639,11 @@ public class GameState implements Serializable, Copyable<GameState> {
         // All gained abilities have to be removed to prevent adding it multiple times
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
-        for (CardState state : cardState.values()) {
-            state.clearAbilities();
+        // clear changed states only, so unchanged states can be shared with game copies
+        for (UUID cardId : cardState.keys()) {
+            if (cardState.read(cardId).hasChangedAbilities()) {
+                cardState.update(cardId).clearAbilities();
+            }
         }
         mageObjectAttribute.clear();
         this.setManaBurn(false);
@@ -1480,9 +1670,28 @@ public class GameState implements Serializable, Copyable<GameState> {
         return triggers;
     }
 
+    /**
+     * Card state for any usage (can be changed or kept by the caller)
+     */
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
-        return cardState.get(cardId);
+        return cardState.computeIfAbsent(cardId, k -> new CardState());
+    }
+
+    /**
+     * Card state for read-only usage, so it can stay shared between game copies.
+     * Caller must not change it, use getCardState for changes.
+     *
+     * @return null if card has no state yet
+     */
+    public CardState readCardState(UUID cardId) {
+        return cardState.read(cardId);
+    }
+
+    /**
+     * Card states amount shared with other game copies (for tests and debug)
+     */
+    public int getSharedCardStatesCount() {
+        return cardState.getSharedCount();
     }
 
     public MageObjectAttribute getMageObjectAttribute(UUID cardId) {
@@ -1529,7 +1738,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public int getZoneChangeCounter(UUID objectId) {
-        return zoneChangeCounter.getOrDefault(objectId, 1);
+        return zoneChangeCounter.read().getOrDefault(objectId, 1);
     }
 
     public void updateZoneChangeCounter(UUID objectId) {
@@ -1538,21 +1747,28 @@ public class GameState implements Serializable, Copyable<GameState> {
         setZoneChangeCounter(objectId, value);
 
         // card is changing zone so clear state
-        if (cardState.containsKey(objectId)) {
-            this.cardState.get(objectId).clear();
+        CardState state = cardState.update(objectId);
+        if (state != null) {
+            state.clear();
         }
     }
 
     public void setZoneChangeCounter(UUID objectId, int value) {
-        this.zoneChangeCounter.put(objectId, value);
+        this.zoneChangeCounter.write().put(objectId, value);
     }
 
     public Card getCopiedCard(UUID cardId) {
-        return copiedCards.get(cardId);
+        return copiedCards.read().get(cardId);
     }
 
     public Collection<Card> getCopiedCards() {
-        return copiedCards.values();
+        return Collections.unmodifiableCollection(copiedCards.read().values());
+    }
+
+    public void removeCopiedCard(Card card) {
+        if (copiedCards.read().containsKey(card.getId())) {
+            copiedCards.write().remove(card.getId());
+        }
     }
 
     /**
@@ -1629,7 +1845,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
         // add all parts to the game
         copiedParts.forEach(card -> {
-            copiedCards.put(card.getId(), card);
+            copiedCards.write().put(card.getId(), card);
             addCard(card, copyToZone);
         });
 
@@ -1656,6 +1872,22 @@ public class GameState implements Serializable, Copyable<GameState> {
         return applyEffectsCounter;
     }
 
+    /**
+     * Upcounting number of handled and replaced events. Any zone move, tap, mana or life change fires an event,
+     * so unchanged counter with unchanged applyEffectsCounter means the same game state (e.g. for GUI caches)
+     */
+    public long getEventsCounter() {
+        return eventsCounter;
+    }
+
+    /**
+     * Upcounting number of restores and copies. Restore (rollback, AI simulations) and copy's changes
+     * can lead to the same counters for another game state, so caches must check it with the counters
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
     public void addPowerInsteadOfToughnessForDamageLethalityFilter(UUID source, FilterCreaturePermanent filter) {
         usePowerInsteadOfToughnessForDamageLethalityFilters.put(source, filter);
     }
@@ -1669,11 +1901,11 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     boolean checkCommanderShouldStay(Card card, Game game) {
-        return commandersToStay.stream().anyMatch(mor -> mor.refersTo(card, game));
+        return commandersToStay.read().stream().anyMatch(mor -> mor.refersTo(card, game));
     }
 
     void setCommanderShouldStay(Card card, Game game) {
-        commandersToStay.add(new MageObjectReference(card, game));
+        commandersToStay.write().add(new MageObjectReference(card, game));
     }
 
     public void setManaBurn(boolean manaBurn) {
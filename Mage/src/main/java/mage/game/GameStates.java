@@ -1,61 +1,146 @@
-
 package mage.game;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import org.apache.log4j.Logger;
 
 /**
+ * Game states history for undo and replays
+ * <p>
+ * Newest states are kept as is for fast undo, older states are packed to compressed
+ * data in background (see PackedGameState) and restored on demand only.
+ * <p>
+ * Game thread works with history, but server's reports can read it too, so all methods are synchronized.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
-    private final List<GameState> states;
+
+    // how many newest states keep unpacked (most of the undo/rollback requests go to the latest bookmarks)
+    public static final int DEFAULT_MAX_UNPACKED_STATES = 3;
+
+    private final List<GameState> states; // unpacked state or null for packed
+    private final List<PackedGameState> packedStates; // packed state or null for unpacked
+    private final int maxUnpackedStates;
+    private boolean packingEnabled = true; // disables on unsupported data
 
     public GameStates() {
+        this(DEFAULT_MAX_UNPACKED_STATES);
+    }
+
+    /**
+     * @param maxUnpackedStates use negative value to disable packing
+     */
+    public GameStates(int maxUnpackedStates) {
         this.states = new ArrayList<>();
+        this.packedStates = new ArrayList<>();
+        this.maxUnpackedStates = maxUnpackedStates;
     }
 
-    public void save(GameState gameState) {
+    public synchronized void save(GameState gameState) {
         states.add(gameState.copy());
+        packedStates.add(null);
+        packOldStates();
         //logger.warn("states size: " + states.size());
     }
 
-    public int getSize() {
+    private void packOldStates() {
+        if (!packingEnabled || maxUnpackedStates < 0) {
+            return;
+        }
+        // states packs in save order, so first unpacked state is the oldest one
+        for (int i = states.size() - maxUnpackedStates - 1; i >= 0; i--) {
+            GameState state = states.get(i);
+            if (state == null) {
+                // already packed, so check result of the newest packing (without waiting)
+                PackedGameState packed = packedStates.get(i);
+                if (packed.isPackingDone() && !packed.isPacked()) {
+                    // unsupported data, so no needs to pack next states
+                    packingEnabled = false;
+                }
+                break;
+            }
+            // history keeps own state's copy, so it can be packed in background without game thread's delay
+            states.set(i, null);
+            packedStates.set(i, PackedGameState.packInBackground(state));
+        }
+    }
+
+    public synchronized int getSize() {
         return states.size();
     }
 
-    public GameState rollback(int index) {
+    public synchronized GameState rollback(int index) {
         if (!states.isEmpty() && index < states.size()) {
             while (states.size() > index + 1) {
-                states.remove(states.size() - 1);
+                removeLast();
             }
             logger.trace("Rolling back state: " + index);
-            return states.get(index);
+            return get(index);
         }
         return null;
     }
 
-    public int remove(int index) {
+    public synchronized int remove(int index) {
         if (!states.isEmpty() && index < states.size()) {
             while (states.size() > index && !states.isEmpty()) {
-                states.remove(states.size() - 1);
+                removeLast();
             }
         }
         return states.size();
     }
 
-    public GameState get(int index) {
+    private void removeLast() {
+        PackedGameState packed = packedStates.remove(packedStates.size() - 1);
+        if (packed != null) {
+            packed.cancel();
+        }
+        states.remove(states.size() - 1);
+    }
+
+    public synchronized GameState get(int index) {
         if (index < states.size()) {
-            return states.get(index);
+            GameState state = states.get(index);
+            if (state == null) {
+                // packed state, so unpack it on each call (it keeps history memory usage low, waits for background packing)
+                state = packedStates.get(index).unpack();
+            }
+            return state;
         }
         return null;
     }
 
-    public void clear() {
+    public synchronized void clear() {
+        packedStates.stream().filter(Objects::nonNull).forEach(PackedGameState::cancel);
         states.clear();
+        packedStates.clear();
+    }
+
+    /**
+     * Memory usage by packed states (unpacked states and unfinished packing are not counted)
+     */
+    public synchronized long getPackedBytes() {
+        return packedStates.stream().filter(Objects::nonNull).mapToLong(PackedGameState::getSize).sum();
+    }
+
+    public synchronized int getPackedSize() {
+        return (int) packedStates.stream().filter(Objects::nonNull).count();
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        // saved game must contain finished data only
+        packedStates.stream().filter(Objects::nonNull).forEach(PackedGameState::waitPacking);
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "states: " + getSize() + " (packed: " + getPackedSize() + ", " + (getPackedBytes() / 1024) + " KB)";
     }
 }
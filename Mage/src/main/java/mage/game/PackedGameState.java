@@ -0,0 +1,254 @@
+package mage.game;
+
+import mage.util.StreamUtils;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressed snapshot of the game state for rollback history
+ * <p>
+ * Full game state can use megabytes of memory in a big game, but compressed data is much smaller, so
+ * old states from the history can be kept in packed form and restored on demand only.
+ * <p>
+ * Packing can be done in background (serialization and compression are too slow for a game thread),
+ * unpack waits for it to finish. Each unpack returns new independent state, so it can be used as a live
+ * game state without additional copy.
+ *
+ * @author agent
+ */
+public class PackedGameState implements Serializable {
+
+    private static final Logger logger = Logger.getLogger(PackedGameState.class);
+
+    // shared by all games, so keep it small (packing is not urgent, unpack waits for it anyway)
+    private static final int PACKING_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final ExecutorService packingExecutor;
+
+    static {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                PACKING_THREADS, PACKING_THREADS,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME_STATES_PACKING, true)
+        );
+        executor.allowCoreThreadTimeOut(true);
+        packingExecutor = executor;
+    }
+
+    private final int turnNum;
+    private volatile byte[] data;
+    private volatile GameState state; // state to pack or fallback for unsupported data (can't be packed)
+    private transient Future<?> packing;
+
+    // players and cards can be loaded by plugins, so remember class loaders of all packed classes
+    private transient volatile Map<String, ClassLoader> loaders;
+
+    private PackedGameState(GameState state) {
+        this.turnNum = state.getTurnNum();
+        this.state = state;
+    }
+
+    /**
+     * Pack game state to compressed bytes in current thread (no needs in state copy before pack)
+     * <p>
+     * If state contains unsupported data then it will be kept as unpacked copy
+     *
+     * @param state
+     * @return
+     */
+    public static PackedGameState pack(GameState state) {
+        PackedGameState packed = new PackedGameState(state);
+        packed.packData(true);
+        return packed;
+    }
+
+    /**
+     * Pack game state to compressed bytes in background thread
+     *
+     * @param stateCopy independent state's copy, caller must not use or change it after the call
+     * @return
+     */
+    public static PackedGameState packInBackground(GameState stateCopy) {
+        PackedGameState packed = new PackedGameState(stateCopy);
+        packed.packing = packingExecutor.submit(() -> packed.packData(false));
+        return packed;
+    }
+
+    private void packData(boolean copyOnFail) {
+        GameState sourceState = this.state;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream out = null;
+        try {
+            Map<String, ClassLoader> usedLoaders = new HashMap<>();
+            out = new LoaderTrackingObjectOutputStream(new GZIPOutputStream(bos), usedLoaders);
+            out.writeObject(sourceState);
+            out.close();
+            out = null;
+            this.loaders = usedLoaders;
+            this.data = bos.toByteArray();
+            this.state = null;
+        } catch (IOException e) {
+            logger.warn("Can't pack game state, it will be kept unpacked: " + e, e);
+            this.state = copyOnFail ? sourceState.copy() : sourceState;
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    /**
+     * Restore packed state (waits for background packing)
+     *
+     * @return new game state
+     * @throws IllegalStateException on broken data
+     */
+    public GameState unpack() {
+        waitPacking();
+        if (!isPacked()) {
+            return state.copy();
+        }
+        ObjectInputStream in = null;
+        try {
+            in = new LoaderTrackingObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(data)), this.loaders);
+            return (GameState) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Can't unpack game state for turn " + turnNum + ": " + e, e);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * Wait for background packing (if any)
+     */
+    public void waitPacking() {
+        Future<?> currentPacking = this.packing;
+        if (currentPacking == null) {
+            return;
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    currentPacking.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // must wait anyway, state is not ready
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Can't pack game state for turn " + turnNum + ": " + e, e);
+        } finally {
+            this.packing = null;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Cancel background packing, e.g. on removed state (packed object can't be used after that)
+     */
+    public void cancel() {
+        if (this.packing != null) {
+            this.packing.cancel(false);
+        }
+    }
+
+    public boolean isPackingDone() {
+        return this.packing == null || this.packing.isDone();
+    }
+
+    /**
+     * Packed data or not (state with unsupported data keeps unpacked), waits for background packing
+     */
+    public boolean isPacked() {
+        waitPacking();
+        return data != null;
+    }
+
+    public int getTurnNum() {
+        return turnNum;
+    }
+
+    /**
+     * Memory usage by packed data (0 until packing finished)
+     */
+    public int getSize() {
+        byte[] currentData = this.data;
+        return currentData == null ? 0 : currentData.length;
+    }
+
+    /**
+     * Remembers class loaders of all written classes, so unpack can find classes from any plugin
+     */
+    private static class LoaderTrackingObjectOutputStream extends ObjectOutputStream {
+
+        private final Map<String, ClassLoader> loaders;
+
+        LoaderTrackingObjectOutputStream(OutputStream out, Map<String, ClassLoader> loaders) throws IOException {
+            super(out);
+            this.loaders = loaders;
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cl) throws IOException {
+            ClassLoader loader = cl.getClassLoader();
+            if (loader != null) {
+                loaders.put(cl.getName(), loader);
+            }
+        }
+
+        @Override
+        protected void annotateProxyClass(Class<?> cl) throws IOException {
+            annotateClass(cl);
+        }
+    }
+
+    private static class LoaderTrackingObjectInputStream extends ObjectInputStream {
+
+        private final Map<String, ClassLoader> loaders; // can be null after load from saved game
+
+        LoaderTrackingObjectInputStream(InputStream in, Map<String, ClassLoader> loaders) throws IOException {
+            super(in);
+            this.loaders = loaders;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader loader = loaders == null ? null : loaders.get(desc.getName());
+            if (loader == null) {
+                loader = Thread.currentThread().getContextClassLoader();
+            }
+            if (loader == null) {
+                return super.resolveClass(desc);
+            }
+            try {
+                return Class.forName(desc.getName(), false, loader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
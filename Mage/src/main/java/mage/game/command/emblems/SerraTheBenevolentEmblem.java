@@ -12,6 +12,9 @@ import mage.game.command.Emblem;
 import mage.game.events.GameEvent;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -54,6 +57,11 @@ class SerraTheBenevolentEmblemEffect extends ReplacementEffectImpl {
         return event.getType() == GameEvent.EventType.DAMAGE_CAUSES_LIFE_LOSS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGE_CAUSES_LIFE_LOSS);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (source.isControlledBy(event.getPlayerId())) {
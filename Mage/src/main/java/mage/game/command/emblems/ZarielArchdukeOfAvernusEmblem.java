@@ -10,6 +10,9 @@ import mage.game.command.Emblem;
 import mage.game.events.GameEvent;
 import mage.target.common.TargetControlledCreaturePermanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -53,6 +56,11 @@ class ZarielArchdukeOfAvernusEmblemAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.END_COMBAT_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_COMBAT_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return game.isActivePlayer(getControllerId())
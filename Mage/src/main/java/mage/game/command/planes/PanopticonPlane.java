@@ -24,7 +24,9 @@ import mage.target.targetpointer.FixedTarget;
 import mage.watchers.common.PlanarRollWatcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author spjspj
@@ -86,6 +88,11 @@ class PanopticonTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.PLANESWALKED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PLANESWALKED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Plane cPlane = game.getState().getCurrentPlane();
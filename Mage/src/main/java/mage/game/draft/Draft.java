@@ -5,6 +5,7 @@ package mage.game.draft;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import mage.MageItem;
@@ -53,4 +54,10 @@ public interface Draft extends MageItem, Serializable {
     boolean isAbort();
     void setAbort(boolean abort);
 
+    /**
+     * Draft's own random for boosters and other random things, draft thread uses it for RandomUtil calls too
+     */
+    Random getRandom();
+    long getRandomSeed();
+
 }
@@ -7,6 +7,7 @@ import mage.game.events.*;
 import mage.game.events.TableEvent.EventType;
 import mage.players.Player;
 import mage.players.PlayerList;
+import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
@@ -16,6 +17,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -41,6 +44,14 @@ public abstract class DraftImpl implements Draft {
     protected boolean abort = false;
     protected boolean started = false;
 
+    // draft's own random (draft can be reproduced by same seed)
+    protected final long randomSeed = RandomUtil.nextLong();
+    protected final Random random = new Random(randomSeed);
+
+    // draft thread waits players picks (lock used instead synchronized/wait, so it's compatible with virtual threads)
+    protected final ReentrantLock picksLock = new ReentrantLock();
+    protected final Condition picksChanged = picksLock.newCondition();
+
     protected transient TableEventSource tableEventSource = new TableEventSource();
     protected transient PlayerQueryEventSource playerQueryEventSource = new PlayerQueryEventSource();
 
@@ -241,14 +252,7 @@ public abstract class DraftImpl implements Draft {
             player.setBoosterNotLoaded();
         }
         setupBoosterLoadingHandle();
-        synchronized (this) {
-            while (!donePicking()) {
-                try {
-                    this.wait(10000); // checked every 10s to make sure the draft moves on
-                } catch (InterruptedException ex) {
-                }
-            }
-        }
+        waitPicksDone(10000); // checked every 10s to make sure the draft moves on
         cardNum++;
         return true;
     }
@@ -293,6 +297,38 @@ public abstract class DraftImpl implements Draft {
         return allBoostersLoaded;
     }
 
+    /**
+     * Wait until all players make picks
+     *
+     * @param checkTimeMs additional picks check after that time, 0 for signal only checks
+     */
+    protected void waitPicksDone(long checkTimeMs) {
+        picksLock.lock();
+        try {
+            while (!donePicking()) {
+                try {
+                    if (checkTimeMs > 0) {
+                        picksChanged.await(checkTimeMs, TimeUnit.MILLISECONDS);
+                    } else {
+                        picksChanged.await();
+                    }
+                } catch (InterruptedException ex) {
+                }
+            }
+        } finally {
+            picksLock.unlock();
+        }
+    }
+
+    protected void signalPicksChanged() {
+        picksLock.lock();
+        try {
+            picksChanged.signalAll();
+        } finally {
+            picksLock.unlock();
+        }
+    }
+
     protected boolean donePicking() {
         if (isAbort()) {
             return true;
@@ -358,9 +394,7 @@ public abstract class DraftImpl implements Draft {
                     break;
                 }
             }
-            synchronized (this) {
-                this.notifyAll();
-            }
+            signalPicksChanged();
         }
         return !player.isPicking();
     }
@@ -376,6 +410,16 @@ public abstract class DraftImpl implements Draft {
         return abort;
     }
 
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
+    @Override
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
     @Override
     public void setAbort(boolean abort) {
         this.abort = abort;
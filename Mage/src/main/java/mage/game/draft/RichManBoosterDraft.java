@@ -70,14 +70,7 @@ public class RichManBoosterDraft extends DraftImpl {
             player.getPlayer().pickCard(player.getBooster(), player.getDeck(), this);
         }
         cardNum++;
-        synchronized (this) {
-            while (!donePicking()) {
-                try {
-                    this.wait();
-                } catch (InterruptedException ex) {
-                }
-            }
-        }
+        waitPicksDone(0);
         return true;
     }
 
@@ -85,14 +85,7 @@ public class RichManCubeBoosterDraft extends DraftImpl {
             player.getPlayer().pickCard(player.getBooster(), player.getDeck(), this);
         }
         cardNum++;
-        synchronized (this) {
-            while (!donePicking()) {
-                try {
-                    this.wait();
-                } catch (InterruptedException ex) {
-                }
-            }
-        }
+        waitPicksDone(0);
         return true;
     }
 
@@ -19,6 +19,18 @@ public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
 
+    // indexes for fast search (by controller, tokens by controller, by card type), all lists keep battlefield's order
+    // and contain phased out permanents too. Indexes rebuild on first usage after battlefield or control changes,
+    // card type index rebuilds after each effects applying too. Indexes can't be used while effects applying
+    // (types and controllers are changing at that moment), so search uses full scan in that case.
+    private transient long indexesVersion = 0;
+    private transient int indexesDisabled = 0;
+    private transient long controllerIndexVersion = 0;
+    private transient Map<UUID, List<Permanent>> controllerIndex = null;
+    private transient Map<UUID, List<Permanent>> tokensIndex = null;
+    private transient long cardTypeIndexVersion = 0;
+    private transient Map<CardType, List<Permanent>> cardTypeIndex = null;
+
     public Battlefield() {
     }
 
@@ -40,6 +52,112 @@ public class Battlefield implements Serializable {
 
     public void clear() {
         field.clear();
+        resetIndexes();
+    }
+
+    /**
+     * Must be called on permanents changes that aren't visible for the battlefield (e.g. controller changes)
+     */
+    public void resetIndexes() {
+        indexesVersion++;
+    }
+
+    /**
+     * Effects applying can change controllers and card types at any moment, so indexes are disabled until it ends
+     */
+    public void startEffectsApplying() {
+        indexesDisabled++;
+        resetIndexes();
+    }
+
+    public void finishEffectsApplying() {
+        indexesDisabled--;
+        resetIndexes();
+    }
+
+    private boolean isIndexesEnabled() {
+        return indexesDisabled == 0;
+    }
+
+    private void prepareControllerIndex() {
+        if (controllerIndex != null && controllerIndexVersion == indexesVersion) {
+            return;
+        }
+        Map<UUID, List<Permanent>> controllers = new HashMap<>();
+        Map<UUID, List<Permanent>> tokens = new HashMap<>();
+        for (Permanent perm : field.values()) {
+            controllers.computeIfAbsent(perm.getControllerId(), k -> new ArrayList<>()).add(perm);
+            if (perm instanceof PermanentToken) {
+                tokens.computeIfAbsent(perm.getControllerId(), k -> new ArrayList<>()).add(perm);
+            }
+        }
+        controllerIndex = controllers;
+        tokensIndex = tokens;
+        controllerIndexVersion = indexesVersion;
+    }
+
+    private void prepareCardTypeIndex(Game game) {
+        if (cardTypeIndex != null && cardTypeIndexVersion == indexesVersion) {
+            return;
+        }
+        Map<CardType, List<Permanent>> types = new EnumMap<>(CardType.class);
+        for (Permanent perm : field.values()) {
+            for (CardType cardType : perm.getCardType(game)) {
+                if (cardType == null) {
+                    continue;
+                }
+                List<Permanent> list = types.computeIfAbsent(cardType, k -> new ArrayList<>());
+                // object can have duplicated types
+                if (list.isEmpty() || list.get(list.size() - 1) != perm) {
+                    list.add(perm);
+                }
+            }
+        }
+        cardTypeIndex = types;
+        cardTypeIndexVersion = indexesVersion;
+    }
+
+    /**
+     * All permanents (include phased out) that can be controlled by the player
+     */
+    private Collection<Permanent> getControlledCandidates(UUID controllerId) {
+        if (!isIndexesEnabled()) {
+            return field.values();
+        }
+        prepareControllerIndex();
+        return controllerIndex.getOrDefault(controllerId, Collections.emptyList());
+    }
+
+    /**
+     * All permanents (include phased out) that can have the card type
+     */
+    private Collection<Permanent> getCardTypeCandidates(CardType cardType, Game game) {
+        if (!isIndexesEnabled() || game == null) {
+            return field.values();
+        }
+        prepareCardTypeIndex(game);
+        return cardTypeIndex.getOrDefault(cardType, Collections.emptyList());
+    }
+
+    /**
+     * All permanents (include phased out) that can be matched by the filter (smallest index for filter's requirements)
+     */
+    private Collection<Permanent> getFilterCandidates(FilterPermanent filter, UUID playerId, Game game) {
+        Collection<Permanent> res = field.values();
+        if (!isIndexesEnabled()) {
+            return res;
+        }
+        CardType cardType = filter.getRequiredCardType();
+        if (cardType != null) {
+            res = getCardTypeCandidates(cardType, game);
+        }
+        if (playerId != null && filter.isControlledByPlayerRequired()) {
+            Collection<Permanent> controlled = getControlledCandidates(playerId);
+            if (controlled.size() < res.size()) {
+                res = controlled;
+            }
+        }
+        return res;
     }
 
     /**
@@ -51,13 +169,15 @@ public class Battlefield implements Serializable {
      * can use count() instead of countAll()
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, game)
-                        && permanent.isPhasedIn())
-                .count();
-
+        int count = 0;
+        for (Permanent permanent : getControlledCandidates(controllerId)) {
+            if (permanent.isControlledBy(controllerId)
+                    && filter.match(permanent, game)
+                    && permanent.isPhasedIn()) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -65,20 +185,18 @@ public class Battlefield implements Serializable {
      * influence of the specified player id and that match the supplied filter.
      */
     public int count(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return (int) field.values()
-                    .stream()
-                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn())
-                    .count();
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return (int) field.values()
-                    .stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn()).count();
+        List<UUID> range = game.getRangeOfInfluence() == RangeOfInfluence.ALL
+                ? null
+                : game.getState().getPlayersInRange(sourcePlayerId, game);
+        int count = 0;
+        for (Permanent permanent : getFilterCandidates(filter, sourcePlayerId, game)) {
+            if ((range == null || range.contains(permanent.getControllerId()))
+                    && filter.match(permanent, sourcePlayerId, source, game)
+                    && permanent.isPhasedIn()) {
+                count++;
+            }
         }
+        return count;
     }
 
     public boolean containsControlled(FilterPermanent filter, Ability source, Game game, int num) {
@@ -93,12 +211,18 @@ public class Battlefield implements Serializable {
      * @param controllerId controller and source can be different (from different players)
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, controllerId, source, game)
-                        && permanent.isPhasedIn())
-                .count() >= num;
+        int count = 0;
+        for (Permanent permanent : getControlledCandidates(controllerId)) {
+            if (permanent.isControlledBy(controllerId)
+                    && filter.match(permanent, controllerId, source, game)
+                    && permanent.isPhasedIn()) {
+                count++;
+                if (count >= num) {
+                    return true;
+                }
+            }
+        }
+        return count >= num;
     }
 
     public boolean contains(FilterPermanent filter, Ability source, Game game, int num) {
@@ -111,23 +235,26 @@ public class Battlefield implements Serializable {
      * matches the supplied filter.
      */
     public boolean contains(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game, int num) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values().stream()
-                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn()).count() >= num;
-
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values().stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn())
-                    .count() >= num;
+        List<UUID> range = game.getRangeOfInfluence() == RangeOfInfluence.ALL
+                ? null
+                : game.getState().getPlayersInRange(sourcePlayerId, game);
+        int count = 0;
+        for (Permanent permanent : getFilterCandidates(filter, sourcePlayerId, game)) {
+            if ((range == null || range.contains(permanent.getControllerId()))
+                    && filter.match(permanent, sourcePlayerId, source, game)
+                    && permanent.isPhasedIn()) {
+                count++;
+                if (count >= num) {
+                    return true;
+                }
+            }
         }
+        return count >= num;
     }
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        resetIndexes();
     }
 
     /**
@@ -143,7 +270,9 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        if (field.remove(key) != null) {
+            resetIndexes();
+        }
     }
 
     /**
@@ -184,11 +313,13 @@ public class Battlefield implements Serializable {
      * the specified player id. The method ignores the range of influence.
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getControlledCandidates(controllerId)) {
+            if (perm.isPhasedIn() && perm.isControlledBy(controllerId)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -198,10 +329,13 @@ public class Battlefield implements Serializable {
      */
     @Deprecated
     public List<Permanent> getAllActivePermanents(CardType type, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.getCardType(game).contains(type))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getCardTypeCandidates(type, game)) {
+            if (perm.isPhasedIn() && perm.getCardType(game).contains(type)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -212,10 +346,13 @@ public class Battlefield implements Serializable {
      */
     @Deprecated
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && filter.match(perm, game))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getFilterCandidates(filter, null, game)) {
+            if (perm.isPhasedIn() && filter.match(perm, game)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -224,10 +361,13 @@ public class Battlefield implements Serializable {
      * ObjectSourcePlayer predicates in the filter
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getControlledCandidates(controllerId)) {
+            if (perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -243,18 +383,18 @@ public class Battlefield implements Serializable {
      * the specified player id and that match the supplied filter.
      */
     public List<Permanent> getActivePermanents(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn() && filter.match(perm, sourcePlayerId, source, game))
-                    .collect(Collectors.toList());
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId())
-                            && filter.match(perm, sourcePlayerId, source, game)).collect(Collectors.toList());
+        List<UUID> range = game.getRangeOfInfluence() == RangeOfInfluence.ALL
+                ? null
+                : game.getState().getPlayersInRange(sourcePlayerId, game);
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getFilterCandidates(filter, sourcePlayerId, game)) {
+            if (perm.isPhasedIn()
+                    && (range == null || range.contains(perm.getControllerId()))
+                    && filter.match(perm, sourcePlayerId, source, game)) {
+                res.add(perm);
+            }
         }
+        return res;
     }
 
     /**
@@ -279,22 +419,28 @@ public class Battlefield implements Serializable {
      * Returns controlled permanents with phasing ability that are phased in, so that they can be phased out
      */
     public List<Permanent> getPhasingOut(Game game, UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.hasAbility(PhasingAbility.getInstance(), game)
-                        && perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getControlledCandidates(controllerId)) {
+            if (perm.isPhasedIn()
+                    && perm.isControlledBy(controllerId)
+                    && perm.hasAbility(PhasingAbility.getInstance(), game)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
      * Returns controlled permanents that are phased out, so that they can be phased in
      */
     public List<Permanent> getPhasedOut(UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> !perm.isPhasedIn() && perm.isControlledBy(controllerId))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getControlledCandidates(controllerId)) {
+            if (!perm.isPhasedIn() && perm.isControlledBy(controllerId)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     public void resetPermanentsControl() {
@@ -303,6 +449,7 @@ public class Battlefield implements Serializable {
                 perm.resetControl();
             }
         }
+        resetIndexes();
     }
 
     /**
@@ -317,18 +464,27 @@ public class Battlefield implements Serializable {
                 controlChanged |= perm.checkControlChanged(game);
             }
         }
+        if (controlChanged) {
+            resetIndexes();
+        }
         return controlChanged;
     }
 
     public int countTokens(UUID controllerId) {
-        return field
-                .values()
-                .stream()
-                .filter(Objects::nonNull)
-                .filter(PermanentToken.class::isInstance)
-                .map(permanent -> permanent.isControlledBy(controllerId))
-                .mapToInt(x -> x ? 1 : 0)
-                .sum();
+        Collection<Permanent> tokens;
+        if (isIndexesEnabled()) {
+            prepareControllerIndex();
+            tokens = tokensIndex.getOrDefault(controllerId, Collections.emptyList());
+        } else {
+            tokens = field.values();
+        }
+        int count = 0;
+        for (Permanent permanent : tokens) {
+            if (permanent instanceof PermanentToken && permanent.isControlledBy(controllerId)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     @Override
@@ -15,6 +15,7 @@ import mage.constants.SpellAbilityType;
 import mage.game.Game;
 import mage.game.events.ZoneChangeEvent;
 
+import java.io.Serializable;
 import java.util.UUID;
 
 /**
@@ -28,7 +29,9 @@ public class PermanentCard extends PermanentImpl {
     // blueprint e.g. a copy of the original card that was cast
     // (this is not the original card, so it's possible to change some attribute before it enters the battlefield)
     // TODO: wtf, it modified on getCard/getBasicMageObject/getMainCard() and other places, e.g. on bestow -- must be fixed!
-    protected Card card;
+    // must be used from getCard only (it can be shared with permanent's copies, see CardUsage)
+    private Card card;
+    private CardUsage cardUsage;
 
     protected int maxLevelCounters;
     protected int zoneChangeCounter;
@@ -67,6 +70,9 @@ public class PermanentCard extends PermanentImpl {
         }
 
         this.card = card;
+        // blueprint card belongs to the permanent (callers give a copy of the game's card), so it's not escaped
+        // until someone gets it for changes (see getCard)
+        this.cardUsage = new CardUsage(false);
         this.zoneChangeCounter = card.getZoneChangeCounter(game); // local value already set to the raised number
         init(card, game);
     }
@@ -98,7 +104,24 @@ public class PermanentCard extends PermanentImpl {
 
     protected PermanentCard(final PermanentCard permanent) {
         super(permanent);
-        this.card = permanent.card.copy();
+        // template card used by reset only, so copies can share it until someone gets it for usage
+        while (true) {
+            CardUsage usage = permanent.cardUsage;
+            synchronized (usage) {
+                if (usage != permanent.cardUsage) {
+                    continue; // card was unshared by another thread
+                }
+                if (usage.escaped) {
+                    this.card = permanent.card.copy();
+                    this.cardUsage = new CardUsage(false);
+                } else {
+                    this.card = permanent.card;
+                    this.cardUsage = usage;
+                    usage.owners++;
+                }
+                break;
+            }
+        }
         this.maxLevelCounters = permanent.maxLevelCounters;
         this.zoneChangeCounter = permanent.zoneChangeCounter;
     }
@@ -163,11 +186,38 @@ public class PermanentCard extends PermanentImpl {
 
     @Override
     public MageObject getBasicMageObject() {
-        return card;
+        return getCard();
     }
 
+    /**
+     * Template card for any usage (can be changed by caller)
+     */
     public Card getCard() {
-        return card;
+        CardUsage usage = this.cardUsage;
+        synchronized (usage) {
+            if (usage.escaped) {
+                return this.card;
+            }
+            if (usage.owners > 1) {
+                // shared with other permanent's copies, so it needs own card before any changes
+                usage.owners--;
+                this.card = this.card.copy();
+                this.cardUsage = new CardUsage(true);
+            } else {
+                usage.escaped = true;
+            }
+            return this.card;
+        }
+    }
+
+    /**
+     * Template card shared with other permanent's copies (for tests and debug)
+     */
+    public boolean isCardShared() {
+        CardUsage usage = this.cardUsage;
+        synchronized (usage) {
+            return usage.owners > 1;
+        }
     }
 
     @Override
@@ -217,7 +267,7 @@ public class PermanentCard extends PermanentImpl {
             // However, its converted mana cost is calculated using the mana cost of its front face. This is a change from previous rules.
             // If a permanent is copying the back face of a double-faced card (even if the card representing that copy
             // is itself a double-faced card), the converted mana cost of that permanent is 0.
-            return getCard().getManaValue();
+            return this.card.getManaValue();
         }
         if (faceDown) { // game not neccessary
             return getManaCost().manaValue();
@@ -235,19 +285,34 @@ public class PermanentCard extends PermanentImpl {
     @Override
     public void updateZoneChangeCounter(Game game, ZoneChangeEvent event) {
         // TODO: wtf, permanent must not change ZCC at all, is it buggy here?!
-        card.updateZoneChangeCounter(game, event);
-        zoneChangeCounter = card.getZoneChangeCounter(game);
+        // zcc is stored in the game state, so template card is not changed here
+        this.card.updateZoneChangeCounter(game, event);
+        zoneChangeCounter = this.card.getZoneChangeCounter(game);
     }
 
     @Override
     public void setZoneChangeCounter(int value, Game game) {
         // TODO: wtf, why it sync card only without permanent zcc, is it buggy here?!
         // TODO: miss zoneChangeCounter = card.getZoneChangeCounter(game); ?
-        card.setZoneChangeCounter(value, game);
+        this.card.setZoneChangeCounter(value, game);
     }
 
     @Override
     public Card getMainCard() {
-        return card.getMainCard();
+        // main card used for ids and zone moves (its zone data stored in the game state), so template stays shared
+        return this.card.getMainCard();
+    }
+
+    /**
+     * Template card's sharing info (same object for all permanents with the same card)
+     */
+    private static final class CardUsage implements Serializable {
+
+        private int owners = 1; // permanents with that card
+        private boolean escaped; // card was given to the outside code, so it can't be shared anymore
+
+        private CardUsage(boolean escaped) {
+            this.escaped = escaped;
+        }
     }
 }
@@ -413,6 +413,33 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return super.getAbilities(game);
     }
 
+    // card type changes outside effects applying (transform, bestow, etc) must reset battlefield's card type index,
+    // static changes without game must be reset by caller (see BestowAbility)
+
+    @Override
+    public void addCardType(Game game, CardType... cardTypes) {
+        super.addCardType(game, cardTypes);
+        if (game != null) {
+            game.getBattlefield().resetIndexes();
+        }
+    }
+
+    @Override
+    public void removeCardType(Game game, CardType... cardTypes) {
+        super.removeCardType(game, cardTypes);
+        if (game != null) {
+            game.getBattlefield().resetIndexes();
+        }
+    }
+
+    @Override
+    public void removeAllCardTypes(Game game) {
+        super.removeAllCardTypes(game);
+        if (game != null) {
+            game.getBattlefield().resetIndexes();
+        }
+    }
+
     /**
      * Add an ability to the permanent. When copying from an existing source
      * you should use the fromExistingObject variant of this function to prevent double-copying subabilities
@@ -842,6 +869,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         // must change abilities controller too
         this.controllerId = newControllerId;
         this.getAbilities().setControllerId(newControllerId);
+        game.getBattlefield().resetIndexes();
         return true;
     }
 
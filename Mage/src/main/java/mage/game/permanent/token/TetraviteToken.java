@@ -9,6 +9,9 @@ import mage.constants.*;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author spjspj
  */
@@ -57,6 +60,11 @@ class TetraviteTokenEffect extends ContinuousRuleModifyingEffectImpl {
                 || event.getType() == GameEvent.EventType.STAY_ATTACHED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACH, GameEvent.EventType.STAY_ATTACHED);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return event.getTargetId().equals(source.getSourceId());
@@ -368,6 +368,7 @@ public class Spell extends StackObjectImpl implements Card {
                             permanent.setSpellAbility(ability); // otherwise spell ability without bestow will be set
                             card.addCardType(CardType.CREATURE);
                             card.getSubtype().remove(SubType.AURA);
+                            game.getBattlefield().resetIndexes(); // static type changes
                         }
                     }
                     if (isCopy()) {
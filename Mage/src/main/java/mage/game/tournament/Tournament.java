@@ -4,6 +4,7 @@ package mage.game.tournament;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import mage.cards.ExpansionSet;
 import mage.cards.decks.Deck;
@@ -100,6 +101,13 @@ public interface Tournament {
 
     void setAbort(boolean abort);
 
+    /**
+     * Tourney's own random for boosters, pairings and other random things, tourney thread uses it for RandomUtil calls too
+     */
+    Random getRandom();
+
+    long getRandomSeed();
+
     void clearDraft();
 
     Draft getDraft();
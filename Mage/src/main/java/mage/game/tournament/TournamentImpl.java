@@ -18,6 +18,8 @@ import org.apache.log4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  *
@@ -44,6 +46,14 @@ public abstract class TournamentImpl implements Tournament {
     protected String tournamentState;
     protected Draft draft;
 
+    // tourney's own random (tourney can be reproduced by same seed)
+    protected final long randomSeed = RandomUtil.nextLong();
+    protected final Random random = new Random(randomSeed);
+
+    // tourney thread waits players actions (lock used instead synchronized/wait, so it's compatible with virtual threads)
+    protected final ReentrantLock stepLock = new ReentrantLock();
+    protected final Condition stepChanged = stepLock.newCondition();
+
     protected TournamentImpl(TournamentOptions options) {
         this.options = options;
         draft = null;
@@ -76,9 +86,7 @@ public abstract class TournamentImpl implements Tournament {
         if (players.containsKey(playerId)) {
             players.get(playerId).submitDeck(deck);
         }
-        synchronized (this) {
-            this.notifyAll();
-        }
+        signalStepChanged();
     }
 
     @Override
@@ -118,8 +126,15 @@ public abstract class TournamentImpl implements Tournament {
 
     @Override
     public void quit(UUID playerId) {
-        synchronized (this) {
-            this.notifyAll();
+        signalStepChanged();
+    }
+
+    protected void signalStepChanged() {
+        stepLock.lock();
+        try {
+            stepChanged.signalAll();
+        } finally {
+            stepLock.unlock();
         }
     }
 
@@ -134,9 +149,7 @@ public abstract class TournamentImpl implements Tournament {
         if (players.containsKey(playerId)) {
             players.get(playerId).submitDeck(deck);
         }
-        synchronized (this) {
-            this.notifyAll();
-        }
+        signalStepChanged();
     }
 
     @Override
@@ -369,14 +382,17 @@ public abstract class TournamentImpl implements Tournament {
             }
             // add autosubmit trigger
 
-            synchronized (this) {
+            stepLock.lock();
+            try {
                 while (!isDoneConstructing()) {
                     try {
-                        this.wait();
+                        stepChanged.await();
                     } catch (InterruptedException ex) {
 
                     }
                 }
+            } finally {
+                stepLock.unlock();
             }
         }
         nextStep();
@@ -476,6 +492,16 @@ public abstract class TournamentImpl implements Tournament {
         return abort;
     }
 
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
+    @Override
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
     @Override
     public void setAbort(boolean abort) {
         this.abort = abort;
@@ -35,9 +35,18 @@ public class Library implements Serializable {
      * Don't use this directly. Use <player.shuffleLibrary(game)> instead.
      */
     public void shuffle() {
+        shuffle(RandomUtil.getRandom());
+    }
+
+    /**
+     * Don't use this directly. Use <player.shuffleLibrary(game)> instead.
+     *
+     * @param random game's random, see Game.getRandom
+     */
+    public void shuffle(Random random) {
         UUID[] shuffled = library.toArray(new UUID[0]);
         for (int n = shuffled.length - 1; n > 0; n--) {
-            int r = RandomUtil.nextInt(n + 1);
+            int r = random.nextInt(n + 1);
             UUID temp = shuffled[n];
             shuffled[n] = shuffled[r];
             shuffled[r] = temp;
@@ -19,6 +19,7 @@ import mage.abilities.effects.common.LoseControlOnOtherPlayersControllerEffect;
 import mage.abilities.keyword.*;
 import mage.abilities.mana.ActivatedManaAbilityImpl;
 import mage.abilities.mana.ManaOptions;
+import mage.abilities.mana.ManaOptionsLattice;
 import mage.cards.*;
 import mage.cards.decks.Deck;
 import mage.choices.Choice;
@@ -1861,7 +1862,7 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public void shuffleLibrary(Ability source, Game game) {
         if (!game.replaceEvent(GameEvent.getEvent(GameEvent.EventType.SHUFFLE_LIBRARY, playerId, source, playerId))) {
-            this.library.shuffle();
+            this.library.shuffle(game.getRandom());
             if (!game.isSimulation()) {
                 game.informPlayers(getLogName() + "'s library is shuffled" + CardUtil.getSourceLogName(game, source));
             }
@@ -3089,7 +3090,7 @@ public abstract class PlayerImpl implements Player, Serializable {
      */
     @Override
     public boolean flipCoinResult(Game game) {
-        return RandomUtil.nextBoolean();
+        return game.getRandom().nextBoolean();
     }
 
     private static final class RollDieResult {
@@ -3120,7 +3121,7 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     @Override
     public int rollDieResult(int sides, Game game) {
-        return RandomUtil.nextInt(sides) + 1;
+        return game.getRandom().nextInt(sides) + 1;
     }
 
     /**
@@ -3470,8 +3471,36 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public ManaOptions getManaAvailable(Game originalGame) {
         // workaround to fix a triggers list modification bug (game must be immutable on playable calculations)
+        // it's a nested copy on playable calc's simulation game too: mana calculation fires events and activates
+        // mana abilities, so it can't share the game with other cards checks
         Game game = originalGame.createSimulationForPlayableCalc();
 
+        if (ManaOptionsLattice.isCrossCheckEnabled()) {
+            // calculation fires events, so each engine needs own game
+            Game checkGame = game.copy();
+            ManaOptions latticeMana = calcManaAvailable(game, true);
+            ManaOptions checkMana = calcManaAvailable(checkGame, false);
+            String difference = ManaOptionsLattice.findDifference(latticeMana, checkMana);
+            if (difference != null) {
+                logger.error("Mana options lattice: " + difference + " (player " + getName() + ", game " + game + ")");
+                return checkMana;
+            }
+            return latticeMana;
+        }
+
+        return calcManaAvailable(game, ManaOptionsLattice.isEnabled());
+    }
+
+    /**
+     * Available mana by the selected calculation engine (for tests and debug)
+     *
+     * @param useLattice true for ManaOptionsLattice, false for ManaOptions
+     */
+    public ManaOptions getManaAvailable(Game originalGame, boolean useLattice) {
+        return calcManaAvailable(originalGame.createSimulationForPlayableCalc(), useLattice);
+    }
+
+    private ManaOptions calcManaAvailable(Game game, boolean useLattice) {
         ManaOptions availableMana = new ManaOptions();
         availableMana.addMana(manaPool.getMana());
         // conditional mana
@@ -3534,8 +3563,18 @@ public abstract class PlayerImpl implements Player, Serializable {
             }
         }
 
-        for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
-            availableMana.addMana(manaAbilities, game);
+        if (useLattice) {
+            ManaOptionsLattice lattice = new ManaOptionsLattice(availableMana);
+            for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
+                if (!lattice.addSource(manaAbilities, game)) {
+                    availableMana.addMana(manaAbilities, game);
+                }
+            }
+            lattice.finish();
+        } else {
+            for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
+                availableMana.addMana(manaAbilities, game);
+            }
         }
 
         boolean anAbilityWasUsed = true;
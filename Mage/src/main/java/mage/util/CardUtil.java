@@ -57,6 +57,7 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -84,6 +85,12 @@ public final class CardUtil {
             "put", "return", "exile", "discard", "sacrifice", "remove", "tap", "reveal", "pay", "collect"
     );
 
+    // cache for event types declarations check (see isEventTypesDeclarationSupported)
+    private static final Map<Class<?>, Boolean> eventTypesDeclarationSupported = new ConcurrentHashMap<>();
+    // for tests: triggers and effects skipped by event types index must not check the event (enabled in Mage.Tests pom)
+    private static final String EVENT_TYPES_VERIFY_PROP = "xmage.eventTypesVerify";
+    private static final boolean EVENT_TYPES_VERIFY = Boolean.parseBoolean(System.getProperty(EVENT_TYPES_VERIFY_PROP));
+
     // search set code in commands like "set_code-card_name"
     public static final int TESTS_SET_CODE_MIN_LOOKUP_LENGTH = 3;
     public static final int TESTS_SET_CODE_MAX_LOOKUP_LENGTH = 6;
@@ -1206,9 +1213,9 @@ public final class CardUtil {
         permCard.setOwnerId(player.getId());
         PermanentCard permanent;
         if (permCard instanceof MeldCard) {
-            permanent = new PermanentMeld(permCard, player.getId(), game);
+            permanent = new PermanentMeld(permCard.copy(), player.getId(), game);
         } else {
-            permanent = new PermanentCard(permCard, player.getId(), game);
+            permanent = new PermanentCard(permCard.copy(), player.getId(), game);
         }
 
         // put onto battlefield with possible counters without ETB
@@ -1307,7 +1314,7 @@ public final class CardUtil {
             }
 
             // additional effect's info from card.addInfo methods
-            CardState cardState = game.getState().getCardState(object.getId());
+            CardState cardState = game.getState().readCardState(object.getId());
             if (cardState != null) {
                 rules.addAll(cardState.getInfo().values());
             }
@@ -1891,7 +1898,54 @@ public final class CardUtil {
         return "pay " + text;
     }
 
-    private static boolean isImmutableObject(Object o) {
+    /**
+     * Event types declaration (getCheckedEventTypes) can be inherited from a parent class with
+     * another event check, so it can be used only if it made by the same class as event check method
+     * or by it's child class
+     *
+     * @param object          trigger or effect
+     * @param checkMethodName method with event type check (it must use GameEvent and Game params)
+     */
+    public static boolean isEventTypesDeclarationSupported(Object object, String checkMethodName) {
+        return eventTypesDeclarationSupported.computeIfAbsent(object.getClass(), clazz -> {
+            try {
+                Class<?> checkClass = clazz.getMethod(checkMethodName, GameEvent.class, Game.class).getDeclaringClass();
+                Class<?> declarationClass = clazz.getMethod("getCheckedEventTypes").getDeclaringClass();
+                return checkClass.isAssignableFrom(declarationClass);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        });
+    }
+
+    public static boolean isEventTypesVerifyEnabled() {
+        return EVENT_TYPES_VERIFY;
+    }
+
+    /**
+     * Event types declaration must contain all event types from the event check, so verify mode
+     * runs event check for all skipped objects and raises error on any success
+     *
+     * @param allObjects   all triggers or effects
+     * @param foundObjects objects found by event types index
+     * @param eventCheck   event check of the object (checkEventType or checksEventType)
+     */
+    public static <T> void verifyEventTypesDeclaration(Collection<? extends T> allObjects, Collection<? extends T> foundObjects,
+                                                       GameEvent event, java.util.function.Predicate<T> eventCheck) {
+        Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        found.addAll(foundObjects);
+        for (T object : allObjects) {
+            if (!found.contains(object) && eventCheck.test(object)) {
+                throw new IllegalStateException("Wrong event types declaration: " + object.getClass().getName()
+                        + " checks event " + event.getType() + ", but getCheckedEventTypes doesn't contain it");
+            }
+        }
+    }
+
+    /**
+     * Object can be shared between game states without copy (see deepCopyObject)
+     */
+    public static boolean isImmutableObject(Object o) {
         return o == null
                 || o instanceof Number || o instanceof Boolean || o instanceof String
                 || o instanceof MageObjectReference || o instanceof UUID
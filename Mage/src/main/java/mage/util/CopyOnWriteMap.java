@@ -0,0 +1,200 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Copy-on-write map for game state's objects (values, card states, etc)
+ * <p>
+ * Map's copy shares the same values with the original, each value will be copied on the first access
+ * from any of the maps. It's per entry copy, so game copies pay for used values only.
+ * <p>
+ * Value given to the outside code (get, put, computeIfAbsent) is "escaped": that code can keep and change it
+ * at any time, so escaped values are never shared and the copy of the map gets own copies of it immediately.
+ * Other values of the map are shared, the map keeps exclusive access to its values until the next copy only.
+ * <p>
+ * Usage rules:
+ * - get() for any access that can change the value or keep it (e.g. return to the cards code);
+ * - read() for read-only access inside the game state, never change or keep the result;
+ * - copy() doesn't change shared values, so different threads can copy same map (all methods are synchronized).
+ *
+ * @author agent
+ */
+public class CopyOnWriteMap<K, V> implements Serializable, Copyable<CopyOnWriteMap<K, V>> {
+
+    /**
+     * Value copy method, must be serializable (game state can be saved, see PackedGameState)
+     */
+    @FunctionalInterface
+    public interface ValueCopier<V> extends Serializable {
+        V copy(V value);
+    }
+
+    private static final long SHARED = 0;
+    private static final AtomicLong nextOwnerId = new AtomicLong(SHARED);
+
+    private static final class Entry<V> implements Serializable {
+
+        private final V value;
+        private long ownerId; // map with exclusive access to the value, SHARED for shared values
+        private boolean escaped; // value given to the outside code, so it can't be shared anymore
+
+        private Entry(V value, long ownerId, boolean escaped) {
+            this.value = value;
+            this.ownerId = ownerId;
+            this.escaped = escaped;
+        }
+    }
+
+    private final long ownerId = nextOwnerId.incrementAndGet();
+    private final LinkedHashMap<K, Entry<V>> map; // keeps insert order like the old game state's maps
+    private final ValueCopier<V> copier;
+    private final boolean copyImmutable; // false - values from CardUtil.isImmutableObject never copy and escape
+
+    /**
+     * @param copier        value copy method, e.g. CardState::copy or CardUtil::deepCopyObject
+     * @param copyImmutable false - share immutable values (numbers, strings, etc) without any copy
+     */
+    public CopyOnWriteMap(ValueCopier<V> copier, boolean copyImmutable) {
+        this.map = new LinkedHashMap<>();
+        this.copier = copier;
+        this.copyImmutable = copyImmutable;
+    }
+
+    protected CopyOnWriteMap(final CopyOnWriteMap<K, V> source) {
+        this.map = new LinkedHashMap<>(source.map.size());
+        this.copier = source.copier;
+        this.copyImmutable = source.copyImmutable;
+        for (Map.Entry<K, Entry<V>> sourceEntry : source.map.entrySet()) {
+            Entry<V> entry = sourceEntry.getValue();
+            if (entry.ownerId == source.ownerId) {
+                if (entry.escaped) {
+                    // outside code can change it at any moment, so copy must have own value
+                    entry = new Entry<>(copyValue(entry.value), this.ownerId, false);
+                } else {
+                    // nobody can change it without access from the map, so share it with the copy
+                    entry.ownerId = SHARED;
+                }
+            }
+            this.map.put(sourceEntry.getKey(), entry);
+        }
+    }
+
+    @Override
+    public CopyOnWriteMap<K, V> copy() {
+        synchronized (this) {
+            return new CopyOnWriteMap<>(this);
+        }
+    }
+
+    /**
+     * Value for any usage (can be changed or kept by the caller)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = this.map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        return own(key, entry, true).value;
+    }
+
+    /**
+     * Value for read-only usage, caller must not change or keep it
+     */
+    public synchronized V read(K key) {
+        Entry<V> entry = this.map.get(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Value for changes inside the map's owner (e.g. game state's reset), caller must not keep it
+     */
+    public synchronized V update(K key) {
+        Entry<V> entry = this.map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        return own(key, entry, false).value;
+    }
+
+    public synchronized V put(K key, V value) {
+        Entry<V> oldEntry = this.map.put(key, new Entry<>(value, this.ownerId, true));
+        return oldEntry == null ? null : oldEntry.value;
+    }
+
+    public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Entry<V> entry = this.map.get(key);
+        if (entry != null) {
+            return own(key, entry, true).value;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public synchronized V remove(K key) {
+        Entry<V> oldEntry = this.map.remove(key);
+        return oldEntry == null ? null : oldEntry.value;
+    }
+
+    public synchronized boolean containsKey(K key) {
+        return this.map.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return this.map.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    public synchronized void clear() {
+        this.map.clear();
+    }
+
+    /**
+     * Copy of the keys
+     */
+    public synchronized List<K> keys() {
+        return new ArrayList<>(this.map.keySet());
+    }
+
+    /**
+     * Read-only iteration, action must not change or keep the values
+     */
+    public synchronized void forEachRead(BiConsumer<? super K, ? super V> action) {
+        this.map.forEach((key, entry) -> action.accept(key, entry.value));
+    }
+
+    /**
+     * Shared values amount (for tests and debug)
+     */
+    public synchronized int getSharedCount() {
+        return (int) this.map.values().stream().filter(entry -> entry.ownerId != this.ownerId).count();
+    }
+
+    private Entry<V> own(K key, Entry<V> entry, boolean escape) {
+        if (!copyImmutable && CardUtil.isImmutableObject(entry.value)) {
+            return entry;
+        }
+        if (entry.ownerId != this.ownerId) {
+            entry = new Entry<>(copyValue(entry.value), this.ownerId, false);
+            this.map.put(key, entry);
+        }
+        entry.escaped |= escape;
+        return entry;
+    }
+
+    private V copyValue(V value) {
+        if (!copyImmutable && CardUtil.isImmutableObject(value)) {
+            return value;
+        }
+        return copier.copy(value);
+    }
+}
@@ -0,0 +1,84 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Copy-on-write container for game state's data structures (maps, sets, lists)
+ * <p>
+ * Copy of the container shares the same data with the original until one of them need
+ * to change it. Only the first write makes real copy of the data, so state copies for
+ * AI simulations, playable calcs and rollbacks can skip the unchanged data.
+ * <p>
+ * Usage rules:
+ * - read() for any read-only access, never change the result;
+ * - write() for any changes (also if you going to change an inner mutable object from the data);
+ * - don't keep read() result between game actions, it can be outdated after the next write()
+ * <p>
+ * Copy marks the source as shared too, so copy and write are synchronized (AI can copy same game from diff threads).
+ * For maps with mutable values use CopyOnWriteMap instead (it supports values given to the outside code).
+ *
+ * @author agent
+ */
+public class CopyOnWriteValue<T> implements Serializable, Copyable<CopyOnWriteValue<T>> {
+
+    private T value;
+    private final boolean deepCopy; // false - copy container only, true - copy all inner values too (see CardUtil.deepCopyObject)
+    private volatile boolean shared; // data used by multiple containers, so it must be copied before write
+
+    /**
+     * @param value    must be standard HashMap, LinkedHashMap, HashSet or ArrayList
+     * @param deepCopy if true then inner values will be copied too on first write
+     */
+    public CopyOnWriteValue(T value, boolean deepCopy) {
+        this.value = value;
+        this.deepCopy = deepCopy;
+        this.shared = false;
+    }
+
+    protected CopyOnWriteValue(final CopyOnWriteValue<T> container) {
+        this.value = container.value;
+        this.deepCopy = container.deepCopy;
+        this.shared = true;
+    }
+
+    @Override
+    public synchronized CopyOnWriteValue<T> copy() {
+        // both containers must copy data before next write
+        this.shared = true;
+        return new CopyOnWriteValue<>(this);
+    }
+
+    public T read() {
+        return this.value;
+    }
+
+    public synchronized T write() {
+        if (this.shared) {
+            this.value = this.deepCopy ? CardUtil.deepCopyObject(this.value) : shallowCopy(this.value);
+            this.shared = false;
+        }
+        return this.value;
+    }
+
+    public boolean isShared() {
+        return this.shared;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T shallowCopy(T value) {
+        if (value instanceof LinkedHashMap) {
+            return (T) new LinkedHashMap<>((LinkedHashMap<?, ?>) value);
+        } else if (value instanceof HashMap) {
+            return (T) new HashMap<>((HashMap<?, ?>) value);
+        } else if (value instanceof LinkedHashSet) {
+            return (T) new LinkedHashSet<>((LinkedHashSet<?>) value);
+        } else if (value instanceof HashSet) {
+            return (T) new HashSet<>((HashSet<?>) value);
+        } else if (value instanceof ArrayList) {
+            return (T) new ArrayList<>((ArrayList<?>) value);
+        } else {
+            throw new IllegalStateException("Unsupported copy-on-write data type: " + (value == null ? "null" : value.getClass().getSimpleName()));
+        }
+    }
+}
@@ -7,39 +7,73 @@ import java.util.Set;
 import java.util.UUID;
 
 /**
+ * Random values for game and server code
+ * <p>
+ * Game, draft and tourney threads can use own random (see setThreadRandom), so it doesn't
+ * share one random between all server threads and can be reproduced by a random seed.
+ * Other threads use global random.
+ * <p>
  * Created by IGOUDT on 5-9-2016.
  */
 public final class RandomUtil {
 
     private static final Random random = new Random(); // thread safe with seed support
+    private static final ThreadLocal<Random> threadRandom = new ThreadLocal<>(); // random of the current game/draft/tourney thread
 
     private RandomUtil() {
     }
 
+    /**
+     * @return random of the current thread (e.g. game's random in game thread) or global random
+     */
     public static Random getRandom() {
-        return random;
+        Random current = threadRandom.get();
+        return current == null ? random : current;
+    }
+
+    /**
+     * Use own random for all random values in the current thread (e.g. game's random in game thread)
+     *
+     * @param newRandom random to use or null for global random
+     * @return previous random of the thread, must be restored after usage
+     */
+    public static Random setThreadRandom(Random newRandom) {
+        Random oldRandom = threadRandom.get();
+        if (newRandom == null) {
+            threadRandom.remove();
+        } else {
+            threadRandom.set(newRandom);
+        }
+        return oldRandom;
     }
 
     public static int nextInt() {
-        return random.nextInt();
+        return getRandom().nextInt();
     }
 
     public static int nextInt(int max) {
-        return random.nextInt(max);
+        return getRandom().nextInt(max);
+    }
+
+    public static long nextLong() {
+        return getRandom().nextLong();
     }
 
     public static boolean nextBoolean() {
-        return random.nextBoolean();
+        return getRandom().nextBoolean();
     }
 
     public static double nextDouble() {
-        return random.nextDouble();
+        return getRandom().nextDouble();
     }
 
     public static Color nextColor() {
         return new Color(RandomUtil.nextInt(256), RandomUtil.nextInt(256), RandomUtil.nextInt(256));
     }
 
+    /**
+     * Set seed for global random (game, draft and tourney have own seeds, see setThreadRandom)
+     */
     public static void setSeed(long newSeed) {
         random.setSeed(newSeed);
     }
@@ -17,6 +17,7 @@ public final class ThreadUtils {
     // basic
     public final static String THREAD_PREFIX_GAME = "GAME";
     public final static String THREAD_PREFIX_AI_SIMULATION_MAD = "AI-SIM-MAD";
+    public final static String THREAD_PREFIX_AI_SIMULATION_MAD_ROOT = THREAD_PREFIX_AI_SIMULATION_MAD + "-ROOT"; // must starts with MAD prefix, see isRunGameThread
     public final static String THREAD_PREFIX_AI_SIMULATION_MCTS = "AI-SIM-MCTS";
     public final static String THREAD_PREFIX_CALL_REQUEST = "CALL";
     public final static String THREAD_PREFIX_TOURNEY = "TOURNEY";
@@ -25,6 +26,7 @@ public final class ThreadUtils {
 
     // game
     public final static String THREAD_PREFIX_GAME_JOIN_WAITING = "XMAGE game join waiting";
+    public final static String THREAD_PREFIX_GAME_STATES_PACKING = "XMAGE game states packing";
 
     // services
     public final static String THREAD_PREFIX_SERVICE_HEALTH = "XMAGE service health";
@@ -36,6 +38,7 @@ public final class ThreadUtils {
     // etc
     public final static String THREAD_PREFIX_TIMEOUT = "XMAGE timeout";
     public final static String THREAD_PREFIX_TIMEOUT_IDLE = "XMAGE timeout_idle";
+    public final static String THREAD_PREFIX_CARDS_SCAN = "XMAGE cards scan";
 
     // client
     // TODO: replace single GUI tasks by swing thread (invoke later) or by single executor like (like CALL for server side)
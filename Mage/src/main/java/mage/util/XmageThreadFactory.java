@@ -1,5 +1,8 @@
 package mage.util;
 
+import org.apache.log4j.Logger;
+
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -10,9 +13,34 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class XmageThreadFactory implements ThreadFactory {
 
+    private static final Logger logger = Logger.getLogger(XmageThreadFactory.class);
+
+    // virtual threads support (java 21+), code compiles with java 8, so it uses reflection
+    private static final Method virtualThreadBuilderMethod; // Thread.ofVirtual()
+    private static final Method virtualThreadUnstartedMethod; // Thread.Builder.unstarted(Runnable)
+
+    static {
+        Method builderMethod = null;
+        Method unstartedMethod = null;
+        try {
+            builderMethod = Thread.class.getMethod("ofVirtual");
+            unstartedMethod = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+            // java 19-20 can have it as disabled preview feature
+            unstartedMethod.invoke(builderMethod.invoke(null), (Runnable) () -> {
+            });
+        } catch (ReflectiveOperationException | RuntimeException ignore) {
+            // old java
+            builderMethod = null;
+            unstartedMethod = null;
+        }
+        virtualThreadBuilderMethod = builderMethod;
+        virtualThreadUnstartedMethod = unstartedMethod;
+    }
+
     private final String prefix;
     private final AtomicInteger counter = new AtomicInteger();
     private final boolean isDaemon;
+    private final boolean isVirtual;
 
     public XmageThreadFactory(String prefix) {
         this(prefix, true);
@@ -23,20 +51,62 @@ public class XmageThreadFactory implements ThreadFactory {
      * @param isDaemon mark thread as daemon on non-writeable tasks (e.g. can be terminated at any time without data loss)
      */
     public XmageThreadFactory(String prefix, boolean isDaemon) {
+        this(prefix, isDaemon, false);
+    }
+
+    /**
+     * @param isVirtual use virtual threads for long waiting tasks (only for java 21+, see isVirtualThreadsSupported),
+     *                  virtual threads are always daemons
+     */
+    private XmageThreadFactory(String prefix, boolean isDaemon, boolean isVirtual) {
         this.prefix = prefix;
         this.isDaemon = isDaemon;
+        this.isVirtual = isVirtual;
+    }
+
+    /**
+     * Thread factory for virtual threads (cheap threads for long waiting tasks like game with human players),
+     * uses default platform threads on old java
+     */
+    public static XmageThreadFactory createVirtual(String prefix) {
+        if (!isVirtualThreadsSupported()) {
+            logger.warn("Virtual threads require java 21 or newer, so " + prefix + " threads will use platform threads");
+        }
+        return new XmageThreadFactory(prefix, true, isVirtualThreadsSupported());
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return virtualThreadBuilderMethod != null && virtualThreadUnstartedMethod != null;
+    }
+
+    public boolean isVirtual() {
+        return isVirtual;
     }
 
     @Override
     public Thread newThread(Runnable r) {
         int instanceNumber = this.counter.incrementAndGet();
 
-        Thread thread = new Thread(r);
-        thread.setDaemon(this.isDaemon);
+        Thread thread;
+        if (isVirtual) {
+            thread = newVirtualThread(r);
+        } else {
+            thread = new Thread(r);
+            thread.setDaemon(this.isDaemon);
+        }
 
         // gives default name, but threads can change it by Thread.currentThread().setName (example: on game or tourney start)
         thread.setName(String.format("%s - %d", this.prefix, instanceNumber));
 
         return thread;
     }
+
+    private static Thread newVirtualThread(Runnable r) {
+        try {
+            Object builder = virtualThreadBuilderMethod.invoke(null);
+            return (Thread) virtualThreadUnstartedMethod.invoke(builder, r);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't create virtual thread: " + e, e);
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package mage.abilities.mana;
+
+import mage.ConditionalMana;
+import mage.Mana;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for packed mana in {@link ManaOptionsLattice}.
+ *
+ * @author agent
+ */
+public class ManaOptionsLatticeTest {
+
+    @Test
+    public void test_PackUnpack() {
+        Mana mana = new Mana(1, 2, 3, 4, 5, 6, 7, 8);
+        Mana unpacked = ManaOptionsLattice.unpack(ManaOptionsLattice.pack(mana));
+        assertEquals(mana.toString(), unpacked.toString());
+        assertEquals(1, unpacked.getWhite());
+        assertEquals(2, unpacked.getBlue());
+        assertEquals(3, unpacked.getBlack());
+        assertEquals(4, unpacked.getRed());
+        assertEquals(5, unpacked.getGreen());
+        assertEquals(6, unpacked.getGeneric());
+        assertEquals(7, unpacked.getAny());
+        assertEquals(8, unpacked.getColorless());
+    }
+
+    @Test
+    public void test_PackedSum() {
+        long sum = ManaOptionsLattice.pack(Mana.RedMana(2)) + ManaOptionsLattice.pack(new Mana(1, 0, 0, 1, 0, 0, 0, 1));
+        assertEquals(new Mana(1, 0, 0, 3, 0, 0, 0, 1).toString(), ManaOptionsLattice.unpack(sum).toString());
+    }
+
+    @Test
+    public void test_CanPack() {
+        assertTrue(ManaOptionsLattice.canPack(Mana.GreenMana(127)));
+        assertFalse(ManaOptionsLattice.canPack(Mana.GreenMana(128)));
+        assertFalse(ManaOptionsLattice.canPack(new ConditionalMana(Mana.GreenMana(1))));
+
+        Mana flagged = Mana.GreenMana(1);
+        flagged.setFlag(true);
+        assertFalse(ManaOptionsLattice.canPack(flagged));
+    }
+
+    @Test
+    public void test_Includes() {
+        long wu = ManaOptionsLattice.pack(new Mana(1, 1, 0, 0, 0, 0, 0, 0));
+        long w = ManaOptionsLattice.pack(Mana.WhiteMana(1));
+        long u = ManaOptionsLattice.pack(Mana.BlueMana(1));
+        long ww = ManaOptionsLattice.pack(Mana.WhiteMana(2));
+
+        assertTrue(ManaOptionsLattice.includes(wu, w));
+        assertTrue(ManaOptionsLattice.includes(wu, u));
+        assertTrue(ManaOptionsLattice.includes(wu, wu));
+        assertFalse(ManaOptionsLattice.includes(w, wu));
+        assertFalse(ManaOptionsLattice.includes(wu, ww));
+        assertFalse(ManaOptionsLattice.includes(ww, wu));
+
+        // max values per type
+        long big = ManaOptionsLattice.pack(new Mana(127, 127, 127, 127, 127, 127, 127, 127));
+        assertTrue(ManaOptionsLattice.includes(big, wu));
+        assertFalse(ManaOptionsLattice.includes(wu, big));
+    }
+
+    @Test
+    public void test_Max() {
+        long res = ManaOptionsLattice.max(
+                ManaOptionsLattice.pack(new Mana(3, 0, 1, 0, 0, 0, 0, 2)),
+                ManaOptionsLattice.pack(new Mana(1, 2, 1, 0, 0, 0, 5, 0))
+        );
+        assertEquals(new Mana(3, 2, 1, 0, 0, 0, 5, 2).toString(), ManaOptionsLattice.unpack(res).toString());
+    }
+
+    @Test
+    public void test_FindDifference() {
+        ManaOptions options1 = new ManaOptions();
+        options1.add(Mana.WhiteMana(1));
+        options1.add(Mana.BlueMana(1));
+
+        ManaOptions options2 = new ManaOptions();
+        options2.add(Mana.BlueMana(1));
+        options2.add(Mana.WhiteMana(1));
+        assertNull(ManaOptionsLattice.findDifference(options1, options2));
+
+        options2.add(Mana.BlackMana(1));
+        assertNotNull(ManaOptionsLattice.findDifference(options1, options2));
+    }
+}
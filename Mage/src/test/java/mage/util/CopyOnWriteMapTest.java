@@ -0,0 +1,108 @@
+package mage.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Custom unit tests for {@link CopyOnWriteMap}
+ */
+public class CopyOnWriteMapTest {
+
+    private CopyOnWriteMap<String, Object> createValues() {
+        return new CopyOnWriteMap<>(CardUtil::deepCopyObject, false);
+    }
+
+    @Test
+    public void shouldShareValuesUntilAccess() {
+        CopyOnWriteMap<String, Object> original = createValues();
+        original.put("set", new HashSet<>(Collections.singletonList("x")));
+        original.put("number", 1);
+        original.put("list", new ArrayList<>(Collections.singletonList("x")));
+
+        // first copy: put values are escaped (caller has refs), so it must be copied
+        CopyOnWriteMap<String, Object> copy = original.copy();
+        Assert.assertNotSame(original.read("set"), copy.read("set"));
+
+        // second copy: nobody has refs, so values can be shared
+        CopyOnWriteMap<String, Object> copy2 = copy.copy();
+        Assert.assertSame(copy.read("set"), copy2.read("set"));
+        Assert.assertSame(copy.read("list"), copy2.read("list"));
+        Assert.assertEquals(3, copy2.getSharedCount());
+
+        // access makes own copy
+        ((Set<String>) copy2.get("set")).add("y");
+        Assert.assertEquals(1, ((Set<?>) copy.read("set")).size());
+        Assert.assertEquals(2, ((Set<?>) copy2.read("set")).size());
+        Assert.assertSame("unchanged value must be shared", copy.read("list"), copy2.read("list"));
+    }
+
+    @Test
+    public void shouldNotShareEscapedValues() {
+        CopyOnWriteMap<String, Object> original = createValues();
+        original.put("set", new HashSet<>(Collections.singletonList("x")));
+        original = original.copy(); // no refs to values
+
+        // value got before copy must not be visible in the copy after changes
+        Set<String> set = (Set<String>) original.get("set");
+        CopyOnWriteMap<String, Object> copy = original.copy();
+        set.add("y");
+        Assert.assertEquals(2, ((Set<?>) original.read("set")).size());
+        Assert.assertEquals(1, ((Set<?>) copy.read("set")).size());
+    }
+
+    @Test
+    public void shouldNotCopyImmutableValues() {
+        CopyOnWriteMap<String, Object> original = createValues();
+        String text = "text";
+        original.put("text", text);
+        CopyOnWriteMap<String, Object> copy = original.copy();
+        Assert.assertSame(text, copy.get("text"));
+        Assert.assertSame(text, original.get("text"));
+    }
+
+    @Test
+    public void shouldKeepOrderAndChangesInOwnMap() {
+        CopyOnWriteMap<String, Object> original = createValues();
+        original.put("a", 1);
+        original.put("b", 2);
+        CopyOnWriteMap<String, Object> copy = original.copy();
+        copy.remove("a");
+        copy.put("c", 3);
+        Assert.assertEquals(Arrays.asList("a", "b"), original.keys());
+        Assert.assertEquals(Arrays.asList("b", "c"), copy.keys());
+    }
+
+    @Test
+    public void shouldSupportCopyFromDiffThreads() throws Exception {
+        CopyOnWriteMap<String, Object> original = createValues();
+        for (int i = 0; i < 100; i++) {
+            original.put("set" + i, new HashSet<>(Collections.singletonList(i)));
+        }
+        CopyOnWriteMap<String, Object> source = original.copy();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<CopyOnWriteMap<String, Object>>> copies = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                copies.add(executor.submit(() -> {
+                    CopyOnWriteMap<String, Object> copy = source.copy();
+                    ((Set<Integer>) copy.get("set0")).add(-1);
+                    return copy;
+                }));
+            }
+            for (Future<CopyOnWriteMap<String, Object>> future : copies) {
+                CopyOnWriteMap<String, Object> copy = future.get();
+                Assert.assertEquals(2, ((Set<?>) copy.read("set0")).size());
+                Assert.assertEquals(1, ((Set<?>) copy.read("set1")).size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, ((Set<?>) source.read("set0")).size());
+    }
+}
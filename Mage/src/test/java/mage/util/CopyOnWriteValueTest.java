@@ -0,0 +1,57 @@
+package mage.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Custom unit tests for {@link CopyOnWriteValue}
+ */
+public class CopyOnWriteValueTest {
+
+    @Test
+    public void shouldShareDataUntilWrite() {
+        CopyOnWriteValue<Map<String, Integer>> original = new CopyOnWriteValue<>(new HashMap<>(), false);
+        original.write().put("a", 1);
+
+        CopyOnWriteValue<Map<String, Integer>> copy = original.copy();
+        Assert.assertSame(original.read(), copy.read());
+        Assert.assertTrue(original.isShared());
+        Assert.assertTrue(copy.isShared());
+
+        copy.write().put("b", 2);
+        Assert.assertNotSame(original.read(), copy.read());
+        Assert.assertFalse(copy.isShared());
+        Assert.assertEquals(1, original.read().size());
+        Assert.assertEquals(2, copy.read().size());
+    }
+
+    @Test
+    public void shouldNotChangeCopyOnOriginalWrite() {
+        CopyOnWriteValue<Map<String, Integer>> original = new CopyOnWriteValue<>(new HashMap<>(), false);
+        original.write().put("a", 1);
+        CopyOnWriteValue<Map<String, Integer>> copy = original.copy();
+
+        original.write().put("a", 5);
+        Assert.assertEquals(5, (int) original.read().get("a"));
+        Assert.assertEquals(1, (int) copy.read().get("a"));
+    }
+
+    @Test
+    public void shouldDeepCopyInnerValues() {
+        Map<String, Object> data = new HashMap<>();
+        Set<String> inner = new HashSet<>();
+        inner.add("x");
+        data.put("set", inner);
+        CopyOnWriteValue<Map<String, Object>> original = new CopyOnWriteValue<>(data, true);
+        CopyOnWriteValue<Map<String, Object>> copy = original.copy();
+
+        ((Set<String>) copy.write().get("set")).add("y");
+        Assert.assertEquals(1, ((Set<?>) original.read().get("set")).size());
+        Assert.assertEquals(2, ((Set<?>) copy.read().get("set")).size());
+    }
+}